@@ -4,6 +4,7 @@ public class Constants {
 	public static final String STATUS_NEW = "NEW";
 	public static final String STATUS_SENT = "SENT";
 	public static final String STATUS_PENDING = "PENDING";
+	public static final String STATUS_SIGNED = "SIGNED";
 	public static final String STATUS_CLIENT_ERROR = "FAILED - Client Error";
 	public static final String STATUS_SERVER_ERROR = "FAILED - Server Error";
 	public static final String STATUS_UNKNOWN_ERROR = "FAILED - Unknown Error";
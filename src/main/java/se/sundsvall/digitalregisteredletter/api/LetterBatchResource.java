@@ -0,0 +1,92 @@
+package se.sundsvall.digitalregisteredletter.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatch;
+import se.sundsvall.digitalregisteredletter.api.validation.NoDuplicateFileNames;
+import se.sundsvall.digitalregisteredletter.api.validation.ValidIdentifier;
+import se.sundsvall.digitalregisteredletter.api.validation.ValidPdf;
+import se.sundsvall.digitalregisteredletter.service.LetterBatchService;
+
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
+import static org.springframework.http.ResponseEntity.accepted;
+import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+
+@RestController
+@Validated
+@RequestMapping("/{municipalityId}")
+@Tag(name = "Letter Batch Resource", description = "Send digital registered letters to many recipients")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+class LetterBatchResource {
+
+	private final LetterBatchService letterBatchService;
+
+	LetterBatchResource(final LetterBatchService letterBatchService) {
+		this.letterBatchService = letterBatchService;
+	}
+
+	@GetMapping(value = "/letters/batches/{batchId}", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get letter batch", description = "Retrieves a letter batch by id, including the number of letters in each status", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful Operation - OK", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<LetterBatch> getLetterBatch(
+		@PathVariable @ValidMunicipalityId final String municipalityId,
+		@PathVariable @ValidUuid final String batchId) {
+
+		return ok(letterBatchService.getLetterBatch(municipalityId, batchId));
+	}
+
+	@PostMapping(value = "/{organizationNumber}/letters/batches", produces = APPLICATION_JSON_VALUE, consumes = MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "Send letter batch",
+		description = "Send the same digital registered letter to many recipients using Kivra. The attachments are stored once and shared by all letters in the batch. The batch is accepted and the letters are queued for dispatch. Batches are rejected when asynchronous dispatch is disabled.",
+		responses = {
+			@ApiResponse(responseCode = "202", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Successful operation - Accepted", useReturnTypeSchema = true),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		})
+	ResponseEntity<LetterBatch> sendLetterBatch(
+		@RequestHeader(value = Identifier.HEADER_NAME) @ValidIdentifier final String xSentBy,
+		@PathVariable @ValidMunicipalityId final String municipalityId,
+		@NotBlank @PathVariable final String organizationNumber,
+		@RequestPart(name = "letter") @Valid final BulkLetterRequest request,
+		@RequestPart(name = "letterAttachments") @NoDuplicateFileNames @ValidPdf final List<MultipartFile> attachments) {
+		Identifier.set(Identifier.parse(xSentBy));
+
+		final var letterBatch = letterBatchService.sendLetterBatch(municipalityId, organizationNumber, request, attachments);
+
+		return accepted().location(fromPath("/{municipalityId}/letters/batches/{batchId}")
+			.buildAndExpand(municipalityId, letterBatch.id()).toUri())
+			.body(letterBatch);
+	}
+}
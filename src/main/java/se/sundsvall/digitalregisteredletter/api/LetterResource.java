@@ -1,11 +1,13 @@
 package se.sundsvall.digitalregisteredletter.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,14 +37,19 @@ import se.sundsvall.digitalregisteredletter.api.model.Letters;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfo;
 import se.sundsvall.digitalregisteredletter.api.validation.NoDuplicateFileNames;
 import se.sundsvall.digitalregisteredletter.api.validation.ValidIdentifier;
+import se.sundsvall.digitalregisteredletter.api.validation.ValidLetterSort;
 import se.sundsvall.digitalregisteredletter.api.validation.ValidPdf;
 import se.sundsvall.digitalregisteredletter.service.LetterService;
+import se.sundsvall.digitalregisteredletter.service.ReceiptExportService;
+import se.sundsvall.digitalregisteredletter.service.scheduler.DispatchProperties;
 
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
+import static org.springframework.http.ResponseEntity.accepted;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
@@ -57,22 +65,42 @@ import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 class LetterResource {
 
 	private final LetterService letterService;
+	private final ReceiptExportService receiptExportService;
+	private final DispatchProperties dispatchProperties;
 
-	LetterResource(final LetterService letterService) {
+	LetterResource(final LetterService letterService, final ReceiptExportService receiptExportService, final DispatchProperties dispatchProperties) {
 		this.letterService = letterService;
+		this.receiptExportService = receiptExportService;
+		this.dispatchProperties = dispatchProperties;
 	}
 
 	@GetMapping(value = "/letters", produces = APPLICATION_JSON_VALUE)
 	@Operation(summary = "Get all letters",
-		description = "Retrieves all letters for a municipality. Response is possible to filter by any combination of department id, username, earliest and latest created date.",
+		description = "Retrieves all letters for a municipality. Response is possible to filter by any combination of department id, username, earliest and latest created date, and to sort by created, status and updated. When a cursor is provided, letters are instead paged in order of creation without counting the total number of letters.",
 		responses = @ApiResponse(responseCode = "200", description = "Successful Operation - OK", useReturnTypeSchema = true))
 	ResponseEntity<Letters> getLetters(
 		@PathVariable @ValidMunicipalityId final String municipalityId,
 		@ParameterObject final LetterFilter filter,
-		@ParameterObject final Pageable pageable) {
+		@ParameterObject @ValidLetterSort final Pageable pageable,
+		@Parameter(description = "Cursor for paging in order of creation. Send an empty cursor for the first letters and the next cursor of the response for the following letters. Page and sort are ignored when a cursor is provided.") @RequestParam(required = false) final String cursor) {
+		if (cursor != null) {
+			return ok(letterService.getLettersByCursor(municipalityId, filter, cursor, pageable.getPageSize()));
+		}
 		return ok(letterService.getLetters(municipalityId, filter, pageable));
 	}
 
+	@GetMapping(value = "/letters/receipts", produces = ALL_VALUE)
+	@Operation(summary = "Export letter receipts",
+		description = "Streams a ZIP archive with the receipts of all signed letters for a municipality. The letters are possible to filter by any combination of department id, username, earliest and latest created date.",
+		responses = @ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true))
+	void exportLetterReceipts(
+		@PathVariable @ValidMunicipalityId final String municipalityId,
+		@ParameterObject final LetterFilter filter,
+		final HttpServletResponse response) {
+
+		receiptExportService.exportReceipts(municipalityId, filter, response);
+	}
+
 	@GetMapping(value = "/letters/{letterId}", produces = APPLICATION_JSON_VALUE)
 	@Operation(summary = "Get letter", description = "Retrieves a letter by id", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful Operation - OK", useReturnTypeSchema = true),
@@ -98,24 +126,31 @@ class LetterResource {
 	}
 
 	@GetMapping(value = "/letters/{letterId}/attachments/{attachmentId}", produces = ALL_VALUE)
-	@Operation(summary = "Downloads letter attachment content", description = "Retrieves attachment content by id", responses = {
-		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
-	})
+	@Operation(summary = "Downloads letter attachment content",
+		description = "Retrieves attachment content by id. Supports conditional requests (If-None-Match, If-Modified-Since) and a single byte range (Range, If-Range)",
+		responses = {
+			@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
+			@ApiResponse(responseCode = "206", description = "Partial Content", useReturnTypeSchema = true),
+			@ApiResponse(responseCode = "304", description = "Not Modified"),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+			@ApiResponse(responseCode = "416", description = "Range Not Satisfiable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		})
 	void downloadLetterAttachment(
 		@PathVariable @ValidMunicipalityId final String municipalityId,
 		@PathVariable @ValidUuid final String letterId,
 		@PathVariable @ValidUuid final String attachmentId,
+		final HttpServletRequest request,
 		final HttpServletResponse response) {
 
-		letterService.readLetterAttachment(municipalityId, letterId, attachmentId, response);
+		letterService.readLetterAttachment(municipalityId, letterId, attachmentId, request, response);
 	}
 
 	@PostMapping(value = "/{organizationNumber}/letters", produces = APPLICATION_JSON_VALUE, consumes = MULTIPART_FORM_DATA_VALUE)
 	@Operation(summary = "Send letter",
-		description = "Send a digital registered letter using Kivra",
+		description = "Send a digital registered letter using Kivra. If asynchronous dispatch is enabled, the letter is accepted and queued for dispatch.",
 		responses = {
 			@ApiResponse(responseCode = "201", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Successful operation - Created", useReturnTypeSchema = true),
+			@ApiResponse(responseCode = "202", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Successful operation - Accepted", useReturnTypeSchema = true),
 			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 		})
 	ResponseEntity<Letter> sendLetter(
@@ -126,6 +161,14 @@ class LetterResource {
 		@RequestPart(name = "letterAttachments") @NoDuplicateFileNames @ValidPdf final List<MultipartFile> attachments) {
 		Identifier.set(Identifier.parse(xSentBy));
 
+		if (dispatchProperties.enabled()) {
+			final var letter = letterService.queueLetter(municipalityId, organizationNumber, request, attachments);
+
+			return accepted().location(fromPath("/{municipalityId}/{organizationNumber}/letters/{letterId}")
+				.buildAndExpand(municipalityId, organizationNumber, letter.id()).toUri())
+				.body(letter);
+		}
+
 		final var letter = letterService.sendLetter(municipalityId, organizationNumber, request, attachments);
 
 		return created(fromPath("/{municipalityId}/{organizationNumber}/letters/{letterId}")
@@ -136,7 +179,8 @@ class LetterResource {
 	@GetMapping(value = "/letters/{letterId}/receipt", produces = ALL_VALUE)
 	@Operation(summary = "Read letter receipt with the complete letter", description = "Retrieves letter receipt combined with the letter", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "503", headers = @Header(name = RETRY_AFTER, schema = @Schema(type = "string")), description = "Service Unavailable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	void readLetterReceipt(
 		@PathVariable @ValidMunicipalityId final String municipalityId,
@@ -1,25 +1,34 @@
 package se.sundsvall.digitalregisteredletter.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
+import se.sundsvall.digitalregisteredletter.api.model.LetterStatusChanges;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatusRequest;
 import se.sundsvall.digitalregisteredletter.service.LetterService;
+import se.sundsvall.digitalregisteredletter.service.LetterStatusFeedService;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
@@ -36,9 +45,11 @@ import static org.springframework.http.ResponseEntity.ok;
 class StatusResource {
 
 	private final LetterService letterService;
+	private final LetterStatusFeedService letterStatusFeedService;
 
-	StatusResource(final LetterService letterService) {
+	StatusResource(final LetterService letterService, final LetterStatusFeedService letterStatusFeedService) {
 		this.letterService = letterService;
+		this.letterStatusFeedService = letterStatusFeedService;
 	}
 
 	@PostMapping(path = "/letters", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
@@ -51,4 +62,18 @@ class StatusResource {
 		return ok(letterService.getLetterStatuses(municipalityId, request.letterIds()));
 	}
 
+	@GetMapping(path = "/letters/changes", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get status changes of letters",
+		description = "Returns the current status of the letters whose status or signing information has changed after the provided cursor, in order of change. Send the returned cursor to retrieve the following changes. When there are no changes, the request can wait for changes at most the configured maximum time",
+		responses = {
+			@ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+		})
+	CompletableFuture<ResponseEntity<LetterStatusChanges>> getLetterStatusChanges(
+		@PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(description = "Cursor returned with the previous changes, absent to retrieve changes from the beginning") @RequestParam(required = false) final String cursor,
+		@Parameter(description = "Maximum number of changes to return") @RequestParam(defaultValue = "100") @Min(1) @Max(1000) final int limit,
+		@Parameter(description = "Seconds to wait for changes when there are none") @RequestParam(defaultValue = "0") @Min(0) final int wait) {
+		return letterStatusFeedService.getLetterStatusChanges(municipalityId, cursor, limit, Duration.ofSeconds(wait))
+			.thenApply(ResponseEntity::ok);
+	}
 }
@@ -0,0 +1,36 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import se.sundsvall.dept44.common.validators.annotation.OneOf;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.digitalregisteredletter.support.Builder;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+import static org.springframework.http.MediaType.TEXT_HTML_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+
+@Builder
+@Schema(description = "Request to send the same digital registered letter to many recipients")
+public record BulkLetterRequest(
+
+	@NotEmpty @ArraySchema(schema = @Schema(implementation = String.class, description = "List of party IDs of the recipients", examples = "7ca29702-a07f-4e13-a66a-4ebc27929cfd")) List<@ValidUuid String> partyIds,
+
+	@NotBlank @Schema(description = "Subject of the letter", examples = "Important Notification", requiredMode = REQUIRED) String subject,
+
+	@Valid @NotNull @Schema(implementation = SupportInfo.class, description = "Support information for the letter", requiredMode = REQUIRED) SupportInfo supportInfo,
+
+	@Valid @NotNull @Schema(description = "Information regarding the organizational unit sending the letter", requiredMode = REQUIRED) Organization organization,
+
+	@OneOf({
+		TEXT_PLAIN_VALUE, TEXT_HTML_VALUE
+	}) @Schema(description = "Content type of the letter body, e.g., 'text/plain' or 'text/html'", examples = "text/plain", requiredMode = REQUIRED) String contentType,
+
+	@NotBlank @Schema(description = "Body of the letter", examples = "This is the content of the letter. Plain-text body", requiredMode = REQUIRED) String body) {
+
+}
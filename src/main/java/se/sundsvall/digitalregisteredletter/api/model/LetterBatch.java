@@ -0,0 +1,26 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import org.springframework.format.annotation.DateTimeFormat;
+import se.sundsvall.digitalregisteredletter.support.Builder;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+@Builder
+@Schema(description = "Batch of digital registered letters sent to many recipients", accessMode = Schema.AccessMode.READ_ONLY)
+public record LetterBatch(
+
+	@Schema(description = "Unique identifier for the batch", examples = "5e8f3b8a-9c1d-4f5e-8a2b-7c6d5e4f3a2b") String id,
+
+	@Schema(description = "Municipality ID for the sender of the batch", examples = "2281") String municipalityId,
+
+	@Schema(description = "Organization number of the tenant sending the batch", examples = "5591628136") String organizationNumber,
+
+	@Schema(description = "Number of letters in the batch", examples = "2000") Integer letterCount,
+
+	@Schema(description = "Number of letters in the batch per letter status") Map<String, Long> statuses,
+
+	@Schema(description = "When the batch was created", examples = "2023-10-09T12:34:56+00:00") @DateTimeFormat(iso = DATE_TIME) OffsetDateTime created) {
+}
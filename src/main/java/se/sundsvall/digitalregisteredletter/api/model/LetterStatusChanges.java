@@ -0,0 +1,18 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import se.sundsvall.digitalregisteredletter.support.Builder;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Builder
+@Schema(description = "Statuses of letters changed after a cursor, in order of change")
+public record LetterStatusChanges(
+
+	@ArraySchema(schema = @Schema(implementation = LetterStatus.class, accessMode = READ_ONLY)) List<LetterStatus> letterStatuses,
+
+	@Schema(description = "Cursor to send to retrieve the following changes, also when no changes were returned", examples = "MjAyNS0wOC0xOFQxMDoxNTozMCswMjowMHw0M2EzMjQwNC0yOGVlLTQ4MGYtYTA5NS0wMGQ0ODEwOWFmYWI", accessMode = READ_ONLY) String cursor) {
+
+}
@@ -15,6 +15,8 @@ public record Letters(
 
 	@JsonProperty("_meta") @Schema(implementation = PagingAndSortingMetaData.class, accessMode = READ_ONLY) PagingAndSortingMetaData metaData,
 
-	@ArraySchema(schema = @Schema(implementation = Letter.class, accessMode = READ_ONLY)) List<Letter> letters) {
+	@ArraySchema(schema = @Schema(implementation = Letter.class, accessMode = READ_ONLY)) List<Letter> letters,
+
+	@Schema(description = "Cursor to send to retrieve the following letters when paging with a cursor, absent when there are no more letters", examples = "MjAyNS0wOC0xOFQxMDoxNTozMCswMjowMHw0M2EzMjQwNC0yOGVlLTQ4MGYtYTA5NS0wMGQ0ODEwOWFmYWI", accessMode = READ_ONLY) String next) {
 
 }
@@ -0,0 +1,23 @@
+package se.sundsvall.digitalregisteredletter.api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({
+	ElementType.FIELD, ElementType.PARAMETER
+})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidLetterSortConstraintValidator.class)
+public @interface ValidLetterSort {
+
+	String message() default "sorting is only allowed on created, status and updated";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+}
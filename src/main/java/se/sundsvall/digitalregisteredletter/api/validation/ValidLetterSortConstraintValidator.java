@@ -0,0 +1,27 @@
+package se.sundsvall.digitalregisteredletter.api.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Only allows letters to be sorted by properties that are backed by an index on the letter table, as sorting by any
+ * other property forces the database to read and sort every letter of the municipality.
+ */
+public class ValidLetterSortConstraintValidator implements ConstraintValidator<ValidLetterSort, Pageable> {
+
+	public static final Set<String> SORTABLE_PROPERTIES = Set.of("created", "status", "updated");
+
+	@Override
+	public boolean isValid(final Pageable value, final ConstraintValidatorContext context) {
+		if (value == null) {
+			return true;
+		}
+
+		return value.getSort().stream()
+			.map(Sort.Order::getProperty)
+			.allMatch(SORTABLE_PROPERTIES::contains);
+	}
+}
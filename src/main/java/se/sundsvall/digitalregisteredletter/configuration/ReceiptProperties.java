@@ -0,0 +1,90 @@
+package se.sundsvall.digitalregisteredletter.configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Settings for rendering of letter receipts.
+ *
+ * @param maxMainMemory maximum size of a merged receipt kept in memory, larger receipts are merged in temporary files
+ * @param compression   settings for compression of merged receipts
+ * @param bulkhead      settings limiting the number of receipts produced at once
+ * @param export        settings for export of receipt archives
+ */
+@Validated
+@ConfigurationProperties(prefix = "properties.receipt")
+public record ReceiptProperties(
+	@DefaultValue("8MB") @NotNull DataSize maxMainMemory,
+	@DefaultValue @Valid @NotNull Compression compression,
+	@DefaultValue @Valid @NotNull Bulkhead bulkhead,
+	@DefaultValue @Valid @NotNull Export export) {
+
+	/**
+	 * Settings for compression of merged receipts.
+	 *
+	 * @param policy   when merged receipts are compressed, unless overridden for the tenant
+	 * @param minSize  size from which a merged receipt is compressed when the policy is auto
+	 * @param minPages number of pages from which a merged receipt is compressed when the policy is auto
+	 * @param tenants  policies overriding the default policy, keyed by the organization number of the tenant
+	 */
+	public record Compression(
+		@DefaultValue("auto") @NotNull CompressionPolicy policy,
+		@DefaultValue("1MB") @NotNull DataSize minSize,
+		@DefaultValue("20") @Positive int minPages,
+		Map<String, CompressionPolicy> tenants) {
+
+		/**
+		 * Returns the settings to use for the tenant with the provided organization number.
+		 *
+		 * @param  orgNumber the organization number of the tenant, may be null
+		 * @return           the settings with the policy of the tenant, or the default policy if the tenant has none
+		 */
+		public Compression forTenant(final String orgNumber) {
+			final var tenantPolicy = ofNullable(orgNumber)
+				.flatMap(number -> ofNullable(tenants).map(policies -> policies.get(number)))
+				.orElse(policy);
+
+			return new Compression(tenantPolicy, minSize, minPages, null);
+		}
+	}
+
+	/**
+	 * Settings limiting the number of receipts produced at once, for single receipts and exports alike. Producing a
+	 * receipt holds two database connections, hence maxConcurrent should be at most half the connection pool.
+	 *
+	 * @param maxConcurrent maximum number of receipts produced at once
+	 * @param maxWait       maximum time a request waits for a receipt to be produced before it is rejected
+	 * @param retryAfter    time a rejected client is asked to wait before retrying
+	 */
+	public record Bulkhead(
+		@DefaultValue("4") @Positive int maxConcurrent,
+		@DefaultValue("PT10S") @NotNull Duration maxWait,
+		@DefaultValue("PT30S") @NotNull Duration retryAfter) {
+	}
+
+	/**
+	 * Settings for export of receipt archives.
+	 *
+	 * @param concurrency receipts produced in parallel for an export, should not exceed the maxConcurrent of the bulkhead
+	 * @param pageSize    letters read from the database at a time for an export
+	 */
+	public record Export(
+		@DefaultValue("4") @Positive int concurrency,
+		@DefaultValue("100") @Positive int pageSize) {
+	}
+
+	public enum CompressionPolicy {
+		NEVER,
+		ALWAYS,
+		AUTO
+	}
+}
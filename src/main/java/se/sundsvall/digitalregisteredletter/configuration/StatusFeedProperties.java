@@ -0,0 +1,23 @@
+package se.sundsvall.digitalregisteredletter.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the feed of letter status changes.
+ *
+ * @param settleTime   age a change must reach before it is returned, which lets transactions updating letters commit
+ *                     before the feed moves past them and hence must exceed the longest such transaction
+ * @param pollInterval time between reads of the changes while a request waits for changes
+ * @param maxWait      maximum time a request waits for changes
+ */
+@Validated
+@ConfigurationProperties(prefix = "properties.status-feed")
+public record StatusFeedProperties(
+	@DefaultValue("PT10S") @NotNull Duration settleTime,
+	@DefaultValue("PT1S") @NotNull Duration pollInterval,
+	@DefaultValue("PT20S") @NotNull Duration maxWait) {
+}
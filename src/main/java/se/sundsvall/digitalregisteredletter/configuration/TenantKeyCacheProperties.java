@@ -0,0 +1,21 @@
+package se.sundsvall.digitalregisteredletter.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the in-memory cache of decrypted tenant keys.
+ *
+ * @param timeToLive time a decrypted tenant key is kept in the cache
+ * @param maxSize    maximum number of decrypted tenant keys kept in the cache
+ */
+@Validated
+@ConfigurationProperties(prefix = "properties.tenant-key-cache")
+public record TenantKeyCacheProperties(
+	@DefaultValue("PT10M") @NotNull Duration timeToLive,
+	@DefaultValue("100") @Positive int maxSize) {
+}
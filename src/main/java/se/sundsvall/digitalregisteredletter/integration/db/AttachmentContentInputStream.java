@@ -0,0 +1,94 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Reads a range of attachment content held by the database, one chunk per query. The MariaDB driver reads a selected
+ * Blob to its end, hence selecting the content would hold all of it in memory, while only one chunk is held here.
+ */
+class AttachmentContentInputStream extends InputStream {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final AttachmentContentRepository attachmentContentRepository;
+	private final String contentId;
+	private final int chunkSize;
+
+	private long position;
+	private long remaining;
+	private byte[] chunk = EMPTY;
+	private int chunkPosition;
+
+	/**
+	 * @param attachmentContentRepository repository to read the content through
+	 * @param contentId                   id of the content to read
+	 * @param offset                      0-based offset of the first byte to read
+	 * @param length                      number of bytes to read
+	 * @param chunkSize                   maximum number of bytes read by each query
+	 */
+	AttachmentContentInputStream(final AttachmentContentRepository attachmentContentRepository, final String contentId, final long offset, final long length, final int chunkSize) {
+		this.attachmentContentRepository = attachmentContentRepository;
+		this.contentId = contentId;
+		this.chunkSize = chunkSize;
+		// Positions in the database are 1-based
+		this.position = offset + 1;
+		this.remaining = length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fillChunk()) {
+			return -1;
+		}
+		return chunk[chunkPosition++] & 0xff;
+	}
+
+	@Override
+	public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		if (length == 0) {
+			return 0;
+		}
+		if (!fillChunk()) {
+			return -1;
+		}
+
+		final var count = Math.min(length, chunk.length - chunkPosition);
+		System.arraycopy(chunk, chunkPosition, buffer, offset, count);
+		chunkPosition += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return chunk.length - chunkPosition;
+	}
+
+	/**
+	 * Reads the next chunk when the current one has been consumed.
+	 *
+	 * @return             false if the requested range has been read to its end
+	 * @throws IOException if the content ends before the requested range does
+	 */
+	private boolean fillChunk() throws IOException {
+		if (chunkPosition < chunk.length) {
+			return true;
+		}
+		if (remaining <= 0) {
+			return false;
+		}
+
+		final var nextChunk = attachmentContentRepository.findContentRangeById(contentId, position, Math.toIntExact(Math.min(chunkSize, remaining)));
+		if (nextChunk == null || nextChunk.length == 0) {
+			throw new IOException("Content with id '%s' ended %d bytes before the requested range".formatted(contentId, remaining));
+		}
+
+		chunk = nextChunk;
+		chunkPosition = 0;
+		position += nextChunk.length;
+		remaining -= nextChunk.length;
+		return true;
+	}
+}
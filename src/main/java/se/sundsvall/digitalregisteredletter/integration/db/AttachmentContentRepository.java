@@ -0,0 +1,100 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+
+@CircuitBreaker(name = "attachmentContentRepository")
+public interface AttachmentContentRepository extends JpaRepository<AttachmentContentEntity, String> {
+
+	/**
+	 * Returns the id of the content matching the provided hash. Only the id is selected, as loading the entity would read
+	 * the content as well: the Blob is mapped as lazy, but is only loaded lazily when bytecode enhancement is enabled.
+	 *
+	 * @param  hash SHA-256 hash of the content
+	 * @return      an optional id of the attachment content (or optional empty if not found)
+	 */
+	@Query("select c.id from AttachmentContentEntity c where c.hash = :hash")
+	Optional<String> findIdByHash(@Param("hash") final String hash);
+
+	/**
+	 * Replaces the hash of the content matching the provided id. Used when the hash is computed while the content is
+	 * written, as the content is inserted before the hash is known.
+	 *
+	 * @param id   id of the content
+	 * @param hash SHA-256 hash of the content
+	 */
+	@Modifying
+	@Query("update AttachmentContentEntity c set c.hash = :hash where c.id = :id")
+	void updateHash(@Param("id") final String id, @Param("hash") final String hash);
+
+	/**
+	 * Increments the reference count of the content matching the provided id by the provided number of references.
+	 *
+	 * @param id    id of the content
+	 * @param count number of references to add
+	 */
+	@Modifying
+	@Query("update AttachmentContentEntity c set c.referenceCount = c.referenceCount + :count where c.id = :id")
+	void incrementReferenceCount(@Param("id") final String id, @Param("count") final int count);
+
+	/**
+	 * Returns the storage key of the content matching the provided id, without reading the content.
+	 *
+	 * @param  id id of the content
+	 * @return    an optional storage key (or optional empty if not found or if the content is held by the database)
+	 */
+	@Query("select c.storageKey from AttachmentContentEntity c where c.id = :id")
+	Optional<String> findStorageKeyById(@Param("id") final String id);
+
+	/**
+	 * Returns a range of the content held by the database for the content matching the provided id. Only the range is
+	 * transferred, as the MariaDB driver reads a selected Blob to its end.
+	 *
+	 * @param  id       id of the content
+	 * @param  position 1-based position of the first byte of the range
+	 * @param  length   number of bytes in the range
+	 * @return          the bytes of the range, which are fewer than requested if the content ends within the range, or null
+	 *                  if no content is held by the database for the id
+	 */
+	@Query(value = "select substring(c.content, :position, :length) from attachment_content c where c.id = :id", nativeQuery = true)
+	byte[] findContentRangeById(@Param("id") final String id, @Param("position") final long position, @Param("length") final int length);
+
+	/**
+	 * Deletes the content matching the provided id if it is no longer referenced.
+	 *
+	 * @param  id id of the content
+	 * @return    number of deleted rows
+	 */
+	@Modifying
+	@Query("delete from AttachmentContentEntity c where c.id = :id and c.referenceCount <= 0")
+	int deleteIfUnreferenced(@Param("id") final String id);
+
+	/**
+	 * Returns the ids of content that is still held by the database, i.e. content that has not been moved to an external
+	 * attachment store.
+	 *
+	 * @param  limit maximum number of ids to return
+	 * @return       a list of ids of content without a storage key
+	 */
+	@Query("select c.id from AttachmentContentEntity c where c.storageKey is null and c.content is not null")
+	List<String> findIdsOfContentWithoutStorageKey(final Limit limit);
+
+	/**
+	 * Returns the ids of content that is not referenced by any attachment or receipt and that was created before the
+	 * provided time, i.e. content left behind by letters that were never persisted.
+	 *
+	 * @param  createdBefore only content created before this time is returned
+	 * @param  limit         maximum number of ids to return
+	 * @return               a list of ids of unreferenced content
+	 */
+	@Query("select c.id from AttachmentContentEntity c where c.referenceCount <= 0 and c.created < :createdBefore")
+	List<String> findIdsOfUnreferencedContentCreatedBefore(@Param("createdBefore") final OffsetDateTime createdBefore, final Limit limit);
+}
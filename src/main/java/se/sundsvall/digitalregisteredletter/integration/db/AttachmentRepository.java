@@ -3,10 +3,27 @@ package se.sundsvall.digitalregisteredletter.integration.db;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentMetadata;
 
 @CircuitBreaker(name = "attachmentRepository")
 public interface AttachmentRepository extends JpaRepository<AttachmentEntity, String> {
 
-	Optional<AttachmentEntity> findByIdAndLetterIdAndLetter_MunicipalityId(final String id, final String letterId, final String municipalityId);
+	/**
+	 * Returns the metadata of an attachment belonging to a letter that has not been deleted, in one single query and
+	 * without reading the content of the attachment.
+	 *
+	 * @param  id             id of the attachment
+	 * @param  letterId       id of the letter the attachment belongs to
+	 * @param  municipalityId municipality id of the letter
+	 * @return                an optional attachment metadata projection (or optional empty if not found)
+	 */
+	@Query("""
+		select a.id as id, a.fileName as fileName, a.contentType as contentType, c.id as contentId, c.hash as hash,
+			c.storageKey as storageKey, c.contentLength as contentLength, l.created as letterCreated
+		from AttachmentEntity a join a.attachmentContent c join a.letter l
+		where a.id = :id and l.id = :letterId and l.municipalityId = :municipalityId and l.deleted = false""")
+	Optional<AttachmentMetadata> findMetadataByIdAndLetterIdAndMunicipalityId(@Param("id") final String id, @Param("letterId") final String letterId, @Param("municipalityId") final String municipalityId);
 }
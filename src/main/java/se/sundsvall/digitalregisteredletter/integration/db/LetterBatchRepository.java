@@ -0,0 +1,12 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
+
+@CircuitBreaker(name = "letterBatchRepository")
+public interface LetterBatchRepository extends JpaRepository<LetterBatchEntity, String> {
+
+	Optional<LetterBatchEntity> findByIdAndMunicipalityId(final String id, final String municipalityId);
+}
@@ -0,0 +1,56 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+
+import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
+
+@CircuitBreaker(name = "letterOutboxRepository")
+public interface LetterOutboxRepository extends JpaRepository<LetterOutboxEntity, String> {
+
+	/**
+	 * Locks and returns the oldest outbox entries that are not claimed by any dispatcher. Rows that are locked by a
+	 * concurrent claim are skipped (lock timeout -2 translates to SKIP LOCKED) instead of being waited for.
+	 *
+	 * @param  timestamp entries with a claim lease expiring before this timestamp are returned
+	 * @param  limit     maximum number of entries to return
+	 * @return           list of locked outbox entries
+	 */
+	@Lock(PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	List<LetterOutboxEntity> findAllByClaimedUntilBeforeOrderByCreatedAsc(final OffsetDateTime timestamp, final Limit limit);
+
+	/**
+	 * Deletes the outbox entry matching the provided id, provided it is still claimed by the provided dispatcher.
+	 *
+	 * @param  id        id of the outbox entry
+	 * @param  claimedBy identifier of the dispatcher that claimed the entry
+	 * @return           number of deleted entries, 0 if the entry is claimed by another dispatcher or does not exist
+	 */
+	@Modifying
+	@Query("delete from LetterOutboxEntity o where o.id = :id and o.claimedBy = :claimedBy")
+	int deleteByIdAndClaimedBy(@Param("id") final String id, @Param("claimedBy") final String claimedBy);
+
+	/**
+	 * Releases the claim of the provided dispatcher on the outbox entry matching the provided id, making the entry
+	 * available for a new attempt from the provided time.
+	 *
+	 * @param  id           id of the outbox entry
+	 * @param  claimedBy    identifier of the dispatcher that claimed the entry
+	 * @param  claimedUntil time from which the entry is available for a new attempt
+	 * @return              number of released entries, 0 if the entry is claimed by another dispatcher or does not exist
+	 */
+	@Modifying
+	@Query("update LetterOutboxEntity o set o.claimedBy = null, o.claimedUntil = :claimedUntil where o.id = :id and o.claimedBy = :claimedBy")
+	int releaseByIdAndClaimedBy(@Param("id") final String id, @Param("claimedBy") final String claimedBy, @Param("claimedUntil") final OffsetDateTime claimedUntil);
+}
@@ -0,0 +1,9 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterReceiptEntity;
+
+@CircuitBreaker(name = "letterReceiptRepository")
+public interface LetterReceiptRepository extends JpaRepository<LetterReceiptEntity, String> {
+}
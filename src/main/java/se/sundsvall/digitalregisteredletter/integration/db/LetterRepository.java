@@ -1,31 +1,102 @@
 package se.sundsvall.digitalregisteredletter.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity_;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusChange;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 
 import static org.springframework.data.jpa.domain.Specification.allOf;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SIGNED;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withCreatedEqualOrAfter;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withCreatedEqualOrBefore;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withDeleted;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withDepartmentOrgId;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withMunicipalityId;
+import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withStatus;
 import static se.sundsvall.digitalregisteredletter.integration.db.specification.LetterSpecification.withUsername;
 
 @CircuitBreaker(name = "letterRepository")
 public interface LetterRepository extends JpaRepository<LetterEntity, String>, JpaSpecificationExecutor<LetterEntity> {
 
+	/**
+	 * Order of letters when scrolling by keyset, where the id makes the position of each letter unique.
+	 */
+	Sort KEYSET_SORT = Sort.by(LetterEntity_.CREATED, LetterEntity_.ID);
+
 	Optional<LetterEntity> findByIdAndMunicipalityIdAndDeleted(final String id, final String municipalityId, boolean deleted);
 
-	List<LetterEntity> findAllByStatusAndDeletedFalseAndTenantIsNotNull(final String status);
+	/**
+	 * Returns the distinct tenants that have non-deleted letters in the provided status, without loading the letters
+	 * themselves.
+	 *
+	 * @param  status the letter status to match
+	 * @return        list of distinct tenants having letters in the provided status
+	 */
+	@Query("select distinct l.tenant from LetterEntity l where l.status = :status and l.deleted = false")
+	List<TenantEntity> findDistinctTenantsByLetterStatus(@Param("status") final String status);
+
+	/**
+	 * Returns the number of letters per status for the letters belonging to the provided batch, without loading the
+	 * letters themselves.
+	 *
+	 * @param  batchId id of the batch to count letters for
+	 * @return         list with the number of letters in each status
+	 */
+	@Query("select l.status as status, count(l) as count from LetterEntity l where l.batch.id = :batchId group by l.status")
+	List<LetterStatusCount> countStatusesByBatchId(@Param("batchId") final String batchId);
+
+	/**
+	 * Returns the status and signing status of the non-deleted letters matching the provided ids, in one single query and
+	 * without loading the letters or their signing information.
+	 *
+	 * @param  municipalityId municipality id of the letters
+	 * @param  ids            ids of the letters
+	 * @return                list with the status and signing status of each matching letter
+	 */
+	@Query("""
+		select l.id as id, l.status as status, s.status as signingStatus
+		from LetterEntity l left join l.signingInformation s
+		where l.municipalityId = :municipalityId and l.id in :ids and l.deleted = false""")
+	List<LetterSigningStatus> findSigningStatusesByMunicipalityIdAndIdIn(@Param("municipalityId") final String municipalityId, @Param("ids") final List<String> ids);
 
-	List<LetterEntity> findAllByMunicipalityIdAndIdInAndDeletedFalse(final String municipalityId, final List<String> ids);
+	/**
+	 * Returns the status and signing status of the non-deleted letters updated after the provided position, in order of
+	 * update. Only letters updated at or before the provided settle time are returned. The position is matched by the
+	 * index on municipality id, deleted and update time.
+	 *
+	 * @param  municipalityId municipality id of the letters
+	 * @param  updated        update time of the last letter read
+	 * @param  id             id of the last letter read
+	 * @param  settledBefore  the time the letters must have been updated at or before
+	 * @param  limit          maximum number of letters to return
+	 * @return                list with the status and signing status of each letter updated after the position
+	 */
+	@Query("""
+		select l.id as id, l.status as status, s.status as signingStatus, l.updated as updated
+		from LetterEntity l left join l.signingInformation s
+		where l.municipalityId = :municipalityId and l.deleted = false and l.updated <= :settledBefore
+			and (l.updated > :updated or (l.updated = :updated and l.id > :id))
+		order by l.updated, l.id""")
+	List<LetterStatusChange> findStatusChanges(@Param("municipalityId") final String municipalityId, @Param("updated") final OffsetDateTime updated, @Param("id") final String id,
+		@Param("settledBefore") final OffsetDateTime settledBefore, final Limit limit);
 
 	List<LetterEntity> findAllByDeleted(final boolean deleted);
 
@@ -42,13 +113,56 @@ public interface LetterRepository extends JpaRepository<LetterEntity, String>, J
 	 * @return                a Page of LetterEntity objects that matches the search parameters
 	 */
 	default Page<LetterEntity> findAllByFilter(final String municipalityId, final LetterFilter filter, final Boolean deleted, final Pageable pageable) {
-		return this.findAll(
-			allOf(withMunicipalityId(municipalityId)
-				.and(withDepartmentOrgId(filter.orgId()))
-				.and(withUsername(filter.username()))
-				.and(withCreatedEqualOrAfter(filter.createdEarliest()))
-				.and(withCreatedEqualOrBefore(filter.createdLatest()))
-				.and(withDeleted(deleted))),
-			pageable);
+		return this.findAll(allOf(withFilter(municipalityId, filter, deleted)), pageable);
+	}
+
+	/**
+	 * Performs a search in LetterEntities, returning the window of entities following the provided keyset position in
+	 * order of creation. No count query is issued and the position is matched by the index on the creation time, hence
+	 * the cost of a window does not depend on how far into the result it is.
+	 *
+	 * @param  municipalityId municipality id for the letter entity
+	 * @param  filter         optional filters to match when retrieving a result
+	 * @param  deleted        filter that decides if only deleted, only non-deleted or all entities shall be part of the
+	 *                        result
+	 * @param  position       the keyset position to read the entities after
+	 * @param  limit          maximum number of entities in the window
+	 * @return                a Window of LetterEntity objects that matches the search parameters
+	 */
+	default Window<LetterEntity> findAllByFilter(final String municipalityId, final LetterFilter filter, final Boolean deleted, final KeysetScrollPosition position, final int limit) {
+		return this.findBy(allOf(withFilter(municipalityId, filter, deleted)), query -> query
+			.sortBy(KEYSET_SORT)
+			.limit(limit)
+			.scroll(position));
+	}
+
+	/**
+	 * Performs a search for non-deleted LetterEntities with status SIGNED, returning the window of entities following the
+	 * provided keyset position in order of creation. The status is matched rather than the presence of signing
+	 * information, as signing information is stored for orders that were never completed. As with
+	 * {@link #findAllByFilter(String, LetterFilter, Boolean, KeysetScrollPosition, int)}, no count query is issued and the
+	 * cost of a window does not depend on how far into the result it is.
+	 *
+	 * @param  municipalityId municipality id for the letter entity
+	 * @param  filter         optional filters to match when retrieving a result
+	 * @param  position       the keyset position to read the entities after
+	 * @param  limit          maximum number of entities in the window
+	 * @return                a Window of signed LetterEntity objects that matches the search parameters
+	 */
+	default Window<LetterEntity> findAllSignedByFilter(final String municipalityId, final LetterFilter filter, final KeysetScrollPosition position, final int limit) {
+		return this.findBy(allOf(withFilter(municipalityId, filter, false)
+			.and(withStatus(STATUS_SIGNED))), query -> query
+				.sortBy(KEYSET_SORT)
+				.limit(limit)
+				.scroll(position));
+	}
+
+	private static Specification<LetterEntity> withFilter(final String municipalityId, final LetterFilter filter, final Boolean deleted) {
+		return withMunicipalityId(municipalityId)
+			.and(withDepartmentOrgId(filter.orgId()))
+			.and(withUsername(filter.username()))
+			.and(withCreatedEqualOrAfter(filter.createdEarliest()))
+			.and(withCreatedEqualOrBefore(filter.createdLatest()))
+			.and(withDeleted(deleted));
 	}
 }
@@ -1,98 +1,292 @@
 package se.sundsvall.digitalregisteredletter.integration.db;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
 import se.sundsvall.digitalregisteredletter.api.model.LetterRequest;
 import se.sundsvall.digitalregisteredletter.api.model.Organization;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentMetadata;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusChange;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
 import se.sundsvall.digitalregisteredletter.integration.db.model.OrganizationEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.UserEntity;
 import se.sundsvall.digitalregisteredletter.service.mapper.AttachmentMapper;
 import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
 
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_NEW;
 
 @Component
 public class RepositoryIntegration {
 
+	// Maximum number of letter ids in the IN-list of a single query
+	static final int LETTER_IDS_CHUNK_SIZE = 1000;
+
+	// Maximum number of bytes of attachment content read by a single query
+	static final int CONTENT_CHUNK_SIZE = 1024 * 1024;
+
 	private final AttachmentMapper attachmentMapper;
+	private final AttachmentContentRepository attachmentContentRepository;
 	private final AttachmentRepository attachmentRepository;
 	private final LetterRepository letterRepository;
+	private final LetterBatchRepository letterBatchRepository;
+	private final LetterOutboxRepository letterOutboxRepository;
 	private final OrganizationRepository organizationRepository;
 	private final UserRepository userRepository;
 	private final LetterMapper letterMapper;
+	private final TransactionTemplate transactionTemplate;
 
 	public RepositoryIntegration(
 		final AttachmentMapper attachmentMapper,
+		final AttachmentContentRepository attachmentContentRepository,
 		final AttachmentRepository attachmentRepository,
 		final LetterRepository letterRepository,
+		final LetterBatchRepository letterBatchRepository,
+		final LetterOutboxRepository letterOutboxRepository,
 		final OrganizationRepository organizationRepository,
 		final UserRepository userRepository,
-		final LetterMapper letterMapper) {
+		final LetterMapper letterMapper,
+		final PlatformTransactionManager transactionManager) {
 
 		this.attachmentMapper = attachmentMapper;
+		this.attachmentContentRepository = attachmentContentRepository;
 		this.attachmentRepository = attachmentRepository;
 		this.letterRepository = letterRepository;
+		this.letterBatchRepository = letterBatchRepository;
+		this.letterOutboxRepository = letterOutboxRepository;
 		this.organizationRepository = organizationRepository;
 		this.userRepository = userRepository;
 		this.letterMapper = letterMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
 	/**
-	 * Method for creating an entity matching provided data
+	 * Method for creating an entity matching provided data. The content of the attachments is stored before the
+	 * transaction persisting the letter is opened, hence a connection is never held while an upload is written. The
+	 * content is only referenced by the attachments, hence it is initialized here as the letter is sent to Kivra after the
+	 * transaction has ended.
 	 *
 	 * @param  municipalityId municipality "owning" the message
 	 * @param  letterRequest  request with data for the message
 	 * @param  attachments    attachments connected to the message
 	 * @return                a persisted entity representation of the data that has been provided to the function
 	 */
-	@Transactional
 	public LetterEntity persistLetter(final String municipalityId, final LetterRequest letterRequest, final List<MultipartFile> attachments) {
+		final var attachmentEntities = attachmentMapper.toAttachmentEntities(attachments);
+
+		return transactionTemplate.execute(_ -> {
+			final var letterEntity = saveLetter(municipalityId, letterRequest, attachmentEntities);
+			letterEntity.getAttachments().forEach(attachmentEntity -> Hibernate.initialize(attachmentEntity.getAttachmentContent()));
+
+			return letterEntity;
+		});
+	}
+
+	private LetterEntity saveLetter(final String municipalityId, final LetterRequest letterRequest, final List<AttachmentEntity> storedAttachmentEntities) {
+		final var attachmentEntities = withContentReferences(storedAttachmentEntities);
 		final var letterEntity = letterMapper.toLetterEntity(letterRequest)
-			.withAttachments(attachmentMapper.toAttachmentEntities(attachments))
+			.withAttachments(attachmentEntities)
 			.withMunicipalityId(municipalityId)
 			.withStatus(STATUS_NEW);
 
 		letterEntity.setOrganization(retrieveOrganizationEntity(letterRequest.organization(), letterEntity));
 		letterEntity.setUser(retrieveUserEntity(letterEntity));
 
-		return letterRepository.save(letterEntity);
+		final var persistedLetterEntity = letterRepository.save(letterEntity);
+		incrementReferenceCounts(attachmentEntities);
+
+		return persistedLetterEntity;
+	}
+
+	/**
+	 * Method for creating an entity matching provided data and queueing it for asynchronous dispatch to Kivra. The letter
+	 * and the outbox entry are persisted in the same transaction, hence a letter is never accepted without being queued.
+	 * The content of the attachments is stored before that transaction is opened.
+	 *
+	 * @param  municipalityId     municipality "owning" the message
+	 * @param  organizationNumber organization number of the tenant sending the message
+	 * @param  tenantEntity       the tenant sending the message
+	 * @param  letterRequest      request with data for the message
+	 * @param  attachments        attachments connected to the message
+	 * @return                    a persisted entity representation of the data that has been provided to the function
+	 */
+	public LetterEntity persistQueuedLetter(final String municipalityId, final String organizationNumber, final TenantEntity tenantEntity, final LetterRequest letterRequest, final List<MultipartFile> attachments) {
+		final var attachmentEntities = attachmentMapper.toAttachmentEntities(attachments);
+
+		return transactionTemplate.execute(_ -> {
+			final var letterEntity = saveLetter(municipalityId, letterRequest, attachmentEntities);
+			letterEntity.setTenant(tenantEntity);
+
+			letterOutboxRepository.save(toOutboxEntity(letterEntity, municipalityId, organizationNumber));
+
+			return letterEntity;
+		});
+	}
+
+	/**
+	 * Method for creating a batch with one letter per recipient and queueing the letters for asynchronous dispatch to
+	 * Kivra. The content of the attachments is stored once and shared by all letters in the batch. The batch, the letters
+	 * and the outbox entries are persisted in the same transaction, hence a batch is either accepted as a whole or not at
+	 * all. The content of the attachments is stored before that transaction is opened.
+	 *
+	 * @param  municipalityId     municipality "owning" the messages
+	 * @param  organizationNumber organization number of the tenant sending the messages
+	 * @param  tenantEntity       the tenant sending the messages
+	 * @param  bulkLetterRequest  request with data for the messages and the recipients to send them to
+	 * @param  attachments        attachments connected to each of the messages
+	 * @return                    a persisted entity representation of the batch
+	 */
+	public LetterBatchEntity persistLetterBatch(final String municipalityId, final String organizationNumber, final TenantEntity tenantEntity, final BulkLetterRequest bulkLetterRequest, final List<MultipartFile> attachments) {
+		final var storedAttachmentEntities = attachmentMapper.toAttachmentEntities(attachments);
+
+		return transactionTemplate.execute(_ -> saveLetterBatch(municipalityId, organizationNumber, tenantEntity, bulkLetterRequest, storedAttachmentEntities));
+	}
+
+	private LetterBatchEntity saveLetterBatch(final String municipalityId, final String organizationNumber, final TenantEntity tenantEntity, final BulkLetterRequest bulkLetterRequest, final List<AttachmentEntity> storedAttachmentEntities) {
+		final var partyIds = bulkLetterRequest.partyIds().stream().distinct().toList();
+		final var batchEntity = letterBatchRepository.save(LetterBatchEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withLetterCount(partyIds.size()));
+		final var attachmentEntities = withContentReferences(storedAttachmentEntities);
+
+		final var letterEntities = partyIds.stream()
+			.map(partyId -> letterMapper.toLetterEntity(bulkLetterRequest, partyId)
+				.withAttachments(attachmentMapper.toSharedAttachmentEntities(attachmentEntities))
+				.withMunicipalityId(municipalityId)
+				.withStatus(STATUS_NEW)
+				.withTenant(tenantEntity)
+				.withBatch(batchEntity))
+			.toList();
+
+		final var organizationEntity = retrieveOrganizationEntity(bulkLetterRequest.organization(), letterEntities.getFirst());
+		final var userEntity = retrieveUserEntity(letterEntities.getFirst());
+		letterEntities.forEach(letterEntity -> letterEntity
+			.withOrganization(organizationEntity)
+			.withUser(userEntity));
+
+		letterOutboxRepository.saveAll(letterRepository.saveAll(letterEntities).stream()
+			.map(letterEntity -> toOutboxEntity(letterEntity, municipalityId, organizationNumber))
+			.toList());
+		incrementReferenceCounts(letterEntities.stream()
+			.flatMap(letterEntity -> letterEntity.getAttachments().stream())
+			.toList());
+
+		return batchEntity;
 	}
 
 	/**
-	 * Method fetches and uses an existing entity for organization if found, otherwise it creates a new entity. The incoming
-	 * letter entity is then attached to the organization entity.
+	 * Method replaces the content of the provided attachments with references belonging to the current transaction, as
+	 * the content has been stored before the transaction was opened.
+	 *
+	 * @param  attachmentEntities the attachments to replace the content references of
+	 * @return                    the provided attachments
+	 */
+	private List<AttachmentEntity> withContentReferences(final List<AttachmentEntity> attachmentEntities) {
+		attachmentEntities.stream()
+			.filter(attachmentEntity -> Objects.nonNull(attachmentEntity.getAttachmentContent()))
+			.forEach(attachmentEntity -> attachmentEntity.setAttachmentContent(attachmentContentRepository.getReferenceById(attachmentEntity.getAttachmentContent().getId())));
+		return attachmentEntities;
+	}
+
+	/**
+	 * Method increments the reference count of the content referenced by the provided attachments. Content shared by
+	 * several of the attachments is incremented once with the number of attachments referencing it.
+	 *
+	 * @param attachmentEntities the persisted attachments referencing the content
+	 */
+	private void incrementReferenceCounts(final List<AttachmentEntity> attachmentEntities) {
+		attachmentEntities.stream()
+			.map(AttachmentEntity::getAttachmentContent)
+			.filter(Objects::nonNull)
+			.collect(groupingBy(AttachmentContentEntity::getId, summingInt(_ -> 1)))
+			.forEach(attachmentContentRepository::incrementReferenceCount);
+	}
+
+	private LetterOutboxEntity toOutboxEntity(final LetterEntity letterEntity, final String municipalityId, final String organizationNumber) {
+		return LetterOutboxEntity.create()
+			.withLetterId(letterEntity.getId())
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber);
+	}
+
+	/**
+	 * Method returns an optional letter batch entity matching sent in municipality id and batch id (or if no match is
+	 * found, an Optional.empty)
+	 *
+	 * @param  municipalityId municipality id to match against
+	 * @param  batchId        batch id to match against
+	 * @return                an optional letter batch entity (or optional empty if not found)
+	 */
+	public Optional<LetterBatchEntity> getLetterBatchEntity(final String municipalityId, final String batchId) {
+		return letterBatchRepository.findByIdAndMunicipalityId(batchId, municipalityId);
+	}
+
+	/**
+	 * Method returns the number of letters per status for the letters belonging to the provided batch
+	 *
+	 * @param  batchId batch id to count letters for
+	 * @return         list with the number of letters in each status
+	 */
+	public List<LetterStatusCount> countLetterStatuses(final String batchId) {
+		return letterRepository.countStatusesByBatchId(batchId);
+	}
+
+	/**
+	 * Method fetches and uses an existing entity for organization if found, otherwise it creates a new entity. The
+	 * association is only written from the owning side (the letter), hence the letters collection of an existing
+	 * organization is never initialized.
 	 *
 	 * @param  organization the organization to fetch or create a database entity for
-	 * @param  letterEntity the letter entity to add to the organization
-	 * @return              The entity representation of the incoming organization with the LetterEntity added to it.
+	 * @param  letterEntity the letter entity to add to a new organization
+	 * @return              The entity representation of the incoming organization.
 	 */
 	private OrganizationEntity retrieveOrganizationEntity(final Organization organization, final LetterEntity letterEntity) {
 		return organizationRepository.findByNumber(organization.number())
-			.map(organizationEntity -> letterMapper.addLetter(organizationEntity, letterEntity))
-			.orElse(letterMapper.toOrganizationEntity(organization, letterEntity));
+			.orElseGet(() -> letterMapper.toOrganizationEntity(organization, letterEntity));
 	}
 
 	/**
-	 * Method fetches and uses an existing entity for the user if found, otherwise it creates a new entity. The incoming
-	 * letter entity is then attached to the user entity.
+	 * Method fetches and uses an existing entity for the user if found, otherwise it creates a new entity. The association
+	 * is only written from the owning side (the letter), hence the letters collection of an existing user is never
+	 * initialized.
 	 *
-	 * @param  letterEntity the letter entity to add to the user
-	 * @return              The entity representation of the incoming username with the LetterEntity added to it.
+	 * @param  letterEntity the letter entity to add to a new user
+	 * @return              The entity representation of the incoming username.
 	 */
 	private UserEntity retrieveUserEntity(final LetterEntity letterEntity) {
 		final var username = Identifier.get().getValue();
 		return userRepository.findByUsernameIgnoreCase(username)
-			.map(userEntity -> letterMapper.addLetter(userEntity, letterEntity))
-			.orElse(letterMapper.toUserEntity(username, letterEntity));
+			.orElseGet(() -> letterMapper.toUserEntity(username, letterEntity));
 	}
 
 	/**
@@ -120,14 +314,53 @@ public class RepositoryIntegration {
 	}
 
 	/**
-	 * Method returns letter entities matching provided letterIds
+	 * Method returns an optional letter entity matching sent in municipality id and letter id, with its attachments and
+	 * their content loaded, so that the letter can be sent once the transaction has ended (or if no match is found, an
+	 * Optional.empty)
+	 *
+	 * @param  municipalityId municipality id to match against
+	 * @param  letterId       letter id to match against
+	 * @return                an optional letter entity (or optional empty if not found)
+	 */
+	@Transactional(readOnly = true)
+	public Optional<LetterEntity> getLetterEntityWithAttachments(final String municipalityId, final String letterId) {
+		final var letterEntity = getLetterEntity(municipalityId, letterId);
+		letterEntity.map(LetterEntity::getAttachments)
+			.ifPresent(attachmentEntities -> attachmentEntities.forEach(attachmentEntity -> Hibernate.initialize(attachmentEntity.getAttachmentContent())));
+		return letterEntity;
+	}
+
+	/**
+	 * Method returns the status and signing status of the letters matching provided letterIds. The ids are queried in
+	 * chunks, to keep the IN-list of each query bounded no matter how many ids are provided.
 	 *
 	 * @param  municipalityId municipality id to match against
 	 * @param  letterIds      list of letter ids to match against
-	 * @return                list of letter entities
+	 * @return                list with the status and signing status of each matching letter
 	 */
-	public List<LetterEntity> getLetterEntities(final String municipalityId, final List<String> letterIds) {
-		return letterRepository.findAllByMunicipalityIdAndIdInAndDeletedFalse(municipalityId, letterIds);
+	public List<LetterSigningStatus> getLetterSigningStatuses(final String municipalityId, final List<String> letterIds) {
+		final var distinctLetterIds = letterIds.stream().distinct().toList();
+		final var letterSigningStatuses = new ArrayList<LetterSigningStatus>(distinctLetterIds.size());
+
+		for (var fromIndex = 0; fromIndex < distinctLetterIds.size(); fromIndex += LETTER_IDS_CHUNK_SIZE) {
+			final var chunk = distinctLetterIds.subList(fromIndex, Math.min(fromIndex + LETTER_IDS_CHUNK_SIZE, distinctLetterIds.size()));
+			letterSigningStatuses.addAll(letterRepository.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, chunk));
+		}
+		return letterSigningStatuses;
+	}
+
+	/**
+	 * Method returns the status and signing status of the letters updated after provided position, in order of update
+	 *
+	 * @param  municipalityId municipality id to match against
+	 * @param  updated        update time of the last letter read
+	 * @param  id             id of the last letter read
+	 * @param  settledBefore  the time the letters must have been updated at or before
+	 * @param  limit          maximum number of letters to return
+	 * @return                list with the status and signing status of each letter updated after the position
+	 */
+	public List<LetterStatusChange> getLetterStatusChanges(final String municipalityId, final OffsetDateTime updated, final String id, final OffsetDateTime settledBefore, final int limit) {
+		return letterRepository.findStatusChanges(municipalityId, updated, id, settledBefore, Limit.of(limit));
 	}
 
 	/**
@@ -143,6 +376,34 @@ public class RepositoryIntegration {
 		return letterRepository.findAllByFilter(municipalityId, filter, false, pageable);
 	}
 
+	/**
+	 * Method returns the window of letter entities following provided keyset position, matching provided municipality id
+	 * and optionally provided filters
+	 *
+	 * @param  municipalityId municipality id to match against
+	 * @param  filter         filter object containing optional filters to use when retrieving a result
+	 * @param  position       keyset position of the last letter entity of the previous window
+	 * @param  limit          maximum number of letter entities to retrieve
+	 * @return                a window of letter entities matching provided parameters
+	 */
+	public Window<LetterEntity> getLetterEntityWindow(final String municipalityId, final LetterFilter filter, final KeysetScrollPosition position, final int limit) {
+		return letterRepository.findAllByFilter(municipalityId, filter, false, position, limit);
+	}
+
+	/**
+	 * Method returns the window of ids of signed letters following provided keyset position, matching provided
+	 * municipality id and optionally provided filters
+	 *
+	 * @param  municipalityId municipality id to match against
+	 * @param  filter         filter object containing optional filters to use when retrieving a result
+	 * @param  position       keyset position of the last letter of the previous window
+	 * @param  limit          maximum number of letter ids to retrieve
+	 * @return                a window of ids of signed letters matching provided parameters
+	 */
+	public Window<String> getSignedLetterIds(final String municipalityId, final LetterFilter filter, final KeysetScrollPosition position, final int limit) {
+		return letterRepository.findAllSignedByFilter(municipalityId, filter, position, limit).map(LetterEntity::getId);
+	}
+
 	/**
 	 * Method does a soft deletion of letter entity matching provided id if found, otherwise it does nothing
 	 *
@@ -158,14 +419,94 @@ public class RepositoryIntegration {
 	}
 
 	/**
-	 * Method returns an optional attachment entity matching municipality id, letter id, and attachment id
+	 * Method returns optional metadata of the attachment matching municipality id, letter id, and attachment id. Deleted
+	 * letters are not matched.
 	 *
 	 * @param  municipalityId municipality id to match against
 	 * @param  letterId       letter id to match against
 	 * @param  attachmentId   attachment id to match against
-	 * @return                an optional attachment entity (or optional empty if not found)
+	 * @return                optional attachment metadata (or optional empty if not found)
 	 */
-	public Optional<AttachmentEntity> getAttachmentEntity(final String municipalityId, final String letterId, final String attachmentId) {
-		return attachmentRepository.findByIdAndLetterIdAndLetter_MunicipalityId(attachmentId, letterId, municipalityId);
+	public Optional<AttachmentMetadata> getAttachmentMetadata(final String municipalityId, final String letterId, final String attachmentId) {
+		return attachmentRepository.findMetadataByIdAndLetterIdAndMunicipalityId(attachmentId, letterId, municipalityId);
+	}
+
+	/**
+	 * Method returns a stream reading a range of attachment content held by the database. The range is read in chunks of a
+	 * fixed size, one query per chunk, as loading the entity or selecting the Blob would read the whole content into
+	 * memory. The stream must be read within a transaction.
+	 *
+	 * @param  contentId id of the attachment content
+	 * @param  offset    0-based offset of the first byte to read
+	 * @param  length    number of bytes to read
+	 * @return           a stream reading the range
+	 */
+	public InputStream getAttachmentContentStream(final String contentId, final long offset, final long length) {
+		return new AttachmentContentInputStream(attachmentContentRepository, contentId, offset, length, CONTENT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Method claims outbox entries that are not claimed by any other dispatcher by setting a lease on them. Rows locked by
+	 * a concurrent claim are skipped, which makes it safe for several instances to claim entries at the same time.
+	 *
+	 * @param  claimedBy identifier of the dispatcher claiming the entries
+	 * @param  batchSize maximum number of entries to claim
+	 * @param  lease     time the entries stay claimed before they are made available for a new attempt
+	 * @return           list of claimed outbox entries
+	 */
+	@Transactional
+	public List<LetterOutboxEntity> claimOutboxEntries(final String claimedBy, final int batchSize, final Duration lease) {
+		final var timestamp = now(systemDefault()).truncatedTo(MILLIS);
+		final var outboxEntities = letterOutboxRepository.findAllByClaimedUntilBeforeOrderByCreatedAsc(timestamp, Limit.of(batchSize));
+
+		outboxEntities.forEach(outboxEntity -> outboxEntity
+			.withClaimedBy(claimedBy)
+			.withClaimedUntil(timestamp.plus(lease))
+			.withAttempts(outboxEntity.getAttempts() + 1));
+
+		return letterOutboxRepository.saveAll(outboxEntities);
+	}
+
+	/**
+	 * Method updates the letter belonging to the provided outbox entry with the provided status and removes the entry from
+	 * the outbox. Nothing is updated if the entry is no longer claimed by the dispatcher that claimed it, i.e. when its
+	 * lease has expired and it has been claimed by another dispatcher.
+	 *
+	 * @param  outboxEntity outbox entry to complete
+	 * @param  status       value of status to update the letter to
+	 * @return              true if the entry was completed, false if it is no longer claimed by the dispatcher
+	 */
+	@Transactional
+	public boolean completeOutboxEntry(final LetterOutboxEntity outboxEntity, final String status) {
+		if (!removeOutboxEntry(outboxEntity)) {
+			return false;
+		}
+
+		letterRepository.findById(outboxEntity.getLetterId())
+			.ifPresent(letterEntity -> updateStatus(letterEntity, status));
+		return true;
+	}
+
+	/**
+	 * Method makes the provided outbox entry available for a new attempt at once, instead of when its lease expires. The
+	 * attempt has already been counted when the entry was claimed.
+	 *
+	 * @param  outboxEntity outbox entry to release
+	 * @return              true if the entry was released, false if it is no longer claimed by the dispatcher
+	 */
+	@Transactional
+	public boolean releaseOutboxEntry(final LetterOutboxEntity outboxEntity) {
+		return letterOutboxRepository.releaseByIdAndClaimedBy(outboxEntity.getId(), outboxEntity.getClaimedBy(), now(systemDefault()).truncatedTo(MILLIS)) > 0;
+	}
+
+	/**
+	 * Method removes the provided entry from the outbox, provided it is still claimed by the dispatcher that claimed it
+	 *
+	 * @param  outboxEntity outbox entry to remove
+	 * @return              true if the entry was removed, false if it is no longer claimed by the dispatcher
+	 */
+	@Transactional
+	public boolean removeOutboxEntry(final LetterOutboxEntity outboxEntity) {
+		return letterOutboxRepository.deleteByIdAndClaimedBy(outboxEntity.getId(), outboxEntity.getClaimedBy()) > 0;
 	}
 }
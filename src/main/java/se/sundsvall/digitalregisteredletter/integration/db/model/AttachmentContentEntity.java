@@ -0,0 +1,194 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.sql.Blob;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Binary content of one or more attachments. The content is kept apart from the attachment metadata and is addressed by
+ * its SHA-256 hash, hence identical files are stored once no matter how many letters they are attached to. The
+ * reference count holds the number of attachments pointing to the content. Content kept in an external attachment store
+ * has a storage key instead of a blob. The length of the content is kept as metadata, hence it is known without reading
+ * the content. Content is stored before the letters referencing it, hence the creation time is kept to tell content
+ * that is about to be referenced from content left unreferenced by a letter that was never persisted.
+ */
+@Entity
+@Table(name = "attachment_content", indexes = {
+	@Index(name = "idx_attachment_content_reference_count_created", columnList = "reference_count, created")
+}, uniqueConstraints = {
+	@UniqueConstraint(name = "uk_attachment_content_hash", columnNames = {
+		"hash"
+	})
+})
+public class AttachmentContentEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", nullable = false, updatable = false, length = 36)
+	private String id;
+
+	@Column(name = "hash", nullable = false, length = 64)
+	private String hash;
+
+	@Column(name = "reference_count", nullable = false)
+	private int referenceCount;
+
+	@Column(name = "storage_key")
+	private String storageKey;
+
+	@Column(name = "content_length", nullable = false)
+	private long contentLength;
+
+	@Basic(fetch = FetchType.LAZY)
+	@Lob
+	@Column(name = "content", columnDefinition = "longblob")
+	private Blob content;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@PrePersist
+	void onPersist() {
+		this.created = now(systemDefault()).truncatedTo(MILLIS);
+	}
+
+	public static AttachmentContentEntity create() {
+		return new AttachmentContentEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public AttachmentContentEntity withId(final String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public void setHash(final String hash) {
+		this.hash = hash;
+	}
+
+	public AttachmentContentEntity withHash(final String hash) {
+		this.hash = hash;
+		return this;
+	}
+
+	public int getReferenceCount() {
+		return referenceCount;
+	}
+
+	public void setReferenceCount(final int referenceCount) {
+		this.referenceCount = referenceCount;
+	}
+
+	public AttachmentContentEntity withReferenceCount(final int referenceCount) {
+		this.referenceCount = referenceCount;
+		return this;
+	}
+
+	public String getStorageKey() {
+		return storageKey;
+	}
+
+	public void setStorageKey(final String storageKey) {
+		this.storageKey = storageKey;
+	}
+
+	public AttachmentContentEntity withStorageKey(final String storageKey) {
+		this.storageKey = storageKey;
+		return this;
+	}
+
+	public long getContentLength() {
+		return contentLength;
+	}
+
+	public void setContentLength(final long contentLength) {
+		this.contentLength = contentLength;
+	}
+
+	public AttachmentContentEntity withContentLength(final long contentLength) {
+		this.contentLength = contentLength;
+		return this;
+	}
+
+	public Blob getContent() {
+		return content;
+	}
+
+	public void setContent(final Blob content) {
+		this.content = content;
+	}
+
+	public AttachmentContentEntity withContent(final Blob content) {
+		this.content = content;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public AttachmentContentEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "AttachmentContentEntity{" +
+			"id='" + id + '\'' +
+			", hash='" + hash + '\'' +
+			", referenceCount=" + referenceCount +
+			", storageKey='" + storageKey + '\'' +
+			", contentLength=" + contentLength +
+			", content='" + content + '\'' +
+			", created=" + created +
+			'}';
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (o == null || getClass() != o.getClass())
+			return false;
+		final var that = (AttachmentContentEntity) o;
+		return referenceCount == that.referenceCount && contentLength == that.contentLength && Objects.equals(id, that.id) && Objects.equals(hash, that.hash) && Objects.equals(storageKey, that.storageKey) && Objects.equals(content, that.content) && Objects.equals(created, that.created);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, hash, referenceCount, storageKey, contentLength, content, created);
+	}
+}
@@ -1,19 +1,21 @@
 package se.sundsvall.digitalregisteredletter.integration.db.model;
 
-import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.sql.Blob;
 import java.util.Objects;
 
+import static jakarta.persistence.CascadeType.PERSIST;
+import static java.util.Optional.ofNullable;
+
 @Entity
 @Table(name = "attachment")
 public class AttachmentEntity {
@@ -29,10 +31,9 @@ public class AttachmentEntity {
 	@Column(name = "content_type", length = 50)
 	private String contentType;
 
-	@Basic(fetch = FetchType.LAZY)
-	@Lob
-	@Column(name = "content", columnDefinition = "longblob")
-	private Blob content;
+	@ManyToOne(fetch = FetchType.LAZY, cascade = PERSIST)
+	@JoinColumn(name = "content_id", foreignKey = @ForeignKey(name = "fk_attachment_content"))
+	private AttachmentContentEntity attachmentContent;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "letter_id", nullable = false, updatable = false, insertable = false)
@@ -81,16 +82,44 @@ public class AttachmentEntity {
 		return this;
 	}
 
+	public AttachmentContentEntity getAttachmentContent() {
+		return attachmentContent;
+	}
+
+	public void setAttachmentContent(final AttachmentContentEntity attachmentContent) {
+		this.attachmentContent = attachmentContent;
+	}
+
+	public AttachmentEntity withAttachmentContent(final AttachmentContentEntity attachmentContent) {
+		this.attachmentContent = attachmentContent;
+		return this;
+	}
+
+	/**
+	 * Convenience method returning the binary content of the attachment, which is stored in a separate (possibly shared)
+	 * content entity.
+	 *
+	 * @return the binary content of the attachment or null if no content is present
+	 */
 	public Blob getContent() {
-		return content;
+		return ofNullable(attachmentContent)
+			.map(AttachmentContentEntity::getContent)
+			.orElse(null);
 	}
 
-	public void setContent(Blob content) {
-		this.content = content;
+	/**
+	 * Convenience method connecting the attachment to a new content entity holding the provided binary content.
+	 *
+	 * @param content the binary content of the attachment
+	 */
+	public void setContent(final Blob content) {
+		this.attachmentContent = ofNullable(content)
+			.map(blob -> AttachmentContentEntity.create().withContent(blob))
+			.orElse(null);
 	}
 
-	public AttachmentEntity withContent(Blob content) {
-		this.content = content;
+	public AttachmentEntity withContent(final Blob content) {
+		setContent(content);
 		return this;
 	}
 
@@ -100,7 +129,7 @@ public class AttachmentEntity {
 			"id='" + id + '\'' +
 			", fileName='" + fileName + '\'' +
 			", contentType='" + contentType + '\'' +
-			", content='" + content + '\'' +
+			", attachmentContent='" + attachmentContent + '\'' +
 			'}';
 	}
 
@@ -109,11 +138,11 @@ public class AttachmentEntity {
 		if (o == null || getClass() != o.getClass())
 			return false;
 		AttachmentEntity that = (AttachmentEntity) o;
-		return Objects.equals(id, that.id) && Objects.equals(fileName, that.fileName) && Objects.equals(contentType, that.contentType) && Objects.equals(content, that.content);
+		return Objects.equals(id, that.id) && Objects.equals(fileName, that.fileName) && Objects.equals(contentType, that.contentType) && Objects.equals(attachmentContent, that.attachmentContent);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, fileName, contentType, content);
+		return Objects.hash(id, fileName, contentType, attachmentContent);
 	}
 }
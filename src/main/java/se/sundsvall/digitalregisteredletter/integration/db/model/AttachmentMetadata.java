@@ -0,0 +1,25 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection holding what is needed to download an attachment, without the content itself.
+ */
+public interface AttachmentMetadata {
+
+	String getId();
+
+	String getFileName();
+
+	String getContentType();
+
+	String getContentId();
+
+	String getHash();
+
+	String getStorageKey();
+
+	long getContentLength();
+
+	OffsetDateTime getLetterCreated();
+}
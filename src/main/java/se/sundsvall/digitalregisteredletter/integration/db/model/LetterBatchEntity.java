@@ -0,0 +1,144 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Batch of letters sent with the same content to many recipients. The letters belonging to the batch reference it,
+ * which makes it possible to follow the progress of the batch.
+ */
+@Entity
+@Table(name = "letter_batch")
+public class LetterBatchEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", nullable = false, updatable = false, length = 36)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false, length = 4)
+	private String municipalityId;
+
+	@Column(name = "organization_number", nullable = false, length = 12)
+	private String organizationNumber;
+
+	@Column(name = "letter_count", nullable = false)
+	private Integer letterCount;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@PrePersist
+	void onPersist() {
+		this.created = now(systemDefault()).truncatedTo(MILLIS);
+	}
+
+	public static LetterBatchEntity create() {
+		return new LetterBatchEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public LetterBatchEntity withId(final String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public LetterBatchEntity withMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getOrganizationNumber() {
+		return organizationNumber;
+	}
+
+	public void setOrganizationNumber(final String organizationNumber) {
+		this.organizationNumber = organizationNumber;
+	}
+
+	public LetterBatchEntity withOrganizationNumber(final String organizationNumber) {
+		this.organizationNumber = organizationNumber;
+		return this;
+	}
+
+	public Integer getLetterCount() {
+		return letterCount;
+	}
+
+	public void setLetterCount(final Integer letterCount) {
+		this.letterCount = letterCount;
+	}
+
+	public LetterBatchEntity withLetterCount(final Integer letterCount) {
+		this.letterCount = letterCount;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public LetterBatchEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof final LetterBatchEntity other)) {
+			return false;
+		}
+		return Objects.equals(id, other.id) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(organizationNumber, other.organizationNumber) && Objects.equals(letterCount, other.letterCount)
+			&& Objects.equals(created, other.created);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, municipalityId, organizationNumber, letterCount, created);
+	}
+
+	@Override
+	public String toString() {
+		return "LetterBatchEntity [id=" + id
+			+ ", municipalityId=" + municipalityId
+			+ ", organizationNumber=" + organizationNumber
+			+ ", letterCount=" + letterCount
+			+ ", created=" + created + "]";
+	}
+}
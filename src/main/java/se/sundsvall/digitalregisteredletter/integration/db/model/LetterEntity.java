@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,6 +20,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.TimeZoneStorage;
 import se.sundsvall.dept44.requestid.RequestId;
 
@@ -32,7 +34,12 @@ import static java.util.Optional.ofNullable;
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
 
 @Entity
-@Table(name = "letter", uniqueConstraints = {
+@Table(name = "letter", indexes = {
+	@Index(name = "idx_letter_status_deleted_tenant_id", columnList = "status, deleted, tenant_id"),
+	@Index(name = "idx_letter_municipality_id_deleted_created", columnList = "municipality_id, deleted, created"),
+	@Index(name = "idx_letter_municipality_id_deleted_status", columnList = "municipality_id, deleted, status"),
+	@Index(name = "idx_letter_municipality_id_deleted_updated", columnList = "municipality_id, deleted, updated")
+}, uniqueConstraints = {
 	@UniqueConstraint(name = "uk_signing_information_id", columnNames = {
 		"signing_information_id"
 	})
@@ -83,6 +90,8 @@ public class LetterEntity {
 	@AttributeOverride(name = "contactInformationPhoneNumber", column = @Column(name = "support_information_phone"))
 	private SupportInformation supportInformation;
 
+	// Initializes the attachments of a whole page of letters at once when the letters are listed
+	@BatchSize(size = 100)
 	@OneToMany(cascade = ALL, orphanRemoval = true)
 	@JoinColumn(name = "letter_id", referencedColumnName = "id", nullable = false, foreignKey = @ForeignKey(name = "fk_attachment_letter"))
 	private List<AttachmentEntity> attachments = new ArrayList<>();
@@ -103,6 +112,10 @@ public class LetterEntity {
 	@JoinColumn(name = "tenant_id", foreignKey = @ForeignKey(name = "fk_letter_tenant"))
 	private TenantEntity tenant;
 
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "batch_id", foreignKey = @ForeignKey(name = "fk_letter_batch"))
+	private LetterBatchEntity batch;
+
 	@PrePersist
 	void onPersist() {
 		this.created = now(systemDefault()).truncatedTo(MILLIS);
@@ -332,16 +345,30 @@ public class LetterEntity {
 		return this;
 	}
 
+	public LetterBatchEntity getBatch() {
+		return batch;
+	}
+
+	public void setBatch(final LetterBatchEntity batch) {
+		this.batch = batch;
+	}
+
+	public LetterEntity withBatch(final LetterBatchEntity batch) {
+		this.batch = batch;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(attachments, body, contentType, created, deleted, id, municipalityId, organization, partyId, requestId, signingInformation, status, subject, supportInformation, tenant, updated, user);
+		return Objects.hash(attachments, ofNullable(batch).map(LetterBatchEntity::getId).orElse(null), body, contentType, created, deleted, id, municipalityId, organization, partyId, requestId, signingInformation, status, subject, supportInformation, tenant, updated, user);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) { return true; }
 		if (!(obj instanceof final LetterEntity other)) { return false; }
-		return Objects.equals(attachments, other.attachments) && Objects.equals(body, other.body) && Objects.equals(contentType, other.contentType) && Objects.equals(created, other.created) && deleted == other.deleted && Objects.equals(id, other.id)
+		return Objects.equals(attachments, other.attachments) && Objects.equals(ofNullable(batch).map(LetterBatchEntity::getId).orElse(null), ofNullable(other.batch).map(LetterBatchEntity::getId).orElse(null))
+			&& Objects.equals(body, other.body) && Objects.equals(contentType, other.contentType) && Objects.equals(created, other.created) && deleted == other.deleted && Objects.equals(id, other.id)
 			&& Objects.equals(municipalityId, other.municipalityId) && Objects.equals(ofNullable(organization).map(OrganizationEntity::getId).orElse(null), ofNullable(other.organization).map(OrganizationEntity::getId).orElse(null))
 			&& Objects.equals(partyId, other.partyId) && Objects.equals(requestId, other.requestId) && Objects.equals(signingInformation, other.signingInformation) && Objects.equals(status, other.status) && Objects.equals(subject, other.subject)
 			&& Objects.equals(supportInformation, other.supportInformation) && Objects.equals(ofNullable(tenant).map(TenantEntity::getId).orElse(null), ofNullable(other.tenant).map(TenantEntity::getId).orElse(null))
@@ -354,7 +381,7 @@ public class LetterEntity {
 		builder.append("LetterEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", body=").append(body).append(", contentType=").append(contentType).append(", status=").append(status).append(", requestId=").append(
 			requestId).append(", subject=").append(subject).append(", partyId=").append(partyId).append(", deleted=").append(deleted).append(", created=").append(created).append(", updated=").append(updated).append(", supportInformation=").append(
 				supportInformation).append(", attachments=").append(attachments).append(", user=").append(ofNullable(user).map(UserEntity::getId).orElse(null)).append(", organization=").append(ofNullable(organization).map(OrganizationEntity::getId)
-					.orElse(null)).append(", signingInformation=").append(signingInformation).append(", tenant=").append(ofNullable(tenant).map(TenantEntity::getId).orElse(null)).append("]");
+					.orElse(null)).append(", signingInformation=").append(signingInformation).append(", tenant=").append(ofNullable(tenant).map(TenantEntity::getId).orElse(null)).append(", batch=").append(ofNullable(batch).map(LetterBatchEntity::getId).orElse(null)).append("]");
 		return builder.toString();
 	}
 
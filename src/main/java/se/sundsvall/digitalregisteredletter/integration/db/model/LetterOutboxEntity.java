@@ -0,0 +1,205 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Optional.ofNullable;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Entry in the outbox of letters waiting to be dispatched to Kivra. An entry is claimed by a dispatcher by setting
+ * claimedUntil into the future, which makes it invisible to other dispatchers until the lease has expired.
+ */
+@Entity
+@Table(name = "letter_outbox", indexes = {
+	@Index(name = "idx_letter_outbox_claimed_until", columnList = "claimed_until")
+}, uniqueConstraints = {
+	@UniqueConstraint(name = "uk_letter_outbox_letter_id", columnNames = "letter_id")
+})
+public class LetterOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", length = 36)
+	private String id;
+
+	@Column(name = "letter_id", nullable = false, length = 36)
+	private String letterId;
+
+	@Column(name = "municipality_id", nullable = false, length = 4)
+	private String municipalityId;
+
+	@Column(name = "organization_number", nullable = false, length = 12)
+	private String organizationNumber;
+
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@Column(name = "claimed_until")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime claimedUntil;
+
+	@Column(name = "claimed_by")
+	private String claimedBy;
+
+	@PrePersist
+	void onPersist() {
+		this.created = now(systemDefault()).truncatedTo(MILLIS);
+		this.claimedUntil = ofNullable(claimedUntil).orElse(created);
+		this.attempts = ofNullable(attempts).orElse(0);
+	}
+
+	public static LetterOutboxEntity create() {
+		return new LetterOutboxEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public LetterOutboxEntity withId(final String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getLetterId() {
+		return letterId;
+	}
+
+	public void setLetterId(final String letterId) {
+		this.letterId = letterId;
+	}
+
+	public LetterOutboxEntity withLetterId(final String letterId) {
+		this.letterId = letterId;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public LetterOutboxEntity withMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getOrganizationNumber() {
+		return organizationNumber;
+	}
+
+	public void setOrganizationNumber(final String organizationNumber) {
+		this.organizationNumber = organizationNumber;
+	}
+
+	public LetterOutboxEntity withOrganizationNumber(final String organizationNumber) {
+		this.organizationNumber = organizationNumber;
+		return this;
+	}
+
+	public Integer getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(final Integer attempts) {
+		this.attempts = attempts;
+	}
+
+	public LetterOutboxEntity withAttempts(final Integer attempts) {
+		this.attempts = attempts;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public LetterOutboxEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	public OffsetDateTime getClaimedUntil() {
+		return claimedUntil;
+	}
+
+	public void setClaimedUntil(final OffsetDateTime claimedUntil) {
+		this.claimedUntil = claimedUntil;
+	}
+
+	public LetterOutboxEntity withClaimedUntil(final OffsetDateTime claimedUntil) {
+		this.claimedUntil = claimedUntil;
+		return this;
+	}
+
+	public String getClaimedBy() {
+		return claimedBy;
+	}
+
+	public void setClaimedBy(final String claimedBy) {
+		this.claimedBy = claimedBy;
+	}
+
+	public LetterOutboxEntity withClaimedBy(final String claimedBy) {
+		this.claimedBy = claimedBy;
+		return this;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof final LetterOutboxEntity other)) {
+			return false;
+		}
+		return Objects.equals(id, other.id) && Objects.equals(letterId, other.letterId) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(organizationNumber, other.organizationNumber)
+			&& Objects.equals(attempts, other.attempts) && Objects.equals(created, other.created) && Objects.equals(claimedUntil, other.claimedUntil) && Objects.equals(claimedBy, other.claimedBy);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, letterId, municipalityId, organizationNumber, attempts, created, claimedUntil, claimedBy);
+	}
+
+	@Override
+	public String toString() {
+		return "LetterOutboxEntity [id=" + id
+			+ ", letterId=" + letterId
+			+ ", municipalityId=" + municipalityId
+			+ ", organizationNumber=" + organizationNumber
+			+ ", attempts=" + attempts
+			+ ", created=" + created
+			+ ", claimedUntil=" + claimedUntil
+			+ ", claimedBy=" + claimedBy + "]";
+	}
+}
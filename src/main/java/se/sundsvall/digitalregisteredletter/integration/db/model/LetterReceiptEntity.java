@@ -0,0 +1,131 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Pre-rendered receipt of a signed letter. The receipt is rendered from the signing information of the letter, hence
+ * the version of the signing information it was rendered from is kept to detect when the receipt is outdated. The
+ * rendered document is kept as attachment content, which places it in the configured attachment store.
+ */
+@Entity
+@Table(name = "letter_receipt")
+public class LetterReceiptEntity {
+
+	@Id
+	@Column(name = "letter_id", nullable = false, updatable = false, length = 36)
+	private String letterId;
+
+	@Column(name = "signing_information_version", nullable = false)
+	private Long signingInformationVersion;
+
+	@ManyToOne(fetch = LAZY, optional = false)
+	@JoinColumn(name = "content_id", nullable = false, foreignKey = @ForeignKey(name = "fk_letter_receipt_content"))
+	private AttachmentContentEntity receiptContent;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@PrePersist
+	@PreUpdate
+	void onPersist() {
+		this.created = now(systemDefault()).truncatedTo(MILLIS);
+	}
+
+	public static LetterReceiptEntity create() {
+		return new LetterReceiptEntity();
+	}
+
+	public String getLetterId() {
+		return letterId;
+	}
+
+	public void setLetterId(final String letterId) {
+		this.letterId = letterId;
+	}
+
+	public LetterReceiptEntity withLetterId(final String letterId) {
+		this.letterId = letterId;
+		return this;
+	}
+
+	public Long getSigningInformationVersion() {
+		return signingInformationVersion;
+	}
+
+	public void setSigningInformationVersion(final Long signingInformationVersion) {
+		this.signingInformationVersion = signingInformationVersion;
+	}
+
+	public LetterReceiptEntity withSigningInformationVersion(final Long signingInformationVersion) {
+		this.signingInformationVersion = signingInformationVersion;
+		return this;
+	}
+
+	public AttachmentContentEntity getReceiptContent() {
+		return receiptContent;
+	}
+
+	public void setReceiptContent(final AttachmentContentEntity receiptContent) {
+		this.receiptContent = receiptContent;
+	}
+
+	public LetterReceiptEntity withReceiptContent(final AttachmentContentEntity receiptContent) {
+		this.receiptContent = receiptContent;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public LetterReceiptEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof final LetterReceiptEntity other)) {
+			return false;
+		}
+		return Objects.equals(letterId, other.letterId) && Objects.equals(signingInformationVersion, other.signingInformationVersion) && Objects.equals(receiptContent, other.receiptContent) && Objects.equals(created, other.created);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(letterId, signingInformationVersion, receiptContent, created);
+	}
+
+	@Override
+	public String toString() {
+		return "LetterReceiptEntity [letterId=" + letterId
+			+ ", signingInformationVersion=" + signingInformationVersion
+			+ ", receiptContent=" + receiptContent
+			+ ", created=" + created + "]";
+	}
+}
@@ -0,0 +1,14 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+/**
+ * Projection holding the status of a letter and the status of its signing, without loading the letter or the signing
+ * information themselves.
+ */
+public interface LetterSigningStatus {
+
+	String getId();
+
+	String getStatus();
+
+	String getSigningStatus();
+}
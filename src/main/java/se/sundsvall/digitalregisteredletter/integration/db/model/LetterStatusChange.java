@@ -0,0 +1,12 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection holding the status and signing status of a letter together with the time it was last updated, which is
+ * the position of the change in the status change feed.
+ */
+public interface LetterStatusChange extends LetterSigningStatus {
+
+	OffsetDateTime getUpdated();
+}
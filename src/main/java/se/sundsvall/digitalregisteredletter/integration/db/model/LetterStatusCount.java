@@ -0,0 +1,11 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+/**
+ * Projection holding the number of letters in a specific status.
+ */
+public interface LetterStatusCount {
+
+	String getStatus();
+
+	long getCount();
+}
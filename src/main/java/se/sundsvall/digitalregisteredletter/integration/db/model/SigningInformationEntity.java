@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 import org.hibernate.annotations.TimeZoneStorage;
@@ -61,6 +62,10 @@ public class SigningInformationEntity {
 	@Column(name = "ocsp_response", columnDefinition = "longtext")
 	private String ocspResponse;
 
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+
 	public static SigningInformationEntity create() {
 		return new SigningInformationEntity();
 	}
@@ -247,9 +252,22 @@ public class SigningInformationEntity {
 		return this;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public SigningInformationEntity withVersion(Long version) {
+		this.version = version;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(contentKey, givenName, id, ipAddress, mrtd, name, ocspResponse, orderRef, personalNumber, internalId, signature, signed, status, surname);
+		return Objects.hash(contentKey, givenName, id, ipAddress, mrtd, name, ocspResponse, orderRef, personalNumber, internalId, signature, signed, status, surname, version);
 	}
 
 	@Override
@@ -258,7 +276,8 @@ public class SigningInformationEntity {
 		if (!(obj instanceof final SigningInformationEntity other)) { return false; }
 		return Objects.equals(contentKey, other.contentKey) && Objects.equals(givenName, other.givenName) && Objects.equals(id, other.id) && Objects.equals(ipAddress, other.ipAddress) && Objects.equals(mrtd, other.mrtd) && Objects.equals(name, other.name)
 			&& Objects.equals(ocspResponse, other.ocspResponse) && Objects.equals(orderRef, other.orderRef) && Objects.equals(personalNumber, other.personalNumber) && Objects.equals(internalId, other.internalId) && Objects
-				.equals(signature, other.signature) && Objects.equals(signed, other.signed) && Objects.equals(status, other.status) && Objects.equals(surname, other.surname);
+				.equals(signature, other.signature) && Objects.equals(signed, other.signed) && Objects.equals(status, other.status) && Objects.equals(surname, other.surname)
+			&& Objects.equals(version, other.version);
 	}
 
 	@Override
@@ -266,7 +285,7 @@ public class SigningInformationEntity {
 		final var builder = new StringBuilder();
 		builder.append("SigningInformationEntity [id=").append(id).append(", signed=").append(signed).append(", internalId=").append(internalId).append(", contentKey=").append(contentKey).append(", orderRef=").append(orderRef).append(", status=")
 			.append(status).append(", personalNumber=").append(personalNumber).append(", name=").append(name).append(", givenName=").append(givenName).append(", surname=").append(surname).append(", ipAddress=").append(ipAddress).append(", mrtd=")
-			.append(mrtd).append(", signature=").append(signature).append(", ocspResponse=").append(ocspResponse).append("]");
+			.append(mrtd).append(", signature=").append(signature).append(", ocspResponse=").append(ocspResponse).append(", version=").append(version).append("]");
 		return builder.toString();
 	}
 }
@@ -13,8 +13,10 @@ import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
+@BatchSize(size = 100)
 @Table(name = "user", indexes = {
 	@Index(name = "idx_username", columnList = "username")
 }, uniqueConstraints = {
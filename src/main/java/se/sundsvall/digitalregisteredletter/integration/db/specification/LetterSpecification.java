@@ -90,4 +90,15 @@ public class LetterSpecification {
 				.map(odt -> odt.minusNanos(1))
 				.orElse(null));
 	}
+
+	/**
+	 * Creates filter for matching status if provided, else match all
+	 *
+	 * @param  value the value to compare the status to
+	 * @return       a specification that compares the status to the provided value (or match all if value is not
+	 *               provided)
+	 */
+	public static Specification<LetterEntity> withStatus(final String value) {
+		return BUILDER.buildEqualFilter(LetterEntity_.STATUS, value);
+	}
 }
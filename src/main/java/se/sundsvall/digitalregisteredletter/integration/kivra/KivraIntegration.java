@@ -1,6 +1,13 @@
 package se.sundsvall.digitalregisteredletter.integration.kivra;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -10,11 +17,11 @@ import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.kivra.configuration.KivraProperties;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.KeyValue;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterResponse;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.UserMatchV2SSN;
 import se.sundsvall.digitalregisteredletter.service.TenantService;
-import se.sundsvall.digitalregisteredletter.service.util.EncryptionUtility;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
@@ -26,36 +33,69 @@ import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ER
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SENT;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SERVER_ERROR;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_UNKNOWN_ERROR;
+import static se.sundsvall.digitalregisteredletter.integration.kivra.model.Base64BlobSerializer.MAX_ENCODED_LENGTH;
 
 @Component
 public class KivraIntegration {
 
 	private static final Logger LOG = LoggerFactory.getLogger(KivraIntegration.class);
+	private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> Thread.ofVirtual().name("kivra-eligibility").start(command);
 	private final KivraClient kivraClient;
 	private final KivraMapper kivraMapper;
 	private final TenantService tenantService;
-	private final EncryptionUtility encryptionUtility;
+	private final KivraProperties kivraProperties;
 
 	public KivraIntegration(final KivraClient kivraClient,
 		final KivraMapper kivraMapper,
 		final TenantService tenantService,
-		final EncryptionUtility encryptionUtility) {
+		final KivraProperties kivraProperties) {
 		this.kivraClient = kivraClient;
 		this.kivraMapper = kivraMapper;
 		this.tenantService = tenantService;
-		this.encryptionUtility = encryptionUtility;
+		this.kivraProperties = kivraProperties;
 	}
 
 	/**
-	 * Checks if the provided legal IDs are eligible for Kivra using a dynamically resolved tenant key.
+	 * Checks if the provided legal IDs are eligible for Kivra using a dynamically resolved tenant key. The legal IDs are
+	 * split into chunks that are checked concurrently, so that a large list neither exceeds the Kivra read timeout nor
+	 * waits for each chunk in turn.
 	 *
 	 * @param  legalIds           List of legal IDs to check eligibility for.
 	 * @param  municipalityId     The municipality ID used to look up the tenant.
 	 * @param  organizationNumber The organization number used to look up the tenant.
-	 * @return                    List of legal IDs that are eligible for Kivra.
+	 * @return                    Set of legal IDs that are eligible for Kivra.
 	 */
-	public List<String> checkEligibility(final List<String> legalIds, final String municipalityId, final String organizationNumber) {
+	public Set<String> checkEligibility(final List<String> legalIds, final String municipalityId, final String organizationNumber) {
 		final var tenantKey = tenantService.getDecryptedTenantKey(municipalityId, organizationNumber);
+		final var chunkSize = kivraProperties.eligibilityChunkSize();
+		final var permits = new Semaphore(kivraProperties.eligibilityConcurrency());
+
+		final var futures = IntStream.iterate(0, from -> from < legalIds.size(), from -> from + chunkSize)
+			.mapToObj(from -> legalIds.subList(from, Math.min(from + chunkSize, legalIds.size())))
+			.map(chunk -> CompletableFuture.supplyAsync(() -> checkEligibilityWithPermit(permits, tenantKey, chunk), VIRTUAL_THREAD_EXECUTOR))
+			.toList();
+
+		final var eligibleLegalIds = new HashSet<String>();
+		futures.forEach(future -> eligibleLegalIds.addAll(join(future)));
+		return eligibleLegalIds;
+	}
+
+	private List<String> checkEligibilityWithPermit(final Semaphore permits, final String tenantKey, final List<String> legalIds) {
+		try {
+			permits.acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Interrupted while checking Kivra eligibility for legal ids: " + legalIds);
+		}
+
+		try {
+			return checkEligibilityChunk(tenantKey, legalIds);
+		} finally {
+			permits.release();
+		}
+	}
+
+	private List<String> checkEligibilityChunk(final String tenantKey, final List<String> legalIds) {
 		try {
 			final var request = kivraMapper.toCheckEligibilityRequest(legalIds);
 			LOG.info("Checking Kivra eligibility for legal ids: {}", legalIds);
@@ -72,8 +112,21 @@ public class KivraIntegration {
 		}
 	}
 
+	private static <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
 	/**
-	 * Sends content to Kivra for the specified letter entity and legal ID using a dynamically resolved tenant key.
+	 * Sends content to Kivra for the specified letter entity and legal ID using a dynamically resolved tenant key. A letter
+	 * whose attachments are too large for the buffered request body is never sent, and fails as a client error as it would
+	 * fail the same way on every retry.
 	 *
 	 * @param  letterEntity       The letter entity containing the content to be sent.
 	 * @param  legalId            The legal ID of the recipient.
@@ -85,6 +138,12 @@ public class KivraIntegration {
 	public String sendContent(final LetterEntity letterEntity, final String legalId, final String municipalityId, final String organizationNumber) {
 		final var tenantKey = tenantService.getDecryptedTenantKey(municipalityId, organizationNumber);
 		try {
+			final var encodedContentLength = kivraMapper.encodedContentLength(letterEntity);
+			if (encodedContentLength > MAX_ENCODED_LENGTH) {
+				LOG.error("Attachments of letter with id: {} are encoded to {} characters, which exceeds the maximum size of a request body", letterEntity.getId(), encodedContentLength);
+				return STATUS_CLIENT_ERROR;
+			}
+
 			final var request = kivraMapper.toSendContentRequest(letterEntity, legalId);
 			LOG.info("Sending content to Kivra for legal id: {}", legalId);
 			kivraClient.sendContent(tenantKey, request);
@@ -111,7 +170,7 @@ public class KivraIntegration {
 		try {
 			LOG.info("Retrieving all Kivra responses for organizationNumber: {}", tenantEntity.getOrgNumber());
 
-			final var keyValues = ofNullable(kivraClient.getAllResponses(encryptionUtility.decrypt(tenantEntity.getTenantKey()))).orElse(emptyList());
+			final var keyValues = ofNullable(kivraClient.getAllResponses(tenantService.getDecryptedTenantKey(tenantEntity))).orElse(emptyList());
 			if (isEmpty(keyValues)) {
 				LOG.info("No Kivra responses found for organizationNumber: {}", tenantEntity.getOrgNumber());
 			} else {
@@ -132,7 +191,7 @@ public class KivraIntegration {
 	public RegisteredLetterResponse getRegisteredLetterResponse(final String responseKey, final TenantEntity tenantEntity) {
 		try {
 			LOG.info("Retrieving Kivra registered letter response for responseKey: {}", responseKey);
-			return kivraClient.getResponseDetails(encryptionUtility.decrypt(tenantEntity.getTenantKey()), responseKey);
+			return kivraClient.getResponseDetails(tenantService.getDecryptedTenantKey(tenantEntity), responseKey);
 
 		} catch (final ServerProblem e) {
 			LOG.error("Server exception occurred when retrieving Kivra registered letter response for responseKey: {}, exception message: {}", responseKey, e.getMessage(), e);
@@ -146,7 +205,7 @@ public class KivraIntegration {
 	public void deleteResponse(final String responseKey, final TenantEntity tenantEntity) {
 		try {
 			LOG.info("Deleting Kivra response with key: {}", responseKey);
-			kivraClient.deleteResponse(encryptionUtility.decrypt(tenantEntity.getTenantKey()), responseKey);
+			kivraClient.deleteResponse(tenantService.getDecryptedTenantKey(tenantEntity), responseKey);
 			LOG.info("Kivra response with key {} deleted successfully", responseKey);
 
 		} catch (final ServerProblem e) {
@@ -6,25 +6,27 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.kivra.model.Base64BlobSerializer;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.ContentUserV2;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.ContentUserV2Builder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.PartsResponsiveBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterHiddenBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.UserMatchV2SSN;
-import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 
 import static java.util.Collections.emptyList;
 
 @Component
 public class KivraMapper {
 
-	private final BlobUtil blobUtil;
+	private final AttachmentStore attachmentStore;
 
-	public KivraMapper(final BlobUtil blobUtil) {
-		this.blobUtil = blobUtil;
+	KivraMapper(final AttachmentStore attachmentStore) {
+		this.attachmentStore = attachmentStore;
 	}
 
 	UserMatchV2SSN toCheckEligibilityRequest(final List<String> legalIds) {
@@ -41,6 +43,24 @@ public class KivraMapper {
 			.build();
 	}
 
+	/**
+	 * Returns the number of Base64 characters the attachments of the provided letter are encoded to in the request body.
+	 * Meant to be checked against {@link Base64BlobSerializer#MAX_ENCODED_LENGTH} before the request is built, as Feign
+	 * buffers the request body as a byte array.
+	 *
+	 * @param  letterEntity the letter to sum the encoded length of the attachments for
+	 * @return              the number of Base64 characters of all attachments of the letter
+	 */
+	long encodedContentLength(final LetterEntity letterEntity) {
+		return Optional.ofNullable(letterEntity.getAttachments()).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.map(AttachmentEntity::getAttachmentContent)
+			.filter(Objects::nonNull)
+			.mapToLong(AttachmentContentEntity::getContentLength)
+			.map(Base64BlobSerializer::encodedLength)
+			.sum();
+	}
+
 	/**
 	 * Creates a RegisteredLetter object that configures the letter visibility in the Kivra inbox and sets the expiration
 	 * date. A sender reference is also set to allow us to fetch the letter status separately.
@@ -81,13 +101,16 @@ public class KivraMapper {
 	 * Maps an AttachmentEntity to a PartsResponsive object that represents an attachment in Kivra.
 	 *
 	 * @param  attachmentEntity the AttachmentEntity to map
-	 * @return                  a PartsResponsive object containing the attachment's name, content (as a Base64 string), and
-	 *                          content type,
+	 * @return                  a PartsResponsive object containing the attachment's name, content (as a Blob that is Base64
+	 *                          encoded when the request is written), and content type. The content is streamed from
+	 *                          the attachment store while the request is written.
 	 */
 	ContentUserV2.PartsResponsive toPartsResponsive(final AttachmentEntity attachmentEntity) {
 		return Optional.ofNullable(attachmentEntity).map(attachment -> PartsResponsiveBuilder.create()
 			.withName(attachment.getFileName())
-			.withData(blobUtil.convertBlobToBase64String(attachment.getContent()))
+			.withData(Optional.ofNullable(attachment.getAttachmentContent())
+				.map(attachmentStore::read)
+				.orElse(null))
 			.withContentType(attachment.getContentType())
 			.build())
 			.orElse(null);
@@ -3,6 +3,7 @@ package se.sundsvall.digitalregisteredletter.integration.kivra.configuration;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -12,7 +13,9 @@ public record KivraProperties(
 	@NotBlank String baseUrl,
 	@NotNull @Valid OAuth2 oauth2,
 	@DefaultValue("PT5S") Duration connectTimeout,
-	@DefaultValue("PT15S") Duration readTimeout) {
+	@DefaultValue("PT15S") Duration readTimeout,
+	@DefaultValue("1000") @Positive int eligibilityChunkSize,
+	@DefaultValue("4") @Positive int eligibilityConcurrency) {
 
 	public record OAuth2(
 		@NotBlank String tokenUrl,
@@ -0,0 +1,49 @@
+package se.sundsvall.digitalregisteredletter.integration.kivra.model;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.SQLException;
+import se.sundsvall.dept44.problem.Problem;
+import tools.jackson.core.Base64Variants;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+/**
+ * Serializes a Blob as a Base64 encoded JSON string by streaming the binary content through the generator in small
+ * chunks. Neither the raw bytes nor the encoded string of the Blob is ever held in memory in full, the only complete
+ * copy of the data is the one written to the request body. As Feign buffers the request body as a byte array, that copy
+ * is bounded by the maximum size of an array, see {@link #MAX_ENCODED_LENGTH}.
+ */
+public class Base64BlobSerializer extends ValueSerializer<Blob> {
+
+	/**
+	 * The maximum number of Base64 characters a request body can hold, i.e. the largest array the JVM can allocate.
+	 */
+	public static final long MAX_ENCODED_LENGTH = Integer.MAX_VALUE - 8L;
+
+	/**
+	 * Returns the number of characters the provided number of bytes are encoded to, without line feeds and with padding.
+	 *
+	 * @param  length the number of bytes to encode
+	 * @return        the number of Base64 characters the bytes are encoded to
+	 */
+	public static long encodedLength(final long length) {
+		return (length + 2) / 3 * 4;
+	}
+
+	@Override
+	public void serialize(final Blob blob, final JsonGenerator generator, final SerializationContext context) {
+		try (final var inputStream = blob.getBinaryStream()) {
+			final var length = blob.length();
+			if (encodedLength(length) > MAX_ENCODED_LENGTH) {
+				throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not write Blob of %d bytes as Base64 string, as it exceeds the maximum size of a request body".formatted(length));
+			}
+			generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, inputStream, Math.toIntExact(length));
+		} catch (final SQLException | IOException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not write Blob as Base64 string: %s".formatted(e.getMessage()));
+		}
+	}
+}
@@ -1,9 +1,11 @@
 package se.sundsvall.digitalregisteredletter.integration.kivra.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.sql.Blob;
 import java.time.OffsetDateTime;
 import java.util.List;
 import se.sundsvall.digitalregisteredletter.support.Builder;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Kivra's API specification is not compatible with the openapi-generator plugin, so this class is manually created.
@@ -16,10 +18,15 @@ public record ContentUserV2(
 	RegisteredLetter registered,
 	List<PartsResponsive> parts) {
 
+	/**
+	 * An attachment of the letter. The data is kept as a Blob and Base64 encoded while the request body is written, to
+	 * avoid materialising the encoded content as a string. The encoded content of all parts is still buffered by Feign as
+	 * the request body, hence it must not exceed {@link Base64BlobSerializer#MAX_ENCODED_LENGTH}.
+	 */
 	@Builder
 	public record PartsResponsive(
 		String name,
-		String data,
+		@JsonSerialize(using = Base64BlobSerializer.class) Blob data,
 		@JsonProperty("content_type") String contentType) {
 	}
 
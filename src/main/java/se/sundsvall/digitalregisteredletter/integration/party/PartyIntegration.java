@@ -1,17 +1,36 @@
 package se.sundsvall.digitalregisteredletter.integration.party;
 
 import generated.se.sundsvall.party.PartyType;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.party.configuration.PartyProperties;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
 @Component
 public class PartyIntegration {
 
+	private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("party-resolver").factory();
+
 	private final PartyClient partyClient;
+	private final PartyProperties partyProperties;
 
-	public PartyIntegration(final PartyClient partyClient) {
+	public PartyIntegration(final PartyClient partyClient, final PartyProperties partyProperties) {
 		this.partyClient = partyClient;
+		this.partyProperties = partyProperties;
 	}
 
 	public Optional<String> getLegalIdByPartyId(final String municipalityId, final String partyId) {
@@ -19,11 +38,99 @@ public class PartyIntegration {
 	}
 
 	public List<String> getLegalIdsByPartyIds(final String municipalityId, final List<String> partyIds) {
-		return partyIds.stream()
-			.map(partyId -> partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId))
-			.filter(Optional::isPresent)
-			.map(Optional::get)
-			.toList();
+		return List.copyOf(getLegalIdMapByPartyIds(municipalityId, partyIds).values());
+	}
+
+	/**
+	 * Resolves legal ids for the provided party ids. Party ids are resolved in parallel, limited by the configured
+	 * parallelism, and each call to Party must complete within the configured resolve timeout, counted from when the call
+	 * is started rather than from when the party id is queued. A call is only started once a permit has been acquired,
+	 * hence each call runs in a task of its own. When a party id can not be resolved, the calls still in progress are
+	 * cancelled and no further calls are started. Party ids without a legal id are left out of the result.
+	 *
+	 * @param  municipalityId the municipality id
+	 * @param  partyIds       the party ids to resolve
+	 * @return                map of party id to legal id, in the same order as the provided party ids
+	 */
+	public Map<String, String> getLegalIdMapByPartyIds(final String municipalityId, final List<String> partyIds) {
+		final var permits = new Semaphore(partyProperties.parallelism());
+		final var failure = new AtomicReference<RuntimeException>();
+		final var calls = new LinkedHashMap<String, Call>();
+		final var result = new LinkedHashMap<String, String>();
+
+		try (final var executor = Executors.newThreadPerTaskExecutor(VIRTUAL_THREAD_FACTORY)) {
+			try {
+				for (final var partyId : partyIds.stream().distinct().toList()) {
+					acquirePermit(permits, calls);
+					if (failure.get() != null) {
+						throw failure.get();
+					}
+					calls.put(partyId, new Call(executor.submit(() -> resolve(permits, failure, municipalityId, partyId)), System.nanoTime() + partyProperties.resolveTimeout().toNanos()));
+				}
+				calls.forEach((partyId, call) -> get(partyId, call).ifPresent(legalId -> result.put(partyId, legalId)));
+			} catch (final RuntimeException e) {
+				// Interrupts the calls in progress
+				executor.shutdownNow();
+				throw e;
+			}
+		}
+		return result;
+	}
+
+	private Optional<String> resolve(final Semaphore permits, final AtomicReference<RuntimeException> failure, final String municipalityId, final String partyId) {
+		try {
+			return getLegalIdByPartyId(municipalityId, partyId);
+		} catch (final RuntimeException e) {
+			failure.compareAndSet(null, e);
+			throw e;
+		} finally {
+			permits.release();
+		}
 	}
 
+	/**
+	 * Waits for a free permit. Every call in progress was started before the wait began, hence a permit that is not freed
+	 * within the resolve timeout means that a call has exceeded it.
+	 */
+	private void acquirePermit(final Semaphore permits, final Map<String, Call> calls) {
+		try {
+			if (!permits.tryAcquire(partyProperties.resolveTimeout().toNanos(), NANOSECONDS)) {
+				final var partyId = calls.entrySet().stream()
+					.filter(entry -> !entry.getValue().future().isDone())
+					.map(Map.Entry::getKey)
+					.findFirst()
+					.orElse(null);
+				throw Problem.valueOf(GATEWAY_TIMEOUT, "Timed out resolving legal id for party id '%s'".formatted(partyId));
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Interrupted while resolving legal ids");
+		}
+	}
+
+	private static Optional<String> get(final String partyId, final Call call) {
+		try {
+			return call.future().get(Math.max(call.deadline() - System.nanoTime(), 0), NANOSECONDS);
+		} catch (final TimeoutException e) {
+			throw Problem.valueOf(GATEWAY_TIMEOUT, "Timed out resolving legal id for party id '%s'".formatted(partyId));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Interrupted while resolving legal id for party id '%s'".formatted(partyId));
+		} catch (final ExecutionException e) {
+			throw toRuntimeException(e);
+		}
+	}
+
+	private static RuntimeException toRuntimeException(final ExecutionException e) {
+		if (e.getCause() instanceof final RuntimeException cause) {
+			return cause;
+		}
+		return new IllegalStateException(e.getCause());
+	}
+
+	/**
+	 * A call to Party in progress, with the time by which it must complete as given by System.nanoTime().
+	 */
+	private record Call(Future<Optional<String>> future, long deadline) {
+	}
 }
@@ -1,10 +1,26 @@
 package se.sundsvall.digitalregisteredletter.integration.party.configuration;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
 
+/**
+ * Settings for the party integration.
+ *
+ * @param connectTimeout connect timeout in seconds
+ * @param readTimeout    read timeout in seconds
+ * @param parallelism    maximum number of party ids resolved in parallel for a single batch
+ * @param resolveTimeout maximum time a single call to Party may take when resolving a batch, excluding the time spent
+ *                       waiting for a free slot
+ */
+@Validated
 @ConfigurationProperties(prefix = "integration.party")
 public record PartyProperties(
 	@DefaultValue("5") int connectTimeout,
-	@DefaultValue("15") int readTimeout) {
+	@DefaultValue("15") int readTimeout,
+	@DefaultValue("10") @Positive int parallelism,
+	@DefaultValue("PT20S") @NotNull Duration resolveTimeout) {
 }
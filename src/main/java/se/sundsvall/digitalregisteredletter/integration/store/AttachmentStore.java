@@ -0,0 +1,46 @@
+package se.sundsvall.digitalregisteredletter.integration.store;
+
+import java.io.InputStream;
+import java.sql.Blob;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+
+/**
+ * Keeps the binary content of attachments. The attachment content entity always holds the metadata of the content,
+ * while the content itself is kept either in the entity or in an external store referenced by the storage key of the
+ * entity.
+ */
+public interface AttachmentStore {
+
+	/**
+	 * Streams the provided content into the store and updates the attachment content entity to reference it. The entity is
+	 * not persisted by this method. Content held by the database is read from the stream when the entity is flushed, hence
+	 * the stream must be left open until then.
+	 *
+	 * @param attachmentContent the attachment content entity to write content for
+	 * @param inputStream       the content to write, which is not closed by this method
+	 * @param length            length of the content in bytes
+	 */
+	void write(final AttachmentContentEntity attachmentContent, final InputStream inputStream, final long length);
+
+	/**
+	 * Returns the content of the provided attachment content entity. Content that is still held by the entity is returned
+	 * as is, regardless of the store.
+	 *
+	 * @param  attachmentContent the attachment content entity to read content for
+	 * @return                   the content as a Blob, streamed from the store when read
+	 */
+	Blob read(final AttachmentContentEntity attachmentContent);
+
+	/**
+	 * Deletes the content kept under the provided storage key. Content that is held by the database is deleted with its
+	 * attachment content entity.
+	 *
+	 * @param storageKey the storage key of the content to delete
+	 */
+	void delete(final String storageKey);
+
+	/**
+	 * @return true if content is kept outside the database
+	 */
+	boolean isExternal();
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.digitalregisteredletter.integration.store;
+
+import jakarta.persistence.EntityManager;
+import java.io.InputStream;
+import java.sql.Blob;
+import org.hibernate.Session;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+
+/**
+ * Keeps attachment content as a Blob in the attachment content table. This is the default store.
+ */
+@Component
+@ConditionalOnProperty(name = "integration.attachment-store.type", havingValue = "database", matchIfMissing = true)
+public class DatabaseAttachmentStore implements AttachmentStore {
+
+	private final EntityManager entityManager;
+
+	public DatabaseAttachmentStore(final EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public void write(final AttachmentContentEntity attachmentContent, final InputStream inputStream, final long length) {
+		attachmentContent.setContent(getSession().getLobHelper().createBlob(inputStream, length));
+	}
+
+	@Override
+	public Blob read(final AttachmentContentEntity attachmentContent) {
+		return attachmentContent.getContent();
+	}
+
+	@Override
+	public void delete(final String storageKey) {
+		// Content is held by the attachment content entity, hence it is deleted with the entity
+	}
+
+	@Override
+	public boolean isExternal() {
+		return false;
+	}
+
+	Session getSession() {
+		return entityManager.unwrap(Session.class);
+	}
+}
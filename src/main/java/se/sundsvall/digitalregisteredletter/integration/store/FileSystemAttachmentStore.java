@@ -0,0 +1,98 @@
+package se.sundsvall.digitalregisteredletter.integration.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.util.UUID;
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.configuration.AttachmentStoreProperties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+/**
+ * Keeps attachment content as files in a local (or mounted) directory. Each write gets a storage key of its own, and
+ * files are spread over sub directories named by the first two characters of the key to keep directories small.
+ * Identical content is detected by its hash in the database, hence a file that is written for content that turns out to
+ * be stored already is only referenced by the writer and can be deleted without affecting other content.
+ */
+@Component
+@ConditionalOnProperty(name = "integration.attachment-store.type", havingValue = "filesystem")
+public class FileSystemAttachmentStore implements AttachmentStore {
+
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	private final Path directory;
+
+	public FileSystemAttachmentStore(final AttachmentStoreProperties properties) throws IOException {
+		this.directory = Files.createDirectories(requireNonNull(properties.directory(), "A directory must be configured for the filesystem attachment store"));
+	}
+
+	/**
+	 * Content is written to a temporary file that is moved into place when complete, hence a partially written file is
+	 * never visible under its storage key.
+	 */
+	@Override
+	public void write(final AttachmentContentEntity attachmentContent, final InputStream inputStream, final long length) {
+		final var storageKey = UUID.randomUUID().toString();
+		final var path = resolve(storageKey);
+
+		try {
+			Files.createDirectories(path.getParent());
+			final var temporaryFile = Files.createTempFile(path.getParent(), storageKey, TEMPORARY_FILE_SUFFIX);
+			try {
+				Files.copy(inputStream, temporaryFile, REPLACE_EXISTING);
+				Files.move(temporaryFile, path, ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (final IOException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not write content with storage key '%s' to attachment store: %s".formatted(storageKey, e.getMessage()));
+		}
+
+		attachmentContent.setStorageKey(storageKey);
+		attachmentContent.setContent(null);
+	}
+
+	@Override
+	public Blob read(final AttachmentContentEntity attachmentContent) {
+		if (attachmentContent.getStorageKey() == null) {
+			// Content that has not yet been moved to the store is still held by the database
+			return attachmentContent.getContent();
+		}
+
+		final var path = resolve(attachmentContent.getStorageKey());
+		try {
+			final var length = Files.size(path);
+			return BlobProxy.generateProxy(Files.newInputStream(path), length);
+		} catch (final IOException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not read content with storage key '%s' from attachment store: %s".formatted(attachmentContent.getStorageKey(), e.getMessage()));
+		}
+	}
+
+	@Override
+	public void delete(final String storageKey) {
+		try {
+			Files.deleteIfExists(resolve(storageKey));
+		} catch (final IOException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not delete content with storage key '%s' from attachment store: %s".formatted(storageKey, e.getMessage()));
+		}
+	}
+
+	@Override
+	public boolean isExternal() {
+		return true;
+	}
+
+	Path resolve(final String storageKey) {
+		return directory.resolve(storageKey.substring(0, 2)).resolve(storageKey);
+	}
+}
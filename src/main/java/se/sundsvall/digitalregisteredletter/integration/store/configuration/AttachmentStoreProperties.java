@@ -0,0 +1,25 @@
+package se.sundsvall.digitalregisteredletter.integration.store.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for where the content of attachments is kept.
+ *
+ * @param type      the store holding attachment content, either the database or the local filesystem
+ * @param directory root directory of the filesystem store, required when type is filesystem
+ */
+@Validated
+@ConfigurationProperties(prefix = "integration.attachment-store")
+public record AttachmentStoreProperties(
+	@DefaultValue("database") @NotNull Type type,
+	Path directory) {
+
+	public enum Type {
+		DATABASE,
+		FILESYSTEM
+	}
+}
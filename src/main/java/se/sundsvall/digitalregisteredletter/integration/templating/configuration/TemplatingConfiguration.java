@@ -1,6 +1,14 @@
 package se.sundsvall.digitalregisteredletter.integration.templating.configuration;
 
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
 import java.util.List;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
@@ -25,4 +33,32 @@ public class TemplatingConfiguration {
 			.withRetryableOAuth2InterceptorForClientRegistration(clientRegistrationRepository.findByRegistrationId(CLIENT_ID))
 			.composeCustomizersToOne();
 	}
+
+	/**
+	 * Keeps the connections to the templating service in a pool of their own, hence receipts rendered in parallel, e.g.
+	 * when receipts are exported, reuse open connections instead of connecting for each receipt.
+	 */
+	@Bean(destroyMethod = "close")
+	CloseableHttpClient templatingHttpClient(final TemplatingProperties properties) {
+		final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.maxConnections())
+			.setMaxConnPerRoute(properties.maxConnections())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofSeconds(properties.connectTimeout()))
+				.setTimeToLive(TimeValue.of(properties.connectionTimeToLive()))
+				.build())
+			.build();
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(properties.connectionTimeToLive()))
+			.disableCookieManagement()
+			.build();
+	}
+
+	@Bean
+	Client templatingFeignClient(final CloseableHttpClient templatingHttpClient) {
+		return new ApacheHttp5Client(templatingHttpClient);
+	}
 }
@@ -1,12 +1,25 @@
 package se.sundsvall.digitalregisteredletter.integration.templating.configuration;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * Settings for the templating integration.
+ *
+ * @param connectTimeout       connect timeout in seconds
+ * @param readTimeout          read timeout in seconds
+ * @param maxConnections       maximum number of pooled connections to the templating service
+ * @param connectionTimeToLive time a pooled connection is kept before it is closed
+ */
 @Validated
 @ConfigurationProperties(prefix = "integration.templating")
 record TemplatingProperties(
 	@DefaultValue("5") int connectTimeout,
-	@DefaultValue("15") int readTimeout) {
+	@DefaultValue("15") int readTimeout,
+	@DefaultValue("20") @Positive int maxConnections,
+	@DefaultValue("PT1M") @NotNull Duration connectionTimeToLive) {
 }
@@ -1,6 +1,5 @@
 package se.sundsvall.digitalregisteredletter.service;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Service;
@@ -23,8 +22,8 @@ public class EligibilityService {
 	}
 
 	public List<String> checkEligibility(final String municipalityId, final String organizationNumber, final EligibilityRequest request) {
-		final var partyIdAndLegalIdMap = resolvePartyIdToLegalIdMap(municipalityId, request);
-		final var legalIds = partyIdAndLegalIdMap.values().stream().toList();
+		final var partyIdAndLegalIdMap = partyIntegration.getLegalIdMapByPartyIds(municipalityId, request.partyIds());
+		final var legalIds = partyIdAndLegalIdMap.values().stream().distinct().toList();
 		if (legalIds.isEmpty()) {
 			return emptyList();
 		}
@@ -35,16 +34,4 @@ public class EligibilityService {
 			.map(Map.Entry::getKey)
 			.toList();
 	}
-
-	private Map<String, String> resolvePartyIdToLegalIdMap(final String municipalityId, final EligibilityRequest request) {
-		final var partyIdAndLegalIdMap = new HashMap<String, String>();
-
-		request.partyIds().forEach(party -> {
-			final var legalId = partyIntegration.getLegalIdByPartyId(municipalityId, party);
-			legalId.ifPresent(value -> partyIdAndLegalIdMap.put(party, value));
-		});
-
-		return partyIdAndLegalIdMap;
-	}
-
 }
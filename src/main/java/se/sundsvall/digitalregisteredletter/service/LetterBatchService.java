@@ -0,0 +1,83 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatch;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.party.PartyIntegration;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.scheduler.DispatchProperties;
+
+import static java.util.function.Predicate.not;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+@Service
+public class LetterBatchService {
+
+	private final PartyIntegration partyIntegration;
+	private final RepositoryIntegration repositoryIntegration;
+	private final TenantRepository tenantRepository;
+	private final LetterMapper letterMapper;
+	private final DispatchProperties dispatchProperties;
+
+	public LetterBatchService(
+		final PartyIntegration partyIntegration,
+		final RepositoryIntegration repositoryIntegration,
+		final TenantRepository tenantRepository,
+		final LetterMapper letterMapper,
+		final DispatchProperties dispatchProperties) {
+
+		this.partyIntegration = partyIntegration;
+		this.repositoryIntegration = repositoryIntegration;
+		this.tenantRepository = tenantRepository;
+		this.letterMapper = letterMapper;
+		this.dispatchProperties = dispatchProperties;
+	}
+
+	/**
+	 * Persists one letter per recipient and queues the letters for asynchronous dispatch to Kivra. All recipients and the
+	 * tenant are verified before the batch is accepted, the actual dispatch is performed by the letter dispatch scheduler.
+	 * Batches are rejected when asynchronous dispatch is disabled, as the queued letters would then never be sent.
+	 */
+	public LetterBatch sendLetterBatch(final String municipalityId, final String organizationNumber, final BulkLetterRequest bulkLetterRequest, final List<MultipartFile> attachments) {
+		if (!dispatchProperties.enabled()) {
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, "Letter batches can not be sent as asynchronous dispatch of letters is disabled");
+		}
+
+		verifyRecipients(municipalityId, bulkLetterRequest.partyIds());
+		final var tenant = getTenantEntity(municipalityId, organizationNumber);
+		final var batchEntity = repositoryIntegration.persistLetterBatch(municipalityId, organizationNumber, tenant, bulkLetterRequest, attachments);
+
+		return letterMapper.toLetterBatch(batchEntity, repositoryIntegration.countLetterStatuses(batchEntity.getId()));
+	}
+
+	public LetterBatch getLetterBatch(final String municipalityId, final String batchId) {
+		final var batchEntity = repositoryIntegration.getLetterBatchEntity(municipalityId, batchId)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Letter batch with id '%s' and municipalityId '%s' not found".formatted(batchId, municipalityId)));
+
+		return letterMapper.toLetterBatch(batchEntity, repositoryIntegration.countLetterStatuses(batchId));
+	}
+
+	private void verifyRecipients(final String municipalityId, final List<String> partyIds) {
+		final var distinctPartyIds = partyIds.stream().distinct().toList();
+		final var legalIds = partyIntegration.getLegalIdMapByPartyIds(municipalityId, distinctPartyIds);
+		final var unresolvedPartyIds = distinctPartyIds.stream()
+			.filter(not(legalIds::containsKey))
+			.toList();
+
+		if (!unresolvedPartyIds.isEmpty()) {
+			throw Problem.valueOf(NOT_FOUND, "No legalId found for partyIds '%s' and municipalityId '%s'".formatted(String.join(", ", unresolvedPartyIds), municipalityId));
+		}
+	}
+
+	private TenantEntity getTenantEntity(final String municipalityId, final String organizationNumber) {
+		return tenantRepository.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "No tenant found for municipalityId '%s' and organizationNumber '%s'".formatted(municipalityId, organizationNumber)));
+	}
+}
@@ -1,19 +1,27 @@
 package se.sundsvall.digitalregisteredletter.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.Blob;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.digitalregisteredletter.api.model.Letter;
-import se.sundsvall.digitalregisteredletter.api.model.Letter.Attachment;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
 import se.sundsvall.digitalregisteredletter.api.model.LetterRequest;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
@@ -21,33 +29,52 @@ import se.sundsvall.digitalregisteredletter.api.model.Letters;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfo;
 import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
 import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
-import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentMetadata;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.integration.kivra.KivraIntegration;
 import se.sundsvall.digitalregisteredletter.integration.party.PartyIntegration;
-import se.sundsvall.digitalregisteredletter.integration.templating.TemplatingIntegration;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.LetterCursor;
+import se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead;
 
-import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ERROR;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SERVER_ERROR;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_UNKNOWN_ERROR;
 import static se.sundsvall.digitalregisteredletter.service.util.CustomPredicate.distinctById;
-import static se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.mergePdfs;
 
 @Service
 public class LetterService {
 
+	private static final Logger LOG = LoggerFactory.getLogger(LetterService.class);
+	private static final Set<String> RETRYABLE_DISPATCH_STATUSES = Set.of(STATUS_SERVER_ERROR, STATUS_UNKNOWN_ERROR, STATUS_EXCEPTION_ERROR);
+
 	private final KivraIntegration kivraIntegration;
 	private final PartyIntegration partyIntegration;
 	private final RepositoryIntegration repositoryIntegration;
 	private final TenantRepository tenantRepository;
 	private final LetterMapper letterMapper;
-	private final TemplatingIntegration templatingIntegration;
+	private final ReceiptService receiptService;
+	private final ReceiptBulkhead receiptBulkhead;
+	private final AttachmentStore attachmentStore;
+	private final TransactionTemplate readOnlyTransactionTemplate;
 
 	public LetterService(
 		final KivraIntegration kivraIntegration,
@@ -55,21 +82,27 @@ public class LetterService {
 		final RepositoryIntegration repositoryIntegration,
 		final TenantRepository tenantRepository,
 		final LetterMapper letterMapper,
-		final TemplatingIntegration templatingIntegration) {
+		final ReceiptService receiptService,
+		final ReceiptBulkhead receiptBulkhead,
+		final AttachmentStore attachmentStore,
+		final PlatformTransactionManager transactionManager) {
 
 		this.kivraIntegration = kivraIntegration;
 		this.partyIntegration = partyIntegration;
 		this.repositoryIntegration = repositoryIntegration;
 		this.tenantRepository = tenantRepository;
 		this.letterMapper = letterMapper;
-		this.templatingIntegration = templatingIntegration;
+		this.receiptService = receiptService;
+		this.receiptBulkhead = receiptBulkhead;
+		this.attachmentStore = attachmentStore;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
 	}
 
 	public Letter sendLetter(final String municipalityId, final String organizationNumber, final LetterRequest letterRequest, final List<MultipartFile> attachments) {
-		final var legalId = resolveLegalId(municipalityId, letterRequest);
+		final var legalId = resolveLegalId(municipalityId, letterRequest.partyId());
 		final var letterEntity = repositoryIntegration.persistLetter(municipalityId, letterRequest, attachments);
-		final var tenant = tenantRepository.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "No tenant found for municipalityId '%s' and organizationNumber '%s'".formatted(municipalityId, organizationNumber)));
+		final var tenant = getTenantEntity(municipalityId, organizationNumber);
 		letterEntity.setTenant(tenant);
 		final var status = kivraIntegration.sendContent(letterEntity, legalId, municipalityId, organizationNumber);
 		repositoryIntegration.updateStatus(letterEntity, status);
@@ -77,10 +110,60 @@ public class LetterService {
 		return letterMapper.toLetter(letterEntity);
 	}
 
-	private String resolveLegalId(final String municipalityId, final LetterRequest letterRequest) {
-		return partyIntegration.getLegalIdByPartyId(municipalityId, letterRequest.partyId())
+	/**
+	 * Persists the letter and queues it for asynchronous dispatch to Kivra. The recipient and the tenant are verified
+	 * before the letter is accepted, the actual dispatch is performed by {@link #dispatchLetter(LetterOutboxEntity, int)}.
+	 */
+	public Letter queueLetter(final String municipalityId, final String organizationNumber, final LetterRequest letterRequest, final List<MultipartFile> attachments) {
+		resolveLegalId(municipalityId, letterRequest.partyId());
+		final var tenant = getTenantEntity(municipalityId, organizationNumber);
+		final var letterEntity = repositoryIntegration.persistQueuedLetter(municipalityId, organizationNumber, tenant, letterRequest, attachments);
+
+		return letterMapper.toLetter(letterEntity);
+	}
+
+	/**
+	 * Sends a queued letter to Kivra and removes it from the outbox. The legal id of the recipient is resolved at dispatch
+	 * time to avoid storing it in the outbox. The letter is read and the outbox entry completed in transactions of their
+	 * own, hence no database connection is held while Party and Kivra are called. When Kivra answers with a server error,
+	 * an unknown error or not at all, the entry is released for a new attempt until the provided number of attempts has
+	 * been made, after which the letter is marked as failed.
+	 *
+	 * @param outboxEntity the claimed outbox entry of the letter to send
+	 * @param maxAttempts  number of attempts before a letter that could not be sent is marked as failed
+	 */
+	public void dispatchLetter(final LetterOutboxEntity outboxEntity, final int maxAttempts) {
+		final var municipalityId = outboxEntity.getMunicipalityId();
+
+		repositoryIntegration.getLetterEntityWithAttachments(municipalityId, outboxEntity.getLetterId())
+			.ifPresentOrElse(letterEntity -> {
+				final var legalId = resolveLegalId(municipalityId, letterEntity.getPartyId());
+				final var status = kivraIntegration.sendContent(letterEntity, legalId, municipalityId, outboxEntity.getOrganizationNumber());
+				completeDispatch(outboxEntity, status, maxAttempts);
+			}, () -> repositoryIntegration.removeOutboxEntry(outboxEntity));
+	}
+
+	private void completeDispatch(final LetterOutboxEntity outboxEntity, final String status, final int maxAttempts) {
+		if (RETRYABLE_DISPATCH_STATUSES.contains(status) && outboxEntity.getAttempts() < maxAttempts) {
+			LOG.warn("Letter with id '{}' could not be sent to Kivra (status '{}', attempt {}), releasing it for a new attempt", outboxEntity.getLetterId(), status, outboxEntity.getAttempts());
+			repositoryIntegration.releaseOutboxEntry(outboxEntity);
+			return;
+		}
+
+		if (!repositoryIntegration.completeOutboxEntry(outboxEntity, status)) {
+			LOG.warn("Outbox entry of letter with id '{}' has been claimed by another dispatcher, status '{}' is not recorded", outboxEntity.getLetterId(), status);
+		}
+	}
+
+	private String resolveLegalId(final String municipalityId, final String partyId) {
+		return partyIntegration.getLegalIdByPartyId(municipalityId, partyId)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND,
-				"No legalId found for partyId '%s' and municipalityId '%s'".formatted(letterRequest.partyId(), municipalityId)));
+				"No legalId found for partyId '%s' and municipalityId '%s'".formatted(partyId, municipalityId)));
+	}
+
+	private TenantEntity getTenantEntity(final String municipalityId, final String organizationNumber) {
+		return tenantRepository.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "No tenant found for municipalityId '%s' and organizationNumber '%s'".formatted(municipalityId, organizationNumber)));
 	}
 
 	public Letter getLetter(final String municipalityId, final String letterId) {
@@ -95,15 +178,30 @@ public class LetterService {
 		return letterMapper.toLetters(page);
 	}
 
+	/**
+	 * Returns the letters following the provided cursor in order of creation. An empty cursor returns the first letters.
+	 *
+	 * @param  municipalityId the municipality id of the letters
+	 * @param  filter         optional filters to match the letters against
+	 * @param  cursor         the cursor returned with the previous letters, or an empty cursor for the first letters
+	 * @param  limit          maximum number of letters to return
+	 * @return                the letters following the cursor, with the cursor of the next letters if there are any
+	 */
+	public Letters getLettersByCursor(final String municipalityId, final LetterFilter filter, final String cursor, final int limit) {
+		final var window = repositoryIntegration.getLetterEntityWindow(municipalityId, filter, LetterCursor.decode(cursor), limit);
+
+		return letterMapper.toLetters(window, limit);
+	}
+
 	@Transactional(readOnly = true)
 	public List<LetterStatus> getLetterStatuses(final String municipalityId, final List<String> letterIds) {
-		final var lettersById = repositoryIntegration.getLetterEntities(municipalityId, letterIds)
+		final var signingStatusesById = repositoryIntegration.getLetterSigningStatuses(municipalityId, letterIds)
 			.stream()
-			.collect(toMap(LetterEntity::getId, identity()));
+			.collect(toMap(LetterSigningStatus::getId, identity()));
 
 		return letterIds.stream()
-			.map(id -> ofNullable(lettersById.get(id))
-				.map(letterMapper::toLetterStatus)
+			.map(id -> ofNullable(signingStatusesById.get(id))
+				.map(signingStatus -> letterMapper.toLetterStatus(id, signingStatus.getStatus(), signingStatus.getSigningStatus()))
 				.orElseGet(() -> letterMapper.toLetterStatus(id, null, null)))
 			.filter(distinctById(LetterStatus::letterId))
 			.toList();
@@ -117,67 +215,158 @@ public class LetterService {
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Signing information belonging to letter with id '%s' and municipalityId '%s' not found".formatted(letterId, municipalityId)));
 	}
 
-	private Attachment getLetterAttachment(final String municipalityId, final String letterId, final String attachmentId) {
-		final var letter = getLetter(municipalityId, letterId);
+	/**
+	 * Writes the content of an attachment to the response. The hash of the content is used as ETag and the creation time
+	 * of the letter as Last-Modified, hence a client that already holds the attachment gets a 304 Not Modified without the
+	 * content being read. A single byte range can be requested with the Range header, in which case only that part of the
+	 * content is read and returned as 206 Partial Content. Requests for multiple ranges are answered with the full content.
+	 * The metadata of the attachment is read with one single query, and only the requested part of the content is read,
+	 * while it is written.
+	 */
+	@Transactional(readOnly = true)
+	public void readLetterAttachment(final String municipalityId, final String letterId, final String attachmentId, final HttpServletRequest request, final HttpServletResponse response) {
+		final var attachmentMetadata = getAttachmentMetadata(municipalityId, letterId, attachmentId);
+		final var eTag = "\"%s\"".formatted(attachmentMetadata.getHash());
 
-		return ofNullable(letter.attachments())
-			.orElse(emptyList())
-			.stream()
-			.filter(attachment -> attachment.id().equals(attachmentId))
-			.findFirst()
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Attachment with id '%s' not found in letter with id '%s'".formatted(attachmentId, letterId)));
-	}
+		if (new ServletWebRequest(request, response).checkNotModified(eTag, getLastModified(attachmentMetadata))) {
+			return;
+		}
 
-	@Transactional(readOnly = true)
-	public void readLetterAttachment(final String municipalityId, final String letterId, final String attachmentId, final HttpServletResponse response) {
-		final var attachmentEntity = getAttachmentEntity(municipalityId, letterId, attachmentId);
-		final var attachment = getLetterAttachment(municipalityId, letterId, attachmentId);
+		final var contentLength = attachmentMetadata.getContentLength();
+		final var contentDisposition = "attachment; filename=\"" + attachmentMetadata.getFileName() + "\"";
+		response.addHeader(ACCEPT_RANGES, "bytes");
+		final var range = getRequestedRange(request, response, eTag, contentLength, attachmentId);
 
 		try {
-			final var content = ofNullable(attachmentEntity.getContent())
-				.orElseThrow(() -> Problem.valueOf(INTERNAL_SERVER_ERROR, "No content for attachment with id '%s'".formatted(attachmentId)));
+			if (range.isPresent()) {
+				final var rangeStart = range.get().getRangeStart(contentLength);
+				final var rangeEnd = range.get().getRangeEnd(contentLength);
+				response.setStatus(PARTIAL_CONTENT.value());
+				response.addHeader(CONTENT_RANGE, "bytes %d-%d/%d".formatted(rangeStart, rangeEnd, contentLength));
+				try (final var input = openAttachmentContent(attachmentMetadata, rangeStart, rangeEnd - rangeStart + 1)) {
+					writeToResponse(response, attachmentMetadata.getContentType(), contentDisposition, rangeEnd - rangeStart + 1, input);
+				}
+				return;
+			}
 
-			final var input = content.getBinaryStream();
-			writeToResponse(response, attachment.contentType(), "attachment; filename=\"" + attachment.fileName() + "\"", (int) content.length(), input);
-			input.close();
+			try (final var input = openAttachmentContent(attachmentMetadata, 0, contentLength)) {
+				writeToResponse(response, attachmentMetadata.getContentType(), contentDisposition, contentLength, input);
+			}
 		} catch (final SQLException | IOException e) {
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Failed to read attachment with id '%s': %s".formatted(attachmentId, e.getMessage()));
 		}
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Opens a stream reading a range of the content of an attachment. Content held by the database is read in chunks
+	 * through the content id, as loading the content entity would read the whole Blob. Content kept in an external
+	 * attachment store is read from the store through its storage key.
+	 */
+	private InputStream openAttachmentContent(final AttachmentMetadata attachmentMetadata, final long offset, final long length) throws SQLException {
+		if (attachmentMetadata.getStorageKey() == null) {
+			return repositoryIntegration.getAttachmentContentStream(attachmentMetadata.getContentId(), offset, length);
+		}
+
+		final var content = attachmentStore.read(AttachmentContentEntity.create()
+			.withId(attachmentMetadata.getContentId())
+			.withStorageKey(attachmentMetadata.getStorageKey()));
+		// Blob positions are 1-based
+		return content.getBinaryStream(offset + 1, length);
+	}
+
+	/**
+	 * Writes the receipt of a letter to the response. The receipt is rendered once and then streamed from the attachment
+	 * store, see {@link ReceiptService#getReceipt(String, LetterEntity)}. Receipts are produced within the
+	 * {@link ReceiptBulkhead}, and the letter is read in a transaction that is only opened once a permit has been
+	 * acquired. The transaction is ended before the receipt is streamed to the client, hence no connection is held while
+	 * waiting for a permit or while the client reads the receipt. Letters without signing information have no receipt and
+	 * are rejected before a permit is acquired.
+	 * <p>
+	 * A stored receipt read from the database is held in memory by the driver, hence the permit is held until it has been
+	 * streamed, keeping that memory within the bulkhead. Receipts kept in an external attachment store are streamed from
+	 * a file after the permit has been released.
+	 */
 	public void readLetterReceipt(final String municipalityId, final String letterId, final HttpServletResponse response) {
-		final var letterEntity = getLetterEntity(municipalityId, letterId);
-		final var receipt = templatingIntegration.renderPdf(municipalityId, letterEntity);
+		ReceiptService.requireSigningInformation(readOnlyTransactionTemplate.execute(_ -> getLetterEntity(municipalityId, letterId)));
+
+		if (attachmentStore.isExternal()) {
+			writeReceiptToResponse(response, letterId, receiptBulkhead.execute(() -> getReceipt(municipalityId, letterId), response));
+			return;
+		}
 
-		try (final var outputStream = (ByteArrayOutputStream) mergePdfs(letterEntity.getAttachments(), receipt)) {
-			final var pdfBytes = outputStream.toByteArray();
-			writeToResponse(response, "application/pdf", "attachment; filename=\"kvittens_rekutskick_" + letterId + ".pdf\"", pdfBytes.length, pdfBytes);
-		} catch (final IOException e) {
+		receiptBulkhead.execute(() -> {
+			writeReceiptToResponse(response, letterId, getReceipt(municipalityId, letterId));
+			return null;
+		}, response);
+	}
+
+	private Blob getReceipt(final String municipalityId, final String letterId) {
+		return readOnlyTransactionTemplate.execute(_ -> receiptService.getReceipt(municipalityId, getLetterEntity(municipalityId, letterId)));
+	}
+
+	private void writeReceiptToResponse(final HttpServletResponse response, final String letterId, final Blob receipt) {
+		try (final var input = receipt.getBinaryStream()) {
+			writeToResponse(response, "application/pdf", "attachment; filename=\"kvittens_rekutskick_" + letterId + ".pdf\"", receipt.length(), input);
+		} catch (final SQLException | IOException e) {
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Failed to write receipt content: %s".formatted(e.getMessage()));
 		}
 	}
 
-	private AttachmentEntity getAttachmentEntity(final String municipalityId, final String letterId, final String attachmentId) {
-		return repositoryIntegration.getAttachmentEntity(municipalityId, letterId, attachmentId)
+	private AttachmentMetadata getAttachmentMetadata(final String municipalityId, final String letterId, final String attachmentId) {
+		return repositoryIntegration.getAttachmentMetadata(municipalityId, letterId, attachmentId)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Attachment with id '%s' not found in letter '%s'".formatted(attachmentId, letterId)));
 	}
 
+	private long getLastModified(final AttachmentMetadata attachmentMetadata) {
+		return ofNullable(attachmentMetadata.getLetterCreated())
+			.map(created -> created.toInstant().toEpochMilli())
+			.orElse(-1L);
+	}
+
+	/**
+	 * Returns the byte range requested by the client, or an empty optional if the full content should be returned. The
+	 * Range header is ignored when it can not be parsed, when it holds more than one range, or when an If-Range header
+	 * does not match the current ETag of the content (RFC 9110, section 14.2). A valid range that does not start within
+	 * the content is rejected with 416 Range Not Satisfiable.
+	 */
+	private Optional<HttpRange> getRequestedRange(final HttpServletRequest request, final HttpServletResponse response, final String eTag, final long contentLength, final String attachmentId) {
+		final var rangeHeader = request.getHeader(RANGE);
+		final var ifRangeHeader = request.getHeader(IF_RANGE);
+		if (rangeHeader == null || (ifRangeHeader != null && !ifRangeHeader.equals(eTag))) {
+			return Optional.empty();
+		}
+
+		final List<HttpRange> ranges;
+		try {
+			ranges = HttpRange.parseRanges(rangeHeader);
+		} catch (final IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		if (ranges.size() != 1) {
+			return Optional.empty();
+		}
+
+		try {
+			// Validates that the range starts within the content
+			ranges.getFirst().getRangeStart(contentLength);
+			return Optional.of(ranges.getFirst());
+		} catch (final IllegalArgumentException e) {
+			response.setHeader(CONTENT_RANGE, "bytes */%d".formatted(contentLength));
+			throw Problem.valueOf(REQUESTED_RANGE_NOT_SATISFIABLE, "Range '%s' can not be satisfied for attachment with id '%s'".formatted(rangeHeader, attachmentId));
+		}
+	}
+
 	private LetterEntity getLetterEntity(final String municipalityId, final String letterId) {
 		return repositoryIntegration.getLetterEntity(municipalityId, letterId)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Letter with id '%s' and municipalityId '%s' not found".formatted(letterId, municipalityId)));
 	}
 
-	private void writeToResponse(final HttpServletResponse response, final String contentType, final String contentDisposition, final int contentLength, final Object content) throws IOException {
+	private void writeToResponse(final HttpServletResponse response, final String contentType, final String contentDisposition, final long contentLength, final InputStream content) throws IOException {
 		response.addHeader(CONTENT_TYPE, contentType);
 		response.addHeader(CONTENT_DISPOSITION, contentDisposition);
-		response.setContentLength(contentLength);
+		response.setContentLengthLong(contentLength);
 
-		if (content instanceof final byte[] bytes) {
-			response.getOutputStream().write(bytes);
-		} else if (content instanceof final InputStream inputStream) {
-			StreamUtils.copy(inputStream, response.getOutputStream());
-		}
+		StreamUtils.copy(content, response.getOutputStream());
 	}
 
 }
@@ -0,0 +1,90 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.stereotype.Service;
+import se.sundsvall.digitalregisteredletter.api.model.LetterStatusChanges;
+import se.sundsvall.digitalregisteredletter.api.model.LetterStatusChangesBuilder;
+import se.sundsvall.digitalregisteredletter.configuration.StatusFeedProperties;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor;
+import se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor.Position;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Provides the feed of letter status changes, which lets clients read the letters whose status or signing information
+ * has changed since their last read instead of polling the status of every outstanding letter. A client may ask to wait
+ * for changes when there are none, in which case the changes are read again at the configured interval until changes
+ * are found or the wait is over. No request thread is held while waiting.
+ */
+@Service
+public class LetterStatusFeedService {
+
+	private static final Executor POLL_EXECUTOR = runnable -> Thread.ofVirtual().name("status-feed").start(runnable);
+
+	private final RepositoryIntegration repositoryIntegration;
+	private final LetterMapper letterMapper;
+	private final StatusFeedProperties statusFeedProperties;
+
+	public LetterStatusFeedService(final RepositoryIntegration repositoryIntegration, final LetterMapper letterMapper, final StatusFeedProperties statusFeedProperties) {
+		this.repositoryIntegration = repositoryIntegration;
+		this.letterMapper = letterMapper;
+		this.statusFeedProperties = statusFeedProperties;
+	}
+
+	/**
+	 * Returns the statuses of the letters changed after the provided cursor. If there are no such changes, the method
+	 * waits for changes at most the provided time, limited by the configured maximum wait.
+	 *
+	 * @param  municipalityId the municipality id of the letters
+	 * @param  cursor         the cursor returned with the previous changes, or an empty cursor for the first changes
+	 * @param  limit          maximum number of changes to return
+	 * @param  wait           time to wait for changes when there are none
+	 * @return                a future completed with the changes, and the cursor of the following changes
+	 */
+	public CompletableFuture<LetterStatusChanges> getLetterStatusChanges(final String municipalityId, final String cursor, final int limit, final Duration wait) {
+		final var position = StatusChangeCursor.decode(cursor);
+		final var maxWait = wait.compareTo(statusFeedProperties.maxWait()) < 0 ? wait : statusFeedProperties.maxWait();
+		final var result = new CompletableFuture<LetterStatusChanges>();
+
+		poll(municipalityId, position, limit, System.nanoTime() + maxWait.toNanos(), result);
+		return result;
+	}
+
+	private void poll(final String municipalityId, final Position position, final int limit, final long deadline, final CompletableFuture<LetterStatusChanges> result) {
+		try {
+			final var changes = readChanges(municipalityId, position, limit);
+			if (!changes.letterStatuses().isEmpty() || System.nanoTime() - deadline >= 0) {
+				result.complete(changes);
+				return;
+			}
+
+			CompletableFuture.delayedExecutor(statusFeedProperties.pollInterval().toNanos(), NANOSECONDS, POLL_EXECUTOR)
+				.execute(() -> poll(municipalityId, position, limit, deadline, result));
+		} catch (final RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Reads the changes following the provided position. Changes younger than the configured settle time are left for a
+	 * later read, as letters updated by transactions not yet committed could otherwise be passed by the cursor.
+	 */
+	private LetterStatusChanges readChanges(final String municipalityId, final Position position, final int limit) {
+		final var settledBefore = now(systemDefault()).minus(statusFeedProperties.settleTime());
+		final var statusChanges = repositoryIntegration.getLetterStatusChanges(municipalityId, position.updated(), position.id(), settledBefore, limit);
+		final var next = statusChanges.isEmpty() ? position : new Position(statusChanges.getLast().getUpdated(), statusChanges.getLast().getId());
+
+		return LetterStatusChangesBuilder.create()
+			.withLetterStatuses(statusChanges.stream()
+				.map(statusChange -> letterMapper.toLetterStatus(statusChange.getId(), statusChange.getStatus(), statusChange.getSigningStatus()))
+				.toList())
+			.withCursor(StatusChangeCursor.encode(next))
+			.build();
+	}
+}
@@ -0,0 +1,231 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Exports the receipts of all signed letters matching a filter as a ZIP archive. Receipts are produced in parallel, up to
+ * the configured concurrency, and each receipt is spooled to a temporary file. The archive entries are written to the
+ * response as the receipts finish, hence neither the archive nor more than a few receipts are kept at once. Receipts
+ * are already compressed PDF documents, hence they are stored in the archive without being deflated again, using the
+ * size and CRC-32 computed while they were spooled. Receipts are produced within the {@link ReceiptBulkhead}, hence
+ * exports share its permits with requests for single receipts.
+ */
+@Service
+public class ReceiptExportService {
+
+	static final String ARCHIVE_CONTENT_TYPE = "application/zip";
+	static final String ARCHIVE_CONTENT_DISPOSITION = "attachment; filename=\"kvittenser_rekutskick.zip\"";
+	static final String RECEIPT_ENTRY_NAME = "kvittens_rekutskick_%s.pdf";
+	static final String FAILURES_ENTRY_NAME = "misslyckade_kvittenser.txt";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReceiptExportService.class);
+	private static final String TEMPORARY_FILE_PREFIX = "receipt-export";
+	private static final String TEMPORARY_FILE_SUFFIX = ".pdf";
+
+	private final RepositoryIntegration repositoryIntegration;
+	private final ReceiptService receiptService;
+	private final ReceiptBulkhead receiptBulkhead;
+	private final ReceiptProperties receiptProperties;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	public ReceiptExportService(
+		final RepositoryIntegration repositoryIntegration,
+		final ReceiptService receiptService,
+		final ReceiptBulkhead receiptBulkhead,
+		final ReceiptProperties receiptProperties,
+		final PlatformTransactionManager transactionManager) {
+
+		this.repositoryIntegration = repositoryIntegration;
+		this.receiptService = receiptService;
+		this.receiptBulkhead = receiptBulkhead;
+		this.receiptProperties = receiptProperties;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * Writes a ZIP archive with the receipts of all signed letters matching the provided filter to the response. Letters
+	 * whose receipt can not be produced are listed in a separate entry at the end of the archive, instead of failing the
+	 * export after the archive has been partly sent.
+	 *
+	 * @param municipalityId the municipality id of the letters
+	 * @param filter         optional filters to match the letters against
+	 * @param response       the response to write the archive to
+	 */
+	public void exportReceipts(final String municipalityId, final LetterFilter filter, final HttpServletResponse response) {
+		response.addHeader(CONTENT_TYPE, ARCHIVE_CONTENT_TYPE);
+		response.addHeader(CONTENT_DISPOSITION, ARCHIVE_CONTENT_DISPOSITION);
+
+		final var concurrency = receiptProperties.export().concurrency();
+		final var failedLetterIds = new ArrayList<String>();
+
+		try (final var zipOutputStream = new ZipOutputStream(response.getOutputStream());
+			final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+			final CompletionService<ExportedReceipt> completionService = new ExecutorCompletionService<>(executor);
+			var pending = 0;
+
+			try {
+				KeysetScrollPosition position = ScrollPosition.keyset();
+				while (position != null) {
+					final var window = repositoryIntegration.getSignedLetterIds(municipalityId, filter, position, receiptProperties.export().pageSize());
+					for (final var letterId : window) {
+						if (pending == concurrency) {
+							final var completed = completionService.take();
+							pending--;
+							writeEntry(zipOutputStream, completed.get(), failedLetterIds);
+						}
+						completionService.submit(() -> exportReceipt(municipalityId, letterId));
+						pending++;
+					}
+					position = window.hasNext() ? (KeysetScrollPosition) window.positionAt(window.size() - 1) : null;
+				}
+
+				while (pending > 0) {
+					final var completed = completionService.take();
+					pending--;
+					writeEntry(zipOutputStream, completed.get(), failedLetterIds);
+				}
+				writeFailures(zipOutputStream, failedLetterIds);
+			} finally {
+				discardPending(completionService, pending);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Interrupted while exporting receipts");
+		} catch (final IOException | ExecutionException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Failed to write receipt archive: %s".formatted(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Produces the receipt of a letter in a transaction of its own and spools it to a temporary file, as the receipt can
+	 * only be read while the transaction is open. The size and CRC-32 needed for a stored archive entry are computed while
+	 * spooling, hence the receipt is read only once. The transaction is only opened once a permit of the bulkhead has been
+	 * acquired, hence no connection is held while waiting for a permit.
+	 */
+	ExportedReceipt exportReceipt(final String municipalityId, final String letterId) {
+		try {
+			return receiptBulkhead.executeWhenAvailable(() -> readOnlyTransactionTemplate.execute(_ -> {
+				final var letterEntity = repositoryIntegration.getLetterEntity(municipalityId, letterId)
+					.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Letter with id '%s' and municipalityId '%s' not found".formatted(letterId, municipalityId)));
+				final var receipt = receiptService.getReceipt(municipalityId, letterEntity);
+
+				try (final var inputStream = new CheckedInputStream(receipt.getBinaryStream(), new CRC32())) {
+					final var receiptFile = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+					try {
+						final var size = Files.copy(inputStream, receiptFile, REPLACE_EXISTING);
+						return new ExportedReceipt(letterId, receiptFile, size, inputStream.getChecksum().getValue());
+					} catch (final IOException e) {
+						Files.deleteIfExists(receiptFile);
+						throw e;
+					}
+				} catch (final SQLException | IOException e) {
+					throw new IllegalStateException(e.getMessage(), e);
+				}
+			}));
+		} catch (final Exception e) {
+			LOG.warn("Failed to export receipt for letter with id '{}': {}", letterId, e.getMessage());
+			return new ExportedReceipt(letterId, null, 0, 0);
+		}
+	}
+
+	private static void writeEntry(final ZipOutputStream zipOutputStream, final ExportedReceipt exportedReceipt, final List<String> failedLetterIds) throws IOException {
+		if (exportedReceipt.file() == null) {
+			failedLetterIds.add(exportedReceipt.letterId());
+			return;
+		}
+
+		try {
+			zipOutputStream.putNextEntry(storedEntry(exportedReceipt));
+			Files.copy(exportedReceipt.file(), zipOutputStream);
+			zipOutputStream.closeEntry();
+		} finally {
+			deleteTemporaryFile(exportedReceipt);
+		}
+	}
+
+	private static ZipEntry storedEntry(final ExportedReceipt exportedReceipt) {
+		final var entry = new ZipEntry(RECEIPT_ENTRY_NAME.formatted(exportedReceipt.letterId()));
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(exportedReceipt.size());
+		entry.setCompressedSize(exportedReceipt.size());
+		entry.setCrc(exportedReceipt.crc());
+		return entry;
+	}
+
+	private static void writeFailures(final ZipOutputStream zipOutputStream, final List<String> failedLetterIds) throws IOException {
+		if (failedLetterIds.isEmpty()) {
+			return;
+		}
+
+		zipOutputStream.putNextEntry(new ZipEntry(FAILURES_ENTRY_NAME));
+		zipOutputStream.write(String.join("\n", failedLetterIds).getBytes(UTF_8));
+		zipOutputStream.closeEntry();
+	}
+
+	/**
+	 * Waits for receipts that were never written to the archive, e.g. when the client has gone away, and deletes their
+	 * temporary files.
+	 */
+	private static void discardPending(final CompletionService<ExportedReceipt> completionService, final int pending) {
+		for (var remaining = pending; remaining > 0; remaining--) {
+			try {
+				deleteTemporaryFile(completionService.take().get());
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (final ExecutionException e) {
+				LOG.warn("Failed to discard exported receipt: {}", e.getMessage());
+			}
+		}
+	}
+
+	private static void deleteTemporaryFile(final ExportedReceipt exportedReceipt) {
+		if (exportedReceipt.file() == null) {
+			return;
+		}
+
+		try {
+			Files.deleteIfExists(exportedReceipt.file());
+		} catch (final IOException e) {
+			LOG.warn("Failed to delete temporary file {}: {}", exportedReceipt.file(), e.getMessage());
+		}
+	}
+
+	record ExportedReceipt(String letterId, Path file, long size, long crc) {
+	}
+}
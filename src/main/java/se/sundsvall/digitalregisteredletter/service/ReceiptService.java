@@ -0,0 +1,257 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.LetterReceiptRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterReceiptEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+import se.sundsvall.digitalregisteredletter.integration.templating.TemplatingIntegration;
+import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
+import se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.CompressionResult;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.util.Optional.ofNullable;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+import static se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.mergePdfs;
+
+/**
+ * Provides receipts for letters. A receipt is rendered and merged with the attachments of the letter the first time it
+ * is requested, and is then kept in the attachment store. Later requests read the stored receipt as long as it was
+ * rendered from the current version of the signing information. Letters without signing information have no receipt.
+ */
+@Service
+public class ReceiptService {
+
+	static final String COMPRESSION_TIMER = "receipt.compression";
+	static final String COMPRESSION_SAVED_SUMMARY = "receipt.compression.saved";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReceiptService.class);
+	private static final String TEMPORARY_FILE_PREFIX = "receipt";
+	private static final String TEMPORARY_FILE_SUFFIX = ".pdf";
+
+	private final TemplatingIntegration templatingIntegration;
+	private final AttachmentStore attachmentStore;
+	private final AttachmentContentRepository attachmentContentRepository;
+	private final LetterReceiptRepository letterReceiptRepository;
+	private final ReceiptProperties receiptProperties;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate requiresNewTransactionTemplate;
+
+	public ReceiptService(
+		final TemplatingIntegration templatingIntegration,
+		final AttachmentStore attachmentStore,
+		final AttachmentContentRepository attachmentContentRepository,
+		final LetterReceiptRepository letterReceiptRepository,
+		final ReceiptProperties receiptProperties,
+		final PlatformTransactionManager transactionManager,
+		final MeterRegistry meterRegistry) {
+
+		this.templatingIntegration = templatingIntegration;
+		this.attachmentStore = attachmentStore;
+		this.attachmentContentRepository = attachmentContentRepository;
+		this.letterReceiptRepository = letterReceiptRepository;
+		this.receiptProperties = receiptProperties;
+		this.meterRegistry = meterRegistry;
+		this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.requiresNewTransactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * Returns the receipt of the provided letter. The stored receipt is returned if it was rendered from the current
+	 * version of the signing information, otherwise the receipt is rendered and stored before it is returned.
+	 *
+	 * @param  municipalityId the municipality id to use for rendering
+	 * @param  letterEntity   the letter to return the receipt for
+	 * @return                the receipt as a Blob
+	 * @throws Problem        with status 404 if the letter has no signing information
+	 */
+	public Blob getReceipt(final String municipalityId, final LetterEntity letterEntity) {
+		final var signingInformationVersion = requireSigningInformation(letterEntity).getVersion();
+
+		return letterReceiptRepository.findById(letterEntity.getId())
+			.filter(letterReceipt -> letterReceipt.getSigningInformationVersion().equals(signingInformationVersion))
+			.map(letterReceipt -> attachmentStore.read(letterReceipt.getReceiptContent()))
+			.orElseGet(() -> renderReceipt(municipalityId, letterEntity, signingInformationVersion));
+	}
+
+	/**
+	 * Returns the signing information of the provided letter, which a receipt can only be produced for if present. Meant
+	 * to be called before any resources are acquired for producing the receipt, hence requests for receipts that do not
+	 * exist are rejected without waiting for them.
+	 *
+	 * @param  letterEntity the letter to return the signing information of
+	 * @return              the signing information of the letter
+	 * @throws Problem      with status 404 if the letter has no signing information
+	 */
+	public static SigningInformationEntity requireSigningInformation(final LetterEntity letterEntity) {
+		return ofNullable(letterEntity.getSigningInformation())
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "No signing information found for letter with id '%s'".formatted(letterEntity.getId())));
+	}
+
+	/**
+	 * Renders the receipt into a temporary file, which is stored and then returned as a stream. The temporary file is deleted when the returned stream is closed, hence the receipt is
+	 * never held in memory as a whole.
+	 */
+	Blob renderReceipt(final String municipalityId, final LetterEntity letterEntity, final Long signingInformationVersion) {
+		LOG.debug("Rendering receipt for letter with id '{}'", letterEntity.getId());
+		final var renderResponse = templatingIntegration.renderPdf(municipalityId, letterEntity);
+
+		try {
+			final var receiptFile = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+			try {
+				final var compression = receiptProperties.compression().forTenant(ofNullable(letterEntity.getTenant()).map(TenantEntity::getOrgNumber).orElse(null));
+				recordCompression(mergePdfs(letterEntity.getAttachments(), attachmentStore, renderResponse, receiptFile, receiptProperties.maxMainMemory().toBytes(), compression));
+				storeReceipt(letterEntity.getId(), signingInformationVersion, receiptFile);
+				final var length = Files.size(receiptFile);
+				return BlobProxy.generateProxy(Files.newInputStream(receiptFile, DELETE_ON_CLOSE), length);
+			} catch (final RuntimeException | IOException e) {
+				Files.deleteIfExists(receiptFile);
+				throw e;
+			}
+		} catch (final IOException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Failed to write receipt content: %s".formatted(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Records the time spent on and the bytes saved by compression of a receipt, tagged with the applied policy and the
+	 * outcome, to allow tuning of the compression settings.
+	 */
+	private void recordCompression(final CompressionResult result) {
+		final var tags = Tags.of(
+			"policy", result.policy().name().toLowerCase(),
+			"outcome", result.outcome().name().toLowerCase());
+
+		Timer.builder(COMPRESSION_TIMER)
+			.description("Time spent compressing merged receipts")
+			.tags(tags)
+			.register(meterRegistry)
+			.record(result.duration());
+		DistributionSummary.builder(COMPRESSION_SAVED_SUMMARY)
+			.description("Bytes saved by compressing merged receipts")
+			.baseUnit("bytes")
+			.tags(tags)
+			.register(meterRegistry)
+			.record(result.savedBytes());
+	}
+
+	/**
+	 * Stores the receipt in a transaction of its own, hence a failure to store the receipt never fails the request that
+	 * rendered it. If a concurrent request has stored a receipt for the same letter first, the primary key makes the
+	 * insert fail and the receipt is left as stored by the concurrent request. Content written to the attachment store by
+	 * a failed attempt is deleted again. The stored receipt counts as a reference to its content. Content of a replaced
+	 * receipt that is no longer referenced is deleted, from the attachment store once the transaction has been committed.
+	 */
+	void storeReceipt(final String letterId, final Long signingInformationVersion, final Path receiptFile) {
+		final var writtenContent = new AtomicReference<AttachmentContentEntity>();
+		try {
+			final var releasedStorageKey = requiresNewTransactionTemplate.execute(_ -> {
+				final var letterReceipt = letterReceiptRepository.findById(letterId)
+					.orElseGet(() -> LetterReceiptEntity.create().withLetterId(letterId));
+				final var replacedContentId = ofNullable(letterReceipt.getReceiptContent()).map(AttachmentContentEntity::getId).orElse(null);
+				final var receiptContent = findOrWriteContent(receiptFile, writtenContent::set);
+
+				letterReceiptRepository.saveAndFlush(letterReceipt
+					.withSigningInformationVersion(signingInformationVersion)
+					.withReceiptContent(receiptContent));
+
+				if (Objects.equals(receiptContent.getId(), replacedContentId)) {
+					return null;
+				}
+				attachmentContentRepository.incrementReferenceCount(receiptContent.getId(), 1);
+				return ofNullable(replacedContentId)
+					.map(this::releaseContent)
+					.orElse(null);
+			});
+			ofNullable(releasedStorageKey).ifPresent(attachmentStore::delete);
+		} catch (final DataIntegrityViolationException e) {
+			LOG.debug("Receipt for letter with id '{}' has already been stored by a concurrent request", letterId);
+			deleteWrittenContent(writtenContent.get());
+		} catch (final Exception e) {
+			LOG.warn("Failed to store receipt for letter with id '{}': {}", letterId, e.getMessage(), e);
+			deleteWrittenContent(writtenContent.get());
+		}
+	}
+
+	/**
+	 * Deletes content written to the attachment store by a failed attempt to store a receipt, as the rolled back
+	 * transaction leaves nothing referencing it. The storage key of written content is never shared, hence it is deleted
+	 * even if a concurrent request has stored identical content.
+	 */
+	private void deleteWrittenContent(final AttachmentContentEntity attachmentContent) {
+		if (attachmentContent == null || attachmentContent.getStorageKey() == null) {
+			return;
+		}
+
+		try {
+			attachmentStore.delete(attachmentContent.getStorageKey());
+		} catch (final Exception e) {
+			LOG.warn("Failed to delete content with storage key '{}': {}", attachmentContent.getStorageKey(), e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Releases the reference of a replaced receipt to its content, and deletes the content when it is no longer referenced.
+	 *
+	 * @return the storage key of the deleted content, or null if the content is still referenced or held by the database
+	 */
+	private String releaseContent(final String contentId) {
+		attachmentContentRepository.incrementReferenceCount(contentId, -1);
+		final var storageKey = attachmentContentRepository.findStorageKeyById(contentId).orElse(null);
+
+		return attachmentContentRepository.deleteIfUnreferenced(contentId) > 0 ? storageKey : null;
+	}
+
+	private AttachmentContentEntity findOrWriteContent(final Path receiptFile, final Consumer<AttachmentContentEntity> writtenContentConsumer) {
+		final var hash = computeHash(receiptFile);
+
+		return attachmentContentRepository.findIdByHash(hash)
+			.map(attachmentContentRepository::getReferenceById)
+			.orElseGet(() -> {
+				try (final var inputStream = Files.newInputStream(receiptFile)) {
+					final var length = Files.size(receiptFile);
+					final var attachmentContent = AttachmentContentEntity.create()
+						.withHash(hash)
+						.withContentLength(length);
+					attachmentStore.write(attachmentContent, inputStream, length);
+					writtenContentConsumer.accept(attachmentContent);
+					return attachmentContentRepository.saveAndFlush(attachmentContent);
+				} catch (final IOException e) {
+					throw new IllegalStateException("Unable to read receipt file", e);
+				}
+			});
+	}
+
+	private static String computeHash(final Path receiptFile) {
+		try (final var inputStream = Files.newInputStream(receiptFile)) {
+			return BlobUtil.computeHash(inputStream);
+		} catch (final IOException e) {
+			throw new IllegalStateException("Unable to compute hash of receipt file", e);
+		}
+	}
+}
@@ -7,6 +7,7 @@ import se.sundsvall.digitalregisteredletter.api.model.Tenant;
 import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
 import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.service.util.EncryptionUtility;
+import se.sundsvall.digitalregisteredletter.service.util.TenantKeyCache;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static se.sundsvall.digitalregisteredletter.service.mapper.TenantMapper.toTenant;
@@ -22,10 +23,12 @@ public class TenantService {
 
 	private final TenantRepository tenantRepository;
 	private final EncryptionUtility encryptionUtility;
+	private final TenantKeyCache tenantKeyCache;
 
-	public TenantService(final TenantRepository tenantRepository, final EncryptionUtility encryptionUtility) {
+	public TenantService(final TenantRepository tenantRepository, final EncryptionUtility encryptionUtility, final TenantKeyCache tenantKeyCache) {
 		this.tenantRepository = tenantRepository;
 		this.encryptionUtility = encryptionUtility;
+		this.tenantKeyCache = tenantKeyCache;
 	}
 
 	public Tenant getTenant(final String municipalityId, final String id) {
@@ -48,17 +51,31 @@ public class TenantService {
 		updateEntity(entity, tenant);
 		entity.setTenantKey(encryptionUtility.encrypt(tenant.tenantKey().getBytes()));
 		tenantRepository.save(entity);
+		tenantKeyCache.invalidate(id);
 	}
 
 	public void deleteTenant(final String municipalityId, final String id) {
 		final var entity = getTenantEntity(municipalityId, id);
 		tenantRepository.delete(entity);
+		tenantKeyCache.invalidate(id);
 	}
 
 	public String getDecryptedTenantKey(final String municipalityId, final String organizationNumber) {
 		final var entity = tenantRepository.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, TENANT_NOT_FOUND_BY_ORG.formatted(municipalityId, organizationNumber)));
-		return encryptionUtility.decrypt(entity.getTenantKey());
+		return getDecryptedTenantKey(entity);
+	}
+
+	/**
+	 * Returns the decrypted key of the provided tenant. Decrypted keys are cached for a limited time to keep decryption
+	 * out of the hot path when the same tenant is used for many consecutive Kivra calls. A cached key is only used while
+	 * the tenant has not been modified since it was cached.
+	 *
+	 * @param  tenantEntity the tenant to return the decrypted key for
+	 * @return              the decrypted tenant key
+	 */
+	public String getDecryptedTenantKey(final TenantEntity tenantEntity) {
+		return tenantKeyCache.get(tenantEntity.getId(), tenantEntity.getModified(), () -> encryptionUtility.decrypt(tenantEntity.getTenantKey()));
 	}
 
 	private TenantEntity getTenantEntity(final String municipalityId, final String id) {
@@ -31,8 +31,23 @@ public final class AttachmentMapper {
 			.map(file -> new AttachmentEntity()
 				.withFileName(file.getOriginalFilename())
 				.withContentType(file.getContentType())
-				.withContent(blobUtil.convertToBlob(file)))
+				.withAttachmentContent(blobUtil.convertToAttachmentContent(file)))
 			.orElse(null);
 	}
 
+	/**
+	 * Creates new attachment entities with the same metadata as the provided ones, sharing the content of the provided
+	 * attachment entities instead of copying it.
+	 *
+	 * @param  attachmentEntities the attachment entities to share content with
+	 * @return                    list of new attachment entities referencing the same content
+	 */
+	public List<AttachmentEntity> toSharedAttachmentEntities(final List<AttachmentEntity> attachmentEntities) {
+		return Optional.ofNullable(attachmentEntities).orElse(emptyList()).stream()
+			.map(attachmentEntity -> AttachmentEntity.create()
+				.withFileName(attachmentEntity.getFileName())
+				.withContentType(attachmentEntity.getContentType())
+				.withAttachmentContent(attachmentEntity.getAttachmentContent()))
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
 }
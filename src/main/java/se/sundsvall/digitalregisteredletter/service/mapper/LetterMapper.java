@@ -3,12 +3,19 @@ package se.sundsvall.digitalregisteredletter.service.mapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.TreeMap;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 import se.sundsvall.dept44.models.api.paging.PagingAndSortingMetaData;
 import se.sundsvall.digitalregisteredletter.api.model.AttachmentBuilder;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
 import se.sundsvall.digitalregisteredletter.api.model.DeviceBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.Letter;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatch;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatchBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.LetterBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.LetterRequest;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
@@ -26,20 +33,26 @@ import se.sundsvall.digitalregisteredletter.api.model.SupportInfo;
 import se.sundsvall.digitalregisteredletter.api.model.SupportInfoBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.UserBuilder;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
 import se.sundsvall.digitalregisteredletter.integration.db.model.OrganizationEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.SupportInformation;
 import se.sundsvall.digitalregisteredletter.integration.db.model.UserEntity;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterResponse;
+import se.sundsvall.digitalregisteredletter.service.util.LetterCursor;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.ObjectUtils.allNull;
 import static org.apache.commons.lang3.ObjectUtils.anyNull;
+import static org.springframework.data.domain.Sort.Direction.ASC;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_NOT_FOUND;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_PENDING;
+import static se.sundsvall.digitalregisteredletter.integration.db.LetterRepository.KEYSET_SORT;
 
 @Component
 public class LetterMapper {
@@ -59,6 +72,17 @@ public class LetterMapper {
 			.orElse(null);
 	}
 
+	public LetterEntity toLetterEntity(final BulkLetterRequest nullableBulkLetterRequest, final String partyId) {
+		return ofNullable(nullableBulkLetterRequest)
+			.map(bulkLetterRequest -> LetterEntity.create()
+				.withBody(bulkLetterRequest.body())
+				.withContentType(bulkLetterRequest.contentType())
+				.withPartyId(partyId)
+				.withSubject(bulkLetterRequest.subject())
+				.withSupportInformation(toSupportInformation(bulkLetterRequest.supportInfo())))
+			.orElse(null);
+	}
+
 	public OrganizationEntity toOrganizationEntity(final Organization nullableOrganization, final LetterEntity nullableLetterEntity) {
 		return ofNullable(nullableOrganization)
 			.map(organization -> OrganizationEntity.create()
@@ -76,24 +100,6 @@ public class LetterMapper {
 			.orElse(null);
 	}
 
-	public OrganizationEntity addLetter(final OrganizationEntity organizationEntity, final LetterEntity nullableLetterEntity) {
-		if (isNull(organizationEntity.getLetters())) {
-			organizationEntity.setLetters(new ArrayList<>());
-		}
-
-		ofNullable(nullableLetterEntity).ifPresent(letterEntity -> organizationEntity.getLetters().add(letterEntity));
-		return organizationEntity;
-	}
-
-	public UserEntity addLetter(final UserEntity userEntity, final LetterEntity nullableLetterEntity) {
-		if (isNull(userEntity.getLetters())) {
-			userEntity.setLetters(new ArrayList<>());
-		}
-
-		ofNullable(nullableLetterEntity).ifPresent(letterEntity -> userEntity.getLetters().add(letterEntity));
-		return userEntity;
-	}
-
 	public SupportInformation toSupportInformation(final SupportInfo nullableSupportInfo) {
 		return ofNullable(nullableSupportInfo)
 			.map(supportInfo -> SupportInformation.create()
@@ -108,6 +114,20 @@ public class LetterMapper {
 	 * Methods for mapping database entities to their API counterparts
 	 */
 
+	public LetterBatch toLetterBatch(final LetterBatchEntity nullableLetterBatchEntity, final List<LetterStatusCount> nullableStatusCounts) {
+		return ofNullable(nullableLetterBatchEntity)
+			.map(letterBatchEntity -> LetterBatchBuilder.create()
+				.withId(letterBatchEntity.getId())
+				.withMunicipalityId(letterBatchEntity.getMunicipalityId())
+				.withOrganizationNumber(letterBatchEntity.getOrganizationNumber())
+				.withLetterCount(letterBatchEntity.getLetterCount())
+				.withStatuses(ofNullable(nullableStatusCounts).orElse(emptyList()).stream()
+					.collect(toMap(LetterStatusCount::getStatus, LetterStatusCount::getCount, Long::sum, TreeMap::new)))
+				.withCreated(letterBatchEntity.getCreated())
+				.build())
+			.orElse(null);
+	}
+
 	public Letters toLetters(final Page<LetterEntity> nullablePage) {
 		return ofNullable(nullablePage)
 			.map(page -> LettersBuilder.create()
@@ -117,6 +137,20 @@ public class LetterMapper {
 			.orElse(null);
 	}
 
+	public Letters toLetters(final Window<LetterEntity> nullableWindow, final int limit) {
+		return ofNullable(nullableWindow)
+			.map(window -> LettersBuilder.create()
+				.withMetaData(PagingAndSortingMetaData.create()
+					.withLimit(limit)
+					.withCount(window.size())
+					.withSortBy(KEYSET_SORT.stream().map(Sort.Order::getProperty).toList())
+					.withSortDirection(ASC))
+				.withLetters(toLetterList(window.getContent()))
+				.withNext(window.hasNext() ? LetterCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1)) : null)
+				.build())
+			.orElse(null);
+	}
+
 	private List<Letter> toLetterList(final List<LetterEntity> nullableLetterEntities) {
 		return ofNullable(nullableLetterEntities).orElse(emptyList()).stream()
 			.map(this::toLetter)
@@ -141,18 +175,6 @@ public class LetterMapper {
 			.orElse(null);
 	}
 
-	public LetterStatus toLetterStatus(final LetterEntity nullableLetterEntity) {
-		return ofNullable(nullableLetterEntity)
-			.map(letter -> LetterStatusBuilder.create()
-				.withLetterId(letter.getId())
-				.withStatus(ofNullable(letter.getStatus()).orElse(STATUS_NOT_FOUND))
-				.withSigningInformation(ofNullable(letter.getSigningInformation())
-					.map(SigningInformationEntity::getStatus)
-					.orElse(STATUS_PENDING))
-				.build())
-			.orElse(null);
-	}
-
 	public LetterStatus toLetterStatus(final String letterId, final String status, final String signingInformation) {
 		return LetterStatusBuilder.create()
 			.withLetterId(letterId)
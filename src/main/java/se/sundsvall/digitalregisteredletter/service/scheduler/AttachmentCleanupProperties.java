@@ -0,0 +1,22 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for deleting attachment content that is not referenced by any letter or receipt.
+ *
+ * @param batchSize   maximum number of attachment contents deleted by each scheduler execution
+ * @param gracePeriod time unreferenced content is kept after it was stored, which must exceed the time it takes to
+ *                    persist a letter once its attachments have been stored
+ */
+@Validated
+@ConfigurationProperties("scheduler.delete-unreferenced-attachments")
+public record AttachmentCleanupProperties(
+	@DefaultValue("100") @Positive int batchSize,
+	@DefaultValue("P1D") @NotNull Duration gracePeriod) {
+}
@@ -0,0 +1,70 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+
+import static java.util.Optional.ofNullable;
+
+@Component
+public class AttachmentCleanupWorker {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AttachmentCleanupWorker.class);
+
+	private final AttachmentContentRepository attachmentContentRepository;
+	private final AttachmentStore attachmentStore;
+	private final AttachmentCleanupProperties attachmentCleanupProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	AttachmentCleanupWorker(
+		final AttachmentContentRepository attachmentContentRepository,
+		final AttachmentStore attachmentStore,
+		final AttachmentCleanupProperties attachmentCleanupProperties,
+		final PlatformTransactionManager transactionManager) {
+
+		this.attachmentContentRepository = attachmentContentRepository;
+		this.attachmentStore = attachmentStore;
+		this.attachmentCleanupProperties = attachmentCleanupProperties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Deletes a batch of attachment content that is not referenced by any letter or receipt. Content is stored before the
+	 * transaction persisting the letter referencing it is opened, hence content is left unreferenced when that transaction
+	 * fails. Only content older than the grace period is deleted, as newer content may belong to a letter that is still
+	 * being persisted.
+	 */
+	public void deleteUnreferencedAttachments() {
+		final var createdBefore = OffsetDateTime.now().minus(attachmentCleanupProperties.gracePeriod());
+		final var ids = attachmentContentRepository.findIdsOfUnreferencedContentCreatedBefore(createdBefore, Limit.of(attachmentCleanupProperties.batchSize()));
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		LOG.info("Deleting {} unreferenced attachment contents", ids.size());
+		ids.forEach(this::deleteAttachmentContent);
+	}
+
+	/**
+	 * Deletes the content in a transaction of its own, and the file in an external attachment store when the transaction
+	 * has been committed. The content is left in place if it has been referenced since it was found.
+	 */
+	void deleteAttachmentContent(final String id) {
+		try {
+			final var storageKey = transactionTemplate.execute(_ -> {
+				final var key = attachmentContentRepository.findStorageKeyById(id).orElse(null);
+				return attachmentContentRepository.deleteIfUnreferenced(id) > 0 ? key : null;
+			});
+			ofNullable(storageKey).ifPresent(attachmentStore::delete);
+		} catch (final Exception e) {
+			// Log and swallow exception to not break the execution, the content is deleted on a later execution
+			LOG.error("{} thrown when deleting attachment content with id '{}'", e.getClass().getSimpleName(), id, e);
+		}
+	}
+}
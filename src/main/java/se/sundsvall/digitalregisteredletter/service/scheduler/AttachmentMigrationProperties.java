@@ -0,0 +1,17 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for moving attachment content from the database to an external attachment store.
+ *
+ * @param batchSize maximum number of attachment contents moved by each scheduler execution
+ */
+@Validated
+@ConfigurationProperties("scheduler.migrate-attachments")
+public record AttachmentMigrationProperties(
+	@DefaultValue("100") @Positive int batchSize) {
+}
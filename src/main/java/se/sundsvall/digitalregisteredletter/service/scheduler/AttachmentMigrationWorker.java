@@ -0,0 +1,77 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+
+@Component
+public class AttachmentMigrationWorker {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AttachmentMigrationWorker.class);
+
+	private final AttachmentContentRepository attachmentContentRepository;
+	private final AttachmentStore attachmentStore;
+	private final AttachmentMigrationProperties attachmentMigrationProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	AttachmentMigrationWorker(
+		final AttachmentContentRepository attachmentContentRepository,
+		final AttachmentStore attachmentStore,
+		final AttachmentMigrationProperties attachmentMigrationProperties,
+		final PlatformTransactionManager transactionManager) {
+
+		this.attachmentContentRepository = attachmentContentRepository;
+		this.attachmentStore = attachmentStore;
+		this.attachmentMigrationProperties = attachmentMigrationProperties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Moves a batch of attachment content that is still held by the database to the configured attachment store. Each
+	 * content is moved in a transaction of its own, and the Blob is only cleared when the content has been written to the
+	 * store, hence an interrupted execution never leaves content without a copy. Nothing is done when the attachment store
+	 * is the database itself.
+	 */
+	public void migrateAttachments() {
+		if (!attachmentStore.isExternal()) {
+			return;
+		}
+
+		final var ids = attachmentContentRepository.findIdsOfContentWithoutStorageKey(Limit.of(attachmentMigrationProperties.batchSize()));
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		LOG.info("Moving {} attachment contents to the attachment store", ids.size());
+		ids.forEach(this::migrateAttachmentContent);
+	}
+
+	void migrateAttachmentContent(final String id) {
+		try {
+			transactionTemplate.executeWithoutResult(_ -> attachmentContentRepository.findById(id)
+				.filter(attachmentContent -> attachmentContent.getStorageKey() == null && attachmentContent.getContent() != null)
+				.ifPresent(this::moveToAttachmentStore));
+		} catch (final Exception e) {
+			// Log and swallow exception to not break the execution, the content is moved on a later execution
+			LOG.error("{} thrown when moving attachment content with id '{}' to the attachment store", e.getClass().getSimpleName(), id, e);
+		}
+	}
+
+	private void moveToAttachmentStore(final AttachmentContentEntity attachmentContent) {
+		final var content = attachmentContent.getContent();
+		try (final var inputStream = content.getBinaryStream()) {
+			attachmentStore.write(attachmentContent, inputStream, content.length());
+		} catch (final SQLException | IOException e) {
+			throw new IllegalStateException("Unable to read content of attachment content with id '%s'".formatted(attachmentContent.getId()), e);
+		}
+		attachmentContentRepository.save(attachmentContent);
+	}
+}
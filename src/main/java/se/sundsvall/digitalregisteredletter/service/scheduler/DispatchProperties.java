@@ -0,0 +1,30 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for asynchronous dispatch of letters to Kivra.
+ *
+ * @param enabled              when true, incoming letters are stored in the outbox and dispatched by the scheduler
+ *                             instead of being sent to Kivra within the request
+ * @param batchSize            maximum number of outbox entries claimed by each scheduler execution
+ * @param concurrency          maximum number of letters dispatched in parallel
+ * @param concurrencyPerTenant maximum number of letters dispatched in parallel for a single tenant
+ * @param lease                time an outbox entry stays claimed before it is made available for a new attempt
+ * @param maxAttempts          number of attempts before a letter is marked as failed and removed from the outbox
+ */
+@Validated
+@ConfigurationProperties("scheduler.dispatch-letters")
+public record DispatchProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("50") @Positive int batchSize,
+	@DefaultValue("10") @Positive int concurrency,
+	@DefaultValue("2") @Positive int concurrencyPerTenant,
+	@DefaultValue("PT5M") @NotNull Duration lease,
+	@DefaultValue("5") @Positive int maxAttempts) {
+}
@@ -0,0 +1,95 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.service.LetterService;
+
+import static java.util.stream.Collectors.groupingBy;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ERROR;
+
+@Component
+public class LetterDispatchWorker {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LetterDispatchWorker.class);
+
+	private final LetterService letterService;
+	private final RepositoryIntegration repositoryIntegration;
+	private final DispatchProperties dispatchProperties;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	LetterDispatchWorker(
+		final LetterService letterService,
+		final RepositoryIntegration repositoryIntegration,
+		final DispatchProperties dispatchProperties) {
+
+		this.letterService = letterService;
+		this.repositoryIntegration = repositoryIntegration;
+		this.dispatchProperties = dispatchProperties;
+	}
+
+	/**
+	 * Claims a batch of queued letters and dispatches them to Kivra. Letters are dispatched in parallel, limited both in
+	 * total and per tenant to avoid that a single tenant with a large backlog starves the others or gets throttled by
+	 * Kivra. The method returns when all claimed letters have been processed.
+	 */
+	public void dispatchLetters() {
+		final var outboxEntities = repositoryIntegration.claimOutboxEntries(instanceId, dispatchProperties.batchSize(), dispatchProperties.lease());
+		if (outboxEntities.isEmpty()) {
+			return;
+		}
+
+		LOG.info("Dispatching {} queued letters", outboxEntities.size());
+		final var totalPermits = new Semaphore(dispatchProperties.concurrency());
+
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			outboxEntities.stream()
+				.collect(groupingBy(outboxEntity -> outboxEntity.getMunicipalityId() + ":" + outboxEntity.getOrganizationNumber()))
+				.values()
+				.forEach(tenantOutboxEntities -> {
+					final var tenantPermits = new Semaphore(dispatchProperties.concurrencyPerTenant());
+					tenantOutboxEntities.forEach(outboxEntity -> executor.execute(() -> dispatchLetter(outboxEntity, tenantPermits, totalPermits)));
+				});
+		}
+	}
+
+	private void dispatchLetter(final LetterOutboxEntity outboxEntity, final Semaphore tenantPermits, final Semaphore totalPermits) {
+		try {
+			tenantPermits.acquire();
+			try {
+				totalPermits.acquire();
+				try {
+					letterService.dispatchLetter(outboxEntity, dispatchProperties.maxAttempts());
+				} finally {
+					totalPermits.release();
+				}
+			} finally {
+				tenantPermits.release();
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOG.warn("Interrupted while dispatching letter with id '{}'", outboxEntity.getLetterId());
+		} catch (final Exception e) {
+			// Log and swallow exception to not break the execution, the entry is retried when the lease has expired
+			LOG.error("{} thrown when dispatching letter with id '{}' (attempt {})", e.getClass().getSimpleName(), outboxEntity.getLetterId(), outboxEntity.getAttempts(), e);
+			abandonIfExhausted(outboxEntity);
+		}
+	}
+
+	private void abandonIfExhausted(final LetterOutboxEntity outboxEntity) {
+		if (outboxEntity.getAttempts() < dispatchProperties.maxAttempts()) {
+			return;
+		}
+
+		try {
+			repositoryIntegration.completeOutboxEntry(outboxEntity, STATUS_EXCEPTION_ERROR);
+		} catch (final Exception e) {
+			LOG.error("{} thrown when abandoning letter with id '{}'", e.getClass().getSimpleName(), outboxEntity.getLetterId(), e);
+		}
+	}
+}
@@ -7,9 +7,16 @@ import se.sundsvall.dept44.scheduling.Dept44Scheduled;
 public class SchedulerService {
 
 	private final SchedulerWorker schedulerWorker;
+	private final LetterDispatchWorker letterDispatchWorker;
+	private final AttachmentMigrationWorker attachmentMigrationWorker;
+	private final AttachmentCleanupWorker attachmentCleanupWorker;
 
-	SchedulerService(final SchedulerWorker schedulerWorker) {
+	SchedulerService(final SchedulerWorker schedulerWorker, final LetterDispatchWorker letterDispatchWorker, final AttachmentMigrationWorker attachmentMigrationWorker,
+		final AttachmentCleanupWorker attachmentCleanupWorker) {
 		this.schedulerWorker = schedulerWorker;
+		this.letterDispatchWorker = letterDispatchWorker;
+		this.attachmentMigrationWorker = attachmentMigrationWorker;
+		this.attachmentCleanupWorker = attachmentCleanupWorker;
 	}
 
 	/**
@@ -31,4 +38,45 @@ public class SchedulerService {
 	void updateLetterStatuses() {
 		schedulerWorker.updateLetterInformation();
 	}
+
+	/**
+	 * When asynchronous dispatch is enabled, letters are stored in an outbox when received and sent to Kivra by this
+	 * scheduler. Each execution claims a batch of queued letters and dispatches them in parallel. Letters that can not be
+	 * sent are retried on a later execution until the maximum number of attempts has been reached.
+	 */
+	@Dept44Scheduled(
+		cron = "${scheduler.dispatch-letters.cron:-}",
+		name = "${scheduler.dispatch-letters.name}",
+		lockAtMostFor = "${scheduler.dispatch-letters.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.dispatch-letters.maximum-execution-time}")
+	void dispatchLetters() {
+		letterDispatchWorker.dispatchLetters();
+	}
+
+	/**
+	 * When an external attachment store is configured, attachment content stored before the store was introduced is still
+	 * held by the database. This scheduler moves that content to the store in batches, until no content is left in the
+	 * database.
+	 */
+	@Dept44Scheduled(
+		cron = "${scheduler.migrate-attachments.cron:-}",
+		name = "${scheduler.migrate-attachments.name}",
+		lockAtMostFor = "${scheduler.migrate-attachments.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.migrate-attachments.maximum-execution-time}")
+	void migrateAttachments() {
+		attachmentMigrationWorker.migrateAttachments();
+	}
+
+	/**
+	 * Attachment content is stored before the letter referencing it is persisted, hence content is left unreferenced when
+	 * persisting the letter fails. This scheduler deletes such content once it is older than the configured grace period.
+	 */
+	@Dept44Scheduled(
+		cron = "${scheduler.delete-unreferenced-attachments.cron:-}",
+		name = "${scheduler.delete-unreferenced-attachments.name}",
+		lockAtMostFor = "${scheduler.delete-unreferenced-attachments.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.delete-unreferenced-attachments.maximum-execution-time}")
+	void deleteUnreferencedAttachments() {
+		attachmentCleanupWorker.deleteUnreferencedAttachments();
+	}
 }
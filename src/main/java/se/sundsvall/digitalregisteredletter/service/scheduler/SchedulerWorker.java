@@ -1,5 +1,7 @@
 package se.sundsvall.digitalregisteredletter.service.scheduler;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -25,31 +27,43 @@ public class SchedulerWorker {
 	private final KivraIntegration kivraIntegration;
 	private final LetterRepository letterRepository;
 	private final LetterMapper letterMapper;
+	private final StatusUpdateProperties statusUpdateProperties;
 
 	SchedulerWorker(
 		final KivraIntegration kivraIntegration,
 		final LetterRepository letterRepository,
-		final LetterMapper letterMapper) {
+		final LetterMapper letterMapper,
+		final StatusUpdateProperties statusUpdateProperties) {
 
 		this.kivraIntegration = kivraIntegration;
 		this.letterRepository = letterRepository;
 		this.letterMapper = letterMapper;
+		this.statusUpdateProperties = statusUpdateProperties;
 	}
 
+	/**
+	 * Processes Kivra responses for all tenants with sent letters. Tenants are processed in parallel and the responses of
+	 * each tenant are fanned out with a per tenant concurrency cap. The method returns when all tenants have been
+	 * processed.
+	 */
 	public void updateLetterInformation() {
-		final var tenants = letterRepository.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT).stream()
-			.map(LetterEntity::getTenant)
-			.distinct()
-			.toList();
-		tenants.forEach(this::processTenant);
+		final var tenants = letterRepository.findDistinctTenantsByLetterStatus(STATUS_SENT);
+
+		final var tenantPermits = new Semaphore(statusUpdateProperties.concurrency());
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			tenants.forEach(tenantEntity -> executor.execute(() -> runWithPermit(tenantPermits, () -> processTenant(tenantEntity))));
+		}
 	}
 
 	private void processTenant(final TenantEntity tenantEntity) {
 		try {
 			LOG.info("Processing Kivra responses for tenant with orgNumber: {}", tenantEntity.getOrgNumber());
-			ofNullable(kivraIntegration.getAllResponses(tenantEntity))
-				.orElse(emptyList())
-				.forEach(keyValue -> processResponse(keyValue, tenantEntity));
+			final var responsePermits = new Semaphore(statusUpdateProperties.concurrencyPerTenant());
+			try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				ofNullable(kivraIntegration.getAllResponses(tenantEntity))
+					.orElse(emptyList())
+					.forEach(keyValue -> executor.execute(() -> runWithPermit(responsePermits, () -> processResponse(keyValue, tenantEntity))));
+			}
 		} catch (final Exception e) {
 			LOG.error("Error processing tenant with orgNumber '{}': {}", tenantEntity.getOrgNumber(), e.getMessage(), e);
 		}
@@ -124,4 +138,20 @@ public class SchedulerWorker {
 			LOG.error("Error deleting kivra response with key '{}'", keyValue.responseKey(), e);
 		}
 	}
+
+	private static void runWithPermit(final Semaphore permits, final Runnable task) {
+		try {
+			permits.acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOG.warn("Interrupted while waiting to process Kivra responses");
+			return;
+		}
+
+		try {
+			task.run();
+		} finally {
+			permits.release();
+		}
+	}
 }
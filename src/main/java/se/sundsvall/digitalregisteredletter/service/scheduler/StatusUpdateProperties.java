@@ -0,0 +1,19 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the scheduled update of letter statuses from Kivra.
+ *
+ * @param concurrency          maximum number of tenants processed in parallel
+ * @param concurrencyPerTenant maximum number of Kivra responses processed in parallel for a single tenant
+ */
+@Validated
+@ConfigurationProperties("scheduler.update-letter-statuses")
+public record StatusUpdateProperties(
+	@DefaultValue("4") @Positive int concurrency,
+	@DefaultValue("4") @Positive int concurrencyPerTenant) {
+}
@@ -1,64 +1,171 @@
 package se.sundsvall.digitalregisteredletter.service.util;
 
-import jakarta.persistence.EntityManager;
-import java.io.ByteArrayInputStream;
-import java.sql.Blob;
-import java.util.Base64;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
 import java.util.Optional;
-import org.hibernate.Session;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
-import static org.zalando.fauxpas.FauxPas.throwingFunction;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
 
 @Component
 public class BlobUtil {
 
 	private static final Logger LOG = LoggerFactory.getLogger(BlobUtil.class);
-	private final EntityManager entityManager;
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final int BUFFER_SIZE = 8192;
 
-	public BlobUtil(final EntityManager entityManager) {
-		this.entityManager = entityManager;
+	private final AttachmentStore attachmentStore;
+	private final AttachmentContentRepository attachmentContentRepository;
+	private final TransactionTemplate requiresNewTransactionTemplate;
+
+	public BlobUtil(final AttachmentStore attachmentStore, final AttachmentContentRepository attachmentContentRepository, final PlatformTransactionManager transactionManager) {
+		this.attachmentStore = attachmentStore;
+		this.attachmentContentRepository = attachmentContentRepository;
+		this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.requiresNewTransactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
 	}
 
-	public Blob convertToBlob(final MultipartFile multipartFile) {
+	/**
+	 * Returns the stored content matching the provided file. The content is addressed by its SHA-256 hash, hence identical
+	 * files share one stored content. The content is returned as a reference, without being read. The method is meant to
+	 * be called before a transaction persisting the attachments is opened, hence a stored file never holds a connection of
+	 * that transaction while it is written.
+	 *
+	 * @param  multipartFile the file to find or store content for
+	 * @return               the attachment content entity holding the content of the file, or null if no file is provided
+	 */
+	public AttachmentContentEntity convertToAttachmentContent(final MultipartFile multipartFile) {
 		return Optional.ofNullable(multipartFile)
-			.map(throwingFunction(this::createBlob))
+			.map(this::findOrCreateAttachmentContent)
 			.orElse(null);
 	}
 
-	Session getSession() {
-		return entityManager.unwrap(Session.class);
+	AttachmentContentEntity findOrCreateAttachmentContent(final MultipartFile multipartFile) {
+		return Optional.ofNullable(storeAttachmentContent(multipartFile))
+			.map(attachmentContentRepository::getReferenceById)
+			.orElseThrow(() -> Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not convert file with name [ %s ] to database object".formatted(multipartFile.getOriginalFilename())));
+	}
+
+	/**
+	 * Stores the content in a transaction of its own, making it visible to concurrent uploads of the same file as soon as
+	 * it is written. The content is streamed from the uploaded part into the attachment store through a fixed-size buffer,
+	 * hence the file is never held in memory as a whole, and the hash is computed from the same stream while it is
+	 * written. As the hash is not known until the content has been written, the content is inserted under a provisional
+	 * hash that is replaced when the write is complete. If identical content has already been stored, by an earlier or a
+	 * concurrent upload, the transaction is rolled back, the written copy is deleted and the id of the already stored
+	 * content is returned instead.
+	 *
+	 * @return the id of the stored content, or null if the content could not be stored
+	 */
+	String storeAttachmentContent(final MultipartFile multipartFile) {
+		final var writtenContent = new AtomicReference<AttachmentContentEntity>();
+		final var hash = new AtomicReference<String>();
+
+		try (final var inputStream = new DigestInputStream(openInputStream(multipartFile), newMessageDigest())) {
+			final var contentId = requiresNewTransactionTemplate.execute(status -> {
+				final var attachmentContent = AttachmentContentEntity.create()
+					.withHash(UUID.randomUUID().toString())
+					.withContentLength(multipartFile.getSize());
+				attachmentStore.write(attachmentContent, inputStream, multipartFile.getSize());
+				writtenContent.set(attachmentContent);
+				// Content held by the database is read from the stream when the entity is flushed
+				attachmentContentRepository.saveAndFlush(attachmentContent);
+				hash.set(HexFormat.of().formatHex(inputStream.getMessageDigest().digest()));
+
+				final var storedContentId = attachmentContentRepository.findIdByHash(hash.get());
+				if (storedContentId.isPresent()) {
+					status.setRollbackOnly();
+					return storedContentId.get();
+				}
+				attachmentContentRepository.updateHash(attachmentContent.getId(), hash.get());
+				return attachmentContent.getId();
+			});
+
+			if (!Objects.equals(contentId, writtenContent.get().getId())) {
+				deleteWrittenContent(writtenContent.get());
+			}
+			return contentId;
+		} catch (final DataIntegrityViolationException e) {
+			LOG.debug("Content with hash {} has already been stored by a concurrent upload", hash.get());
+			deleteWrittenContent(writtenContent.get());
+			return Optional.ofNullable(hash.get())
+				.flatMap(attachmentContentRepository::findIdByHash)
+				.orElse(null);
+		} catch (final IOException e) {
+			LOG.warn("Failed to close stream for MultipartFile: {}", e.getMessage(), e);
+			return Optional.ofNullable(hash.get())
+				.flatMap(attachmentContentRepository::findIdByHash)
+				.orElse(null);
+		} catch (final RuntimeException e) {
+			deleteWrittenContent(writtenContent.get());
+			throw e;
+		}
 	}
 
-	Blob createBlob(final MultipartFile multipartFile) {
+	/**
+	 * Deletes content written to the attachment store that is not kept, either as identical content has already been
+	 * stored or as storing it failed. The storage key of written content is never shared, hence it is always safe to delete.
+	 */
+	private void deleteWrittenContent(final AttachmentContentEntity attachmentContent) {
+		if (attachmentContent == null || attachmentContent.getStorageKey() == null) {
+			return;
+		}
+
 		try {
-			final var fileBytes = multipartFile.getBytes();
-			final var inputStream = new ByteArrayInputStream(fileBytes);
-			return getSession().getLobHelper().createBlob(inputStream, fileBytes.length);
+			attachmentStore.delete(attachmentContent.getStorageKey());
 		} catch (final Exception e) {
-			LOG.warn("Failed to create Blob from MultipartFile: {}", e.getMessage(), e);
-			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not convert file with name [ %s ] to database object".formatted(multipartFile.getOriginalFilename()));
+			LOG.warn("Failed to delete content with storage key '{}': {}", attachmentContent.getStorageKey(), e.getMessage(), e);
 		}
 	}
 
 	/**
-	 * Converts a Blob to a Base64 encoded string.
+	 * Computes the SHA-256 hash by which content is addressed in the attachment store, reading the provided stream to its
+	 * end through a fixed-size buffer.
 	 *
-	 * @param  blob the Blob to convert
-	 * @return      the Base64 encoded string representation of the Blob
+	 * @param  inputStream the content to compute the hash of, which is not closed by this method
+	 * @return             the hash as a lower case hex string
+	 * @throws IOException if the content can not be read
 	 */
-	public String convertBlobToBase64String(final Blob blob) {
+	public static String computeHash(final InputStream inputStream) throws IOException {
+		final var digestInputStream = new DigestInputStream(inputStream, newMessageDigest());
+		digestInputStream.transferTo(OutputStream.nullOutputStream());
+		return HexFormat.of().formatHex(digestInputStream.getMessageDigest().digest());
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Hash algorithm %s is not available".formatted(HASH_ALGORITHM), e);
+		}
+	}
+
+	InputStream openInputStream(final MultipartFile multipartFile) {
 		try {
-			final var bytes = blob.getBytes(1, (int) blob.length());
-			return Base64.getEncoder().encodeToString(bytes);
+			return new BufferedInputStream(multipartFile.getInputStream(), BUFFER_SIZE);
 		} catch (final Exception e) {
-			LOG.warn("Failed to convert Blob to Base64 String: {}", e.getMessage(), e);
-			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not convert Blob to Base64 string");
+			LOG.warn("Failed to open stream for MultipartFile: {}", e.getMessage(), e);
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Could not convert file with name [ %s ] to database object".formatted(multipartFile.getOriginalFilename()));
 		}
 	}
 }
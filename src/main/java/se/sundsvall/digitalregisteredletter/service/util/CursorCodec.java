@@ -0,0 +1,45 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+import se.sundsvall.dept44.problem.Problem;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Encodes the position of the last item read as the opaque cursor handed to clients, and decodes cursors sent back by
+ * clients. Shared by the cursors of the letter listing and the status change feed, hence all cursors have the same
+ * encoding and are rejected the same way when they can not be decoded.
+ */
+public final class CursorCodec {
+
+	private CursorCodec() {}
+
+	/**
+	 * Encodes the provided position as a cursor.
+	 *
+	 * @param  position the position of the last item read
+	 * @return          an opaque cursor holding the position
+	 */
+	public static String encode(final String position) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(UTF_8));
+	}
+
+	/**
+	 * Decodes the provided cursor and parses the position it holds. If the cursor can not be decoded, or the parser fails
+	 * with an IllegalArgumentException or DateTimeParseException, a problem with status 400 is thrown.
+	 *
+	 * @param  cursor the cursor to decode
+	 * @param  parser the parser converting the position held by the cursor
+	 * @return        the parsed position
+	 */
+	public static <T> T decode(final String cursor, final Function<String, T> parser) {
+		try {
+			return parser.apply(new String(Base64.getUrlDecoder().decode(cursor), UTF_8));
+		} catch (final IllegalArgumentException | DateTimeParseException e) {
+			throw Problem.valueOf(BAD_REQUEST, "Invalid cursor '%s'".formatted(cursor));
+		}
+	}
+}
@@ -3,6 +3,8 @@ package se.sundsvall.digitalregisteredletter.service.util;
 import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -19,8 +21,12 @@ public class EncryptionUtility {
 
 	private static final int NONCE_LEN = 12; // bytes
 
+	private static final int MAX_POOLED_CIPHERS = 16;
+
 	private final CredentialsProperties credentialsProperties;
 	private final SecureRandom random;
+	private final Queue<Cipher> cipherPool = new ConcurrentLinkedQueue<>();
+	private volatile SecretKeySpec secretKeySpec;
 
 	public EncryptionUtility(final CredentialsProperties credentialsProperties) {
 		this.credentialsProperties = credentialsProperties;
@@ -28,7 +34,25 @@ public class EncryptionUtility {
 	}
 
 	private SecretKeySpec getSecretKeySpec() {
-		return new SecretKeySpec(credentialsProperties.secretKey().getBytes(), "ChaCha20-Poly1305");
+		if (secretKeySpec == null) {
+			secretKeySpec = new SecretKeySpec(credentialsProperties.secretKey().getBytes(), "ChaCha20-Poly1305");
+		}
+		return secretKeySpec;
+	}
+
+	/**
+	 * Borrows a cipher from the pool, or creates a new one if the pool is empty. A borrowed cipher must be given back
+	 * through {@link #returnCipher(Cipher)} once it has been used.
+	 */
+	private Cipher borrowCipher() throws GeneralSecurityException {
+		final var cipher = cipherPool.poll();
+		return cipher != null ? cipher : Cipher.getInstance(ENCRYPT_ALGO);
+	}
+
+	private void returnCipher(final Cipher cipher) {
+		if (cipher != null && cipherPool.size() < MAX_POOLED_CIPHERS) {
+			cipherPool.offer(cipher);
+		}
 	}
 
 	public String encrypt(final byte[] input) {
@@ -40,13 +64,17 @@ public class EncryptionUtility {
 
 		final var ivParameterSpec = new IvParameterSpec(nonce);
 		final byte[] messageCipher;
-		final Cipher cipher;
+		Cipher cipher = null;
 		try {
-			cipher = Cipher.getInstance(ENCRYPT_ALGO);
+			cipher = borrowCipher();
 			cipher.init(Cipher.ENCRYPT_MODE, key, ivParameterSpec);
 			messageCipher = cipher.doFinal(input);
 		} catch (final GeneralSecurityException e) {
+			// A cipher that failed to initialize or finish is left out of the pool
+			cipher = null;
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Something went wrong encrypting input");
+		} finally {
+			returnCipher(cipher);
 		}
 
 		final var cipherText = new byte[messageCipher.length + NONCE_LEN];
@@ -71,14 +99,18 @@ public class EncryptionUtility {
 
 		final var ivParameterSpec = new IvParameterSpec(nonce);
 
-		final Cipher cipher;
+		Cipher cipher = null;
 
 		try {
-			cipher = Cipher.getInstance(ENCRYPT_ALGO);
+			cipher = borrowCipher();
 			cipher.init(Cipher.DECRYPT_MODE, key, ivParameterSpec);
 			return new String(cipher.doFinal(messageCipher));
 		} catch (final GeneralSecurityException e) {
+			// A cipher that failed to initialize or finish is left out of the pool
+			cipher = null;
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Something went wrong decrypting input");
+		} finally {
+			returnCipher(cipher);
 		}
 
 	}
@@ -1,84 +1,153 @@
 package se.sundsvall.digitalregisteredletter.service.util;
 
 import generated.se.sundsvall.templating.RenderResponse;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
-import org.apache.commons.lang3.function.Failable;
-import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.openpdf.text.Document;
 import org.openpdf.text.pdf.PdfReader;
 import org.openpdf.text.pdf.PdfSmartCopy;
+import org.openpdf.text.pdf.RandomAccessFileOrArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
-import static org.apache.pdfbox.io.RandomAccessReadBuffer.createBufferFromStream;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.ALWAYS;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.NEVER;
 
 public final class InvoicePdfMerger {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(InvoicePdfMerger.class);
 	private static final String MERGE_ERROR_MESSAGE = "A problem occurred during merge of PDF:s. %s.";
+	private static final String TEMPORARY_FILE_PREFIX = "receipt";
+	private static final String TEMPORARY_FILE_SUFFIX = ".pdf";
 
 	private InvoicePdfMerger() {}
 
-	public static OutputStream mergePdfs(final List<AttachmentEntity> attachments, final RenderResponse response) {
+	/**
+	 * Merges the rendered receipt with the attachments and writes the result to the destination file. The receipt is
+	 * decoded as a stream and, like the attachments, spooled to a temporary file and read from disk, and the merged
+	 * document is kept in memory only up to the provided number of bytes before PDFBox moves it to temporary files. Hence
+	 * the heap used by a merge is bounded by the largest single object of the documents, not by the size of the letter.
+	 * The merged document is then compressed according to the provided compression settings.
+	 *
+	 * @param  attachments        the attachments to append to the receipt
+	 * @param  attachmentStore    the store to read the content of the attachments from
+	 * @param  response           the rendered receipt
+	 * @param  destination        the file to write the merged document to
+	 * @param  maxMainMemoryBytes maximum number of bytes of the merged document kept in memory
+	 * @param  compression        settings for compression of the merged document
+	 * @return                    the outcome of the compression of the merged document
+	 */
+	public static CompressionResult mergePdfs(final List<AttachmentEntity> attachments, final AttachmentStore attachmentStore, final RenderResponse response, final Path destination, final long maxMainMemoryBytes,
+		final Compression compression) {
+		final var temporaryFiles = new ArrayList<Path>();
 
 		try {
-			final var merger = initializePDFMergerUtility();
+			final var merger = new PDFMergerUtility();
+			merger.addSource(toTemporaryFile(response, temporaryFiles).toFile());
 
-			final var receipt = new ByteArrayInputStream(Base64.getDecoder().decode(response.getOutput()));
-
-			merger.addSource(createBufferFromStream(receipt));
-
-			Failable.stream(toInputStreams(attachments))
-				.forEach(inputStream -> merger.addSource(createBufferFromStream(inputStream)));
+			for (final var attachmentFile : toTemporaryFiles(attachments, attachmentStore, temporaryFiles)) {
+				merger.addSource(attachmentFile.toFile());
+			}
 
-			merger.mergeDocuments(IOUtils.createMemoryOnlyStreamCache());
+			final var mergedFile = createTemporaryFile(temporaryFiles);
+			merger.setDestinationFileName(mergedFile.toString());
+			merger.mergeDocuments(MemoryUsageSetting.setupMixed(maxMainMemoryBytes).streamCache);
 
-			return ofNullable(compress((ByteArrayOutputStream) merger.getDestinationStream()))
-				.orElseThrow(() -> Problem.valueOf(INTERNAL_SERVER_ERROR, "No content available for receipt"));
+			return compress(mergedFile, destination, compression, temporaryFiles);
 		} catch (final Exception e) {
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, MERGE_ERROR_MESSAGE.formatted(e.getMessage()));
+		} finally {
+			temporaryFiles.forEach(InvoicePdfMerger::deleteTemporaryFile);
 		}
 	}
 
-	private static PDFMergerUtility initializePDFMergerUtility() {
-		final var merger = new PDFMergerUtility();
-		merger.setDestinationStream(new ByteArrayOutputStream());
-		return merger;
+	/**
+	 * Decodes the Base64 encoded receipt while it is written to a temporary file. The encoded characters are read straight
+	 * from the string, hence neither the encoded nor the decoded receipt is copied in memory as a whole.
+	 */
+	private static Path toTemporaryFile(final RenderResponse response, final List<Path> temporaryFiles) throws IOException {
+		final var output = ofNullable(response.getOutput())
+			.orElseThrow(() -> new IllegalStateException("No content found in rendered receipt"));
+		final var receiptFile = createTemporaryFile(temporaryFiles);
+
+		try (final var inputStream = Base64.getDecoder().wrap(new EncodedInputStream(output))) {
+			Files.copy(inputStream, receiptFile, REPLACE_EXISTING);
+		}
+		return receiptFile;
+	}
+
+	private static List<Path> toTemporaryFiles(final List<AttachmentEntity> attachments, final AttachmentStore attachmentStore, final List<Path> temporaryFiles) throws IOException {
+		final var attachmentFiles = new ArrayList<Path>();
+
+		for (final var attachmentEntity : ofNullable(attachments).orElse(emptyList())) {
+			final var attachmentFile = createTemporaryFile(temporaryFiles);
+			try (final var inputStream = attachmentStore.read(attachmentEntity.getAttachmentContent()).getBinaryStream()) {
+				Files.copy(inputStream, attachmentFile, REPLACE_EXISTING);
+			} catch (final SQLException e) {
+				throw new IllegalStateException("Unable to open content stream for attachment with id '%s'".formatted(attachmentEntity.getId()), e);
+			}
+			attachmentFiles.add(attachmentFile);
+		}
+
+		return attachmentFiles;
 	}
 
-	private static List<InputStream> toInputStreams(final List<AttachmentEntity> attachments) {
-		return ofNullable(attachments).orElse(emptyList())
-			.stream()
-			.map(attachmentEntity -> {
-				try {
-					return attachmentEntity.getContent().getBinaryStream();
-				} catch (final SQLException e) {
-					throw new IllegalStateException("Unable to open content stream for attachment with id '%s'".formatted(attachmentEntity.getId()), e);
+	/**
+	 * Recompresses the merged document when the policy asks for it. With the auto policy only documents reaching the size
+	 * or page threshold are compressed, and the page count is only read when the size threshold is not reached. The
+	 * merged document is read in partial mode, hence only the object being copied is held in memory. If the document can
+	 * not be compressed, or compression does not make it smaller, the merged document is used as is.
+	 */
+	private static CompressionResult compress(final Path mergedFile, final Path destination, final Compression compression, final List<Path> temporaryFiles) throws IOException {
+		final var started = System.nanoTime();
+		final var mergedSize = Files.size(mergedFile);
+		var outcome = Outcome.SKIPPED;
+		var result = mergedFile;
+
+		if (compression.policy() != NEVER) {
+			try (final var pdfReader = new PdfReader(new RandomAccessFileOrArray(mergedFile.toString(), false, true), null)) {
+				if (compression.policy() == ALWAYS || mergedSize >= compression.minSize().toBytes() || pdfReader.getNumberOfPages() >= compression.minPages()) {
+					final var compressedFile = createTemporaryFile(temporaryFiles);
+					copyCompressed(pdfReader, compressedFile);
+
+					final var smaller = Files.size(compressedFile) < mergedSize;
+					outcome = smaller ? Outcome.COMPRESSED : Outcome.INEFFECTIVE;
+					result = smaller ? compressedFile : mergedFile;
 				}
-			})
-			.toList();
+			} catch (final IOException e) {
+				LOGGER.warn("A problem occurred during compression of PDF. {}", e.getMessage());
+				outcome = Outcome.FAILED;
+			}
+		}
+
+		Files.move(result, destination, REPLACE_EXISTING);
+		return new CompressionResult(compression.policy(), outcome, mergedSize, Files.size(destination), Duration.ofNanos(System.nanoTime() - started));
 	}
 
-	private static ByteArrayOutputStream compress(final ByteArrayOutputStream outputStream) {
+	private static void copyCompressed(final PdfReader pdfReader, final Path compressedFile) throws IOException {
 
-		try (final var pdfReader = new PdfReader(outputStream.toByteArray());
+		try (final var outputStream = Files.newOutputStream(compressedFile);
 			final var document = new Document()) {
 
-			final var result = new ByteArrayOutputStream();
-			final var pdfSmartCopy = new PdfSmartCopy(document, result);
+			final var pdfSmartCopy = new PdfSmartCopy(document, outputStream);
 			pdfSmartCopy.setFullCompression();
 			document.open();
 
@@ -87,12 +156,77 @@ public final class InvoicePdfMerger {
 				pdfSmartCopy.addPage(page);
 			}
 			pdfSmartCopy.close();
-			return result;
+		}
+	}
+
+	private static Path createTemporaryFile(final List<Path> temporaryFiles) throws IOException {
+		final var temporaryFile = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+		temporaryFiles.add(temporaryFile);
+		return temporaryFile;
+	}
 
+	private static void deleteTemporaryFile(final Path temporaryFile) {
+		try {
+			Files.deleteIfExists(temporaryFile);
 		} catch (final IOException e) {
-			LOGGER.warn("A problem occurred during compression of PDF. {}", e.getMessage());
-			return outputStream;
+			LOGGER.warn("Failed to delete temporary file {}: {}", temporaryFile, e.getMessage());
 		}
 	}
 
+	/**
+	 * Reads the characters of a Base64 encoded string as bytes, which is safe as the Base64 alphabet is plain ASCII.
+	 */
+	private static final class EncodedInputStream extends InputStream {
+
+		private final String encoded;
+		private int position;
+
+		private EncodedInputStream(final String encoded) {
+			this.encoded = encoded;
+		}
+
+		@Override
+		public int read() {
+			return position < encoded.length() ? encoded.charAt(position++) : -1;
+		}
+
+		@Override
+		public int read(final byte[] buffer, final int offset, final int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (position >= encoded.length()) {
+				return -1;
+			}
+
+			final var count = Math.min(length, encoded.length() - position);
+			for (int index = 0; index < count; index++) {
+				buffer[offset + index] = (byte) encoded.charAt(position++);
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * Outcome of the compression of a merged document.
+	 *
+	 * @param policy     the compression policy that was applied
+	 * @param outcome    whether the merged document was compressed, and if not why
+	 * @param mergedSize size in bytes of the merged document before compression
+	 * @param size       size in bytes of the resulting document
+	 * @param duration   time spent deciding on and performing the compression
+	 */
+	public record CompressionResult(CompressionPolicy policy, Outcome outcome, long mergedSize, long size, Duration duration) {
+
+		public long savedBytes() {
+			return mergedSize - size;
+		}
+	}
+
+	public enum Outcome {
+		COMPRESSED,
+		INEFFECTIVE,
+		SKIPPED,
+		FAILED
+	}
 }
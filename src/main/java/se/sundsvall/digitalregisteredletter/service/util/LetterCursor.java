@@ -0,0 +1,54 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity_;
+
+/**
+ * Converts between the keyset position of a letter, i.e. its creation time and id, and the opaque cursor handed to
+ * clients paging through letters with a cursor. An empty cursor represents the position before the first letter.
+ */
+public final class LetterCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private LetterCursor() {}
+
+	/**
+	 * Encodes the provided keyset position as a cursor.
+	 *
+	 * @param  position the keyset position of the last letter read
+	 * @return          an opaque cursor pointing at the letters following the position
+	 */
+	public static String encode(final KeysetScrollPosition position) {
+		final var keys = position.getKeys();
+
+		return CursorCodec.encode(keys.get(LetterEntity_.CREATED) + SEPARATOR + keys.get(LetterEntity_.ID));
+	}
+
+	/**
+	 * Decodes the provided cursor to a keyset position. If the cursor is empty, the position before the first letter is
+	 * returned.
+	 *
+	 * @param  cursor the cursor to decode
+	 * @return        the keyset position the cursor points at
+	 */
+	public static KeysetScrollPosition decode(final String cursor) {
+		if (cursor.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+
+		return CursorCodec.decode(cursor, value -> {
+			final var separatorIndex = value.indexOf(SEPARATOR);
+			if (separatorIndex < 0) {
+				throw new IllegalArgumentException("Missing separator");
+			}
+
+			return ScrollPosition.forward(Map.of(
+				LetterEntity_.CREATED, OffsetDateTime.parse(value.substring(0, separatorIndex)),
+				LetterEntity_.ID, value.substring(separatorIndex + 1)));
+		});
+	}
+}
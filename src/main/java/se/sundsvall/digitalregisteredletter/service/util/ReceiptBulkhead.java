@@ -0,0 +1,119 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Limits the number of receipts produced at once, as rendering and merging a receipt is heavy on both CPU and memory.
+ * A request waits for a permit at most the configured time and is then rejected with 503 and a Retry-After header.
+ * Receipts produced for an export share the same permits, but wait for a permit as long as it takes. The number of
+ * waiting requests, the available permits and the time spent waiting are exposed as metrics.
+ */
+@Component
+public class ReceiptBulkhead {
+
+	static final String QUEUE_GAUGE = "receipt.bulkhead.queue";
+	static final String AVAILABLE_GAUGE = "receipt.bulkhead.available";
+	static final String WAIT_TIMER = "receipt.bulkhead.wait";
+
+	// Waits for a permit as long as it takes
+	private static final Duration UNLIMITED_WAIT = Duration.ofNanos(Long.MAX_VALUE);
+
+	private final Semaphore permits;
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final Duration maxWait;
+	private final Duration retryAfter;
+	private final Timer acquiredTimer;
+	private final Timer rejectedTimer;
+
+	public ReceiptBulkhead(final ReceiptProperties receiptProperties, final MeterRegistry meterRegistry) {
+		this.permits = new Semaphore(receiptProperties.bulkhead().maxConcurrent(), true);
+		this.maxWait = receiptProperties.bulkhead().maxWait();
+		this.retryAfter = receiptProperties.bulkhead().retryAfter();
+		this.acquiredTimer = waitTimer("acquired", meterRegistry);
+		this.rejectedTimer = waitTimer("rejected", meterRegistry);
+
+		Gauge.builder(QUEUE_GAUGE, waiting, AtomicInteger::get)
+			.description("Requests waiting for a permit to produce a receipt")
+			.register(meterRegistry);
+		Gauge.builder(AVAILABLE_GAUGE, permits, Semaphore::availablePermits)
+			.description("Permits available to produce receipts")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Produces a receipt while holding a permit. If no permit becomes available within the configured time, the
+	 * Retry-After header is set on the response and a problem with status 503 is thrown.
+	 *
+	 * @param  supplier the supplier producing the receipt
+	 * @param  response the response to set the Retry-After header on when the request is rejected
+	 * @return          the value of the supplier
+	 */
+	public <T> T execute(final Supplier<T> supplier, final HttpServletResponse response) {
+		if (!acquire(maxWait)) {
+			response.setHeader(RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, "Too many receipts are being produced, please try again later");
+		}
+
+		return executeWithPermit(supplier);
+	}
+
+	/**
+	 * Produces a receipt while holding a permit, waiting for a permit as long as it takes. Used by exports, whose receipts
+	 * should queue behind other receipts instead of failing when all permits are taken.
+	 *
+	 * @param  supplier the supplier producing the receipt
+	 * @return          the value of the supplier
+	 */
+	public <T> T executeWhenAvailable(final Supplier<T> supplier) {
+		if (!acquire(UNLIMITED_WAIT)) {
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, "Interrupted while waiting to produce a receipt");
+		}
+
+		return executeWithPermit(supplier);
+	}
+
+	private <T> T executeWithPermit(final Supplier<T> supplier) {
+		try {
+			return supplier.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	private boolean acquire(final Duration wait) {
+		final var started = System.nanoTime();
+		var acquired = false;
+		waiting.incrementAndGet();
+
+		try {
+			acquired = permits.tryAcquire(wait.toNanos(), NANOSECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			waiting.decrementAndGet();
+			(acquired ? acquiredTimer : rejectedTimer).record(Duration.ofNanos(System.nanoTime() - started));
+		}
+		return acquired;
+	}
+
+	private static Timer waitTimer(final String outcome, final MeterRegistry meterRegistry) {
+		return Timer.builder(WAIT_TIMER)
+			.description("Time spent waiting for a permit to produce a receipt")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,63 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.OffsetDateTime;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Converts between the position of a letter status change, i.e. the update time and id of the letter, and the opaque
+ * cursor handed to clients reading the status change feed. An empty cursor represents the position before the first
+ * change.
+ */
+public final class StatusChangeCursor {
+
+	/**
+	 * The position before the first change.
+	 */
+	public static final Position START = new Position(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, UTC), "");
+
+	private static final String SEPARATOR = "|";
+
+	private StatusChangeCursor() {}
+
+	/**
+	 * Encodes the provided position as a cursor.
+	 *
+	 * @param  position the position of the last change read
+	 * @return          an opaque cursor pointing at the changes following the position
+	 */
+	public static String encode(final Position position) {
+		return CursorCodec.encode(position.updated() + SEPARATOR + position.id());
+	}
+
+	/**
+	 * Decodes the provided cursor to a position. If the cursor is empty, the position before the first change is
+	 * returned.
+	 *
+	 * @param  cursor the cursor to decode
+	 * @return        the position the cursor points at
+	 */
+	public static Position decode(final String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return START;
+		}
+
+		return CursorCodec.decode(cursor, value -> {
+			final var separatorIndex = value.indexOf(SEPARATOR);
+			if (separatorIndex < 0) {
+				throw new IllegalArgumentException("Missing separator");
+			}
+
+			return new Position(OffsetDateTime.parse(value.substring(0, separatorIndex)), value.substring(separatorIndex + 1));
+		});
+	}
+
+	/**
+	 * Position of a letter status change in the feed.
+	 *
+	 * @param updated the time the letter was last updated
+	 * @param id      the id of the letter
+	 */
+	public record Position(OffsetDateTime updated, String id) {
+	}
+}
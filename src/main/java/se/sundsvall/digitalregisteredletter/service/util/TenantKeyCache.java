@@ -0,0 +1,72 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import se.sundsvall.digitalregisteredletter.configuration.TenantKeyCacheProperties;
+
+/**
+ * Bounded in-memory cache of decrypted tenant keys. Entries are identified by tenant id and the time the tenant was last
+ * modified, so that a key changed by another instance never resolves to a stale value, and are evicted when their time
+ * to live has passed. When the cache is full, the least recently used entry is evicted.
+ */
+@Component
+public class TenantKeyCache {
+
+	private final Map<String, CacheEntry> entries;
+	private final TenantKeyCacheProperties properties;
+
+	public TenantKeyCache(final TenantKeyCacheProperties properties) {
+		this.properties = properties;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+				return size() > properties.maxSize();
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached decrypted key for the tenant, or decrypts and caches it if no valid entry exists. The key is
+	 * decrypted outside the lock of the cache, hence a slow decryption never blocks lookups for other tenants.
+	 *
+	 * @param  tenantId  id of the tenant owning the key
+	 * @param  modified  the time the tenant was last modified, which changes whenever the key is changed
+	 * @param  decrypter supplier that decrypts the key when it is not present in the cache
+	 * @return           the decrypted tenant key
+	 */
+	public String get(final String tenantId, final OffsetDateTime modified, final Supplier<String> decrypter) {
+		final var now = Instant.now();
+
+		synchronized (entries) {
+			final var entry = entries.get(tenantId);
+			if (entry != null && Objects.equals(entry.modified(), modified) && entry.expires().isAfter(now)) {
+				return entry.value();
+			}
+		}
+
+		final var value = decrypter.get();
+		synchronized (entries) {
+			entries.put(tenantId, new CacheEntry(modified, value, now.plus(properties.timeToLive())));
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the cached key belonging to the tenant.
+	 *
+	 * @param tenantId id of the tenant to remove the cached key for
+	 */
+	public void invalidate(final String tenantId) {
+		synchronized (entries) {
+			entries.remove(tenantId);
+		}
+	}
+
+	private record CacheEntry(OffsetDateTime modified, String value, Instant expires) {
+	}
+}
@@ -0,0 +1,26 @@
+alter table if exists attachment_content
+    add column if not exists hash varchar(64),
+    add column if not exists reference_count integer not null default 0;
+
+update attachment_content
+set hash = sha2(content, 256);
+
+-- Point attachments with identical content to one single copy of the content
+update attachment a
+    join attachment_content c on c.id = a.content_id
+    join (select hash, min(id) as id from attachment_content group by hash) k on k.hash = c.hash
+set a.content_id = k.id;
+
+delete c
+from attachment_content c
+         left join attachment a on a.content_id = c.id
+where a.id is null;
+
+update attachment_content c
+set reference_count = (select count(*) from attachment a where a.content_id = c.id);
+
+alter table if exists attachment_content
+    modify column hash varchar(64) not null;
+
+alter table if exists attachment_content
+    add constraint uk_attachment_content_hash unique (hash);
@@ -0,0 +1,2 @@
+alter table if exists attachment_content
+    add column if not exists storage_key varchar(255);
@@ -0,0 +1,8 @@
+alter table if exists attachment_content
+    add column if not exists content_length bigint;
+
+update attachment_content
+set content_length = coalesce(length(content), 0);
+
+alter table if exists attachment_content
+    modify column content_length bigint not null;
@@ -0,0 +1,14 @@
+alter table if exists signing_information
+    add column if not exists version bigint not null default 0;
+
+create table if not exists letter_receipt
+(
+    letter_id                   varchar(36) not null,
+    signing_information_version bigint      not null,
+    content_id                  varchar(36) not null,
+    created                     datetime(6),
+    primary key (letter_id)
+) engine = InnoDB;
+
+alter table if exists letter_receipt
+    add constraint fk_letter_receipt_content foreign key if not exists (content_id) references attachment_content (id);
@@ -0,0 +1,8 @@
+create index if not exists idx_letter_municipality_id_deleted_created
+    on letter (municipality_id, deleted, created);
+
+create index if not exists idx_letter_municipality_id_deleted_status
+    on letter (municipality_id, deleted, status);
+
+create index if not exists idx_letter_municipality_id_deleted_updated
+    on letter (municipality_id, deleted, updated);
@@ -0,0 +1,4 @@
+-- Stored receipts count as references to their content
+update attachment_content c
+set reference_count = (select count(*) from attachment a where a.content_id = c.id)
+    + (select count(*) from letter_receipt r where r.content_id = c.id);
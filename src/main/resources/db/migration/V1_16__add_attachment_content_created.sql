@@ -0,0 +1,10 @@
+alter table if exists attachment_content
+    add column if not exists created datetime(6);
+
+-- Existing content gets the time of the migration, hence unreferenced content is removed once the grace period has passed
+update attachment_content
+set created = current_timestamp(6)
+where created is null;
+
+create index if not exists idx_attachment_content_reference_count_created
+    on attachment_content (reference_count, created);
@@ -0,0 +1,14 @@
+create table if not exists letter_outbox
+(
+    id                  varchar(36)  not null,
+    letter_id           varchar(36)  not null,
+    municipality_id     varchar(4)   not null,
+    organization_number varchar(12)  not null,
+    attempts            integer      not null,
+    created             datetime(6),
+    claimed_until       datetime(6),
+    claimed_by          varchar(255),
+    primary key (id),
+    index idx_letter_outbox_claimed_until (claimed_until),
+    constraint uk_letter_outbox_letter_id unique (letter_id)
+) engine = InnoDB;
@@ -0,0 +1,2 @@
+create index if not exists idx_letter_status_deleted_tenant_id
+    on letter (status, deleted, tenant_id);
@@ -0,0 +1,41 @@
+create table if not exists letter_batch
+(
+    id                  varchar(36) not null,
+    municipality_id     varchar(4)  not null,
+    organization_number varchar(12) not null,
+    letter_count        integer     not null,
+    created             datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+alter table if exists letter
+    add column if not exists batch_id varchar(36);
+
+alter table if exists letter
+    add constraint fk_letter_batch foreign key if not exists (batch_id) references letter_batch (id);
+
+create table if not exists attachment_content
+(
+    id      varchar(36) not null,
+    content longblob,
+    primary key (id)
+) engine = InnoDB;
+
+alter table if exists attachment
+    add column if not exists content_id varchar(36);
+
+-- Move existing content to the new table, reusing the attachment id as id for the content
+insert into attachment_content (id, content)
+select id, content
+from attachment
+where content is not null;
+
+update attachment
+set content_id = id
+where content is not null;
+
+alter table if exists attachment
+    drop column if exists content;
+
+alter table if exists attachment
+    add constraint fk_attachment_content foreign key if not exists (content_id) references attachment_content (id);
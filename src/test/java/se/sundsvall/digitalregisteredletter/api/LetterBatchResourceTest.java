@@ -0,0 +1,171 @@
+package se.sundsvall.digitalregisteredletter.api;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.problem.violations.Violation;
+import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.Application;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequestBuilder;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatch;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatchBuilder;
+import se.sundsvall.digitalregisteredletter.service.LetterBatchService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_PDF;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
+import static org.springframework.web.reactive.function.BodyInserters.fromMultipartData;
+import static se.sundsvall.TestDataFactory.createLetterRequest;
+
+@AutoConfigureWebTestClient
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+class LetterBatchResourceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String ORGANIZATION_NUMBER = "5591628136";
+
+	@MockitoBean
+	private LetterBatchService letterBatchServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@AfterEach
+	void verifyNoMoreInteractions() {
+		Mockito.verifyNoMoreInteractions(letterBatchServiceMock);
+	}
+
+	@Test
+	void sendLetterBatch_Accepted() {
+		final var batchId = UUID.randomUUID().toString();
+		final var letterBatch = createLetterBatch(batchId);
+
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("letterAttachments", "file-content").filename("test1.txt").contentType(APPLICATION_PDF);
+		multipartBodyBuilder.part("letter", createBulkLetterRequest());
+
+		when(letterBatchServiceMock.sendLetterBatch(eq(MUNICIPALITY_ID), eq(ORGANIZATION_NUMBER), any(), any())).thenReturn(letterBatch);
+
+		final var response = webTestClient.post()
+			.uri("/%s/%s/letters/batches".formatted(MUNICIPALITY_ID, ORGANIZATION_NUMBER))
+			.contentType(MULTIPART_FORM_DATA)
+			.header(Identifier.HEADER_NAME, "type=adAccount; test01user")
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().valueEquals("Location", "/%s/letters/batches/%s".formatted(MUNICIPALITY_ID, batchId))
+			.expectBody(LetterBatch.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).usingRecursiveComparison().ignoringFields("created").isEqualTo(letterBatch);
+		verify(letterBatchServiceMock).sendLetterBatch(eq(MUNICIPALITY_ID), eq(ORGANIZATION_NUMBER), any(), any());
+	}
+
+	@Test
+	void sendLetterBatch_emptyRequestBody_badRequest() {
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("letterAttachments", "file-content").filename("test1.txt").contentType(APPLICATION_PDF);
+		multipartBodyBuilder.part("letter", BulkLetterRequestBuilder.create().withPartyIds(List.of("invalid")).build());
+
+		final var response = webTestClient.post()
+			.uri("/%s/%s/letters/batches".formatted(MUNICIPALITY_ID, ORGANIZATION_NUMBER))
+			.contentType(MULTIPART_FORM_DATA)
+			.header(Identifier.HEADER_NAME, "type=adAccount; test01user")
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(
+				tuple("body", "must not be blank"),
+				tuple("contentType", "must be one of: [text/plain, text/html]"),
+				tuple("organization", "must not be null"),
+				tuple("partyIds[0]", "not a valid UUID"),
+				tuple("subject", "must not be blank"),
+				tuple("supportInfo", "must not be null"));
+	}
+
+	@Test
+	void getLetterBatch() {
+		final var batchId = UUID.randomUUID().toString();
+		final var letterBatch = createLetterBatch(batchId);
+
+		when(letterBatchServiceMock.getLetterBatch(MUNICIPALITY_ID, batchId)).thenReturn(letterBatch);
+
+		final var response = webTestClient.get()
+			.uri("/%s/letters/batches/%s".formatted(MUNICIPALITY_ID, batchId))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LetterBatch.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).usingRecursiveComparison().ignoringFields("created").isEqualTo(letterBatch);
+		verify(letterBatchServiceMock).getLetterBatch(MUNICIPALITY_ID, batchId);
+	}
+
+	@Test
+	void getLetterBatch_invalidBatchId_badRequest() {
+		final var response = webTestClient.get()
+			.uri("/%s/letters/batches/%s".formatted(MUNICIPALITY_ID, "invalid"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("getLetterBatch.batchId", "not a valid UUID"));
+	}
+
+	private static BulkLetterRequest createBulkLetterRequest() {
+		final var letterRequest = createLetterRequest();
+		return BulkLetterRequestBuilder.create()
+			.withPartyIds(List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()))
+			.withSubject(letterRequest.subject())
+			.withBody(letterRequest.body())
+			.withContentType(letterRequest.contentType())
+			.withSupportInfo(letterRequest.supportInfo())
+			.withOrganization(letterRequest.organization())
+			.build();
+	}
+
+	private static LetterBatch createLetterBatch(final String batchId) {
+		return LetterBatchBuilder.create()
+			.withId(batchId)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withOrganizationNumber(ORGANIZATION_NUMBER)
+			.withLetterCount(2)
+			.withStatuses(Map.of("NEW", 2L))
+			.withCreated(OffsetDateTime.now())
+			.build();
+	}
+}
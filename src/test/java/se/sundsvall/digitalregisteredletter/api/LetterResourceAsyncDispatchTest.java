@@ -0,0 +1,75 @@
+package se.sundsvall.digitalregisteredletter.api;
+
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.Application;
+import se.sundsvall.digitalregisteredletter.api.model.Letter;
+import se.sundsvall.digitalregisteredletter.service.LetterService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_PDF;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
+import static org.springframework.web.reactive.function.BodyInserters.fromMultipartData;
+import static se.sundsvall.TestDataFactory.createLetter;
+import static se.sundsvall.TestDataFactory.createLetterRequest;
+
+@AutoConfigureWebTestClient
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT, properties = "scheduler.dispatch-letters.enabled=true")
+@ActiveProfiles("junit")
+class LetterResourceAsyncDispatchTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@MockitoBean
+	private LetterService letterServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@AfterEach
+	void verifyNoMoreInteractions() {
+		Mockito.verifyNoMoreInteractions(letterServiceMock);
+	}
+
+	@Test
+	void sendLetter_Accepted() {
+		final var organizationNumber = "5591628136";
+		final var letterId = UUID.randomUUID().toString();
+		final var letterResponse = createLetter(letterId);
+
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("letterAttachments", "file-content").filename("test1.txt").contentType(APPLICATION_PDF);
+		multipartBodyBuilder.part("letter", createLetterRequest());
+
+		when(letterServiceMock.queueLetter(any(), any(), any(), any())).thenReturn(letterResponse);
+
+		final var response = webTestClient.post()
+			.uri("/%s/%s/letters".formatted(MUNICIPALITY_ID, organizationNumber))
+			.contentType(MULTIPART_FORM_DATA)
+			.header(Identifier.HEADER_NAME, "type=adAccount; test01user")
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().valueEquals("Location", "/%s/%s/letters/%s".formatted(MUNICIPALITY_ID, organizationNumber, letterId))
+			.expectBody(Letter.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).usingRecursiveComparison().isEqualTo(letterResponse);
+		verify(letterServiceMock).queueLetter(any(), any(), any(), any());
+	}
+}
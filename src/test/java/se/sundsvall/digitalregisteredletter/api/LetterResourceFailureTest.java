@@ -1,5 +1,6 @@
 package se.sundsvall.digitalregisteredletter.api;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
@@ -102,6 +103,38 @@ class LetterResourceFailureTest {
 			.containsExactly(tuple("getLetters.municipalityId", "not a valid municipality ID"));
 	}
 
+	@Test
+	void getLetters_unsortableProperty_badRequest() {
+		final var response = webTestClient.get()
+			.uri("/%s/letters?sort=subject,desc".formatted(MUNICIPALITY_ID))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("getLetters.pageable", "sorting is only allowed on created, status and updated"));
+	}
+
+	@Test
+	void exportLetterReceipts_badMunicipalityId_badRequest() {
+		final var response = webTestClient.get()
+			.uri("/%s/letters/receipts".formatted("bad-municipality-id"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("exportLetterReceipts.municipalityId", "not a valid municipality ID"));
+	}
+
 	@Test
 	void getSigningInfo_badMunicipalityId_badRequest() {
 		final var letterId = "1234567890";
@@ -260,7 +293,7 @@ class LetterResourceFailureTest {
 
 		doThrow(Problem.valueOf(NOT_FOUND, "Entity not found"))
 			.when(letterServiceMock)
-			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 
 		final var response = webTestClient.get()
 			.uri("/%s/letters/%s/attachments/%s".formatted(MUNICIPALITY_ID, letterId, attachmentId))
@@ -273,7 +306,7 @@ class LetterResourceFailureTest {
 		assertThat(response).isNotNull();
 		assertThat(response.getTitle()).contains("Not Found");
 
-		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 	}
 
 	@Test
@@ -283,7 +316,7 @@ class LetterResourceFailureTest {
 
 		doThrow(Problem.valueOf(INTERNAL_SERVER_ERROR, "Failed to stream content for attachment with id '%s'".formatted(attachmentId)))
 			.when(letterServiceMock)
-			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 		final var response = webTestClient.get()
 			.uri("/%s/letters/%s/attachments/%s".formatted(MUNICIPALITY_ID, letterId, attachmentId))
 			.accept(APPLICATION_PDF)
@@ -297,7 +330,7 @@ class LetterResourceFailureTest {
 		assertThat(response.getTitle()).isEqualTo("Internal Server Error");
 		assertThat(response.getDetail()).contains("Failed to stream content");
 
-		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 	}
 
 	@ParameterizedTest
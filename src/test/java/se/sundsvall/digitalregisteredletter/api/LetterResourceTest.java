@@ -1,5 +1,6 @@
 package se.sundsvall.digitalregisteredletter.api;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.Letters;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfo;
 import se.sundsvall.digitalregisteredletter.service.LetterService;
+import se.sundsvall.digitalregisteredletter.service.ReceiptExportService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,12 +52,15 @@ class LetterResourceTest {
 	@MockitoBean
 	private LetterService letterServiceMock;
 
+	@MockitoBean
+	private ReceiptExportService receiptExportServiceMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@AfterEach
 	void verifyNoMoreInteractions() {
-		Mockito.verifyNoMoreInteractions(letterServiceMock);
+		Mockito.verifyNoMoreInteractions(letterServiceMock, receiptExportServiceMock);
 	}
 
 	@Test
@@ -83,6 +88,28 @@ class LetterResourceTest {
 		verify(letterServiceMock).getLetters(MUNICIPALITY_ID, letterFilter, pageable);
 	}
 
+	@Test
+	void getLettersByCursor_OK() {
+		final var letterResponses = createLetters();
+		final var letterFilter = LetterFilterBuilder.create().build();
+
+		when(letterServiceMock.getLettersByCursor(MUNICIPALITY_ID, letterFilter, "cursor", 10)).thenReturn(letterResponses);
+
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/%s/letters".formatted(MUNICIPALITY_ID))
+				.queryParam("cursor", "cursor")
+				.queryParam("size", 10)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(Letters.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).usingRecursiveComparison().isEqualTo(letterResponses);
+		verify(letterServiceMock).getLettersByCursor(MUNICIPALITY_ID, letterFilter, "cursor", 10);
+	}
+
 	@Test
 	void getLetter_OK() {
 		final var letterResponse = createLetter();
@@ -178,7 +205,7 @@ class LetterResourceTest {
 			response.getOutputStream().write(bytes);
 			return null;
 		}).when(letterServiceMock)
-			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 
 		final var responseBytes = webTestClient.get()
 			.uri("/%s/letters/%s/attachments/%s".formatted(MUNICIPALITY_ID, letterId, attachmentId))
@@ -192,7 +219,7 @@ class LetterResourceTest {
 
 		assertThat(responseBytes).isNotNull().isEqualTo(bytes);
 
-		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 	}
 
 	@Test
@@ -206,7 +233,7 @@ class LetterResourceTest {
 			response.addHeader("Content-Disposition", "attachment; filename=\"some.file\"");
 			return null;
 		}).when(letterServiceMock)
-			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+			.readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 
 		webTestClient.get()
 			.uri("/%s/letters/%s/attachments/%s".formatted(MUNICIPALITY_ID, letterId, attachmentId))
@@ -214,7 +241,7 @@ class LetterResourceTest {
 			.expectStatus().isOk()
 			.expectHeader().contentType(APPLICATION_OCTET_STREAM);
 
-		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletResponse.class));
+		verify(letterServiceMock).readLetterAttachment(eq(MUNICIPALITY_ID), eq(letterId), eq(attachmentId), any(HttpServletRequest.class), any(HttpServletResponse.class));
 	}
 
 	@Test
@@ -238,4 +265,27 @@ class LetterResourceTest {
 		verify(letterServiceMock).readLetterReceipt(eq(MUNICIPALITY_ID), eq(letterId), any(HttpServletResponse.class));
 
 	}
+
+	@Test
+	void exportLetterReceipts() {
+		final var letterFilter = LetterFilterBuilder.create()
+			.withUsername("joe01doe")
+			.build();
+
+		doAnswer(invocation -> {
+			final var response = (HttpServletResponse) invocation.getArgument(2);
+			response.addHeader("Content-Type", "application/zip");
+			response.getOutputStream().write("some-random-content".getBytes());
+			return null;
+		}).when(receiptExportServiceMock)
+			.exportReceipts(eq(MUNICIPALITY_ID), eq(letterFilter), any(HttpServletResponse.class));
+
+		webTestClient.get()
+			.uri("/%s/letters/receipts?username=joe01doe".formatted(MUNICIPALITY_ID))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType("application/zip");
+
+		verify(receiptExportServiceMock).exportReceipts(eq(MUNICIPALITY_ID), eq(letterFilter), any(HttpServletResponse.class));
+	}
 }
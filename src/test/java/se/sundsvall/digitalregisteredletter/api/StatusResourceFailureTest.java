@@ -16,6 +16,7 @@ import se.sundsvall.dept44.problem.violations.Violation;
 import se.sundsvall.digitalregisteredletter.Application;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatusRequest;
 import se.sundsvall.digitalregisteredletter.service.LetterService;
+import se.sundsvall.digitalregisteredletter.service.LetterStatusFeedService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
@@ -33,12 +34,15 @@ class StatusResourceFailureTest {
 	@MockitoBean
 	private LetterService letterServiceMock;
 
+	@MockitoBean
+	private LetterStatusFeedService letterStatusFeedServiceMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@AfterEach
 	void noMoreInteractions() {
-		verifyNoMoreInteractions(letterServiceMock);
+		verifyNoMoreInteractions(letterServiceMock, letterStatusFeedServiceMock);
 	}
 
 	@Test
@@ -101,4 +105,41 @@ class StatusResourceFailureTest {
 			.extracting(Violation::field, Violation::message)
 			.containsExactly(tuple("letterIds", "must not be empty"));
 	}
+
+	@Test
+	void getLetterStatusChanges_badMunicipalityId_badRequest() {
+		final var response = webTestClient.get()
+			.uri("/%s/status/letters/changes".formatted("bad-municipality-id"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("getLetterStatusChanges.municipalityId", "not a valid municipality ID"));
+	}
+
+	@Test
+	void getLetterStatusChanges_invalidLimitAndWait_badRequest() {
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/%s/status/letters/changes".formatted(MUNICIPALITY_ID))
+				.queryParam("limit", 1001)
+				.queryParam("wait", -1)
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(
+				tuple("getLetterStatusChanges.limit", "must be less than or equal to 1000"),
+				tuple("getLetterStatusChanges.wait", "must be greater than or equal to 0"));
+	}
 }
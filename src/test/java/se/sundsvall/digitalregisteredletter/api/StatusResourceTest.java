@@ -1,6 +1,8 @@
 package se.sundsvall.digitalregisteredletter.api;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,8 +13,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import se.sundsvall.digitalregisteredletter.Application;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
+import se.sundsvall.digitalregisteredletter.api.model.LetterStatusChanges;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatusRequest;
 import se.sundsvall.digitalregisteredletter.service.LetterService;
+import se.sundsvall.digitalregisteredletter.service.LetterStatusFeedService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -31,12 +35,15 @@ class StatusResourceTest {
 	@MockitoBean
 	private LetterService letterServiceMock;
 
+	@MockitoBean
+	private LetterStatusFeedService letterStatusFeedServiceMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@AfterEach
 	void noMoreInteractions() {
-		verifyNoMoreInteractions(letterServiceMock);
+		verifyNoMoreInteractions(letterServiceMock, letterStatusFeedServiceMock);
 	}
 
 	@Test
@@ -66,4 +73,46 @@ class StatusResourceTest {
 		assertThat(response).usingRecursiveComparison().isEqualTo(expected);
 		verify(letterServiceMock).getLetterStatuses(MUNICIPALITY_ID, ids);
 	}
+
+	@Test
+	void getLetterStatusChanges_OK() {
+		final var expected = new LetterStatusChanges(List.of(
+			new LetterStatus("11111111-1111-1111-1111-111111111111", "SENT", "PENDING"),
+			new LetterStatus("22222222-2222-2222-2222-222222222222", "SIGNED", "COMPLETED")), "next-cursor");
+
+		when(letterStatusFeedServiceMock.getLetterStatusChanges(MUNICIPALITY_ID, "cursor", 50, Duration.ofSeconds(10))).thenReturn(CompletableFuture.completedFuture(expected));
+
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/%s/status/letters/changes".formatted(MUNICIPALITY_ID))
+				.queryParam("cursor", "cursor")
+				.queryParam("limit", 50)
+				.queryParam("wait", 10)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LetterStatusChanges.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isEqualTo(expected);
+		verify(letterStatusFeedServiceMock).getLetterStatusChanges(MUNICIPALITY_ID, "cursor", 50, Duration.ofSeconds(10));
+	}
+
+	@Test
+	void getLetterStatusChangesWithDefaults_OK() {
+		final var expected = new LetterStatusChanges(List.of(), "next-cursor");
+
+		when(letterStatusFeedServiceMock.getLetterStatusChanges(MUNICIPALITY_ID, null, 100, Duration.ZERO)).thenReturn(CompletableFuture.completedFuture(expected));
+
+		final var response = webTestClient.get()
+			.uri("/%s/status/letters/changes".formatted(MUNICIPALITY_ID))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LetterStatusChanges.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isEqualTo(expected);
+		verify(letterStatusFeedServiceMock).getLetterStatusChanges(MUNICIPALITY_ID, null, 100, Duration.ZERO);
+	}
 }
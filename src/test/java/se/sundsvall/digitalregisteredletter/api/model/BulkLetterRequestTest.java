@@ -0,0 +1,60 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkLetterRequestTest {
+	private static final List<String> PARTY_IDS = List.of("partyId1", "partyId2");
+	private static final String SUBJECT = "subject";
+	private static final String CONTENT_TYPE = "contentType";
+	private static final String BODY = "body";
+	private static final SupportInfo SUPPORT_INFO = SupportInfoBuilder.create()
+		.withSupportText("supportText")
+		.withContactInformationUrl("contactInformationUrl")
+		.withContactInformationEmail("contactInformationEmail")
+		.withContactInformationPhoneNumber("contactInformationPhoneNumber")
+		.build();
+	private static final Organization ORGANIZATION = OrganizationBuilder.create()
+		.withName("name")
+		.withNumber(12345L)
+		.build();
+
+	@Test
+	void constructorTest() {
+		final var bean = new BulkLetterRequest(PARTY_IDS, SUBJECT, SUPPORT_INFO, ORGANIZATION, CONTENT_TYPE, BODY);
+
+		assertBean(bean);
+	}
+
+	@Test
+	void builderTest() {
+		final var bean = BulkLetterRequestBuilder.create()
+			.withBody(BODY)
+			.withContentType(CONTENT_TYPE)
+			.withOrganization(ORGANIZATION)
+			.withPartyIds(PARTY_IDS)
+			.withSubject(SUBJECT)
+			.withSupportInfo(SUPPORT_INFO)
+			.build();
+
+		assertBean(bean);
+	}
+
+	@Test
+	void noDirtOnEmptyBean() {
+		assertThat(new BulkLetterRequest(null, null, null, null, null, null)).hasAllNullFieldsOrProperties();
+		assertThat(BulkLetterRequestBuilder.create().build()).hasAllNullFieldsOrProperties();
+	}
+
+	private static void assertBean(BulkLetterRequest bean) {
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.partyIds()).isEqualTo(PARTY_IDS);
+		assertThat(bean.subject()).isEqualTo(SUBJECT);
+		assertThat(bean.contentType()).isEqualTo(CONTENT_TYPE);
+		assertThat(bean.body()).isEqualTo(BODY);
+		assertThat(bean.supportInfo()).usingRecursiveComparison().isEqualTo(SUPPORT_INFO);
+		assertThat(bean.organization()).usingRecursiveComparison().isEqualTo(ORGANIZATION);
+	}
+}
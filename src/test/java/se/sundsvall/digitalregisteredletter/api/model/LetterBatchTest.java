@@ -0,0 +1,53 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LetterBatchTest {
+	private static final String ID = "id";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String ORGANIZATION_NUMBER = "5591628136";
+	private static final Integer LETTER_COUNT = 3;
+	private static final Map<String, Long> STATUSES = Map.of("NEW", 2L, "SENT", 1L);
+	private static final OffsetDateTime CREATED = OffsetDateTime.now();
+
+	@Test
+	void constructorTest() {
+		final var bean = new LetterBatch(ID, MUNICIPALITY_ID, ORGANIZATION_NUMBER, LETTER_COUNT, STATUSES, CREATED);
+
+		assertBean(bean);
+	}
+
+	@Test
+	void builderTest() {
+		final var bean = LetterBatchBuilder.create()
+			.withId(ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withOrganizationNumber(ORGANIZATION_NUMBER)
+			.withLetterCount(LETTER_COUNT)
+			.withStatuses(STATUSES)
+			.withCreated(CREATED)
+			.build();
+
+		assertBean(bean);
+	}
+
+	@Test
+	void noDirtOnEmptyBean() {
+		assertThat(new LetterBatch(null, null, null, null, null, null)).hasAllNullFieldsOrProperties();
+		assertThat(LetterBatchBuilder.create().build()).hasAllNullFieldsOrProperties();
+	}
+
+	private static void assertBean(LetterBatch bean) {
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.id()).isEqualTo(ID);
+		assertThat(bean.municipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(bean.organizationNumber()).isEqualTo(ORGANIZATION_NUMBER);
+		assertThat(bean.letterCount()).isEqualTo(LETTER_COUNT);
+		assertThat(bean.statuses()).isEqualTo(STATUSES);
+		assertThat(bean.created()).isEqualTo(CREATED);
+	}
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.digitalregisteredletter.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LetterStatusChangesTest {
+	private static final List<LetterStatus> LETTER_STATUSES = List.of(new LetterStatus("letterId", "SENT", "PENDING"));
+	private static final String CURSOR = "cursor";
+
+	@Test
+	void constructorTest() {
+		final var bean = new LetterStatusChanges(LETTER_STATUSES, CURSOR);
+
+		assertBean(bean);
+	}
+
+	@Test
+	void builderTest() {
+		final var bean = LetterStatusChangesBuilder.create()
+			.withLetterStatuses(LETTER_STATUSES)
+			.withCursor(CURSOR)
+			.build();
+
+		assertBean(bean);
+	}
+
+	@Test
+	void noDirtOnEmptyBean() {
+		assertThat(new LetterStatusChanges(null, null)).hasAllNullFieldsOrProperties();
+		assertThat(LetterStatusChangesBuilder.create().build()).hasAllNullFieldsOrProperties();
+	}
+
+	private static void assertBean(final LetterStatusChanges letterStatusChanges) {
+		assertThat(letterStatusChanges).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(letterStatusChanges.letterStatuses()).isEqualTo(LETTER_STATUSES);
+		assertThat(letterStatusChanges.cursor()).isEqualTo(CURSOR);
+	}
+}
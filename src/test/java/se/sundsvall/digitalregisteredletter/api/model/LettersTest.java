@@ -11,10 +11,11 @@ class LettersTest {
 	private static final PagingAndSortingMetaData META_DATA = PagingAndSortingMetaData.create()
 		.withPage(1)
 		.withCount(1);
+	private static final String NEXT = "next-cursor";
 
 	@Test
 	void constructorTest() {
-		final var bean = new Letters(META_DATA, LETTER_LIST);
+		final var bean = new Letters(META_DATA, LETTER_LIST, NEXT);
 
 		assertBean(bean);
 	}
@@ -24,6 +25,7 @@ class LettersTest {
 		final var bean = LettersBuilder.create()
 			.withLetters(LETTER_LIST)
 			.withMetaData(META_DATA)
+			.withNext(NEXT)
 			.build();
 
 		assertBean(bean);
@@ -31,7 +33,7 @@ class LettersTest {
 
 	@Test
 	void noDirtOnEmptyBean() {
-		assertThat(new Letters(null, null)).hasAllNullFieldsOrProperties();
+		assertThat(new Letters(null, null, null)).hasAllNullFieldsOrProperties();
 		assertThat(LettersBuilder.create().build()).hasAllNullFieldsOrProperties();
 	}
 
@@ -39,5 +41,6 @@ class LettersTest {
 		assertThat(letters).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(letters.metaData()).isEqualTo(META_DATA);
 		assertThat(letters.letters()).isEqualTo(LETTER_LIST);
+		assertThat(letters.next()).isEqualTo(NEXT);
 	}
 }
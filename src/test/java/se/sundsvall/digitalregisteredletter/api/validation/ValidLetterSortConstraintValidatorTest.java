@@ -0,0 +1,56 @@
+package se.sundsvall.digitalregisteredletter.api.validation;
+
+import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+@ExtendWith(MockitoExtension.class)
+class ValidLetterSortConstraintValidatorTest {
+
+	@Mock
+	private ConstraintValidatorContext context;
+
+	@InjectMocks
+	private ValidLetterSortConstraintValidator validLetterSortConstraintValidator;
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"created", "status", "updated"
+	})
+	void sortableProperty(final String property) {
+		assertThat(validLetterSortConstraintValidator.isValid(PageRequest.of(0, 10, Sort.by(DESC, property)), context)).isTrue();
+	}
+
+	@Test
+	void severalSortableProperties() {
+		assertThat(validLetterSortConstraintValidator.isValid(PageRequest.of(0, 10, Sort.by("status", "created")), context)).isTrue();
+	}
+
+	@Test
+	void unsorted() {
+		assertThat(validLetterSortConstraintValidator.isValid(PageRequest.of(0, 10), context)).isTrue();
+	}
+
+	@Test
+	void nullPageable() {
+		assertThat(validLetterSortConstraintValidator.isValid(null, context)).isTrue();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"subject", "body", "id", "partyId"
+	})
+	void unsortableProperty(final String property) {
+		assertThat(validLetterSortConstraintValidator.isValid(PageRequest.of(0, 10, Sort.by("created", property)), context)).isFalse();
+	}
+}
@@ -0,0 +1,46 @@
+package se.sundsvall.digitalregisteredletter.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.digitalregisteredletter.Application;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.AUTO;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.NEVER;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class ReceiptPropertiesTest {
+
+	@Autowired
+	private ReceiptProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.maxMainMemory()).isEqualTo(DataSize.ofMegabytes(8));
+		assertThat(properties.compression().policy()).isEqualTo(AUTO);
+		assertThat(properties.compression().minSize()).isEqualTo(DataSize.ofMegabytes(1));
+		assertThat(properties.compression().minPages()).isEqualTo(20);
+		assertThat(properties.compression().tenants()).isNullOrEmpty();
+		assertThat(properties.bulkhead().maxConcurrent()).isEqualTo(4);
+		assertThat(properties.bulkhead().maxWait()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(properties.bulkhead().retryAfter()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.export().concurrency()).isEqualTo(4);
+		assertThat(properties.export().pageSize()).isEqualTo(100);
+	}
+
+	@Test
+	void testCompressionForTenant() {
+		final var compression = new Compression(AUTO, DataSize.ofMegabytes(1), 20, Map.of("5591628136", NEVER));
+
+		assertThat(compression.forTenant("5591628136")).isEqualTo(new Compression(NEVER, DataSize.ofMegabytes(1), 20, null));
+		assertThat(compression.forTenant("2120002411")).isEqualTo(new Compression(AUTO, DataSize.ofMegabytes(1), 20, null));
+		assertThat(compression.forTenant(null)).isEqualTo(new Compression(AUTO, DataSize.ofMegabytes(1), 20, null));
+	}
+}
@@ -0,0 +1,25 @@
+package se.sundsvall.digitalregisteredletter.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class StatusFeedPropertiesTest {
+
+	@Autowired
+	private StatusFeedProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.settleTime()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(properties.pollInterval()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(properties.maxWait()).isEqualTo(Duration.ofSeconds(20));
+	}
+}
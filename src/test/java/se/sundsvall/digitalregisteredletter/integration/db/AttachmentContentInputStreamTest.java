@@ -0,0 +1,91 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentContentInputStreamTest {
+
+	private static final String CONTENT_ID = "contentId";
+
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(attachmentContentRepositoryMock);
+	}
+
+	@Test
+	void readInChunks() throws IOException {
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 1, 5)).thenReturn("test ".getBytes());
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 6, 5)).thenReturn("conte".getBytes());
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 11, 2)).thenReturn("nt".getBytes());
+
+		try (final var inputStream = new AttachmentContentInputStream(attachmentContentRepositoryMock, CONTENT_ID, 0, 12, 5)) {
+			assertThat(inputStream.readAllBytes()).isEqualTo("test content".getBytes());
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 1, 5);
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 6, 5);
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 11, 2);
+	}
+
+	@Test
+	void readSingleBytesOfRange() throws IOException {
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 6, 2)).thenReturn("co".getBytes());
+
+		try (final var inputStream = new AttachmentContentInputStream(attachmentContentRepositoryMock, CONTENT_ID, 5, 2, 5)) {
+			assertThat(inputStream.read()).isEqualTo('c');
+			assertThat(inputStream.available()).isOne();
+			assertThat(inputStream.read()).isEqualTo('o');
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 6, 2);
+	}
+
+	@Test
+	void readEmptyRange() throws IOException {
+		try (final var inputStream = new AttachmentContentInputStream(attachmentContentRepositoryMock, CONTENT_ID, 0, 0, 5)) {
+			assertThat(inputStream.read(new byte[4], 0, 4)).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	void readWhenContentEndsBeforeRange() {
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 1, 5)).thenReturn("test".getBytes());
+		when(attachmentContentRepositoryMock.findContentRangeById(CONTENT_ID, 5, 1)).thenReturn(new byte[0]);
+
+		final var inputStream = new AttachmentContentInputStream(attachmentContentRepositoryMock, CONTENT_ID, 0, 5, 5);
+
+		assertThatThrownBy(inputStream::readAllBytes)
+			.isInstanceOf(IOException.class)
+			.hasMessage("Content with id 'contentId' ended 1 bytes before the requested range");
+
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 1, 5);
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 5, 1);
+	}
+
+	@Test
+	void readWhenContentIsNotFound() {
+		final var inputStream = new AttachmentContentInputStream(attachmentContentRepositoryMock, CONTENT_ID, 0, 5, 5);
+
+		assertThatThrownBy(inputStream::read)
+			.isInstanceOf(IOException.class)
+			.hasMessage("Content with id 'contentId' ended 5 bytes before the requested range");
+
+		verify(attachmentContentRepositoryMock).findContentRangeById(CONTENT_ID, 1, 5);
+	}
+}
@@ -0,0 +1,122 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class AttachmentContentRepositoryTest {
+
+	private static final String CONTENT_ID = "f4666ea6-0324-490f-8e27-2b704e580a0a";
+	private static final String CONTENT_HASH = "2b200a668f372eb923099cbdb250d0aa340de0163088de1e23482b1a4c50ae9b";
+
+	@Autowired
+	private AttachmentContentRepository attachmentContentRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void findIdByHash() {
+		assertThat(attachmentContentRepository.findIdByHash(CONTENT_HASH)).hasValue(CONTENT_ID);
+		assertThat(attachmentContentRepository.findIdByHash("unknown")).isEmpty();
+	}
+
+	@Test
+	void updateHash() {
+		final var contentId = attachmentContentRepository.saveAndFlush(AttachmentContentEntity.create().withHash("provisional")).getId();
+
+		attachmentContentRepository.updateHash(contentId, "computed");
+
+		assertThat(attachmentContentRepository.findIdByHash("computed")).hasValue(contentId);
+		assertThat(attachmentContentRepository.findIdByHash("provisional")).isEmpty();
+	}
+
+	@Test
+	void updateHashToExistingHash() {
+		final var contentId = attachmentContentRepository.saveAndFlush(AttachmentContentEntity.create().withHash("provisional")).getId();
+
+		assertThatThrownBy(() -> attachmentContentRepository.updateHash(contentId, CONTENT_HASH))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void incrementReferenceCount() {
+		attachmentContentRepository.incrementReferenceCount(CONTENT_ID, 3);
+		entityManager.clear();
+
+		assertThat(attachmentContentRepository.findById(CONTENT_ID)).hasValueSatisfying(attachmentContent -> assertThat(attachmentContent.getReferenceCount()).isEqualTo(9));
+	}
+
+	@Test
+	void findStorageKeyById() {
+		assertThat(attachmentContentRepository.findStorageKeyById(CONTENT_ID)).isEmpty();
+
+		attachmentContentRepository.findById(CONTENT_ID).ifPresent(attachmentContent -> attachmentContentRepository.saveAndFlush(attachmentContent.withStorageKey(CONTENT_HASH).withContent(null)));
+
+		assertThat(attachmentContentRepository.findStorageKeyById(CONTENT_ID)).hasValue(CONTENT_HASH);
+	}
+
+	@Test
+	void findContentRangeById() {
+		assertThat(attachmentContentRepository.findContentRangeById(CONTENT_ID, 1, 4)).isEqualTo("dGVz".getBytes());
+		assertThat(attachmentContentRepository.findContentRangeById(CONTENT_ID, 5, 10)).isEqualTo("dA==".getBytes());
+		assertThat(attachmentContentRepository.findContentRangeById("unknown", 1, 4)).isNull();
+	}
+
+	@Test
+	void deleteIfUnreferenced() {
+		final var unreferencedContentId = attachmentContentRepository.saveAndFlush(AttachmentContentEntity.create().withHash("unreferenced")).getId();
+		entityManager.clear();
+
+		assertThat(attachmentContentRepository.deleteIfUnreferenced(CONTENT_ID)).isZero();
+		assertThat(attachmentContentRepository.deleteIfUnreferenced(unreferencedContentId)).isOne();
+		assertThat(attachmentContentRepository.findById(CONTENT_ID)).isPresent();
+		assertThat(attachmentContentRepository.findById(unreferencedContentId)).isEmpty();
+	}
+
+	@Test
+	void findIdsOfContentWithoutStorageKey() {
+		assertThat(attachmentContentRepository.findIdsOfContentWithoutStorageKey(Limit.of(10))).containsExactly(CONTENT_ID);
+
+		attachmentContentRepository.findById(CONTENT_ID).ifPresent(attachmentContent -> attachmentContentRepository.saveAndFlush(attachmentContent.withStorageKey(CONTENT_HASH).withContent(null)));
+
+		assertThat(attachmentContentRepository.findIdsOfContentWithoutStorageKey(Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void findIdsOfUnreferencedContentCreatedBefore() {
+		final var unreferencedContentId = attachmentContentRepository.saveAndFlush(AttachmentContentEntity.create().withHash("unreferenced")).getId();
+		attachmentContentRepository.incrementReferenceCount(CONTENT_ID, -6);
+		entityManager.clear();
+
+		assertThat(attachmentContentRepository.findIdsOfUnreferencedContentCreatedBefore(OffsetDateTime.now().plusMinutes(1), Limit.of(10))).containsExactly(unreferencedContentId);
+		assertThat(attachmentContentRepository.findIdsOfUnreferencedContentCreatedBefore(OffsetDateTime.now().minusMinutes(1), Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void saveContentWithExistingHash() {
+		final var attachmentContent = AttachmentContentEntity.create().withHash(CONTENT_HASH);
+
+		assertThatThrownBy(() -> attachmentContentRepository.saveAndFlush(attachmentContent))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
@@ -23,7 +23,31 @@ class AttachmentRepositoryTest {
 	private AttachmentRepository attachmentRepository;
 
 	@Test
-	void findByIdAndLetterIdAndLetter_MunicipalityId() {
-		assertThat(attachmentRepository.findByIdAndLetterIdAndLetter_MunicipalityId("f4666ea6-0324-490f-8e27-2b704e580a0a", "43a32404-28ee-480f-a095-00d48109afab", "2281")).isPresent();
+	void findMetadataByIdAndLetterIdAndMunicipalityId() {
+		assertThat(attachmentRepository.findMetadataByIdAndLetterIdAndMunicipalityId("f4666ea6-0324-490f-8e27-2b704e580a0a", "43a32404-28ee-480f-a095-00d48109afab", "2281")).hasValueSatisfying(metadata -> {
+			assertThat(metadata.getId()).isEqualTo("f4666ea6-0324-490f-8e27-2b704e580a0a");
+			assertThat(metadata.getFileName()).isEqualTo("attachment1.txt");
+			assertThat(metadata.getContentType()).isEqualTo("text/plain");
+			assertThat(metadata.getContentId()).isEqualTo("f4666ea6-0324-490f-8e27-2b704e580a0a");
+			assertThat(metadata.getHash()).isEqualTo("2b200a668f372eb923099cbdb250d0aa340de0163088de1e23482b1a4c50ae9b");
+			assertThat(metadata.getStorageKey()).isNull();
+			assertThat(metadata.getContentLength()).isEqualTo(8);
+			assertThat(metadata.getLetterCreated()).isNotNull();
+		});
+	}
+
+	@Test
+	void findMetadataByIdAndLetterIdAndMunicipalityIdForOtherLetter() {
+		assertThat(attachmentRepository.findMetadataByIdAndLetterIdAndMunicipalityId("f4666ea6-0324-490f-8e27-2b704e580a0a", "9bb97fd2-4410-4a4b-9019-fdd98f01bd7c", "2281")).isEmpty();
+	}
+
+	@Test
+	void findMetadataByIdAndLetterIdAndMunicipalityIdForOtherMunicipality() {
+		assertThat(attachmentRepository.findMetadataByIdAndLetterIdAndMunicipalityId("f4666ea6-0324-490f-8e27-2b704e580a0a", "43a32404-28ee-480f-a095-00d48109afab", "2262")).isEmpty();
+	}
+
+	@Test
+	void findMetadataByIdAndLetterIdAndMunicipalityIdForDeletedLetter() {
+		assertThat(attachmentRepository.findMetadataByIdAndLetterIdAndMunicipalityId("c0fa7fa4-4149-440a-84a1-50946a57cf01", "59eeec4c-81f3-4a96-918e-43a5e08a8ef0", "2281")).isEmpty();
 	}
 }
@@ -0,0 +1,97 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class LetterOutboxRepositoryTest {
+
+	@Autowired
+	private LetterOutboxRepository letterOutboxRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void saveSetsDefaults() {
+		final var entity = letterOutboxRepository.saveAndFlush(LetterOutboxEntity.create()
+			.withLetterId("59eeec4c-81f3-4a96-918e-43a5e08a8ef0")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136"));
+
+		assertThat(entity.getId()).isNotNull();
+		assertThat(entity.getAttempts()).isZero();
+		assertThat(entity.getCreated()).isNotNull();
+		assertThat(entity.getClaimedUntil()).isEqualTo(entity.getCreated());
+		assertThat(entity.getClaimedBy()).isNull();
+	}
+
+	@Test
+	void findAllByClaimedUntilBeforeOrderByCreatedAsc() {
+		final var unclaimed = letterOutboxRepository.saveAndFlush(LetterOutboxEntity.create()
+			.withLetterId("59eeec4c-81f3-4a96-918e-43a5e08a8ef0")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136"));
+		letterOutboxRepository.saveAndFlush(LetterOutboxEntity.create()
+			.withLetterId("f8853893-46a9-4249-a0e5-35d5595efd91")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136")
+			.withClaimedBy("someone")
+			.withClaimedUntil(now().plusMinutes(5)));
+
+		final var result = letterOutboxRepository.findAllByClaimedUntilBeforeOrderByCreatedAsc(now().plusSeconds(1), Limit.of(10));
+
+		assertThat(result).extracting(LetterOutboxEntity::getId).containsExactly(unclaimed.getId());
+		assertThat(letterOutboxRepository.findAllByClaimedUntilBeforeOrderByCreatedAsc(now().plusMinutes(10), Limit.of(1))).hasSize(1);
+	}
+
+	@Test
+	void deleteByIdAndClaimedBy() {
+		final var claimed = letterOutboxRepository.saveAndFlush(LetterOutboxEntity.create()
+			.withLetterId("59eeec4c-81f3-4a96-918e-43a5e08a8ef0")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136")
+			.withClaimedBy("someone")
+			.withClaimedUntil(now().plusMinutes(5)));
+
+		assertThat(letterOutboxRepository.deleteByIdAndClaimedBy(claimed.getId(), "someone else")).isZero();
+		assertThat(letterOutboxRepository.existsById(claimed.getId())).isTrue();
+		assertThat(letterOutboxRepository.deleteByIdAndClaimedBy(claimed.getId(), "someone")).isOne();
+		assertThat(letterOutboxRepository.existsById(claimed.getId())).isFalse();
+	}
+
+	@Test
+	void releaseByIdAndClaimedBy() {
+		final var claimed = letterOutboxRepository.saveAndFlush(LetterOutboxEntity.create()
+			.withLetterId("59eeec4c-81f3-4a96-918e-43a5e08a8ef0")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136")
+			.withClaimedBy("someone")
+			.withClaimedUntil(now().plusMinutes(5)));
+
+		assertThat(letterOutboxRepository.releaseByIdAndClaimedBy(claimed.getId(), "someone else", now())).isZero();
+		assertThat(letterOutboxRepository.releaseByIdAndClaimedBy(claimed.getId(), "someone", now().minusSeconds(1))).isOne();
+		entityManager.clear();
+		assertThat(letterOutboxRepository.findAllByClaimedUntilBeforeOrderByCreatedAsc(now(), Limit.of(10)))
+			.extracting(LetterOutboxEntity::getId, LetterOutboxEntity::getClaimedBy)
+			.containsExactly(tuple(claimed.getId(), null));
+	}
+}
@@ -0,0 +1,188 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_CLASS;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+import static se.sundsvall.digitalregisteredletter.api.validation.ValidLetterSortConstraintValidator.SORTABLE_PROPERTIES;
+
+/**
+ * Runs EXPLAIN on the queries generated for every combination of letter filters and sortable properties, and for
+ * keyset positions, and fails when the letter table is read with a full table scan. Criteria values are inlined in the
+ * generated SQL, hence only the pagination parameters are bound when the queries are explained.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=se.sundsvall.digitalregisteredletter.integration.db.LetterRepositoryQueryPlanTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-query-plan.sql"
+}, executionPhase = BEFORE_TEST_CLASS, config = @SqlConfig(transactionMode = ISOLATED))
+@Sql(scripts = "/db/scripts/truncate.sql", executionPhase = AFTER_TEST_CLASS, config = @SqlConfig(transactionMode = ISOLATED))
+class LetterRepositoryQueryPlanTest {
+
+	private static final String MUNICIPALITY_ID = "0001";
+	private static final Pattern LETTER_ALIAS = Pattern.compile("from\\s+letter\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+	@Autowired
+	private LetterRepository letterRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setup() {
+		CapturingStatementInspector.STATEMENTS.clear();
+	}
+
+	@ParameterizedTest(name = "{0} deleted={1} sort={2}")
+	@MethodSource("filterArguments")
+	void findAllByFilterAvoidsFullTableScan(final LetterFilter filter, final Boolean deleted, final Sort sort) {
+		letterRepository.findAllByFilter(MUNICIPALITY_ID, filter, deleted, PageRequest.of(1, 10, sort));
+
+		assertNoFullTableScan();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("filters")
+	void findAllByFilterWithKeysetPositionAvoidsFullTableScan(final LetterFilter filter) {
+		final var position = ScrollPosition.forward(Map.of(
+			"created", OffsetDateTime.of(2025, 2, 1, 0, 0, 0, 0, UTC),
+			"id", "query-plan-letter-745"));
+
+		letterRepository.findAllByFilter(MUNICIPALITY_ID, filter, false, position, 10);
+
+		assertNoFullTableScan();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("filters")
+	void findAllSignedByFilterWithKeysetPositionAvoidsFullTableScan(final LetterFilter filter) {
+		final var position = ScrollPosition.forward(Map.of(
+			"created", OffsetDateTime.of(2025, 2, 1, 0, 0, 0, 0, UTC),
+			"id", "query-plan-letter-745"));
+
+		letterRepository.findAllSignedByFilter(MUNICIPALITY_ID, filter, position, 10);
+
+		assertNoFullTableScan();
+	}
+
+	private void assertNoFullTableScan() {
+		final var statements = CapturingStatementInspector.statements().stream()
+			.filter(statement -> LETTER_ALIAS.matcher(statement).find())
+			.toList();
+
+		assertThat(statements).isNotEmpty();
+		statements.forEach(statement -> assertThat(explainLetterAccessTypes(statement))
+			.as("Access types of the letter table for query: %s", statement)
+			.isNotEmpty()
+			.doesNotContain("ALL"));
+	}
+
+	/**
+	 * Explains the statement and returns the access types used for the letter table.
+	 */
+	private List<String> explainLetterAccessTypes(final String statement) {
+		final var matcher = LETTER_ALIAS.matcher(statement);
+		final var alias = matcher.find() ? matcher.group(1) : "";
+
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (final var preparedStatement = connection.prepareStatement("EXPLAIN " + statement)) {
+				// The only parameters left are the limit and offset of the page
+				final var parameterCount = statement.chars().filter(character -> character == '?').count();
+				for (int index = 1; index <= parameterCount; index++) {
+					preparedStatement.setInt(index, 10);
+				}
+
+				final var accessTypes = new ArrayList<String>();
+				try (final var resultSet = preparedStatement.executeQuery()) {
+					while (resultSet.next()) {
+						if (alias.equals(resultSet.getString("table"))) {
+							accessTypes.add(resultSet.getString("type"));
+						}
+					}
+				}
+				return accessTypes;
+			} catch (final SQLException e) {
+				throw new IllegalStateException("Unable to explain statement: %s".formatted(statement), e);
+			}
+		});
+	}
+
+	private static Stream<Arguments> filterArguments() {
+		final var deletedValues = Arrays.asList(true, false, null);
+
+		return filters().flatMap(filter -> deletedValues.stream()
+			.flatMap(deleted -> sorts().map(sort -> Arguments.of(filter, deleted, sort))));
+	}
+
+	private static Stream<Sort> sorts() {
+		return Stream.concat(Stream.of(Sort.unsorted()), SORTABLE_PROPERTIES.stream().sorted().map(Sort::by));
+	}
+
+	/**
+	 * Returns every combination of the optional letter filters.
+	 */
+	private static Stream<LetterFilter> filters() {
+		return Stream.iterate(0, combination -> combination < 16, combination -> combination + 1)
+			.map(combination -> LetterFilterBuilder.create()
+				.withOrgId((combination & 1) != 0 ? 1001L : null)
+				.withUsername((combination & 2) != 0 ? "USER1" : null)
+				.withCreatedEarliest((combination & 4) != 0 ? OffsetDateTime.of(2025, 3, 1, 0, 0, 0, 0, UTC) : null)
+				.withCreatedLatest((combination & 8) != 0 ? OffsetDateTime.of(2025, 6, 30, 0, 0, 0, 0, UTC) : null)
+				.build());
+	}
+
+	/**
+	 * Captures the SQL of every statement prepared by Hibernate.
+	 */
+	public static class CapturingStatementInspector implements StatementInspector {
+
+		private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+		static List<String> statements() {
+			synchronized (STATEMENTS) {
+				return List.copyOf(STATEMENTS);
+			}
+		}
+
+		@Override
+		public String inspect(final String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
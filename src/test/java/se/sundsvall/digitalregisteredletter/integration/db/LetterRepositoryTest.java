@@ -1,23 +1,36 @@
 package se.sundsvall.digitalregisteredletter.integration.db;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.requestid.RequestId;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusChange;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 
 import static java.time.OffsetDateTime.now;
+import static java.time.ZoneOffset.UTC;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.digitalregisteredletter.integration.db.LetterRepository.KEYSET_SORT;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = NONE)
@@ -31,6 +44,12 @@ class LetterRepositoryTest {
 	@Autowired
 	private LetterRepository letterRepository;
 
+	@Autowired
+	private TenantRepository tenantRepository;
+
+	@Autowired
+	private LetterBatchRepository letterBatchRepository;
+
 	@BeforeAll
 	static void setup() {
 		RequestId.init();
@@ -72,16 +91,46 @@ class LetterRepositoryTest {
 	}
 
 	@Test
-	void findAllByMunicipalityIdAndIdInAndDeletedFalse() {
+	void findSigningStatusesByMunicipalityIdAndIdIn() {
 		final var municipalityId = "2281";
 		final var letterIds = List.of(
 			"43a32404-28ee-480f-a095-00d48109afab",
-			"f8853893-46a9-4249-a0e5-35d5595efd91");
+			"f8853893-46a9-4249-a0e5-35d5595efd91",
+			"59eeec4c-81f3-4a96-918e-43a5e08a8ef0",
+			"1a7b65d7-bafd-49be-9e97-6406b1bf5886");
+
+		assertThat(letterRepository.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, letterIds))
+			.extracting(LetterSigningStatus::getId, LetterSigningStatus::getStatus, LetterSigningStatus::getSigningStatus)
+			.containsExactlyInAnyOrder(
+				tuple("43a32404-28ee-480f-a095-00d48109afab", "NEW", null),
+				tuple("f8853893-46a9-4249-a0e5-35d5595efd91", "SIGNED", "COMPLETED"));
+	}
 
-		assertThat(letterRepository.findAllByMunicipalityIdAndIdInAndDeletedFalse(municipalityId, letterIds))
-			.hasSize(2)
-			.extracting(LetterEntity::getId)
-			.containsExactlyInAnyOrderElementsOf(letterIds);
+	@Test
+	void findStatusChanges() {
+		final var municipalityId = "2281";
+		final var start = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, UTC);
+
+		final var firstChanges = letterRepository.findStatusChanges(municipalityId, start, "", now(), Limit.of(2));
+
+		assertThat(firstChanges)
+			.extracting(LetterStatusChange::getId, LetterStatusChange::getStatus, LetterStatusChange::getSigningStatus)
+			.containsExactly(
+				tuple("43a32404-28ee-480f-a095-00d48109afab", "NEW", null),
+				tuple("9bb97fd2-4410-4a4b-9019-fdd98f01bd7c", "NEW", null));
+		assertThat(firstChanges).extracting(LetterStatusChange::getUpdated).doesNotContainNull();
+
+		final var last = firstChanges.getLast();
+		assertThat(letterRepository.findStatusChanges(municipalityId, last.getUpdated(), last.getId(), now(), Limit.of(2)))
+			.extracting(LetterStatusChange::getId, LetterStatusChange::getStatus, LetterStatusChange::getSigningStatus)
+			.containsExactly(tuple("f8853893-46a9-4249-a0e5-35d5595efd91", "SIGNED", "COMPLETED"));
+	}
+
+	@Test
+	void findStatusChangesNotSettled() {
+		final var start = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, UTC);
+
+		assertThat(letterRepository.findStatusChanges("2281", start, "", OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, UTC), Limit.of(10))).isEmpty();
 	}
 
 	@Test
@@ -103,6 +152,29 @@ class LetterRepositoryTest {
 				"9bb97fd2-4410-4a4b-9019-fdd98f01bd7c");
 	}
 
+	@Test
+	void findAllByFilterWithKeysetPosition() {
+		final var letterFilter = LetterFilterBuilder.create().build();
+		final var expectedIds = letterRepository.findAllByFilter("2281", letterFilter, false, PageRequest.of(0, 100, KEYSET_SORT)).map(LetterEntity::getId).getContent();
+
+		final var firstWindow = letterRepository.findAllByFilter("2281", letterFilter, false, ScrollPosition.keyset(), 2);
+		final var secondWindow = letterRepository.findAllByFilter("2281", letterFilter, false, (KeysetScrollPosition) firstWindow.positionAt(firstWindow.size() - 1), 2);
+
+		assertThat(expectedIds).hasSize(3);
+		assertThat(firstWindow.hasNext()).isTrue();
+		assertThat(secondWindow.hasNext()).isFalse();
+		assertThat(Stream.concat(firstWindow.stream(), secondWindow.stream()).map(LetterEntity::getId))
+			.containsExactlyElementsOf(expectedIds);
+	}
+
+	@Test
+	void findAllSignedByFilter() {
+		assertThat(letterRepository.findAllSignedByFilter("2281", LetterFilterBuilder.create().build(), ScrollPosition.keyset(), 100).getContent())
+			.hasSize(1)
+			.extracting(LetterEntity::getId).containsExactly(
+				"f8853893-46a9-4249-a0e5-35d5595efd91");
+	}
+
 	@Test
 	void findAllByMunicipalityIdAndDeletedTrue() {
 		assertThat(letterRepository.findAllByFilter("2281", LetterFilterBuilder.create().build(), true, PageRequest.of(0, 100)).getContent())
@@ -111,6 +183,41 @@ class LetterRepositoryTest {
 				"59eeec4c-81f3-4a96-918e-43a5e08a8ef0");
 	}
 
+	@Test
+	void findDistinctTenantsByLetterStatus() {
+		final var tenantWithSentLetters = tenantRepository.save(createTenant("5591628136"));
+		final var tenantWithDeletedLetter = tenantRepository.save(createTenant("5591628137"));
+		final var tenantWithNewLetter = tenantRepository.save(createTenant("5591628138"));
+
+		letterRepository.saveAll(List.of(
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT").withTenant(tenantWithSentLetters),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT").withTenant(tenantWithSentLetters),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT").withTenant(tenantWithDeletedLetter).withDeleted(true),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("NEW").withTenant(tenantWithNewLetter),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT")));
+
+		assertThat(letterRepository.findDistinctTenantsByLetterStatus("SENT"))
+			.extracting(TenantEntity::getId)
+			.containsExactly(tenantWithSentLetters.getId());
+	}
+
+	@Test
+	void countStatusesByBatchId() {
+		final var batch = letterBatchRepository.save(createBatch());
+		final var otherBatch = letterBatchRepository.save(createBatch());
+
+		letterRepository.saveAll(List.of(
+			LetterEntity.create().withMunicipalityId("2281").withStatus("NEW").withBatch(batch),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("NEW").withBatch(batch),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT").withBatch(batch),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT").withBatch(otherBatch),
+			LetterEntity.create().withMunicipalityId("2281").withStatus("SENT")));
+
+		assertThat(letterRepository.countStatusesByBatchId(batch.getId()))
+			.extracting(LetterStatusCount::getStatus, LetterStatusCount::getCount)
+			.containsExactlyInAnyOrder(tuple("NEW", 2L), tuple("SENT", 1L));
+	}
+
 	@Test
 	void findByIdAndDeleted() {
 		assertThat(letterRepository.findByIdAndDeleted("43a32404-28ee-480f-a095-00d48109afab", false)).isPresent(); // Not deleted message
@@ -131,4 +238,18 @@ class LetterRepositoryTest {
 			});
 		});
 	}
+
+	private static LetterBatchEntity createBatch() {
+		return LetterBatchEntity.create()
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136")
+			.withLetterCount(3);
+	}
+
+	private static TenantEntity createTenant(final String orgNumber) {
+		return TenantEntity.create()
+			.withMunicipalityId("2281")
+			.withOrgNumber(orgNumber)
+			.withTenantKey("encrypted-key");
+	}
 }
@@ -0,0 +1,203 @@
+package se.sundsvall.digitalregisteredletter.integration.db;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
+import se.sundsvall.digitalregisteredletter.api.model.LetterRequest;
+import se.sundsvall.digitalregisteredletter.api.model.OrganizationBuilder;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.DatabaseAttachmentStore;
+import se.sundsvall.digitalregisteredletter.service.mapper.AttachmentMapper;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
+
+import static java.util.Optional.ofNullable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.TestDataFactory.createLetterRequest;
+import static se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration.LETTER_IDS_CHUNK_SIZE;
+
+/**
+ * Verifies that persisting a letter for an existing user and organization costs the same number of statements no matter
+ * how many letters the user and organization already have, and that listing a page of letters costs the same number of
+ * statements no matter how many letters the page holds. It also compares the cost of reading the statuses of letters
+ * through a projection with the cost of reading them through the letter entities.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Import({
+	RepositoryIntegration.class, AttachmentMapper.class, LetterMapper.class, BlobUtil.class, DatabaseAttachmentStore.class
+})
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class RepositoryIntegrationStatementCountTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	// Municipality without letters in the test data, hence all letters on the page are created by the test
+	private static final String LISTING_MUNICIPALITY_ID = "2280";
+	private static final int PAGE_SIZE = 100;
+	private static final List<String> SIGNED_LETTER_IDS = List.of("f8853893-46a9-4249-a0e5-35d5595efd91");
+	private static final List<String> UNSIGNED_LETTER_IDS = List.of("43a32404-28ee-480f-a095-00d48109afab", "9bb97fd2-4410-4a4b-9019-fdd98f01bd7c");
+	// Content already present in the test data, hence every persisted letter reuses the stored content
+	private static final String STORED_CONTENT = "dGVzdA==";
+
+	@Autowired
+	private RepositoryIntegration repositoryIntegration;
+
+	@Autowired
+	private LetterMapper letterMapper;
+
+	@Autowired
+	private LetterRepository letterRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	private LetterRequest letterRequest;
+
+	@BeforeEach
+	void setup() {
+		Identifier.set(Identifier.parse("type=adAccount; joe01doe"));
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		letterRequest = createLetterRequest(OrganizationBuilder.create()
+			.withName("Department 44")
+			.withNumber(44L)
+			.build());
+	}
+
+	@Test
+	void persistLetterStatementCountIsIndependentOfHistory() {
+		final var statementsWithSmallHistory = persistLetterAndCountStatements();
+
+		IntStream.range(0, 25).forEach(_ -> persistLetterAndCountStatements());
+
+		final var statementsWithLargeHistory = persistLetterAndCountStatements();
+
+		assertThat(statementsWithLargeHistory).isEqualTo(statementsWithSmallHistory);
+	}
+
+	@Test
+	void listLettersStatementCountIsIndependentOfPageSize() {
+		// Every letter has a user and an organization of its own, to verify that these are fetched in batches as well
+		IntStream.range(0, PAGE_SIZE).forEach(index -> {
+			Identifier.set(Identifier.parse("type=adAccount; user%s".formatted(index)));
+			repositoryIntegration.persistLetter(LISTING_MUNICIPALITY_ID,
+				createLetterRequest(OrganizationBuilder.create()
+					.withName("Department %s".formatted(1000 + index))
+					.withNumber(1000L + index)
+					.build()),
+				List.of(
+					new MockMultipartFile("letterAttachments", "first.pdf", "application/pdf", STORED_CONTENT.getBytes()),
+					new MockMultipartFile("letterAttachments", "second.pdf", "application/pdf", STORED_CONTENT.getBytes())));
+		});
+		entityManager.flush();
+
+		final var statementsForSingleLetter = listLettersAndCountStatements(1);
+		final var statementsForFullPage = listLettersAndCountStatements(PAGE_SIZE);
+
+		assertThat(statementsForFullPage).isEqualTo(statementsForSingleLetter);
+	}
+
+	@Test
+	void letterStatusesStatementCountComparedToEntities() {
+		final var letterIds = Stream.concat(SIGNED_LETTER_IDS.stream(), UNSIGNED_LETTER_IDS.stream()).toList();
+
+		entityManager.clear();
+		statistics.clear();
+		final var entityStatuses = letterRepository.findAllById(letterIds).stream()
+			.map(letter -> letterMapper.toLetterStatus(letter.getId(), letter.getStatus(), ofNullable(letter.getSigningInformation())
+				.map(SigningInformationEntity::getStatus)
+				.orElse(null)))
+			.toList();
+		final var entityStatements = statistics.getPrepareStatementCount();
+		final var entityLoads = statistics.getEntityLoadCount();
+
+		entityManager.clear();
+		statistics.clear();
+		final var projectionStatuses = repositoryIntegration.getLetterSigningStatuses(MUNICIPALITY_ID, letterIds).stream()
+			.map(signingStatus -> letterMapper.toLetterStatus(signingStatus.getId(), signingStatus.getStatus(), signingStatus.getSigningStatus()))
+			.toList();
+		final var projectionStatements = statistics.getPrepareStatementCount();
+
+		// The same statuses are read in one statement, without loading any entity and thereby without reading the signature
+		// and OCSP response of the signing information
+		assertThat(projectionStatuses).containsExactlyInAnyOrderElementsOf(entityStatuses);
+		assertThat(projectionStatements).isOne();
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(entityStatements).isGreaterThan(projectionStatements + SIGNED_LETTER_IDS.size());
+		assertThat(entityLoads).isGreaterThan(letterIds.size() + SIGNED_LETTER_IDS.size());
+	}
+
+	@Test
+	void letterStatusesStatementCountForLargeIdSets() {
+		// Unknown ids in between the existing ones, to exceed the number of ids queried at once
+		final var letterIds = Stream.concat(
+			Stream.concat(SIGNED_LETTER_IDS.stream(), UNSIGNED_LETTER_IDS.stream()),
+			IntStream.range(0, LETTER_IDS_CHUNK_SIZE * 2).mapToObj(_ -> UUID.randomUUID().toString()))
+			.toList();
+
+		entityManager.clear();
+		statistics.clear();
+
+		assertThat(repositoryIntegration.getLetterSigningStatuses(MUNICIPALITY_ID, letterIds))
+			.extracting(LetterSigningStatus::getId)
+			.containsExactlyInAnyOrderElementsOf(Stream.concat(SIGNED_LETTER_IDS.stream(), UNSIGNED_LETTER_IDS.stream()).toList());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	private long listLettersAndCountStatements(final int pageSize) {
+		entityManager.clear();
+		statistics.clear();
+
+		final var page = repositoryIntegration.getPagedLetterEntities(LISTING_MUNICIPALITY_ID, LetterFilterBuilder.create().build(), PageRequest.of(0, pageSize, Sort.by("created")));
+		final var letters = letterMapper.toLetters(page);
+
+		assertThat(letters.letters()).hasSize(pageSize).allSatisfy(letter -> assertThat(letter.attachments()).hasSize(2));
+		// Only the attachment metadata is read when listing letters, never the content
+		assertThat(page.getContent()).flatMap(LetterEntity::getAttachments)
+			.noneMatch(attachmentEntity -> Hibernate.isInitialized(attachmentEntity.getAttachmentContent()));
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private long persistLetterAndCountStatements() {
+		entityManager.clear();
+		statistics.clear();
+
+		final var letterEntity = repositoryIntegration.persistLetter(MUNICIPALITY_ID, letterRequest,
+			List.of(new MockMultipartFile("letterAttachments", "test.pdf", "application/pdf", STORED_CONTENT.getBytes())));
+		entityManager.flush();
+
+		assertThat(Hibernate.isInitialized(letterEntity.getOrganization().getLetters())).isFalse();
+		assertThat(Hibernate.isInitialized(letterEntity.getUser().getLetters())).isFalse();
+		assertThat(statistics.getCollectionLoadCount()).isZero();
+
+		return statistics.getPrepareStatementCount();
+	}
+}
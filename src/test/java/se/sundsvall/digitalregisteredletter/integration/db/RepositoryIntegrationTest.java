@@ -1,36 +1,66 @@
 package se.sundsvall.digitalregisteredletter.integration.db;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.support.Identifier;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequestBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentMetadata;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusChange;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
 import se.sundsvall.digitalregisteredletter.integration.db.model.OrganizationEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.UserEntity;
 import se.sundsvall.digitalregisteredletter.service.mapper.AttachmentMapper;
 import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
 
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static se.sundsvall.TestDataFactory.createLetterRequest;
+import static se.sundsvall.TestDataFactory.createOrganization;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ERROR;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_NEW;
+import static se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration.LETTER_IDS_CHUNK_SIZE;
 
 @ExtendWith(MockitoExtension.class)
 class RepositoryIntegrationTest {
@@ -40,6 +70,9 @@ class RepositoryIntegrationTest {
 	@Mock
 	private AttachmentMapper attachmentMapperMock;
 
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
+
 	@Mock
 	private AttachmentRepository attachmentRepositoryMock;
 
@@ -49,6 +82,12 @@ class RepositoryIntegrationTest {
 	@Mock
 	private LetterRepository letterRepositoryMock;
 
+	@Mock
+	private LetterBatchRepository letterBatchRepositoryMock;
+
+	@Mock
+	private LetterOutboxRepository letterOutboxRepositoryMock;
+
 	@Mock
 	private OrganizationRepository organizationRepositoryMock;
 
@@ -67,6 +106,15 @@ class RepositoryIntegrationTest {
 	@Mock
 	private UserEntity userEntityMock;
 
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
+
+	@Captor
+	private ArgumentCaptor<List<LetterOutboxEntity>> outboxEntitiesCaptor;
+
 	@InjectMocks
 	private RepositoryIntegration repositoryIntegration;
 
@@ -80,16 +128,20 @@ class RepositoryIntegrationTest {
 	void tearDown() {
 		verifyNoMoreInteractions(
 			attachmentMapperMock,
+			attachmentContentRepositoryMock,
 			attachmentRepositoryMock,
 			letterEntityMock,
 			letterMapperMock,
 			letterRepositoryMock,
+			letterBatchRepositoryMock,
+			letterOutboxRepositoryMock,
 			organizationRepositoryMock,
 			userRepositoryMock,
 			attachmentEntityMock,
 			letterEntityMock,
 			organizationEntityMock,
-			userEntityMock);
+			userEntityMock,
+			transactionManagerMock);
 	}
 
 	@Test
@@ -98,34 +150,39 @@ class RepositoryIntegrationTest {
 		final var letterRequest = createLetterRequest();
 		final var multipartFile = Mockito.mock(MultipartFile.class);
 		final var multipartFileList = List.of(multipartFile);
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
 
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
 		when(letterMapperMock.toLetterEntity(letterRequest)).thenReturn(letterEntityMock);
-		when(letterMapperMock.addLetter(organizationEntityMock, letterEntityMock)).thenReturn(organizationEntityMock);
-		when(letterMapperMock.addLetter(userEntityMock, letterEntityMock)).thenReturn(userEntityMock);
 		when(attachmentMapperMock.toAttachmentEntities(multipartFileList)).thenReturn(List.of(attachmentEntityMock));
 		when(organizationRepositoryMock.findByNumber(anyLong())).thenReturn(Optional.of(organizationEntityMock));
 		when(userRepositoryMock.findByUsernameIgnoreCase(any())).thenReturn(Optional.of(userEntityMock));
 		when(letterRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(letterEntityMock.withAttachments(List.of(attachmentEntityMock))).thenReturn(letterEntityMock);
+		when(attachmentEntityMock.getAttachmentContent()).thenReturn(attachmentContentEntity);
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentEntity);
 		when(letterEntityMock.withMunicipalityId(municipalityId)).thenReturn(letterEntityMock);
 		when(letterEntityMock.withStatus(any())).thenReturn(letterEntityMock);
 
 		final var response = repositoryIntegration.persistLetter(municipalityId, letterRequest, multipartFileList);
 
 		verify(letterMapperMock).toLetterEntity(letterRequest);
-		verify(letterMapperMock).addLetter(organizationEntityMock, letterEntityMock);
-		verify(letterMapperMock).addLetter(userEntityMock, letterEntityMock);
-		verify(letterMapperMock).toOrganizationEntity(letterRequest.organization(), letterEntityMock);
-		verify(letterMapperMock).toUserEntity(USERNAME, letterEntityMock);
 		verify(attachmentMapperMock).toAttachmentEntities(multipartFileList);
 		verify(organizationRepositoryMock).findByNumber(234L);
 		verify(userRepositoryMock).findByUsernameIgnoreCase(USERNAME);
 		verify(letterRepositoryMock).save(letterEntityMock);
 		verify(letterEntityMock).withAttachments(List.of(attachmentEntityMock));
+		verify(attachmentEntityMock, times(3)).getAttachmentContent();
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
+		verify(attachmentEntityMock).setAttachmentContent(attachmentContentEntity);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("contentId", 1);
 		verify(letterEntityMock).withMunicipalityId(municipalityId);
 		verify(letterEntityMock).withStatus("NEW");
 		verify(letterEntityMock).setOrganization(organizationEntityMock);
 		verify(letterEntityMock).setUser(userEntityMock);
+		verify(letterEntityMock).getAttachments();
+		verify(transactionManagerMock).getTransaction(any());
+		verify(transactionManagerMock).commit(transactionStatusMock);
 
 		assertThat(response).isEqualTo(letterEntityMock);
 	}
@@ -136,7 +193,9 @@ class RepositoryIntegrationTest {
 		final var letterRequest = createLetterRequest();
 		final var multipartFile = Mockito.mock(MultipartFile.class);
 		final var multipartFileList = List.of(multipartFile);
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
 
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
 		when(letterMapperMock.toLetterEntity(letterRequest)).thenReturn(letterEntityMock);
 		when(letterMapperMock.toOrganizationEntity(any(), any())).thenCallRealMethod();
 		when(letterMapperMock.toUserEntity(any(), any())).thenCallRealMethod();
@@ -144,6 +203,8 @@ class RepositoryIntegrationTest {
 
 		when(letterRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0, LetterEntity.class));
 		when(letterEntityMock.withAttachments(List.of(attachmentEntityMock))).thenReturn(letterEntityMock);
+		when(attachmentEntityMock.getAttachmentContent()).thenReturn(attachmentContentEntity);
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentEntity);
 		when(letterEntityMock.withMunicipalityId(municipalityId)).thenReturn(letterEntityMock);
 		when(letterEntityMock.withStatus(any())).thenReturn(letterEntityMock);
 
@@ -154,19 +215,24 @@ class RepositoryIntegrationTest {
 		verify(letterMapperMock).toUserEntity(USERNAME, letterEntityMock);
 		verify(letterMapperMock).toOrganizationEntity(letterRequest.organization(), letterEntityMock);
 		verify(letterMapperMock).toUserEntity(USERNAME, letterEntityMock);
-		verify(letterMapperMock, never()).addLetter(any(OrganizationEntity.class), any());
-		verify(letterMapperMock, never()).addLetter(any(UserEntity.class), any());
 		verify(attachmentMapperMock).toAttachmentEntities(multipartFileList);
 		verify(organizationRepositoryMock).findByNumber(234L);
 		verify(userRepositoryMock).findByUsernameIgnoreCase(USERNAME);
 		verify(letterRepositoryMock).save(letterEntityMock);
 		verify(letterEntityMock).withAttachments(List.of(attachmentEntityMock));
+		verify(attachmentEntityMock, times(3)).getAttachmentContent();
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
+		verify(attachmentEntityMock).setAttachmentContent(attachmentContentEntity);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("contentId", 1);
 		verify(letterEntityMock).withMunicipalityId(municipalityId);
 		verify(letterEntityMock).withStatus("NEW");
 		verify(letterEntityMock, never()).setOrganization(organizationEntityMock);
 		verify(letterEntityMock, never()).setUser(userEntityMock);
 		verify(letterEntityMock).setOrganization(any());
 		verify(letterEntityMock).setUser(any());
+		verify(letterEntityMock).getAttachments();
+		verify(transactionManagerMock).getTransaction(any());
+		verify(transactionManagerMock).commit(transactionStatusMock);
 
 		assertThat(response).isEqualTo(letterEntityMock);
 	}
@@ -194,18 +260,75 @@ class RepositoryIntegrationTest {
 	}
 
 	@Test
-	void getLetterEntities() {
+	void getLetterEntityWithAttachments() {
+		final var letterId = "letterId";
+		final var municipalityId = "municipalityId";
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
+		final var letterEntity = LetterEntity.create()
+			.withId(letterId)
+			.withAttachments(List.of(AttachmentEntity.create().withAttachmentContent(attachmentContentEntity)));
+
+		when(letterRepositoryMock.findByIdAndMunicipalityIdAndDeleted(letterId, municipalityId, false)).thenReturn(Optional.of(letterEntity));
+
+		final var result = repositoryIntegration.getLetterEntityWithAttachments(municipalityId, letterId);
+
+		assertThat(result).isPresent().contains(letterEntity);
+		assertThat(result.get().getAttachments()).extracting(AttachmentEntity::getAttachmentContent).containsExactly(attachmentContentEntity);
+		verify(letterRepositoryMock).findByIdAndMunicipalityIdAndDeleted(letterId, municipalityId, false);
+	}
+
+	@Test
+	void getLetterEntityWithAttachmentsNotFound() {
+		when(letterRepositoryMock.findByIdAndMunicipalityIdAndDeleted("letterId", "municipalityId", false)).thenReturn(Optional.empty());
+
+		assertThat(repositoryIntegration.getLetterEntityWithAttachments("municipalityId", "letterId")).isEmpty();
+
+		verify(letterRepositoryMock).findByIdAndMunicipalityIdAndDeleted("letterId", "municipalityId", false);
+	}
+
+	@Test
+	void getLetterSigningStatuses() {
+		final var municipalityId = "municipalityId";
+		final var letterIds = List.of("letterId1", "letterId2", "letterId1");
+		final var letterSigningStatuses = List.of(
+			mock(LetterSigningStatus.class),
+			mock(LetterSigningStatus.class));
+
+		when(letterRepositoryMock.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, List.of("letterId1", "letterId2"))).thenReturn(letterSigningStatuses);
+
+		assertThat(repositoryIntegration.getLetterSigningStatuses(municipalityId, letterIds)).containsExactlyElementsOf(letterSigningStatuses);
+
+		verify(letterRepositoryMock).findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, List.of("letterId1", "letterId2"));
+	}
+
+	@Test
+	void getLetterSigningStatusesInChunks() {
 		final var municipalityId = "municipalityId";
-		final var letterIds = List.of("letterId1", "letterId2");
-		final var letterEntities = List.of(
-			mock(LetterEntity.class),
-			mock(LetterEntity.class));
+		final var letterIds = IntStream.range(0, LETTER_IDS_CHUNK_SIZE * 2 + 1).mapToObj("letterId%s"::formatted).toList();
+		final var firstLetterSigningStatus = mock(LetterSigningStatus.class);
+		final var lastLetterSigningStatus = mock(LetterSigningStatus.class);
 
-		when(letterRepositoryMock.findAllByMunicipalityIdAndIdInAndDeletedFalse(municipalityId, letterIds)).thenReturn(letterEntities);
+		when(letterRepositoryMock.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, letterIds.subList(0, LETTER_IDS_CHUNK_SIZE))).thenReturn(List.of(firstLetterSigningStatus));
+		when(letterRepositoryMock.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, letterIds.subList(LETTER_IDS_CHUNK_SIZE, LETTER_IDS_CHUNK_SIZE * 2))).thenReturn(List.of());
+		when(letterRepositoryMock.findSigningStatusesByMunicipalityIdAndIdIn(municipalityId, letterIds.subList(LETTER_IDS_CHUNK_SIZE * 2, letterIds.size()))).thenReturn(List.of(lastLetterSigningStatus));
 
-		assertThat(repositoryIntegration.getLetterEntities(municipalityId, letterIds)).containsAll(letterEntities);
+		assertThat(repositoryIntegration.getLetterSigningStatuses(municipalityId, letterIds)).containsExactly(firstLetterSigningStatus, lastLetterSigningStatus);
 
-		verify(letterRepositoryMock).findAllByMunicipalityIdAndIdInAndDeletedFalse(municipalityId, letterIds);
+		verify(letterRepositoryMock, times(3)).findSigningStatusesByMunicipalityIdAndIdIn(eq(municipalityId), any());
+	}
+
+	@Test
+	void getLetterStatusChanges() {
+		final var municipalityId = "municipalityId";
+		final var updated = now();
+		final var settledBefore = now();
+		final var letterStatusChanges = List.of(mock(LetterStatusChange.class));
+
+		when(letterRepositoryMock.findStatusChanges(municipalityId, updated, "letterId", settledBefore, Limit.of(10))).thenReturn(letterStatusChanges);
+
+		assertThat(repositoryIntegration.getLetterStatusChanges(municipalityId, updated, "letterId", settledBefore, 10)).isSameAs(letterStatusChanges);
+
+		verify(letterRepositoryMock).findStatusChanges(municipalityId, updated, "letterId", settledBefore, Limit.of(10));
 	}
 
 	@Test
@@ -221,6 +344,35 @@ class RepositoryIntegrationTest {
 		verify(letterRepositoryMock).findAllByFilter(municipalityId, letterFilter, false, pageable);
 	}
 
+	@Test
+	void getLetterEntityWindow() {
+		final var municipalityId = "municipalityId";
+		final var letterFilter = LetterFilterBuilder.create().build();
+		final var position = ScrollPosition.keyset();
+		final var window = Window.from(List.of(letterEntityMock), ScrollPosition::offset);
+
+		when(letterRepositoryMock.findAllByFilter(municipalityId, letterFilter, false, position, 100)).thenReturn(window);
+
+		assertThat(repositoryIntegration.getLetterEntityWindow(municipalityId, letterFilter, position, 100)).isSameAs(window);
+
+		verify(letterRepositoryMock).findAllByFilter(municipalityId, letterFilter, false, position, 100);
+	}
+
+	@Test
+	void getSignedLetterIds() {
+		final var municipalityId = "municipalityId";
+		final var letterFilter = LetterFilterBuilder.create().build();
+		final var position = ScrollPosition.keyset();
+
+		when(letterEntityMock.getId()).thenReturn("letterId");
+		when(letterRepositoryMock.findAllSignedByFilter(municipalityId, letterFilter, position, 100)).thenReturn(Window.from(List.of(letterEntityMock), ScrollPosition::offset));
+
+		assertThat(repositoryIntegration.getSignedLetterIds(municipalityId, letterFilter, position, 100)).containsExactly("letterId");
+
+		verify(letterRepositoryMock).findAllSignedByFilter(municipalityId, letterFilter, position, 100);
+		verify(letterEntityMock).getId();
+	}
+
 	@Test
 	void softDeleteLetterEntity() {
 		final var letterId = "letterId";
@@ -247,18 +399,249 @@ class RepositoryIntegrationTest {
 	}
 
 	@Test
-	void getAttachmentEntity() {
+	void getAttachmentMetadata() {
 		final var attachmentId = "attachmentId";
 		final var letterId = "letterId";
 		final var municipalityId = "municipalityId";
+		final var attachmentMetadata = mock(AttachmentMetadata.class);
 
-		when(attachmentRepositoryMock.findByIdAndLetterIdAndLetter_MunicipalityId(attachmentId, letterId, municipalityId))
-			.thenReturn(Optional.of(attachmentEntityMock));
+		when(attachmentRepositoryMock.findMetadataByIdAndLetterIdAndMunicipalityId(attachmentId, letterId, municipalityId))
+			.thenReturn(Optional.of(attachmentMetadata));
 
-		assertThat(repositoryIntegration.getAttachmentEntity(municipalityId, letterId, attachmentId))
+		assertThat(repositoryIntegration.getAttachmentMetadata(municipalityId, letterId, attachmentId))
 			.isPresent()
-			.contains(attachmentEntityMock);
+			.contains(attachmentMetadata);
+
+		verify(attachmentRepositoryMock).findMetadataByIdAndLetterIdAndMunicipalityId(attachmentId, letterId, municipalityId);
+	}
+
+	@Test
+	void getAttachmentContentStream() throws IOException {
+		when(attachmentContentRepositoryMock.findContentRangeById("contentId", 3, 5)).thenReturn("ntent".getBytes());
+
+		try (final var inputStream = repositoryIntegration.getAttachmentContentStream("contentId", 2, 5)) {
+			assertThat(inputStream).hasBinaryContent("ntent".getBytes());
+		}
+
+		verify(attachmentContentRepositoryMock).findContentRangeById("contentId", 3, 5);
+	}
+
+	@Test
+	void persistQueuedLetter() {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterId = "letterId";
+		final var tenantEntity = TenantEntity.create();
+		final var letterRequest = createLetterRequest();
+		final var multipartFileList = List.of(Mockito.mock(MultipartFile.class));
+		final var outboxCaptor = ArgumentCaptor.forClass(LetterOutboxEntity.class);
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
+
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(letterMapperMock.toLetterEntity(letterRequest)).thenReturn(letterEntityMock);
+		when(attachmentMapperMock.toAttachmentEntities(multipartFileList)).thenReturn(List.of(attachmentEntityMock));
+		when(organizationRepositoryMock.findByNumber(anyLong())).thenReturn(Optional.of(organizationEntityMock));
+		when(userRepositoryMock.findByUsernameIgnoreCase(any())).thenReturn(Optional.of(userEntityMock));
+		when(letterRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(letterEntityMock.withAttachments(List.of(attachmentEntityMock))).thenReturn(letterEntityMock);
+		when(attachmentEntityMock.getAttachmentContent()).thenReturn(attachmentContentEntity);
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentEntity);
+		when(letterEntityMock.withMunicipalityId(municipalityId)).thenReturn(letterEntityMock);
+		when(letterEntityMock.withStatus(STATUS_NEW)).thenReturn(letterEntityMock);
+		when(letterEntityMock.getId()).thenReturn(letterId);
+
+		final var response = repositoryIntegration.persistQueuedLetter(municipalityId, organizationNumber, tenantEntity, letterRequest, multipartFileList);
+
+		assertThat(response).isSameAs(letterEntityMock);
+		verify(letterMapperMock).toLetterEntity(letterRequest);
+		verify(attachmentMapperMock).toAttachmentEntities(multipartFileList);
+		verify(organizationRepositoryMock).findByNumber(letterRequest.organization().number());
+		verify(userRepositoryMock).findByUsernameIgnoreCase(USERNAME);
+		verify(letterEntityMock).withAttachments(List.of(attachmentEntityMock));
+		verify(attachmentEntityMock, times(3)).getAttachmentContent();
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
+		verify(attachmentEntityMock).setAttachmentContent(attachmentContentEntity);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("contentId", 1);
+		verify(letterEntityMock).withMunicipalityId(municipalityId);
+		verify(letterEntityMock).withStatus(STATUS_NEW);
+		verify(letterEntityMock).setOrganization(organizationEntityMock);
+		verify(letterEntityMock).setUser(userEntityMock);
+		verify(letterEntityMock).setTenant(tenantEntity);
+		verify(letterEntityMock).getId();
+		verify(letterRepositoryMock).save(letterEntityMock);
+		verify(letterOutboxRepositoryMock).save(outboxCaptor.capture());
+		verify(transactionManagerMock).getTransaction(any());
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		assertThat(outboxCaptor.getValue()).satisfies(outboxEntity -> {
+			assertThat(outboxEntity.getLetterId()).isEqualTo(letterId);
+			assertThat(outboxEntity.getMunicipalityId()).isEqualTo(municipalityId);
+			assertThat(outboxEntity.getOrganizationNumber()).isEqualTo(organizationNumber);
+		});
+	}
+
+	@Test
+	void persistLetterBatch() {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var tenantEntity = TenantEntity.create();
+		final var organization = createOrganization();
+		final var bulkLetterRequest = BulkLetterRequestBuilder.create()
+			.withPartyIds(List.of("partyId1", "partyId2", "partyId1"))
+			.withOrganization(organization)
+			.build();
+		final var multipartFileList = List.of(Mockito.mock(MultipartFile.class));
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
+		final var attachmentContentReference = AttachmentContentEntity.create().withId("contentId");
+		final var attachmentEntities = List.of(AttachmentEntity.create().withAttachmentContent(attachmentContentEntity));
+		final var letterEntity1 = LetterEntity.create().withId("letterId1");
+		final var letterEntity2 = LetterEntity.create().withId("letterId2");
+		final var batchCaptor = ArgumentCaptor.forClass(LetterBatchEntity.class);
+
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(letterBatchRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(attachmentMapperMock.toAttachmentEntities(multipartFileList)).thenReturn(attachmentEntities);
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentReference);
+		when(attachmentMapperMock.toSharedAttachmentEntities(attachmentEntities)).thenAnswer(invocation -> invocation.<List<AttachmentEntity>>getArgument(0).stream()
+			.map(attachmentEntity -> AttachmentEntity.create().withAttachmentContent(attachmentEntity.getAttachmentContent()))
+			.toList());
+		when(letterMapperMock.toLetterEntity(bulkLetterRequest, "partyId1")).thenReturn(letterEntity1);
+		when(letterMapperMock.toLetterEntity(bulkLetterRequest, "partyId2")).thenReturn(letterEntity2);
+		when(organizationRepositoryMock.findByNumber(anyLong())).thenReturn(Optional.of(organizationEntityMock));
+		when(userRepositoryMock.findByUsernameIgnoreCase(any())).thenReturn(Optional.of(userEntityMock));
+		when(letterRepositoryMock.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		final var response = repositoryIntegration.persistLetterBatch(municipalityId, organizationNumber, tenantEntity, bulkLetterRequest, multipartFileList);
+
+		verify(letterBatchRepositoryMock).save(batchCaptor.capture());
+		assertThat(response).isSameAs(batchCaptor.getValue());
+		assertThat(response.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(response.getOrganizationNumber()).isEqualTo(organizationNumber);
+		assertThat(response.getLetterCount()).isEqualTo(2);
+
+		assertThat(List.of(letterEntity1, letterEntity2)).allSatisfy(letterEntity -> {
+			assertThat(letterEntity.getMunicipalityId()).isEqualTo(municipalityId);
+			assertThat(letterEntity.getStatus()).isEqualTo(STATUS_NEW);
+			assertThat(letterEntity.getTenant()).isSameAs(tenantEntity);
+			assertThat(letterEntity.getBatch()).isSameAs(response);
+			assertThat(letterEntity.getOrganization()).isSameAs(organizationEntityMock);
+			assertThat(letterEntity.getUser()).isSameAs(userEntityMock);
+			assertThat(letterEntity.getAttachments()).hasSize(1)
+				.allSatisfy(attachmentEntity -> assertThat(attachmentEntity.getAttachmentContent()).isSameAs(attachmentContentReference));
+		});
+		assertThat(letterEntity1.getAttachments().getFirst()).isNotSameAs(letterEntity2.getAttachments().getFirst());
+
+		verify(attachmentMapperMock).toAttachmentEntities(multipartFileList);
+		verify(attachmentMapperMock, times(2)).toSharedAttachmentEntities(attachmentEntities);
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
+		verify(transactionManagerMock).getTransaction(any());
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verify(letterMapperMock).toLetterEntity(bulkLetterRequest, "partyId1");
+		verify(letterMapperMock).toLetterEntity(bulkLetterRequest, "partyId2");
+		verify(organizationRepositoryMock).findByNumber(organization.number());
+		verify(userRepositoryMock).findByUsernameIgnoreCase(USERNAME);
+		verify(letterRepositoryMock).saveAll(List.of(letterEntity1, letterEntity2));
+		verify(letterOutboxRepositoryMock).saveAll(outboxEntitiesCaptor.capture());
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("contentId", 2);
+		assertThat(outboxEntitiesCaptor.getValue())
+			.extracting(LetterOutboxEntity::getLetterId, LetterOutboxEntity::getMunicipalityId, LetterOutboxEntity::getOrganizationNumber)
+			.containsExactly(
+				tuple("letterId1", municipalityId, organizationNumber),
+				tuple("letterId2", municipalityId, organizationNumber));
+	}
+
+	@Test
+	void getLetterBatchEntity() {
+		final var municipalityId = "2281";
+		final var batchId = "batchId";
+		final var batchEntity = LetterBatchEntity.create();
+
+		when(letterBatchRepositoryMock.findByIdAndMunicipalityId(batchId, municipalityId)).thenReturn(Optional.of(batchEntity));
+
+		final var result = repositoryIntegration.getLetterBatchEntity(municipalityId, batchId);
+
+		assertThat(result).containsSame(batchEntity);
+		verify(letterBatchRepositoryMock).findByIdAndMunicipalityId(batchId, municipalityId);
+	}
+
+	@Test
+	void countLetterStatuses() {
+		final var batchId = "batchId";
+		final var statusCount = mock(LetterStatusCount.class);
+
+		when(letterRepositoryMock.countStatusesByBatchId(batchId)).thenReturn(List.of(statusCount));
+
+		final var result = repositoryIntegration.countLetterStatuses(batchId);
+
+		assertThat(result).containsExactly(statusCount);
+		verify(letterRepositoryMock).countStatusesByBatchId(batchId);
+	}
+
+	@Test
+	void claimOutboxEntries() {
+		final var claimedBy = "claimedBy";
+		final var lease = Duration.ofMinutes(5);
+		final var outboxEntity = LetterOutboxEntity.create().withAttempts(1);
+
+		when(letterOutboxRepositoryMock.findAllByClaimedUntilBeforeOrderByCreatedAsc(any(), eq(Limit.of(10)))).thenReturn(List.of(outboxEntity));
+		when(letterOutboxRepositoryMock.saveAll(List.of(outboxEntity))).thenReturn(List.of(outboxEntity));
+
+		final var result = repositoryIntegration.claimOutboxEntries(claimedBy, 10, lease);
+
+		assertThat(result).containsExactly(outboxEntity);
+		assertThat(outboxEntity.getClaimedBy()).isEqualTo(claimedBy);
+		assertThat(outboxEntity.getAttempts()).isEqualTo(2);
+		assertThat(outboxEntity.getClaimedUntil()).isCloseTo(now().plus(lease), within(5, SECONDS));
+		verify(letterOutboxRepositoryMock).findAllByClaimedUntilBeforeOrderByCreatedAsc(any(), eq(Limit.of(10)));
+		verify(letterOutboxRepositoryMock).saveAll(List.of(outboxEntity));
+	}
+
+	@Test
+	void completeOutboxEntry() {
+		final var outboxEntity = LetterOutboxEntity.create().withId("outboxId").withLetterId("letterId").withClaimedBy("dispatcher");
+
+		when(letterOutboxRepositoryMock.deleteByIdAndClaimedBy("outboxId", "dispatcher")).thenReturn(1);
+		when(letterRepositoryMock.findById("letterId")).thenReturn(Optional.of(letterEntityMock));
+
+		assertThat(repositoryIntegration.completeOutboxEntry(outboxEntity, STATUS_EXCEPTION_ERROR)).isTrue();
+
+		verify(letterOutboxRepositoryMock).deleteByIdAndClaimedBy("outboxId", "dispatcher");
+		verify(letterRepositoryMock).findById("letterId");
+		verify(letterEntityMock).setStatus(STATUS_EXCEPTION_ERROR);
+		verify(letterRepositoryMock).save(letterEntityMock);
+	}
+
+	@Test
+	void completeOutboxEntryWhenClaimedByOtherDispatcher() {
+		final var outboxEntity = LetterOutboxEntity.create().withId("outboxId").withLetterId("letterId").withClaimedBy("dispatcher");
+
+		when(letterOutboxRepositoryMock.deleteByIdAndClaimedBy("outboxId", "dispatcher")).thenReturn(0);
+
+		assertThat(repositoryIntegration.completeOutboxEntry(outboxEntity, STATUS_EXCEPTION_ERROR)).isFalse();
+
+		verify(letterOutboxRepositoryMock).deleteByIdAndClaimedBy("outboxId", "dispatcher");
+	}
+
+	@Test
+	void releaseOutboxEntry() {
+		final var outboxEntity = LetterOutboxEntity.create().withId("outboxId").withClaimedBy("dispatcher");
+		final var claimedUntilCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+
+		when(letterOutboxRepositoryMock.releaseByIdAndClaimedBy(eq("outboxId"), eq("dispatcher"), any())).thenReturn(1);
+
+		assertThat(repositoryIntegration.releaseOutboxEntry(outboxEntity)).isTrue();
+
+		verify(letterOutboxRepositoryMock).releaseByIdAndClaimedBy(eq("outboxId"), eq("dispatcher"), claimedUntilCaptor.capture());
+		assertThat(claimedUntilCaptor.getValue()).isCloseTo(now(), within(5, SECONDS));
+	}
+
+	@Test
+	void removeOutboxEntry() {
+		final var outboxEntity = LetterOutboxEntity.create().withId("outboxId").withClaimedBy("dispatcher");
+
+		when(letterOutboxRepositoryMock.deleteByIdAndClaimedBy("outboxId", "dispatcher")).thenReturn(1);
+
+		assertThat(repositoryIntegration.removeOutboxEntry(outboxEntity)).isTrue();
 
-		verify(attachmentRepositoryMock).findByIdAndLetterIdAndLetter_MunicipalityId(attachmentId, letterId, municipalityId);
+		verify(letterOutboxRepositoryMock).deleteByIdAndClaimedBy("outboxId", "dispatcher");
 	}
 }
@@ -0,0 +1,83 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.sql.Blob;
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AttachmentContentEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		org.hamcrest.MatcherAssert.assertThat(AttachmentContentEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		var id = "id";
+		var hash = "hash";
+		var referenceCount = 5;
+		var storageKey = "storageKey";
+		var contentLength = 123L;
+		var content = Mockito.mock(Blob.class);
+		var created = now();
+
+		var attachmentContentEntity = AttachmentContentEntity.create()
+			.withId(id)
+			.withHash(hash)
+			.withReferenceCount(referenceCount)
+			.withStorageKey(storageKey)
+			.withContentLength(contentLength)
+			.withContent(content)
+			.withCreated(created);
+
+		assertThat(attachmentContentEntity.getId()).isEqualTo(id);
+		assertThat(attachmentContentEntity.getHash()).isEqualTo(hash);
+		assertThat(attachmentContentEntity.getReferenceCount()).isEqualTo(referenceCount);
+		assertThat(attachmentContentEntity.getStorageKey()).isEqualTo(storageKey);
+		assertThat(attachmentContentEntity.getContentLength()).isEqualTo(contentLength);
+		assertThat(attachmentContentEntity.getContent()).isEqualTo(content);
+		assertThat(attachmentContentEntity.getCreated()).isEqualTo(created);
+
+		assertThat(attachmentContentEntity).hasNoNullFieldsOrProperties();
+	}
+
+	@Test
+	void testOnPersist() {
+		final var attachmentContentEntity = AttachmentContentEntity.create();
+
+		attachmentContentEntity.onPersist();
+
+		assertThat(attachmentContentEntity.getCreated()).isCloseTo(now(), within(2, SECONDS));
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AttachmentContentEntity.create()).hasAllNullFieldsOrPropertiesExcept("referenceCount", "contentLength");
+		assertThat(new AttachmentContentEntity()).hasAllNullFieldsOrPropertiesExcept("referenceCount", "contentLength");
+	}
+}
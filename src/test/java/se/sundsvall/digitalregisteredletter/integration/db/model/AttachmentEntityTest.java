@@ -41,10 +41,31 @@ class AttachmentEntityTest {
 		assertThat(attachmentEntity.getFileName()).isEqualTo(fileName);
 		assertThat(attachmentEntity.getContentType()).isEqualTo(contentType);
 		assertThat(attachmentEntity.getContent()).isEqualTo(content);
+		assertThat(attachmentEntity.getAttachmentContent().getContent()).isEqualTo(content);
 
 		assertThat(attachmentEntity).hasNoNullFieldsOrPropertiesExcept("letter");
 	}
 
+	@Test
+	void testSharedAttachmentContent() {
+		var attachmentContent = AttachmentContentEntity.create()
+			.withContent(Mockito.mock(Blob.class));
+
+		var attachmentEntity1 = AttachmentEntity.create().withAttachmentContent(attachmentContent);
+		var attachmentEntity2 = AttachmentEntity.create().withAttachmentContent(attachmentContent);
+
+		assertThat(attachmentEntity1.getAttachmentContent()).isSameAs(attachmentEntity2.getAttachmentContent());
+		assertThat(attachmentEntity1.getContent()).isSameAs(attachmentEntity2.getContent());
+	}
+
+	@Test
+	void testNullContent() {
+		var attachmentEntity = AttachmentEntity.create().withContent(null);
+
+		assertThat(attachmentEntity.getAttachmentContent()).isNull();
+		assertThat(attachmentEntity.getContent()).isNull();
+	}
+
 	@Test
 	void testNoDirtOnCreatedBean() {
 		assertThat(AttachmentEntity.create()).hasAllNullFieldsOrPropertiesExcept();
@@ -0,0 +1,75 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.core.AllOf.allOf;
+
+class LetterBatchEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		org.hamcrest.MatcherAssert.assertThat(LetterBatchEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var id = UUID.randomUUID().toString();
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterCount = 2000;
+		final var created = now();
+
+		final var bean = LetterBatchEntity.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withLetterCount(letterCount)
+			.withCreated(created);
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getOrganizationNumber()).isEqualTo(organizationNumber);
+		assertThat(bean.getLetterCount()).isEqualTo(letterCount);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testOnPersist() {
+		final var bean = LetterBatchEntity.create();
+
+		bean.onPersist();
+
+		assertThat(bean.getCreated()).isCloseTo(now(), within(2, SECONDS));
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(LetterBatchEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new LetterBatchEntity()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -36,9 +36,9 @@ class LetterEntityTest {
 		org.hamcrest.MatcherAssert.assertThat(LetterEntity.class, allOf(
 			hasValidBeanConstructor(),
 			hasValidGettersAndSettersExcluding("requestId"),
-			hasValidBeanHashCodeExcluding("organization", "tenant", "user", "requestId"),
-			hasValidBeanEqualsExcluding("organization", "tenant", "user", "requestId"),
-			hasValidBeanToStringExcluding("organization", "tenant", "user", "requestId")));
+			hasValidBeanHashCodeExcluding("organization", "tenant", "user", "batch", "requestId"),
+			hasValidBeanEqualsExcluding("organization", "tenant", "user", "batch", "requestId"),
+			hasValidBeanToStringExcluding("organization", "tenant", "user", "batch", "requestId")));
 	}
 
 	@Test
@@ -56,6 +56,7 @@ class LetterEntityTest {
 		final var organization = OrganizationEntity.create();
 		final var signingInformation = SigningInformationEntity.create();
 		final var tenant = TenantEntity.create();
+		final var batch = LetterBatchEntity.create();
 		final var contentType = "text/plain";
 		final var status = "status";
 		final var deleted = true;
@@ -81,6 +82,7 @@ class LetterEntityTest {
 			.withOrganization(organization)
 			.withSigningInformation(signingInformation)
 			.withTenant(tenant)
+			.withBatch(batch)
 			.withSubject(subject)
 			.withSupportInformation(supportInformation);
 
@@ -99,6 +101,7 @@ class LetterEntityTest {
 		assertThat(letterEntity.getOrganization()).isEqualTo(organization);
 		assertThat(letterEntity.getSigningInformation()).isEqualTo(signingInformation);
 		assertThat(letterEntity.getTenant()).isEqualTo(tenant);
+		assertThat(letterEntity.getBatch()).isEqualTo(batch);
 		assertThat(letterEntity.getSubject()).isEqualTo(subject);
 
 		assertThat(letterEntity).hasNoNullFieldsOrPropertiesExcept("requestId");
@@ -0,0 +1,86 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.core.AllOf.allOf;
+
+class LetterOutboxEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		org.hamcrest.MatcherAssert.assertThat(LetterOutboxEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var id = UUID.randomUUID().toString();
+		final var letterId = UUID.randomUUID().toString();
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var attempts = 3;
+		final var created = now();
+		final var claimedUntil = now().plusMinutes(5);
+		final var claimedBy = "claimedBy";
+
+		final var bean = LetterOutboxEntity.create()
+			.withId(id)
+			.withLetterId(letterId)
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withAttempts(attempts)
+			.withCreated(created)
+			.withClaimedUntil(claimedUntil)
+			.withClaimedBy(claimedBy);
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getLetterId()).isEqualTo(letterId);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getOrganizationNumber()).isEqualTo(organizationNumber);
+		assertThat(bean.getAttempts()).isEqualTo(attempts);
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getClaimedUntil()).isEqualTo(claimedUntil);
+		assertThat(bean.getClaimedBy()).isEqualTo(claimedBy);
+	}
+
+	@Test
+	void testOnPersist() {
+		final var bean = LetterOutboxEntity.create();
+
+		bean.onPersist();
+
+		assertThat(bean.getCreated()).isCloseTo(now(), within(2, SECONDS));
+		assertThat(bean.getClaimedUntil()).isEqualTo(bean.getCreated());
+		assertThat(bean.getAttempts()).isZero();
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(LetterOutboxEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new LetterOutboxEntity()).hasAllNullFieldsOrProperties();
+	}
+}
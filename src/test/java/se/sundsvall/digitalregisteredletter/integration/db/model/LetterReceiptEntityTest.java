@@ -0,0 +1,72 @@
+package se.sundsvall.digitalregisteredletter.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.core.AllOf.allOf;
+
+class LetterReceiptEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		org.hamcrest.MatcherAssert.assertThat(LetterReceiptEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var letterId = UUID.randomUUID().toString();
+		final var signingInformationVersion = 2L;
+		final var receiptContent = AttachmentContentEntity.create().withId(UUID.randomUUID().toString());
+		final var created = now();
+
+		final var bean = LetterReceiptEntity.create()
+			.withLetterId(letterId)
+			.withSigningInformationVersion(signingInformationVersion)
+			.withReceiptContent(receiptContent)
+			.withCreated(created);
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getLetterId()).isEqualTo(letterId);
+		assertThat(bean.getSigningInformationVersion()).isEqualTo(signingInformationVersion);
+		assertThat(bean.getReceiptContent()).isSameAs(receiptContent);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testOnPersist() {
+		final var bean = LetterReceiptEntity.create();
+
+		bean.onPersist();
+
+		assertThat(bean.getCreated()).isCloseTo(now(), within(2, SECONDS));
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(LetterReceiptEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new LetterReceiptEntity()).hasAllNullFieldsOrProperties();
+	}
+}
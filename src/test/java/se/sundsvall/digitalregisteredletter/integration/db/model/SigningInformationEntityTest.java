@@ -50,6 +50,7 @@ class SigningInformationEntityTest {
 		final var signed = OffsetDateTime.now();
 		final var status = "status";
 		final var surname = "surname";
+		final var version = 3L;
 
 		final var bean = SigningInformationEntity.create()
 			.withContentKey(contentKey)
@@ -65,7 +66,8 @@ class SigningInformationEntityTest {
 			.withSignature(signature)
 			.withSigned(signed)
 			.withStatus(status)
-			.withSurname(surname);
+			.withSurname(surname)
+			.withVersion(version);
 
 		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(bean.getContentKey()).isEqualTo(contentKey);
@@ -82,6 +84,7 @@ class SigningInformationEntityTest {
 		assertThat(bean.getSigned()).isEqualTo(signed);
 		assertThat(bean.getStatus()).isEqualTo(status);
 		assertThat(bean.getSurname()).isEqualTo(surname);
+		assertThat(bean.getVersion()).isEqualTo(version);
 	}
 
 	@Test
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.jpa.domain.Specification;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
 import se.sundsvall.digitalregisteredletter.integration.db.LetterRepository;
@@ -16,6 +17,7 @@ import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
@@ -23,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SIGNED;
 
 @ExtendWith(MockitoExtension.class)
 class LetterSpecificationTest {
@@ -97,4 +100,31 @@ class LetterSpecificationTest {
 
 	}
 
+	@Test
+	void verifySpecificationsForSignedLetters() {
+		final var municipalityId = "2281";
+		final var position = ScrollPosition.keyset();
+
+		when(letterRepositoryMock.findAllSignedByFilter(any(), any(), any(), anyInt())).thenCallRealMethod();
+
+		try (MockedStatic<LetterSpecification> specificationMock = mockStatic(LetterSpecification.class, withSettings().defaultAnswer(CALLS_REAL_METHODS))) {
+			// Act
+			letterRepositoryMock.findAllSignedByFilter(municipalityId, LetterFilterBuilder.create().build(), position, 10);
+
+			// Verify and assert
+			verify(letterRepositoryMock).findBy(specificationCaptor.capture(), any());
+			specificationMock.verify(() -> LetterSpecification.withMunicipalityId(municipalityId));
+			specificationMock.verify(() -> LetterSpecification.withUsername(null));
+			specificationMock.verify(() -> LetterSpecification.withDeleted(false));
+			specificationMock.verify(() -> LetterSpecification.withDepartmentOrgId(null));
+			specificationMock.verify(() -> LetterSpecification.withCreatedEqualOrAfter(null));
+			specificationMock.verify(() -> LetterSpecification.withCreatedEqualOrBefore(null));
+			specificationMock.verify(() -> LetterSpecification.withStatus(STATUS_SIGNED));
+			assertThat(specificationCaptor.getValue()).isNotNull();
+
+			specificationMock.verifyNoMoreInteractions();
+			verifyNoMoreInteractions(letterRepositoryMock);
+		}
+	}
+
 }
@@ -1,17 +1,19 @@
 package se.sundsvall.digitalregisteredletter.integration.kivra;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.dept44.exception.ServerProblem;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.kivra.configuration.KivraProperties;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.ContentUserBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.ContentUserV2;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.KeyValueBuilder;
@@ -19,7 +21,6 @@ import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLe
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterResponseBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.UserMatchV2SSN;
 import se.sundsvall.digitalregisteredletter.service.TenantService;
-import se.sundsvall.digitalregisteredletter.service.util.EncryptionUtility;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,7 +33,9 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
 import static se.sundsvall.TestDataFactory.NOW;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_CLIENT_ERROR;
 import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SENT;
+import static se.sundsvall.digitalregisteredletter.integration.kivra.model.Base64BlobSerializer.MAX_ENCODED_LENGTH;
 
 @ExtendWith(MockitoExtension.class)
 class KivraIntegrationTest {
@@ -41,6 +44,7 @@ class KivraIntegrationTest {
 	private static final String ENCRYPTED_TENANT_KEY = "encrypted-tenant-key";
 	private static final String MUNICIPALITY_ID = "2281";
 	private static final String ORGANIZATION_NUMBER = "5591628136";
+	private static final int ELIGIBILITY_CHUNK_SIZE = 2;
 	private static final TenantEntity TENANT_ENTITY = TenantEntity.create()
 		.withMunicipalityId(MUNICIPALITY_ID)
 		.withOrgNumber(ORGANIZATION_NUMBER)
@@ -55,15 +59,16 @@ class KivraIntegrationTest {
 	@Mock
 	private TenantService tenantServiceMock;
 
-	@Mock
-	private EncryptionUtility encryptionUtilityMock;
-
-	@InjectMocks
 	private KivraIntegration kivraIntegration;
 
+	@BeforeEach
+	void setup() {
+		kivraIntegration = new KivraIntegration(kivraClientMock, kivraMapperMock, tenantServiceMock, createKivraProperties(ELIGIBILITY_CHUNK_SIZE));
+	}
+
 	@AfterEach
 	void ensureNoInteractionsWereMissed() {
-		verifyNoMoreInteractions(kivraMapperMock, kivraClientMock, tenantServiceMock, encryptionUtilityMock);
+		verifyNoMoreInteractions(kivraMapperMock, kivraClientMock, tenantServiceMock);
 	}
 
 	@Test
@@ -84,6 +89,32 @@ class KivraIntegrationTest {
 		verify(kivraClientMock).checkEligibility(TENANT_KEY, userMatchV2SSN);
 	}
 
+	@Test
+	void checkEligibilityInChunks() {
+		final var legalIds = List.of("1111111111", "2222222222", "3333333333", "4444444444", "5555555555");
+		final var chunk1 = new UserMatchV2SSN(List.of("1111111111", "2222222222"));
+		final var chunk2 = new UserMatchV2SSN(List.of("3333333333", "4444444444"));
+		final var chunk3 = new UserMatchV2SSN(List.of("5555555555"));
+
+		when(tenantServiceMock.getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(TENANT_KEY);
+		when(kivraMapperMock.toCheckEligibilityRequest(any())).thenAnswer(invocation -> new UserMatchV2SSN(invocation.getArgument(0)));
+		when(kivraClientMock.checkEligibility(TENANT_KEY, chunk1)).thenReturn(new UserMatchV2SSN(List.of("1111111111")));
+		when(kivraClientMock.checkEligibility(TENANT_KEY, chunk2)).thenReturn(new UserMatchV2SSN(List.of("3333333333", "4444444444")));
+		when(kivraClientMock.checkEligibility(TENANT_KEY, chunk3)).thenReturn(null);
+
+		final var result = kivraIntegration.checkEligibility(legalIds, MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+
+		assertThat(result).containsExactlyInAnyOrder("1111111111", "3333333333", "4444444444");
+
+		verify(tenantServiceMock).getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(kivraMapperMock).toCheckEligibilityRequest(chunk1.legalIds());
+		verify(kivraMapperMock).toCheckEligibilityRequest(chunk2.legalIds());
+		verify(kivraMapperMock).toCheckEligibilityRequest(chunk3.legalIds());
+		verify(kivraClientMock).checkEligibility(TENANT_KEY, chunk1);
+		verify(kivraClientMock).checkEligibility(TENANT_KEY, chunk2);
+		verify(kivraClientMock).checkEligibility(TENANT_KEY, chunk3);
+	}
+
 	@Test
 	void checkEligibilityWithOrganizationNumberKivraThrowsServerProblem() {
 		final var legalIds = List.of("1234567890");
@@ -112,6 +143,7 @@ class KivraIntegrationTest {
 			.build();
 
 		when(tenantServiceMock.getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(TENANT_KEY);
+		when(kivraMapperMock.encodedContentLength(letterEntity)).thenCallRealMethod();
 		when(kivraMapperMock.toSendContentRequest(letterEntity, legalId)).thenCallRealMethod();
 		when(kivraClientMock.sendContent(eq(TENANT_KEY), any(ContentUserV2.class))).thenReturn(response);
 
@@ -120,12 +152,29 @@ class KivraIntegrationTest {
 		assertThat(result).isEqualTo(STATUS_SENT);
 
 		verify(tenantServiceMock).getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(kivraMapperMock).encodedContentLength(letterEntity);
 		verify(kivraMapperMock).toSendContentRequest(letterEntity, legalId);
 		verify(kivraMapperMock).toRegisteredLetter(letterEntity.getId());
 		verify(kivraMapperMock).toPartsResponsives(letterEntity.getAttachments());
 		verify(kivraClientMock).sendContent(eq(TENANT_KEY), any(ContentUserV2.class));
 	}
 
+	@Test
+	void sendContentWhenAttachmentsExceedMaximumEncodedLength() {
+		final var letterEntity = LetterEntity.create().withId("letterId");
+		final var legalId = "1234567890";
+
+		when(tenantServiceMock.getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(TENANT_KEY);
+		when(kivraMapperMock.encodedContentLength(letterEntity)).thenReturn(MAX_ENCODED_LENGTH + 1);
+
+		final var result = kivraIntegration.sendContent(letterEntity, legalId, MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+
+		assertThat(result).isEqualTo(STATUS_CLIENT_ERROR);
+
+		verify(tenantServiceMock).getDecryptedTenantKey(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(kivraMapperMock).encodedContentLength(letterEntity);
+	}
+
 	@Test
 	void getAllResponsesWithOrganizationNumber() {
 		final var status = "signed";
@@ -136,7 +185,7 @@ class KivraIntegrationTest {
 			.build();
 		final var keyValues = List.of(keyValue);
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getAllResponses(TENANT_KEY)).thenReturn(keyValues);
 
 		final var result = kivraIntegration.getAllResponses(TENANT_ENTITY);
@@ -146,44 +195,44 @@ class KivraIntegrationTest {
 			assertThat(pair.responseKey()).isEqualTo(responseKey);
 		});
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getAllResponses(TENANT_KEY);
 	}
 
 	@Test
 	void getAllResponsesWithOrganizationNumberWhenKivraRespondsWithNull() {
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getAllResponses(TENANT_KEY)).thenReturn(null);
 
 		assertThat(kivraIntegration.getAllResponses(TENANT_ENTITY)).isNotNull().isEmpty();
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getAllResponses(TENANT_KEY);
 	}
 
 	@Test
 	void getAllResponsesWithOrganizationNumberKivraThrowsServerProblem() {
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getAllResponses(TENANT_KEY)).thenThrow(new ServerProblem(NOT_IMPLEMENTED, "Damn you Salazar"));
 
 		assertThatThrownBy(() -> kivraIntegration.getAllResponses(TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Bad Gateway: Server exception occurred while retrieving Kivra responses");
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getAllResponses(TENANT_KEY);
 	}
 
 	@Test
 	void getAllResponsesWithOrganizationNumberThrowsException() {
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getAllResponses(TENANT_KEY)).thenThrow(new RuntimeException("Fasten your seatbelts"));
 
 		assertThatThrownBy(() -> kivraIntegration.getAllResponses(TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Internal Server Error: Exception occurred while retrieving Kivra responses");
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getAllResponses(TENANT_KEY);
 	}
 
@@ -196,7 +245,7 @@ class KivraIntegrationTest {
 			.withSenderReference(new RegisteredLetterResponse.SenderReference("internalId"))
 			.build();
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getResponseDetails(TENANT_KEY, responseKey)).thenReturn(registeredLetterResponse);
 
 		final var result = kivraIntegration.getRegisteredLetterResponse(responseKey, TENANT_ENTITY);
@@ -206,7 +255,7 @@ class KivraIntegrationTest {
 		assertThat(result.signedAt()).isEqualTo(NOW);
 		assertThat(result.senderReference().internalId()).isEqualTo("internalId");
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getResponseDetails(TENANT_KEY, responseKey);
 	}
 
@@ -214,14 +263,14 @@ class KivraIntegrationTest {
 	void getRegisteredLetterResponseWithOrganizationNumberKivraThrowsServerProblem() {
 		final var responseKey = "responseKey";
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getResponseDetails(TENANT_KEY, responseKey)).thenThrow(new ServerProblem(NOT_IMPLEMENTED, "Damn you Salazar"));
 
 		assertThatThrownBy(() -> kivraIntegration.getRegisteredLetterResponse(responseKey, TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Bad Gateway: Exception occurred while retrieving Kivra registered letter response for responseKey: %s", responseKey);
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getResponseDetails(TENANT_KEY, responseKey);
 	}
 
@@ -229,14 +278,14 @@ class KivraIntegrationTest {
 	void getRegisteredLetterResponseWithOrganizationNumberThrowsException() {
 		final var responseKey = "responseKey";
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		when(kivraClientMock.getResponseDetails(TENANT_KEY, responseKey)).thenThrow(new RuntimeException("Fasten your seatbelts"));
 
 		assertThatThrownBy(() -> kivraIntegration.getRegisteredLetterResponse(responseKey, TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Internal Server Error: Exception occurred while retrieving Kivra registered letter response for responseKey: %s", responseKey);
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).getResponseDetails(TENANT_KEY, responseKey);
 	}
 
@@ -244,11 +293,11 @@ class KivraIntegrationTest {
 	void deleteResponseWithOrganizationNumber() {
 		final var responseKey = "responseKey";
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 
 		kivraIntegration.deleteResponse(responseKey, TENANT_ENTITY);
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).deleteResponse(TENANT_KEY, responseKey);
 	}
 
@@ -256,14 +305,14 @@ class KivraIntegrationTest {
 	void deleteResponseWithOrganizationNumberKivraThrowsServerProblem() {
 		final var responseKey = "responseKey";
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		doThrow(new ServerProblem(NOT_IMPLEMENTED, "Damn you Salazar")).when(kivraClientMock).deleteResponse(TENANT_KEY, responseKey);
 
 		assertThatThrownBy(() -> kivraIntegration.deleteResponse(responseKey, TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Bad Gateway: Server exception occurred while deleting Kivra response for responseKey: %s", responseKey);
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).deleteResponse(TENANT_KEY, responseKey);
 	}
 
@@ -271,14 +320,14 @@ class KivraIntegrationTest {
 	void deleteResponseWithOrganizationNumberThrowsException() {
 		final var responseKey = "responseKey";
 
-		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
+		when(tenantServiceMock.getDecryptedTenantKey(TENANT_ENTITY)).thenReturn(TENANT_KEY);
 		doThrow(new RuntimeException("Fasten your seatbelts")).when(kivraClientMock).deleteResponse(TENANT_KEY, responseKey);
 
 		assertThatThrownBy(() -> kivraIntegration.deleteResponse(responseKey, TENANT_ENTITY))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Internal Server Error: Exception occurred while deleting Kivra response for responseKey: %s", responseKey);
 
-		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
+		verify(tenantServiceMock).getDecryptedTenantKey(TENANT_ENTITY);
 		verify(kivraClientMock).deleteResponse(TENANT_KEY, responseKey);
 	}
 
@@ -288,4 +337,10 @@ class KivraIntegrationTest {
 
 		verify(kivraClientMock).getTenantInformation();
 	}
+
+	private static KivraProperties createKivraProperties(final int eligibilityChunkSize) {
+		return new KivraProperties("http://kivra-url.com",
+			new KivraProperties.OAuth2("http://token-url.com", "some-client-id", "some-client-secret", "client_credentials"),
+			Duration.ofSeconds(5), Duration.ofSeconds(15), eligibilityChunkSize, 2);
+	}
 }
@@ -1,34 +1,24 @@
 package se.sundsvall.digitalregisteredletter.integration.kivra;
 
 import java.sql.Blob;
-import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.ContentUserV2;
-import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
+import se.sundsvall.digitalregisteredletter.integration.store.DatabaseAttachmentStore;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class KivraMapperTest {
 
-	@Mock
-	private BlobUtil blobUtil;
-
-	@InjectMocks
-	private KivraMapper kivraMapper;
+	private final KivraMapper kivraMapper = new KivraMapper(new DatabaseAttachmentStore(null));
 
 	@Test
 	void toCheckEligibilityRequestTest() {
@@ -41,13 +31,12 @@ class KivraMapperTest {
 	}
 
 	@Test
-	void toSendContentRequestTest() throws SQLException {
+	void toSendContentRequestTest() {
 
 		var subject = "Test Subject";
 		var letterId = "letterId";
 		var legalId = "1234567890";
 		var blob = Mockito.mock(Blob.class);
-		when(blob.getBytes(1, (int) blob.length())).thenReturn("test".getBytes());
 		var attachment = new AttachmentEntity()
 			.withContentType("text/plain")
 			.withFileName("test.pdf")
@@ -56,8 +45,6 @@ class KivraMapperTest {
 			.withSubject(subject)
 			.withId(letterId)
 			.withAttachments(List.of(attachment));
-		when(kivraMapper.toSendContentRequest(letterEntity, legalId)).thenCallRealMethod();
-
 		var result = kivraMapper.toSendContentRequest(letterEntity, legalId);
 
 		assertThat(result).isNotNull().satisfies(contentUserV2 -> {
@@ -67,7 +54,7 @@ class KivraMapperTest {
 			assertThat(contentUserV2.parts()).isNotNull().allSatisfy(content -> {
 				assertThat(content.contentType()).isEqualTo(attachment.getContentType());
 				assertThat(content.name()).isEqualTo(attachment.getFileName());
-				assertThat(content.data()).isEqualTo("dGVzdA=="); // Base64 encoded "test"
+				assertThat(content.data()).isSameAs(blob);
 			});
 			assertThat(contentUserV2.registered()).isNotNull().satisfies(registeredLetter -> {
 				assertThat(registeredLetter.expiresAt()).isCloseTo(OffsetDateTime.now().plusDays(30).format(DateTimeFormatter.ISO_DATE_TIME), within(1, ChronoUnit.SECONDS));
@@ -109,9 +96,8 @@ class KivraMapperTest {
 	}
 
 	@Test
-	void toPartsResponsivesTest() throws SQLException {
+	void toPartsResponsivesTest() {
 		var blob = Mockito.mock(Blob.class);
-		when(blob.getBytes(1, (int) blob.length())).thenReturn("test".getBytes());
 		var attachment1 = new AttachmentEntity()
 			.withContentType("text/plain")
 			.withFileName("test1.txt")
@@ -121,39 +107,50 @@ class KivraMapperTest {
 			.withFileName("test2.txt")
 			.withContent(blob);
 
-		when(kivraMapper.toPartsResponsives(List.of(attachment1, attachment2))).thenCallRealMethod();
-
 		var result = kivraMapper.toPartsResponsives(List.of(attachment1, attachment2));
 
 		assertThat(result).isNotNull().hasSize(2).satisfies(parts -> {
 			assertThat(parts.getFirst().contentType()).isEqualTo("text/plain");
 			assertThat(parts.getFirst().name()).isEqualTo("test1.txt");
-			assertThat(parts.getFirst().data()).isEqualTo("dGVzdA=="); // Base64 encoded "test"
+			assertThat(parts.getFirst().data()).isSameAs(blob);
 			assertThat(parts.getLast().contentType()).isEqualTo("text/plain");
 			assertThat(parts.getLast().name()).isEqualTo("test2.txt");
-			assertThat(parts.getLast().data()).isEqualTo("dGVzdA=="); // Base64 encoded "test"
+			assertThat(parts.getLast().data()).isSameAs(blob);
 		});
 
 	}
 
 	@Test
-	void toPartsResponsiveTest() throws SQLException {
+	void toPartsResponsiveTest() {
 		var blob = Mockito.mock(Blob.class);
-		when(blob.getBytes(1, (int) blob.length())).thenReturn("test".getBytes());
 		var attachment = new AttachmentEntity()
 			.withContentType("text/plain")
 			.withFileName("test.pdf")
 			.withContent(blob);
 
-		when(kivraMapper.toPartsResponsive(attachment)).thenCallRealMethod();
-
 		var result = kivraMapper.toPartsResponsive(attachment);
 
 		assertThat(result).isNotNull().satisfies(part -> {
 			assertThat(part.contentType()).isEqualTo("text/plain");
 			assertThat(part.name()).isEqualTo("test.pdf");
-			assertThat(part.data()).isEqualTo("dGVzdA=="); // Base64 encoded "test"
+			assertThat(part.data()).isSameAs(blob);
 		});
 
 	}
+
+	@Test
+	void encodedContentLengthTest() {
+		var letterEntity = new LetterEntity()
+			.withAttachments(List.of(
+				new AttachmentEntity().withAttachmentContent(AttachmentContentEntity.create().withContentLength(3)),
+				new AttachmentEntity().withAttachmentContent(AttachmentContentEntity.create().withContentLength(4)),
+				new AttachmentEntity()));
+
+		assertThat(kivraMapper.encodedContentLength(letterEntity)).isEqualTo(12);
+	}
+
+	@Test
+	void encodedContentLengthWithoutAttachmentsTest() {
+		assertThat(kivraMapper.encodedContentLength(new LetterEntity())).isZero();
+	}
 }
@@ -22,6 +22,8 @@ class KivraPropertiesTest {
 		assertThat(properties.baseUrl()).isEqualTo("http://kivra-url.com");
 		assertThat(properties.connectTimeout()).isEqualTo(Duration.of(5, SECONDS));
 		assertThat(properties.readTimeout()).isEqualTo(Duration.of(15, SECONDS));
+		assertThat(properties.eligibilityChunkSize()).isEqualTo(1000);
+		assertThat(properties.eligibilityConcurrency()).isEqualTo(4);
 		assertThat(properties.oauth2()).isNotNull().satisfies(oauth2 -> {
 			assertThat(oauth2.clientId()).isEqualTo("some-client-id");
 			assertThat(oauth2.clientSecret()).isEqualTo("some-client-secret");
@@ -0,0 +1,82 @@
+package se.sundsvall.digitalregisteredletter.integration.kivra.model;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.dept44.problem.Problem;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class Base64BlobSerializerTest {
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@Test
+	void serialize() throws SQLException {
+		final var content = new byte[1024 * 1024 + 7];
+		new Random().nextBytes(content);
+		final var blob = mock(Blob.class);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(content));
+		when(blob.length()).thenReturn((long) content.length);
+
+		final var json = jsonMapper.writeValueAsString(PartsResponsiveBuilder.create()
+			.withName("test.pdf")
+			.withData(blob)
+			.withContentType("application/pdf")
+			.build());
+
+		assertThat(json).isEqualTo("{\"name\":\"test.pdf\",\"data\":\"%s\",\"content_type\":\"application/pdf\"}".formatted(Base64.getEncoder().encodeToString(content)));
+		verify(blob, never()).getBytes(anyLong(), anyInt());
+	}
+
+	@Test
+	void serializeWhenBlobIsUnreadable() throws SQLException {
+		final var blob = mock(Blob.class);
+		when(blob.getBinaryStream()).thenThrow(new SQLException("Test exception"));
+
+		final var generator = mock(JsonGenerator.class);
+		final var serializer = new Base64BlobSerializer();
+
+		assertThatThrownBy(() -> serializer.serialize(blob, generator, null))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Internal Server Error: Could not write Blob as Base64 string: Test exception");
+		verifyNoInteractions(generator);
+	}
+
+	@Test
+	void serializeWhenBlobExceedsMaximumEncodedLength() throws SQLException {
+		final var blob = mock(Blob.class);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+		when(blob.length()).thenReturn(3L * Integer.MAX_VALUE);
+
+		final var generator = mock(JsonGenerator.class);
+		final var serializer = new Base64BlobSerializer();
+
+		assertThatThrownBy(() -> serializer.serialize(blob, generator, null))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Internal Server Error: Could not write Blob of %d bytes as Base64 string, as it exceeds the maximum size of a request body".formatted(3L * Integer.MAX_VALUE));
+		verifyNoInteractions(generator);
+	}
+
+	@Test
+	void encodedLength() {
+		assertThat(Base64BlobSerializer.encodedLength(0)).isZero();
+		assertThat(Base64BlobSerializer.encodedLength(1)).isEqualTo(4);
+		assertThat(Base64BlobSerializer.encodedLength(3)).isEqualTo(4);
+		assertThat(Base64BlobSerializer.encodedLength(4)).isEqualTo(8);
+		assertThat(Base64BlobSerializer.encodedLength(3L * Integer.MAX_VALUE)).isEqualTo(4L * Integer.MAX_VALUE);
+	}
+}
@@ -1,10 +1,12 @@
 package se.sundsvall.digitalregisteredletter.integration.kivra.model;
 
+import java.sql.Blob;
 import java.time.OffsetDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 class ContentUserV2Test {
 
@@ -12,7 +14,7 @@ class ContentUserV2Test {
 	private static final String SUBJECT = "subject";
 	private static final String TYPE = "type";
 	private static final String PARTS_RESPONSIVE_NAME = "partsResponsiveName";
-	private static final String PARTS_RESPONSIVE_DATA = "partsResponsiveData";
+	private static final Blob PARTS_RESPONSIVE_DATA = mock(Blob.class);
 	private static final String PARTS_RESPONSIVE_CONTENT_TYPE = "partsResponsiveContentType";
 	private static final OffsetDateTime REGISTERED_LETTER_EXPIRES_AT = OffsetDateTime.now();
 	private static final String REGISTERED_LETTER_SENDER_REFERENCE = "registeredLetterSenderReference";
@@ -1,29 +1,47 @@
 package se.sundsvall.digitalregisteredletter.integration.party;
 
 import generated.se.sundsvall.party.PartyType;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.party.configuration.PartyProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 
 @ExtendWith(MockitoExtension.class)
 class PartyIntegrationTest {
 
+	private static final int PARALLELISM = 2;
+
 	@Mock
 	private PartyClient partyClient;
 
-	@InjectMocks
 	private PartyIntegration partyIntegration;
 
+	@BeforeEach
+	void setup() {
+		partyIntegration = new PartyIntegration(partyClient, new PartyProperties(5, 15, PARALLELISM, Duration.ofSeconds(5)));
+	}
+
 	@AfterEach
 	void ensureNoInteractionsWereMissed() {
 		verifyNoMoreInteractions(partyClient);
@@ -74,4 +92,118 @@ class PartyIntegrationTest {
 		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId2);
 	}
 
+	@Test
+	void getLegalIdMapByPartyIds() {
+		var municipalityId = "2281";
+		var partyId1 = "8d9745ee-f5f3-4edf-ad4c-0cda28dd18a6";
+		var partyId2 = "1d9745ee-f5f3-4edf-ad4c-0cda28dd18a6";
+		var partyId3 = "2d9745ee-f5f3-4edf-ad4c-0cda28dd18a6";
+		var legalId1 = "199901011234";
+		var legalId3 = "200001011234";
+		when(partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId1)).thenReturn(Optional.of(legalId1));
+		when(partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId2)).thenReturn(Optional.empty());
+		when(partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId3)).thenReturn(Optional.of(legalId3));
+
+		var result = partyIntegration.getLegalIdMapByPartyIds(municipalityId, List.of(partyId1, partyId2, partyId3, partyId1));
+
+		assertThat(result).containsExactly(entry(partyId1, legalId1), entry(partyId3, legalId3));
+
+		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId1);
+		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId2);
+		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId3);
+	}
+
+	@Test
+	void getLegalIdMapByPartyIdsRespectsParallelism() {
+		var municipalityId = "2281";
+		var partyIds = IntStream.range(0, 20).mapToObj(i -> "partyId" + i).toList();
+		var inFlight = new AtomicInteger();
+		var maxInFlight = new AtomicInteger();
+
+		when(partyClient.getLegalIdByPartyId(eq(municipalityId), eq(PartyType.PRIVATE), any())).thenAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			inFlight.decrementAndGet();
+			return Optional.of("legalId-" + invocation.getArgument(2));
+		});
+
+		var result = partyIntegration.getLegalIdMapByPartyIds(municipalityId, partyIds);
+
+		assertThat(result).hasSize(partyIds.size());
+		assertThat(maxInFlight.get()).isBetween(1, PARALLELISM);
+		partyIds.forEach(partyId -> verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId));
+	}
+
+	@Test
+	void getLegalIdMapByPartyIdsTimesOut() {
+		var municipalityId = "2281";
+		var partyId = "8d9745ee-f5f3-4edf-ad4c-0cda28dd18a6";
+		partyIntegration = new PartyIntegration(partyClient, new PartyProperties(5, 15, PARALLELISM, Duration.ofMillis(50)));
+
+		when(partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId)).thenAnswer(_ -> {
+			Thread.sleep(500);
+			return Optional.of("199901011234");
+		});
+
+		assertThatThrownBy(() -> partyIntegration.getLegalIdMapByPartyIds(municipalityId, List.of(partyId)))
+			.isInstanceOf(Problem.class)
+			.hasFieldOrPropertyWithValue("status", GATEWAY_TIMEOUT);
+
+		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId);
+	}
+
+	@Test
+	void getLegalIdMapByPartyIdsTimeoutExcludesTimeWaitingForPermit() {
+		var municipalityId = "2281";
+		var partyIds = IntStream.range(0, 10).mapToObj(i -> "partyId" + i).toList();
+		partyIntegration = new PartyIntegration(partyClient, new PartyProperties(5, 15, PARALLELISM, Duration.ofMillis(200)));
+
+		when(partyClient.getLegalIdByPartyId(eq(municipalityId), eq(PartyType.PRIVATE), any())).thenAnswer(invocation -> {
+			Thread.sleep(50);
+			return Optional.of("legalId-" + invocation.getArgument(2));
+		});
+
+		var result = partyIntegration.getLegalIdMapByPartyIds(municipalityId, partyIds);
+
+		assertThat(result).hasSize(partyIds.size());
+		partyIds.forEach(partyId -> verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId));
+	}
+
+	@Test
+	void getLegalIdMapByPartyIdsCancelsRemainingWhenOneFails() {
+		var municipalityId = "2281";
+		var partyIds = IntStream.range(0, 20).mapToObj(i -> "partyId" + i).toList();
+		var problem = Problem.valueOf(BAD_GATEWAY, "Party is down");
+		var calls = new AtomicInteger();
+
+		when(partyClient.getLegalIdByPartyId(eq(municipalityId), eq(PartyType.PRIVATE), any())).thenAnswer(invocation -> {
+			calls.incrementAndGet();
+			if ("partyId0".equals(invocation.getArgument(2))) {
+				throw problem;
+			}
+			Thread.sleep(100);
+			return Optional.of("legalId-" + invocation.getArgument(2));
+		});
+
+		assertThatThrownBy(() -> partyIntegration.getLegalIdMapByPartyIds(municipalityId, partyIds))
+			.isSameAs(problem);
+
+		assertThat(calls.get()).isLessThan(partyIds.size());
+		verify(partyClient, atLeastOnce()).getLegalIdByPartyId(eq(municipalityId), eq(PartyType.PRIVATE), any());
+	}
+
+	@Test
+	void getLegalIdMapByPartyIdsPropagatesClientProblem() {
+		var municipalityId = "2281";
+		var partyId = "8d9745ee-f5f3-4edf-ad4c-0cda28dd18a6";
+		var problem = Problem.valueOf(BAD_GATEWAY, "Party is down");
+
+		when(partyClient.getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId)).thenThrow(problem);
+
+		assertThatThrownBy(() -> partyIntegration.getLegalIdMapByPartyIds(municipalityId, List.of(partyId)))
+			.isSameAs(problem);
+
+		verify(partyClient).getLegalIdByPartyId(municipalityId, PartyType.PRIVATE, partyId);
+	}
+
 }
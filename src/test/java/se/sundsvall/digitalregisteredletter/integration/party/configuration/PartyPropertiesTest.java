@@ -1,5 +1,6 @@
 package se.sundsvall.digitalregisteredletter.integration.party.configuration;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,6 +20,8 @@ class PartyPropertiesTest {
 	void testProperties() {
 		assertThat(properties.connectTimeout()).isEqualTo(5);
 		assertThat(properties.readTimeout()).isEqualTo(30);
+		assertThat(properties.parallelism()).isEqualTo(10);
+		assertThat(properties.resolveTimeout()).isEqualTo(Duration.ofSeconds(20));
 	}
 
 }
@@ -0,0 +1,81 @@
+package se.sundsvall.digitalregisteredletter.integration.store;
+
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.sql.Blob;
+import org.hibernate.LobHelper;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseAttachmentStoreTest {
+
+	@Mock
+	private EntityManager entityManagerMock;
+
+	@Mock
+	private Session sessionMock;
+
+	@Mock
+	private LobHelper lobHelperMock;
+
+	@Mock
+	private Blob blobMock;
+
+	@InjectMocks
+	private DatabaseAttachmentStore databaseAttachmentStore;
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(entityManagerMock, sessionMock, lobHelperMock, blobMock);
+	}
+
+	@Test
+	void write() {
+		final var attachmentContent = AttachmentContentEntity.create().withHash("hash");
+		final var inputStream = new ByteArrayInputStream(new byte[123]);
+
+		when(entityManagerMock.unwrap(Session.class)).thenReturn(sessionMock);
+		when(sessionMock.getLobHelper()).thenReturn(lobHelperMock);
+		when(lobHelperMock.createBlob(inputStream, 123L)).thenReturn(blobMock);
+
+		databaseAttachmentStore.write(attachmentContent, inputStream, 123L);
+
+		assertThat(attachmentContent.getContent()).isSameAs(blobMock);
+		assertThat(attachmentContent.getStorageKey()).isNull();
+		verify(entityManagerMock).unwrap(Session.class);
+		verify(sessionMock).getLobHelper();
+		verify(lobHelperMock).createBlob(inputStream, 123L);
+	}
+
+	@Test
+	void read() {
+		final var attachmentContent = AttachmentContentEntity.create().withContent(blobMock);
+
+		assertThat(databaseAttachmentStore.read(attachmentContent)).isSameAs(blobMock);
+	}
+
+	@Test
+	void delete() {
+		databaseAttachmentStore.delete("storageKey");
+
+		verifyNoInteractions(entityManagerMock);
+	}
+
+	@Test
+	void isExternal() {
+		assertThat(databaseAttachmentStore.isExternal()).isFalse();
+	}
+}
@@ -0,0 +1,123 @@
+package se.sundsvall.digitalregisteredletter.integration.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.configuration.AttachmentStoreProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static se.sundsvall.digitalregisteredletter.integration.store.configuration.AttachmentStoreProperties.Type.FILESYSTEM;
+
+class FileSystemAttachmentStoreTest {
+
+	private static final String HASH = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+	private static final byte[] CONTENT = "content".getBytes();
+
+	@TempDir
+	private Path directory;
+
+	private FileSystemAttachmentStore fileSystemAttachmentStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		fileSystemAttachmentStore = new FileSystemAttachmentStore(new AttachmentStoreProperties(FILESYSTEM, directory));
+	}
+
+	@Test
+	void constructorWithoutDirectory() {
+		final var properties = new AttachmentStoreProperties(FILESYSTEM, null);
+
+		assertThatThrownBy(() -> new FileSystemAttachmentStore(properties))
+			.isInstanceOf(NullPointerException.class)
+			.hasMessage("A directory must be configured for the filesystem attachment store");
+	}
+
+	@Test
+	void write() throws Exception {
+		final var attachmentContent = AttachmentContentEntity.create().withHash(HASH).withContent(Mockito.mock(Blob.class));
+
+		fileSystemAttachmentStore.write(attachmentContent, new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+		final var storageKey = attachmentContent.getStorageKey();
+		final var subDirectory = directory.resolve(storageKey.substring(0, 2));
+		assertThat(storageKey).hasSize(36).isNotEqualTo(HASH);
+		assertThat(attachmentContent.getContent()).isNull();
+		assertThat(subDirectory.resolve(storageKey)).hasBinaryContent(CONTENT);
+		try (final var files = Files.list(subDirectory)) {
+			assertThat(files).containsExactly(subDirectory.resolve(storageKey));
+		}
+	}
+
+	@Test
+	void writeSameContentTwice() {
+		final var attachmentContent = AttachmentContentEntity.create().withHash(HASH);
+		final var otherAttachmentContent = AttachmentContentEntity.create().withHash(HASH);
+
+		fileSystemAttachmentStore.write(attachmentContent, new ByteArrayInputStream(CONTENT), CONTENT.length);
+		fileSystemAttachmentStore.write(otherAttachmentContent, new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+		assertThat(attachmentContent.getStorageKey()).isNotEqualTo(otherAttachmentContent.getStorageKey());
+		assertThat(fileSystemAttachmentStore.resolve(attachmentContent.getStorageKey())).hasBinaryContent(CONTENT);
+		assertThat(fileSystemAttachmentStore.resolve(otherAttachmentContent.getStorageKey())).hasBinaryContent(CONTENT);
+	}
+
+	@Test
+	void read() throws Exception {
+		Files.write(Files.createDirectories(directory.resolve("ed")).resolve(HASH), CONTENT);
+		final var attachmentContent = AttachmentContentEntity.create().withHash(HASH).withStorageKey(HASH);
+
+		final var result = fileSystemAttachmentStore.read(attachmentContent);
+
+		assertThat(result.length()).isEqualTo(CONTENT.length);
+		try (final var inputStream = result.getBinaryStream()) {
+			assertThat(inputStream).hasBinaryContent(CONTENT);
+		}
+	}
+
+	@Test
+	void readContentNotMovedToStore() {
+		final var blob = Mockito.mock(Blob.class);
+		final var attachmentContent = AttachmentContentEntity.create().withHash(HASH).withContent(blob);
+
+		assertThat(fileSystemAttachmentStore.read(attachmentContent)).isSameAs(blob);
+	}
+
+	@Test
+	void readMissingFile() {
+		final var attachmentContent = AttachmentContentEntity.create().withHash(HASH).withStorageKey(HASH);
+
+		assertThatThrownBy(() -> fileSystemAttachmentStore.read(attachmentContent))
+			.isInstanceOf(Problem.class)
+			.hasMessageStartingWith("Internal Server Error: Could not read content with storage key '%s' from attachment store".formatted(HASH));
+	}
+
+	@Test
+	void delete() throws Exception {
+		final var path = Files.write(Files.createDirectories(directory.resolve("ed")).resolve(HASH), CONTENT);
+
+		fileSystemAttachmentStore.delete(HASH);
+
+		assertThat(path).doesNotExist();
+	}
+
+	@Test
+	void deleteMissingFile() {
+		fileSystemAttachmentStore.delete(HASH);
+
+		assertThat(directory.resolve("ed").resolve(HASH)).doesNotExist();
+	}
+
+	@Test
+	void isExternal() {
+		assertThat(fileSystemAttachmentStore.isExternal()).isTrue();
+	}
+}
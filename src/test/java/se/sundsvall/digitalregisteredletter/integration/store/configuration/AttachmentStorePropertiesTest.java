@@ -0,0 +1,24 @@
+package se.sundsvall.digitalregisteredletter.integration.store.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.digitalregisteredletter.integration.store.configuration.AttachmentStoreProperties.Type.DATABASE;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class AttachmentStorePropertiesTest {
+
+	@Autowired
+	private AttachmentStoreProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.type()).isEqualTo(DATABASE);
+		assertThat(properties.directory()).isNull();
+	}
+}
@@ -0,0 +1,90 @@
+package se.sundsvall.digitalregisteredletter.integration.templating.configuration;
+
+import feign.hc5.ApacheHttp5Client;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
+import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.digitalregisteredletter.integration.templating.configuration.TemplatingConfiguration.CLIENT_ID;
+
+@ExtendWith(MockitoExtension.class)
+class TemplatingConfigurationTest {
+
+	@Mock
+	private ClientRegistrationRepository clientRegistrationRepositoryMock;
+
+	@Mock
+	private ClientRegistration clientRegistrationMock;
+
+	@Spy
+	private FeignMultiCustomizer feignMultiCustomizerSpy;
+
+	@Mock
+	private FeignBuilderCustomizer feignBuilderCustomizerMock;
+
+	@Mock
+	private TemplatingProperties propertiesMock;
+
+	@Test
+	void testFeignBuilderCustomizer() {
+		final var configuration = new TemplatingConfiguration();
+
+		when(clientRegistrationRepositoryMock.findByRegistrationId(any())).thenReturn(clientRegistrationMock);
+		when(propertiesMock.connectTimeout()).thenReturn(1);
+		when(propertiesMock.readTimeout()).thenReturn(2);
+		when(feignMultiCustomizerSpy.composeCustomizersToOne()).thenReturn(feignBuilderCustomizerMock);
+
+		try (final MockedStatic<FeignMultiCustomizer> feignMultiCustomizerMock = Mockito.mockStatic(FeignMultiCustomizer.class)) {
+			feignMultiCustomizerMock.when(FeignMultiCustomizer::create).thenReturn(feignMultiCustomizerSpy);
+
+			final var customizer = configuration.feignBuilderCustomizer(propertiesMock, clientRegistrationRepositoryMock);
+
+			final ArgumentCaptor<ProblemErrorDecoder> errorDecoderCaptor = ArgumentCaptor.forClass(ProblemErrorDecoder.class);
+
+			verify(feignMultiCustomizerSpy).withErrorDecoder(errorDecoderCaptor.capture());
+			verify(clientRegistrationRepositoryMock).findByRegistrationId(CLIENT_ID);
+			verify(feignMultiCustomizerSpy).withRetryableOAuth2InterceptorForClientRegistration(same(clientRegistrationMock));
+			verify(propertiesMock).connectTimeout();
+			verify(propertiesMock).readTimeout();
+			verify(feignMultiCustomizerSpy).withRequestTimeoutsInSeconds(1, 2);
+			verify(feignMultiCustomizerSpy).composeCustomizersToOne();
+
+			assertThat(errorDecoderCaptor.getValue()).hasFieldOrPropertyWithValue("integrationName", CLIENT_ID);
+			assertThat(customizer).isSameAs(feignBuilderCustomizerMock);
+		}
+	}
+
+	@Test
+	void testTemplatingFeignClient() throws Exception {
+		final var configuration = new TemplatingConfiguration();
+
+		when(propertiesMock.connectTimeout()).thenReturn(1);
+		when(propertiesMock.maxConnections()).thenReturn(10);
+		when(propertiesMock.connectionTimeToLive()).thenReturn(Duration.ofMinutes(1));
+
+		try (final var httpClient = configuration.templatingHttpClient(propertiesMock)) {
+			final var client = configuration.templatingFeignClient(httpClient);
+
+			assertThat(client).isInstanceOf(ApacheHttp5Client.class);
+			verify(propertiesMock, times(2)).maxConnections();
+			verify(propertiesMock, times(2)).connectionTimeToLive();
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package se.sundsvall.digitalregisteredletter.integration.templating.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class TemplatingPropertiesTest {
+
+	@Autowired
+	private TemplatingProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.connectTimeout()).isEqualTo(5);
+		assertThat(properties.readTimeout()).isEqualTo(30);
+		assertThat(properties.maxConnections()).isEqualTo(20);
+		assertThat(properties.connectionTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+	}
+}
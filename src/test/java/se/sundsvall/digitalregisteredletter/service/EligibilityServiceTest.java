@@ -1,7 +1,8 @@
 package se.sundsvall.digitalregisteredletter.service;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,14 +44,14 @@ class EligibilityServiceTest {
 		final var legalId = "1234567890";
 		final var legalIds = List.of(legalId);
 
-		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, partyId)).thenReturn(Optional.of(legalId));
-		when(kivraIntegrationMock.checkEligibility(legalIds, municipalityId, organizationNumber)).thenReturn(legalIds);
+		when(partyIntegrationMock.getLegalIdMapByPartyIds(municipalityId, List.of(partyId))).thenReturn(Map.of(partyId, legalId));
+		when(kivraIntegrationMock.checkEligibility(legalIds, municipalityId, organizationNumber)).thenReturn(Set.of(legalId));
 
 		final var result = eligibilityService.checkEligibility(municipalityId, organizationNumber, request);
 
 		assertThat(result).containsExactly(partyId);
 
-		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, partyId);
+		verify(partyIntegrationMock).getLegalIdMapByPartyIds(municipalityId, List.of(partyId));
 		verify(kivraIntegrationMock).checkEligibility(legalIds, municipalityId, organizationNumber);
 	}
 
@@ -61,13 +62,13 @@ class EligibilityServiceTest {
 		final var partyId = "123e4567-e89b-12d3-a456-426614174000";
 		final var request = new EligibilityRequest(List.of(partyId));
 
-		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, partyId)).thenReturn(Optional.empty());
+		when(partyIntegrationMock.getLegalIdMapByPartyIds(municipalityId, List.of(partyId))).thenReturn(Map.of());
 
 		final var result = eligibilityService.checkEligibility(municipalityId, organizationNumber, request);
 
 		assertThat(result).isEmpty();
 
-		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, partyId);
+		verify(partyIntegrationMock).getLegalIdMapByPartyIds(municipalityId, List.of(partyId));
 	}
 
 }
@@ -0,0 +1,173 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequest;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequestBuilder;
+import se.sundsvall.digitalregisteredletter.api.model.LetterBatch;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.party.PartyIntegration;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.scheduler.DispatchProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LetterBatchServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String ORGANIZATION_NUMBER = "5591628136";
+	private static final String PARTY_ID_1 = "7ca29702-a07f-4e13-a66a-4ebc27929cfd";
+	private static final String PARTY_ID_2 = "2e5c5e2a-4a5b-4f3a-9a3c-5d9b7f1e0c2d";
+
+	@Mock
+	private PartyIntegration partyIntegrationMock;
+
+	@Mock
+	private RepositoryIntegration repositoryIntegrationMock;
+
+	@Mock
+	private TenantRepository tenantRepositoryMock;
+
+	@Mock
+	private LetterMapper letterMapperMock;
+
+	@Mock
+	private DispatchProperties dispatchPropertiesMock;
+
+	@InjectMocks
+	private LetterBatchService letterBatchService;
+
+	@AfterEach
+	void noMoreInteractions() {
+		verifyNoMoreInteractions(partyIntegrationMock, repositoryIntegrationMock, tenantRepositoryMock, letterMapperMock, dispatchPropertiesMock);
+	}
+
+	@Test
+	void sendLetterBatch() {
+		final var request = createBulkLetterRequest(List.of(PARTY_ID_1, PARTY_ID_2, PARTY_ID_1));
+		final var attachments = List.of(mock(MultipartFile.class));
+		final var tenantEntity = TenantEntity.create();
+		final var batchEntity = LetterBatchEntity.create().withId("batchId");
+		final var statusCounts = List.of(mock(LetterStatusCount.class));
+		final var letterBatch = mock(LetterBatch.class);
+
+		when(dispatchPropertiesMock.enabled()).thenReturn(true);
+		when(partyIntegrationMock.getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1, PARTY_ID_2))).thenReturn(Map.of(PARTY_ID_1, "legalId1", PARTY_ID_2, "legalId2"));
+		when(tenantRepositoryMock.findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(Optional.of(tenantEntity));
+		when(repositoryIntegrationMock.persistLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, tenantEntity, request, attachments)).thenReturn(batchEntity);
+		when(repositoryIntegrationMock.countLetterStatuses("batchId")).thenReturn(statusCounts);
+		when(letterMapperMock.toLetterBatch(batchEntity, statusCounts)).thenReturn(letterBatch);
+
+		final var result = letterBatchService.sendLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, request, attachments);
+
+		assertThat(result).isSameAs(letterBatch);
+		verify(dispatchPropertiesMock).enabled();
+		verify(partyIntegrationMock).getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1, PARTY_ID_2));
+		verify(tenantRepositoryMock).findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(repositoryIntegrationMock).persistLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, tenantEntity, request, attachments);
+		verify(repositoryIntegrationMock).countLetterStatuses("batchId");
+		verify(letterMapperMock).toLetterBatch(batchEntity, statusCounts);
+	}
+
+	@Test
+	void sendLetterBatchWithUnresolvedRecipients() {
+		final var request = createBulkLetterRequest(List.of(PARTY_ID_1, PARTY_ID_2));
+		final var attachments = List.of(mock(MultipartFile.class));
+
+		when(dispatchPropertiesMock.enabled()).thenReturn(true);
+		when(partyIntegrationMock.getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1, PARTY_ID_2))).thenReturn(Map.of(PARTY_ID_1, "legalId1"));
+
+		assertThatThrownBy(() -> letterBatchService.sendLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, request, attachments))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: No legalId found for partyIds '%s' and municipalityId '%s'".formatted(PARTY_ID_2, MUNICIPALITY_ID));
+
+		verify(dispatchPropertiesMock).enabled();
+		verify(partyIntegrationMock).getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1, PARTY_ID_2));
+	}
+
+	@Test
+	void sendLetterBatchWithUnknownTenant() {
+		final var request = createBulkLetterRequest(List.of(PARTY_ID_1));
+		final var attachments = List.of(mock(MultipartFile.class));
+
+		when(dispatchPropertiesMock.enabled()).thenReturn(true);
+		when(partyIntegrationMock.getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1))).thenReturn(Map.of(PARTY_ID_1, "legalId1"));
+		when(tenantRepositoryMock.findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> letterBatchService.sendLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, request, attachments))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: No tenant found for municipalityId '%s' and organizationNumber '%s'".formatted(MUNICIPALITY_ID, ORGANIZATION_NUMBER));
+
+		verify(dispatchPropertiesMock).enabled();
+		verify(partyIntegrationMock).getLegalIdMapByPartyIds(MUNICIPALITY_ID, List.of(PARTY_ID_1));
+		verify(tenantRepositoryMock).findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+	}
+
+	@Test
+	void sendLetterBatchWhenDispatchIsDisabled() {
+		final var request = createBulkLetterRequest(List.of(PARTY_ID_1));
+		final var attachments = List.of(mock(MultipartFile.class));
+
+		when(dispatchPropertiesMock.enabled()).thenReturn(false);
+
+		assertThatThrownBy(() -> letterBatchService.sendLetterBatch(MUNICIPALITY_ID, ORGANIZATION_NUMBER, request, attachments))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Service Unavailable: Letter batches can not be sent as asynchronous dispatch of letters is disabled");
+
+		verify(dispatchPropertiesMock).enabled();
+	}
+
+	@Test
+	void getLetterBatch() {
+		final var batchEntity = LetterBatchEntity.create().withId("batchId");
+		final var statusCounts = List.of(mock(LetterStatusCount.class));
+		final var letterBatch = mock(LetterBatch.class);
+
+		when(repositoryIntegrationMock.getLetterBatchEntity(MUNICIPALITY_ID, "batchId")).thenReturn(Optional.of(batchEntity));
+		when(repositoryIntegrationMock.countLetterStatuses("batchId")).thenReturn(statusCounts);
+		when(letterMapperMock.toLetterBatch(batchEntity, statusCounts)).thenReturn(letterBatch);
+
+		final var result = letterBatchService.getLetterBatch(MUNICIPALITY_ID, "batchId");
+
+		assertThat(result).isSameAs(letterBatch);
+		verify(repositoryIntegrationMock).getLetterBatchEntity(MUNICIPALITY_ID, "batchId");
+		verify(repositoryIntegrationMock).countLetterStatuses("batchId");
+		verify(letterMapperMock).toLetterBatch(batchEntity, statusCounts);
+	}
+
+	@Test
+	void getLetterBatchNotFound() {
+		when(repositoryIntegrationMock.getLetterBatchEntity(MUNICIPALITY_ID, "batchId")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> letterBatchService.getLetterBatch(MUNICIPALITY_ID, "batchId"))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: Letter batch with id 'batchId' and municipalityId '%s' not found".formatted(MUNICIPALITY_ID));
+
+		verify(repositoryIntegrationMock).getLetterBatchEntity(MUNICIPALITY_ID, "batchId");
+	}
+
+	private static BulkLetterRequest createBulkLetterRequest(final List<String> partyIds) {
+		return BulkLetterRequestBuilder.create()
+			.withPartyIds(partyIds)
+			.build();
+	}
+}
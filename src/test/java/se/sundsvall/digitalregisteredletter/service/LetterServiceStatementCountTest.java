@@ -0,0 +1,116 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.kivra.KivraIntegration;
+import se.sundsvall.digitalregisteredletter.integration.party.PartyIntegration;
+import se.sundsvall.digitalregisteredletter.integration.store.DatabaseAttachmentStore;
+import se.sundsvall.digitalregisteredletter.service.mapper.AttachmentMapper;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+
+/**
+ * Verifies the number of statements needed to download an attachment. The metadata of the attachment is read with one
+ * single query, and the content with one more query only when it is written to the response. Before the metadata
+ * projection, a download loaded the attachment, the letter and every attachment of the letter to map the whole letter.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Import({
+	LetterService.class, RepositoryIntegration.class, AttachmentMapper.class, LetterMapper.class, BlobUtil.class, DatabaseAttachmentStore.class
+})
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class LetterServiceStatementCountTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String LETTER_ID = "43a32404-28ee-480f-a095-00d48109afab";
+	private static final String ATTACHMENT_ID = "f4666ea6-0324-490f-8e27-2b704e580a0a";
+	private static final String CONTENT_HASH = "2b200a668f372eb923099cbdb250d0aa340de0163088de1e23482b1a4c50ae9b";
+
+	@MockitoBean
+	private KivraIntegration kivraIntegrationMock;
+
+	@MockitoBean
+	private PartyIntegration partyIntegrationMock;
+
+	@MockitoBean
+	private ReceiptService receiptServiceMock;
+
+	@Autowired
+	private LetterService letterService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		entityManager.clear();
+		statistics.clear();
+	}
+
+	@Test
+	void readLetterAttachmentWhenNotModified() {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(IF_NONE_MATCH, "\"%s\"".formatted(CONTENT_HASH));
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(NOT_MODIFIED.value());
+		assertThat(statistics.getPrepareStatementCount()).isOne();
+	}
+
+	@Test
+	void readLetterAttachment() throws Exception {
+		final var response = new MockHttpServletResponse();
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, new MockHttpServletRequest("GET", "/"), response);
+
+		assertThat(response.getStatus()).isEqualTo(OK.value());
+		assertThat(response.getContentAsString()).isEqualTo("dGVzdA==");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getCollectionLoadCount()).isZero();
+	}
+
+	@Test
+	void readLetterAttachmentRange() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, "bytes=0-3");
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(PARTIAL_CONTENT.value());
+		assertThat(response.getContentAsString()).isEqualTo("dGVz");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getCollectionLoadCount()).isZero();
+	}
+}
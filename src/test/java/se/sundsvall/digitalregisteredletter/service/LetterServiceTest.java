@@ -1,61 +1,95 @@
 package se.sundsvall.digitalregisteredletter.service;
 
-import generated.se.sundsvall.templating.RenderResponse;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.sql.Blob;
-import java.util.Base64;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.sql.rowset.serial.SerialBlob;
-import org.apache.pdfbox.Loader;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.support.Identifier;
 import se.sundsvall.digitalregisteredletter.api.model.Letter;
 import se.sundsvall.digitalregisteredletter.api.model.LetterFilter;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
 import se.sundsvall.digitalregisteredletter.api.model.Letters;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfo;
 import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
 import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
-import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentMetadata;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterSigningStatus;
 import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.integration.kivra.KivraIntegration;
 import se.sundsvall.digitalregisteredletter.integration.party.PartyIntegration;
-import se.sundsvall.digitalregisteredletter.integration.templating.TemplatingIntegration;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static se.sundsvall.TestDataFactory.createLetterEntity;
 import static se.sundsvall.TestDataFactory.createLetterRequest;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ERROR;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SENT;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_SERVER_ERROR;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_UNKNOWN_ERROR;
 
 @ExtendWith(MockitoExtension.class)
 class LetterServiceTest {
 
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String LETTER_ID = "1234";
+	private static final String ATTACHMENT_ID = "attachmentId";
+	private static final String CONTENT_ID = "contentId";
+	private static final int MAX_ATTEMPTS = 5;
+
 	@Mock
 	private KivraIntegration kivraIntegrationMock;
 
@@ -72,14 +106,26 @@ class LetterServiceTest {
 	private LetterMapper letterMapperMock;
 
 	@Mock
-	private TemplatingIntegration templatingIntegrationMock;
+	private ReceiptService receiptServiceMock;
+
+	@Mock
+	private ReceiptBulkhead receiptBulkheadMock;
+
+	@Mock
+	private AttachmentStore attachmentStoreMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
 
 	@InjectMocks
 	private LetterService letterService;
 
 	@AfterEach
 	void ensureNoInteractionsWereMissed() {
-		verifyNoMoreInteractions(repositoryIntegrationMock, partyIntegrationMock, kivraIntegrationMock, tenantRepositoryMock, letterMapperMock, templatingIntegrationMock);
+		verifyNoMoreInteractions(repositoryIntegrationMock, partyIntegrationMock, kivraIntegrationMock, tenantRepositoryMock, letterMapperMock, receiptServiceMock, receiptBulkheadMock, attachmentStoreMock, transactionManagerMock);
 	}
 
 	private HttpServletResponse mockHttpServletResponse(final ByteArrayOutputStream outputStream) throws IOException {
@@ -136,6 +182,163 @@ class LetterServiceTest {
 		verifyNoInteractions(letterMock);
 	}
 
+	@Test
+	void queueLetter() {
+		final var multipartFileList = List.of(mock(MultipartFile.class));
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterRequest = createLetterRequest();
+		final var letterEntity = createLetterEntity();
+		final var tenant = TenantEntity.create().withMunicipalityId(municipalityId).withOrgNumber(organizationNumber);
+		final var letterMock = mock(Letter.class);
+
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterRequest.partyId())).thenReturn(Optional.of("legalId"));
+		when(tenantRepositoryMock.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)).thenReturn(Optional.of(tenant));
+		when(repositoryIntegrationMock.persistQueuedLetter(municipalityId, organizationNumber, tenant, letterRequest, multipartFileList)).thenReturn(letterEntity);
+		when(letterMapperMock.toLetter(letterEntity)).thenReturn(letterMock);
+
+		final var response = letterService.queueLetter(municipalityId, organizationNumber, letterRequest, multipartFileList);
+
+		assertThat(response).isEqualTo(letterMock);
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterRequest.partyId());
+		verify(tenantRepositoryMock).findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber);
+		verify(repositoryIntegrationMock).persistQueuedLetter(municipalityId, organizationNumber, tenant, letterRequest, multipartFileList);
+		verify(letterMapperMock).toLetter(letterEntity);
+		verifyNoInteractions(kivraIntegrationMock, letterMock);
+	}
+
+	@Test
+	void queueLetterWhenTenantNotFound() {
+		final var multipartFileList = List.of(mock(MultipartFile.class));
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterRequest = createLetterRequest();
+
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterRequest.partyId())).thenReturn(Optional.of("legalId"));
+		when(tenantRepositoryMock.findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> letterService.queueLetter(municipalityId, organizationNumber, letterRequest, multipartFileList))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: No tenant found for municipalityId '2281' and organizationNumber '5591628136'");
+
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterRequest.partyId());
+		verify(tenantRepositoryMock).findByMunicipalityIdAndOrgNumber(municipalityId, organizationNumber);
+	}
+
+	@Test
+	void dispatchLetter() {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterEntity = createLetterEntity().withPartyId("ce408061-9e38-4fca-a3e1-220b06f7bd23");
+		final var outboxEntity = LetterOutboxEntity.create()
+			.withLetterId(letterEntity.getId())
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withAttempts(1);
+		final var status = "status";
+
+		when(repositoryIntegrationMock.getLetterEntityWithAttachments(municipalityId, letterEntity.getId())).thenReturn(Optional.of(letterEntity));
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterEntity.getPartyId())).thenReturn(Optional.of("legalId"));
+		when(kivraIntegrationMock.sendContent(letterEntity, "legalId", municipalityId, organizationNumber)).thenReturn(status);
+		when(repositoryIntegrationMock.completeOutboxEntry(outboxEntity, status)).thenReturn(true);
+
+		letterService.dispatchLetter(outboxEntity, MAX_ATTEMPTS);
+
+		verify(repositoryIntegrationMock).getLetterEntityWithAttachments(municipalityId, letterEntity.getId());
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterEntity.getPartyId());
+		verify(kivraIntegrationMock).sendContent(letterEntity, "legalId", municipalityId, organizationNumber);
+		verify(repositoryIntegrationMock).completeOutboxEntry(outboxEntity, status);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		STATUS_SERVER_ERROR, STATUS_UNKNOWN_ERROR, STATUS_EXCEPTION_ERROR
+	})
+	void dispatchLetterWhenKivraFails(final String status) {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterEntity = createLetterEntity().withPartyId("ce408061-9e38-4fca-a3e1-220b06f7bd23");
+		final var outboxEntity = LetterOutboxEntity.create()
+			.withLetterId(letterEntity.getId())
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withAttempts(MAX_ATTEMPTS - 1);
+
+		when(repositoryIntegrationMock.getLetterEntityWithAttachments(municipalityId, letterEntity.getId())).thenReturn(Optional.of(letterEntity));
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterEntity.getPartyId())).thenReturn(Optional.of("legalId"));
+		when(kivraIntegrationMock.sendContent(letterEntity, "legalId", municipalityId, organizationNumber)).thenReturn(status);
+		when(repositoryIntegrationMock.releaseOutboxEntry(outboxEntity)).thenReturn(true);
+
+		letterService.dispatchLetter(outboxEntity, MAX_ATTEMPTS);
+
+		verify(repositoryIntegrationMock).getLetterEntityWithAttachments(municipalityId, letterEntity.getId());
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterEntity.getPartyId());
+		verify(kivraIntegrationMock).sendContent(letterEntity, "legalId", municipalityId, organizationNumber);
+		verify(repositoryIntegrationMock).releaseOutboxEntry(outboxEntity);
+	}
+
+	@Test
+	void dispatchLetterWhenKivraFailsOnLastAttempt() {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterEntity = createLetterEntity().withPartyId("ce408061-9e38-4fca-a3e1-220b06f7bd23");
+		final var outboxEntity = LetterOutboxEntity.create()
+			.withLetterId(letterEntity.getId())
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withAttempts(MAX_ATTEMPTS);
+
+		when(repositoryIntegrationMock.getLetterEntityWithAttachments(municipalityId, letterEntity.getId())).thenReturn(Optional.of(letterEntity));
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterEntity.getPartyId())).thenReturn(Optional.of("legalId"));
+		when(kivraIntegrationMock.sendContent(letterEntity, "legalId", municipalityId, organizationNumber)).thenReturn(STATUS_SERVER_ERROR);
+		when(repositoryIntegrationMock.completeOutboxEntry(outboxEntity, STATUS_SERVER_ERROR)).thenReturn(true);
+
+		letterService.dispatchLetter(outboxEntity, MAX_ATTEMPTS);
+
+		verify(repositoryIntegrationMock).getLetterEntityWithAttachments(municipalityId, letterEntity.getId());
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterEntity.getPartyId());
+		verify(kivraIntegrationMock).sendContent(letterEntity, "legalId", municipalityId, organizationNumber);
+		verify(repositoryIntegrationMock).completeOutboxEntry(outboxEntity, STATUS_SERVER_ERROR);
+	}
+
+	@Test
+	void dispatchLetterWhenClaimedByOtherDispatcher() {
+		final var municipalityId = "2281";
+		final var organizationNumber = "5591628136";
+		final var letterEntity = createLetterEntity().withPartyId("ce408061-9e38-4fca-a3e1-220b06f7bd23");
+		final var outboxEntity = LetterOutboxEntity.create()
+			.withLetterId(letterEntity.getId())
+			.withMunicipalityId(municipalityId)
+			.withOrganizationNumber(organizationNumber)
+			.withAttempts(1);
+
+		when(repositoryIntegrationMock.getLetterEntityWithAttachments(municipalityId, letterEntity.getId())).thenReturn(Optional.of(letterEntity));
+		when(partyIntegrationMock.getLegalIdByPartyId(municipalityId, letterEntity.getPartyId())).thenReturn(Optional.of("legalId"));
+		when(kivraIntegrationMock.sendContent(letterEntity, "legalId", municipalityId, organizationNumber)).thenReturn(STATUS_SENT);
+		when(repositoryIntegrationMock.completeOutboxEntry(outboxEntity, STATUS_SENT)).thenReturn(false);
+
+		letterService.dispatchLetter(outboxEntity, MAX_ATTEMPTS);
+
+		verify(repositoryIntegrationMock).getLetterEntityWithAttachments(municipalityId, letterEntity.getId());
+		verify(partyIntegrationMock).getLegalIdByPartyId(municipalityId, letterEntity.getPartyId());
+		verify(kivraIntegrationMock).sendContent(letterEntity, "legalId", municipalityId, organizationNumber);
+		verify(repositoryIntegrationMock).completeOutboxEntry(outboxEntity, STATUS_SENT);
+	}
+
+	@Test
+	void dispatchLetterWhenLetterNotFound() {
+		final var outboxEntity = LetterOutboxEntity.create()
+			.withLetterId("letterId")
+			.withMunicipalityId("2281");
+
+		when(repositoryIntegrationMock.getLetterEntityWithAttachments("2281", "letterId")).thenReturn(Optional.empty());
+
+		letterService.dispatchLetter(outboxEntity, MAX_ATTEMPTS);
+
+		verify(repositoryIntegrationMock).getLetterEntityWithAttachments("2281", "letterId");
+		verify(repositoryIntegrationMock).removeOutboxEntry(outboxEntity);
+	}
+
 	@Test
 	void getLetter() {
 		final var municipalityId = "2281";
@@ -175,26 +378,31 @@ class LetterServiceTest {
 		final var id2 = "22222222-2222-2222-2222-222222222222";
 		final var id3 = "33333333-3333-3333-3333-333333333333";
 
-		final var e1 = LetterEntity.create().withId(id1).withStatus("NEW");
-		final var e2 = LetterEntity.create().withId(id2).withStatus("SIGNED");
-
-		when(repositoryIntegrationMock.getLetterEntities(municipalityId, List.of(id1, id2, id3)))
-			.thenReturn(List.of(e2, e1));
-		when(letterMapperMock.toLetterStatus(e1))
-			.thenReturn(new LetterStatus(id1, "NEW", "NOT_FOUND"));
-		when(letterMapperMock.toLetterStatus(e2))
-			.thenReturn(new LetterStatus(id2, "SIGNED", "NOT_FOUND"));
+		final var s1 = mock(LetterSigningStatus.class);
+		final var s2 = mock(LetterSigningStatus.class);
+		when(s1.getId()).thenReturn(id1);
+		when(s1.getStatus()).thenReturn("NEW");
+		when(s2.getId()).thenReturn(id2);
+		when(s2.getStatus()).thenReturn("SIGNED");
+		when(s2.getSigningStatus()).thenReturn("COMPLETED");
+
+		when(repositoryIntegrationMock.getLetterSigningStatuses(municipalityId, List.of(id1, id2, id3)))
+			.thenReturn(List.of(s2, s1));
+		when(letterMapperMock.toLetterStatus(id1, "NEW", null))
+			.thenReturn(new LetterStatus(id1, "NEW", "PENDING"));
+		when(letterMapperMock.toLetterStatus(id2, "SIGNED", "COMPLETED"))
+			.thenReturn(new LetterStatus(id2, "SIGNED", "COMPLETED"));
 		when(letterMapperMock.toLetterStatus(id3, null, null))
-			.thenReturn(new LetterStatus(id3, "NOT_FOUND", "NOT_FOUND"));
+			.thenReturn(new LetterStatus(id3, "NOT_FOUND", "PENDING"));
 
 		final var result = letterService.getLetterStatuses(municipalityId, List.of(id1, id2, id3));
 
 		assertThat(result).containsExactly(
-			new LetterStatus(id1, "NEW", "NOT_FOUND"),
-			new LetterStatus(id2, "SIGNED", "NOT_FOUND"),
-			new LetterStatus(id3, "NOT_FOUND", "NOT_FOUND"));
+			new LetterStatus(id1, "NEW", "PENDING"),
+			new LetterStatus(id2, "SIGNED", "COMPLETED"),
+			new LetterStatus(id3, "NOT_FOUND", "PENDING"));
 
-		verify(repositoryIntegrationMock).getLetterEntities(municipalityId, List.of(id1, id2, id3));
+		verify(repositoryIntegrationMock).getLetterSigningStatuses(municipalityId, List.of(id1, id2, id3));
 	}
 
 	@Test
@@ -270,120 +478,362 @@ class LetterServiceTest {
 		verifyNoInteractions(letterFilterMock, pageableMock, pageMock, lettersMock);
 	}
 
+	@SuppressWarnings("unchecked")
 	@Test
-	void testReadLetterAttachment() throws Exception {
-		// Arrange
+	void getLettersByCursor() {
 		final var municipalityId = "2281";
-		final var letterId = "1234";
-		final var letterEntityMock = mock(LetterEntity.class);
-		final var outputStream = new ByteArrayOutputStream();
-		final var response = mockHttpServletResponse(outputStream);
-		final var minimalPdf = "JVBERi0xLjUKJbXtrvsKNCAwIG9iago8PCAvTGVuZ3RoIDUgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCj4+CnN0cmVhbQp4nDNUMABCXUMgYW5ppJCcy1UIhGaGRhBxkBhcRj/RQCG9WEG/wlzBJZ8rEAgBf7IM0QplbmRzdHJlYW0KZW5kb2JqCjUgMCBvYmoKICAgNTAKZW5kb2JqCjMgMCBvYmoKPDwKICAgL0V4dEdTdGF0ZSA8PAogICAgICAvYTAgPDwgL0NBIDEgL2NhIDEgPj4KICAgPj4KICAgL1hPYmplY3QgPDwgL3g3IDcgMCBSID4+Cj4+CmVuZG9iago5IDAgb2JqCjw8IC9MZW5ndGggMTAgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgOAo+PgpzdHJlYW0KeJzt3X+slXUdB/DvRVHclR8KgoJIgkoWiaHFppa1mizdGJrhmjrnJCSjqA2TiubNWIEVXCwBjSlrjpVSJhUGAkIFKt5EUhlTBE0qDJWQxc/u/fScc889PziM7lnIduH1+ud7v9/neZ97v3+9d8/znOekBAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAcpbpN3fDu3+e1+/RR8zJX1PQbJuUiZ9X4ZwFAz/X/vv3WVza0//zPzIr4ak2/4uxrl0ZcWOsfBsAx78G4I6Vb2t9RKX261o5KaYqOAqBmvfbHpSl1a6whoqMAOCJGR5xTY0RHAXBENET0rzGSddSEGiNZRw2tMQLAMW9mxJk1RrKOGl9jJOuoITVGADjmzanoqB6DP3haxeHTh5zX7cBI1lFjUqeBF/SvK611OmVArwNOO2lQ6ecpuXcUuwweUv7iB4kAQJtutz70VsS6pqam87LZiRNeiMzmKd0Lh3tP35LNW5675biKVNZRE3/6bnbkzemn5hfqf7F+fzbd1tg1m3wie7WmAenjC/Y+X4pkHTXq8X3ZORvGH18dSfc1FdX6LiIAR6kBjY1/iZjb2NjYL6VTVsemG84598ZXY+PA/NELt8byEQM+NGln/O6k8lTWUbuWzf3+vS9HvJK/ltUr1n/p4kFjdsWy3Kz/jIjPLcoKqLKjti2c9b15WSP+pnN1ZMWeRbPuamiYnhXipUdk4wB0BKX3+hbEW31zY+8tsTbXIydvjj/k/+m5rDnuLY+03dd33LSIlbkfesXFueFHEcNz45iIjXdfPfSRyo7K39fXY2nEd6ojK1qvb82OmP2ebBKADqnYUR+J+G7r0viIG7Ph9ohPtS4siOb3lUVK954/E/GxbOi+OH9lanTEF3Jj1lGjsmHQ0lKkeO95752xo74qsiJ/8JKW+Fv3BAAFxY6a2do3mTMjFmfDuth9QuvCDRHfKIuUOmpsxPSK9fzVpEJHlSt9Pmp+xMiqyEW5C16dX4y4+nBsCYCjRLGjno5ou+tue2yvS/XN8VJhPjTi12WRUkdlB56sXj9kR02IuPNgL5XStyN+9X9uBoCjSrGj3oyWtrWXInqk8yOWF+anVdz/UFYsPaPQYycPv+amsT9pT0d9NgoXtyoimcF7Ykffw7YtAI4CxY7aHbva1p6NOCsNj1hUmNdHbCqLlDoqO7A5Gwb9cn+89tSyNe3pqKsiHqyOpFS3ImLc4d0aAB1csaN2xL62tecjTk8fjlhSmPeIKH8ueqmjekW8kFK/f8TKs1M73+u7NuLH1ZF86E91CQBKih21OaJwi0R6NVq6pAERqwrz/hFPlUVKxfL+iKUpTY0YWL5+yI4aFzG5OpL6vBN7zz+8OwOgoyt21MKIwsOLjt8XL6dU9694o3DO5RH3l0VKHTUy4gcpPRnbKtYP2VHTI66qjqSft91KMexrh29vAHRsxY6aEDG6demSiPuy4dGIPq0L34z4fFmk1FEzIz6Z0tr4Z8X6ITtqXezsWh25MmJ9639xk+86jJsDoEMrdlTPnW23ft8fLcOy4YqIr+TnnTbE1hPLIsWO6v52rKtLaUm09ClfP1RHXRZxT6qK1L9WfAjScg/sA6Cg9CyksdFyfW68rrnwwdz58XbuCzU6zYyWis5p66Kui2LXRdk4OeKxM1Kfm5753x117qbY2K06MiNiVv68LqP2XP+ebBOADmfED/8aseTum/M19eVdsfjOhidi/7RO+YMnPBC7H/rWtBdj+3UVoWHb4/XHHpj9yDvxRv7JFKe+HhHNsfWaiD9+sU/vccsiHp84oiIybm+se3junN/vi9V9qyND/xOxvqmp6c9bmiMqgwAcs8Y3tPpoftbvjoVr1vx2cum744dNfeK5VQ/f1uOAVOfLJ/1s5dpV828uPA79jBlPP/vobfVpYvZKQz7Q+opfr4x0Hzllweq1K+ZcmQ4SuaChTK3fuAgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAHOv+C0jaOxIKZW5kc3RyZWFtCmVuZG9iagoxMCAwIG9iagogICA1MDM5CmVuZG9iago3IDAgb2JqCjw8IC9MZW5ndGggMTEgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgMQogICAvU01hc2sgOSAwIFIKPj4Kc3RyZWFtCnic7cExAQAAAMKg9U9tCU+gAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD4GJuEAAQplbmRzdHJlYW0KZW5kb2JqCjExIDAgb2JqCiAgIDQ3NwplbmRvYmoKOCAwIG9iago8PCAvVHlwZSAvT2JqU3RtCiAgIC9MZW5ndGggMTIgMCBSCiAgIC9OIDEKICAgL0ZpcnN0IDQKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKPj4Kc3RyZWFtCnicM1Mw4IrmiuUCAAY4AV0KZW5kc3RyZWFtCmVuZG9iagoxMiAwIG9iagogICAxNgplbmRvYmoKMTMgMCBvYmoKPDwgL1R5cGUgL09ialN0bQogICAvTGVuZ3RoIDE2IDAgUgogICAvTiA0CiAgIC9GaXJzdCAyMwogICAvRmlsdGVyIC9GbGF0ZURlY29kZQo+PgpzdHJlYW0KeJxVkVFrgzAUhd/9FedlTBlobqrrVqQPVShjDMTubewhpMEKw0gSx/rvl9jaMfJ0P87NOYdLYBHlKFjEQQVFVGC1zqOyRPZ+HhWyRnTKRgCy1/5o8QEOhhafM6r0NDhQtN3OG43Rx0kqg1iK3mhQSk9pjvjk3Gg3WTbTzojx1EubatMlyeUbo4Tr9VALpxDXG854QYwR5Tmj9QPj94wli8lfLNx567DfCKNCjpBsBm/q2Iud/vFxmX+PxLF+5rfQg/Nyi/ym3xs9jSjLMIT54jHTBR08NWKwY/CS5wW/wJlJLVPlVbX67qVq97sAfebAW2X1ZKSyWN08D35Rukt066/wr14lnPjS3bWdv8C1nBf9Aht2bs0KZW5kc3RyZWFtCmVuZG9iagoxNiAwIG9iagogICAyNzgKZW5kb2JqCjE3IDAgb2JqCjw8IC9UeXBlIC9YUmVmCiAgIC9MZW5ndGggNzIKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKICAgL1NpemUgMTgKICAgL1cgWzEgMiAyXQogICAvUm9vdCAxNSAwIFIKICAgL0luZm8gMTQgMCBSCj4+CnN0cmVhbQp4nGNgYPj/n4mBl4EBRDAxMixmYGBk4AcRfSAxDiBLdDmQkGgBEozsIG4/iJsLJCRBXElZiF5GEMHMKLUCKCa1n4EBAJM2CBEKZW5kc3RyZWFtCmVuZG9iagpzdGFydHhyZWYKNjg0NwolJUVPRgoxOCAwIG9iag0KPDwvU2l6ZSAxOSAvUm9vdCAxNSAwIFIgL1ByZXYgNjg0NyAvVHlwZSAvWFJlZiAvSW5kZXggWzAgMSAxNCAxIDE4IDEgXSAvVyBbMSA0IDIgXSAvTGVuZ3RoIDIxID4+IHN0cmVhbQ0KAAAAAAH//wAAAAAPAAIBAAAbsAAADQplbmRzdHJlYW0NCg0KZW5kb2JqDQpzdGFydHhyZWYNCjcwODgNCiUlRU9GDQo=";
+		final var letterFilterMock = mock(LetterFilter.class);
+		final var windowMock = mock(Window.class);
+		final var lettersMock = mock(Letters.class);
 
-		final List<AttachmentEntity> attachments = List.of(
-			new AttachmentEntity()
-				.withContentType("application/pdf")
-				.withContent(new SerialBlob(Base64.getDecoder().decode(minimalPdf))));
-		final var renderResponse = new RenderResponse().output(minimalPdf);
+		when(repositoryIntegrationMock.getLetterEntityWindow(municipalityId, letterFilterMock, ScrollPosition.keyset(), 10)).thenReturn(windowMock);
+		when(letterMapperMock.toLetters(windowMock, 10)).thenReturn(lettersMock);
 
-		when(repositoryIntegrationMock.getLetterEntity(municipalityId, letterId)).thenReturn(Optional.of(letterEntityMock));
-		when(letterEntityMock.getAttachments()).thenReturn(attachments);
-		when(templatingIntegrationMock.renderPdf(municipalityId, letterEntityMock))
-			.thenReturn(renderResponse);
+		final var result = letterService.getLettersByCursor(municipalityId, letterFilterMock, "", 10);
 
-		// Act
-		letterService.readLetterReceipt(municipalityId, letterId, response);
+		assertThat(result).isSameAs(lettersMock);
 
-		// Assert
-		final var pdfDocument = Loader.loadPDF(outputStream.toByteArray());
+		verify(repositoryIntegrationMock).getLetterEntityWindow(municipalityId, letterFilterMock, ScrollPosition.keyset(), 10);
+		verify(letterMapperMock).toLetters(windowMock, 10);
+		verifyNoInteractions(letterFilterMock, windowMock, lettersMock);
+	}
 
-		// Assert
-		assertThat(outputStream).isNotNull();
-		assertThat(pdfDocument.getNumberOfPages()).isEqualTo(2);
-		verify(templatingIntegrationMock).renderPdf(municipalityId, letterEntityMock);
-		verify(repositoryIntegrationMock).getLetterEntity(municipalityId, letterId);
+	@Test
+	void getLettersByInvalidCursor() {
+		final var letterFilter = LetterFilterBuilder.create().build();
 
+		assertThatThrownBy(() -> letterService.getLettersByCursor("2281", letterFilter, "invalid-cursor", 10))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor 'invalid-cursor'");
 	}
 
 	@Test
 	void testReadLetterAttachment_withAttachmentId() throws Exception {
 		// Arrange
-		final var municipalityId = "2281";
-		final var letterId = "1234";
-		final var attachmentId = "attachmentId";
-		final var contentType = "application/pdf";
-		final var fileName = "test.pdf";
-		final var content = "test content";
-
 		final var outputStream = new ByteArrayOutputStream();
 		final var response = mockHttpServletResponse(outputStream);
+		final var content = "test content";
 
-		final var letterEntityMock = mock(LetterEntity.class);
-		final var attachmentEntityMock = mock(AttachmentEntity.class);
-		final var blobMock = mock(Blob.class);
-
-		// Setup Letter with Attachment metadata
-		final var attachment = new Letter.Attachment(attachmentId, fileName, contentType);
-		final var letter = new Letter(letterId, null, municipalityId, null, null, null, null, null, null, List.of(attachment));
-
-		// Setup mocks
-		when(repositoryIntegrationMock.getLetterEntity(municipalityId, letterId)).thenReturn(Optional.of(letterEntityMock));
-		when(letterMapperMock.toLetter(letterEntityMock)).thenReturn(letter);
-		when(repositoryIntegrationMock.getAttachmentEntity(municipalityId, letterId, attachmentId)).thenReturn(Optional.of(attachmentEntityMock));
-		when(attachmentEntityMock.getContent()).thenReturn(blobMock);
-		when(blobMock.getBinaryStream()).thenReturn(new ByteArrayInputStream(content.getBytes()));
-		when(blobMock.length()).thenReturn((long) content.length());
+		final var attachmentContentEntity = mockAttachmentWithContent(content);
 
 		// Act
-		letterService.readLetterAttachment(municipalityId, letterId, attachmentId, response);
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, new MockHttpServletRequest(), response);
 
 		// Assert
-		verify(response).addHeader(CONTENT_TYPE, contentType);
-		verify(response).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+		verify(response).addHeader(CONTENT_TYPE, "text/plain");
+		verify(response).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"test.txt\"");
 		verify(response).getOutputStream();
-		verify(repositoryIntegrationMock).getLetterEntity(municipalityId, letterId);
-		verify(letterMapperMock).toLetter(letterEntityMock);
-		verify(repositoryIntegrationMock).getAttachmentEntity(municipalityId, letterId, attachmentId);
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verify(attachmentStoreMock).read(attachmentContentEntity);
 
 		assertThat(outputStream).hasToString(content);
 	}
 
 	@Test
-	void testReadLetterReceipt() throws Exception {
-		// Arrange
-		final var municipalityId = "2281";
-		final var letterId = "1234";
-		final var expectedFilename = "kvittens_rekutskick_" + letterId + ".pdf";
+	void testReadLetterAttachment_contentHeldByDatabase() throws Exception {
+		final var response = new MockHttpServletResponse();
 
-		final var outputStream = new ByteArrayOutputStream();
-		final var response = mockHttpServletResponse(outputStream);
+		mockAttachmentWithDatabaseContent();
+		when(repositoryIntegrationMock.getAttachmentContentStream(CONTENT_ID, 0, 12)).thenReturn(new ByteArrayInputStream("test content".getBytes()));
 
-		final var letterEntityMock = mock(LetterEntity.class);
-		final var attachmentEntityMock = mock(AttachmentEntity.class);
-		final var blobMock = mock(Blob.class);
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, new MockHttpServletRequest("GET", "/"), response);
 
-		// Minimal valid PDF for testing merge functionality
-		final var minimalPdf = "JVBERi0xLjQKJeLjz9MKMyAwIG9iago8PC9UeXBlL1BhZ2UvUGFyZW50IDIgMCBSL01lZGlhQm94WzAgMCA2MTIgNzkyXT4+CmVuZG9iago0IDAgb2JqCjw8L0xlbmd0aCAzNT4+CnN0cmVhbQpCVAovRjEgMTIgVGYKKFRlc3QgUERGKSBUagpFVAplbmRzdHJlYW0KZW5kb2JqCjEgMCBvYmoKPDwvVHlwZS9QYWdlcy9LaWRzWzMgMCBSXS9Db3VudCAxPj4KZW5kb2JqCjIgMCBvYmoKPDwvVHlwZS9DYXRhbG9nL1BhZ2VzIDEgMCBSPj4KZW5kb2JqCnhyZWYKMCA1CjAwMDAwMDAwMDAgNjU1MzUgZiAKMDAwMDAwMDE0NyAwMDAwMCBuIAowMDAwMDAwMTk2IDAwMDAwIG4gCjAwMDAwMDAwMTUgMDAwMDAgbiAKMDAwMDAwMDA3NCAwMDAwMCBuIAp0cmFpbGVyCjw8L1NpemUgNS9Sb290IDIgMCBSPj4Kc3RhcnR4cmVmCjI0NQolJUVPRgo=";
-		final var renderResponse = new RenderResponse().output(minimalPdf);
-		final var pdfBytes = Base64.getDecoder().decode(minimalPdf);
+		assertThat(response.getStatus()).isEqualTo(OK.value());
+		assertThat(response.getContentLengthLong()).isEqualTo(12);
+		assertThat(response.getContentAsString()).isEqualTo("test content");
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verify(repositoryIntegrationMock).getAttachmentContentStream(CONTENT_ID, 0, 12);
+		verifyNoInteractions(attachmentStoreMock);
+	}
 
-		// Setup mocks
-		when(repositoryIntegrationMock.getLetterEntity(municipalityId, letterId)).thenReturn(Optional.of(letterEntityMock));
-		when(letterEntityMock.getAttachments()).thenReturn(List.of(attachmentEntityMock));
-		when(attachmentEntityMock.getContent()).thenReturn(blobMock);
-		when(blobMock.getBinaryStream()).thenReturn(new ByteArrayInputStream(pdfBytes));
-		when(templatingIntegrationMock.renderPdf(municipalityId, letterEntityMock)).thenReturn(renderResponse);
+	@Test
+	void testReadLetterAttachment_rangeOfContentHeldByDatabase() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, "bytes=5-11");
+
+		mockAttachmentWithDatabaseContent();
+		when(repositoryIntegrationMock.getAttachmentContentStream(CONTENT_ID, 5, 7)).thenReturn(new ByteArrayInputStream("content".getBytes()));
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(PARTIAL_CONTENT.value());
+		assertThat(response.getHeader(CONTENT_RANGE)).isEqualTo("bytes 5-11/12");
+		assertThat(response.getContentLengthLong()).isEqualTo(7);
+		assertThat(response.getContentAsString()).isEqualTo("content");
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verify(repositoryIntegrationMock).getAttachmentContentStream(CONTENT_ID, 5, 7);
+		verifyNoInteractions(attachmentStoreMock);
+	}
+
+	@Test
+	void testReadLetterAttachment_notFound() {
+		when(repositoryIntegrationMock.getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, new MockHttpServletRequest(), new MockHttpServletResponse()))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: Attachment with id '%s' not found in letter '%s'".formatted(ATTACHMENT_ID, LETTER_ID));
+
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verifyNoInteractions(attachmentStoreMock);
+	}
+
+	@Test
+	void testReadLetterAttachment_notModified() {
+		final var created = OffsetDateTime.parse("2025-01-01T12:00:00Z");
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(IF_NONE_MATCH, "\"hash\"");
+
+		final var attachmentMetadataMock = mock(AttachmentMetadata.class);
+		when(attachmentMetadataMock.getHash()).thenReturn("hash");
+		when(attachmentMetadataMock.getLetterCreated()).thenReturn(created);
+		when(repositoryIntegrationMock.getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID)).thenReturn(Optional.of(attachmentMetadataMock));
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(NOT_MODIFIED.value());
+		assertThat(response.getHeader(ETAG)).isEqualTo("\"hash\"");
+		assertThat(response.getDateHeader(LAST_MODIFIED)).isEqualTo(created.toInstant().toEpochMilli());
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verifyNoInteractions(attachmentStoreMock);
+	}
+
+	@Test
+	void testReadLetterAttachment_range() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, "bytes=5-11");
+		request.addHeader(IF_RANGE, "\"hash\"");
+
+		mockAttachmentWithContent("test content");
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(PARTIAL_CONTENT.value());
+		assertThat(response.getHeader(ACCEPT_RANGES)).isEqualTo("bytes");
+		assertThat(response.getHeader(CONTENT_RANGE)).isEqualTo("bytes 5-11/12");
+		assertThat(response.getHeader(ETAG)).isEqualTo("\"hash\"");
+		assertThat(response.getContentLengthLong()).isEqualTo(7);
+		assertThat(response.getContentAsString()).isEqualTo("content");
+		verifyAttachmentWithContentRead();
+	}
+
+	@Test
+	void testReadLetterAttachment_rangeWithOutdatedIfRange() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, "bytes=5-11");
+		request.addHeader(IF_RANGE, "\"otherHash\"");
+
+		mockAttachmentWithContent("test content");
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(OK.value());
+		assertThat(response.getHeader(CONTENT_RANGE)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("test content");
+		verifyAttachmentWithContentRead();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"garbage", "bytes=", "bytes=11-5", "items=0-5"
+	})
+	void testReadLetterAttachment_invalidRange(final String rangeHeader) throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, rangeHeader);
+
+		mockAttachmentWithContent("test content");
+
+		letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response);
+
+		assertThat(response.getStatus()).isEqualTo(OK.value());
+		assertThat(response.getHeader(CONTENT_RANGE)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("test content");
+		verifyAttachmentWithContentRead();
+	}
+
+	@Test
+	void testReadLetterAttachment_rangeNotSatisfiable() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(RANGE, "bytes=20-30");
+
+		final var attachmentMetadataMock = mock(AttachmentMetadata.class);
+		when(attachmentMetadataMock.getHash()).thenReturn("hash");
+		when(attachmentMetadataMock.getContentLength()).thenReturn(12L);
+		when(attachmentMetadataMock.getFileName()).thenReturn("test.txt");
+		when(repositoryIntegrationMock.getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID)).thenReturn(Optional.of(attachmentMetadataMock));
+
+		assertThatThrownBy(() -> letterService.readLetterAttachment(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID, request, response))
+			.isInstanceOf(Problem.class)
+			.hasMessageEndingWith("Range 'bytes=20-30' can not be satisfied for attachment with id '%s'".formatted(ATTACHMENT_ID));
+
+		assertThat(response.getHeader(CONTENT_RANGE)).isEqualTo("bytes */12");
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verifyNoInteractions(attachmentStoreMock);
+	}
+
+	private AttachmentContentEntity mockAttachmentWithContent(final String content) throws Exception {
+		final var attachmentMetadataMock = mock(AttachmentMetadata.class);
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId(CONTENT_ID).withStorageKey("storageKey");
+
+		when(attachmentMetadataMock.getContentId()).thenReturn(CONTENT_ID);
+		when(attachmentMetadataMock.getStorageKey()).thenReturn("storageKey");
+		when(attachmentMetadataMock.getHash()).thenReturn("hash");
+		when(attachmentMetadataMock.getContentLength()).thenReturn((long) content.length());
+		when(attachmentMetadataMock.getFileName()).thenReturn("test.txt");
+		when(attachmentMetadataMock.getContentType()).thenReturn("text/plain");
+		when(repositoryIntegrationMock.getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID)).thenReturn(Optional.of(attachmentMetadataMock));
+		when(attachmentStoreMock.read(attachmentContentEntity)).thenReturn(new SerialBlob(content.getBytes()));
+
+		return attachmentContentEntity;
+	}
+
+	private void mockAttachmentWithDatabaseContent() {
+		final var attachmentMetadataMock = mock(AttachmentMetadata.class);
+
+		when(attachmentMetadataMock.getContentId()).thenReturn(CONTENT_ID);
+		when(attachmentMetadataMock.getHash()).thenReturn("hash");
+		when(attachmentMetadataMock.getContentLength()).thenReturn(12L);
+		when(attachmentMetadataMock.getFileName()).thenReturn("test.txt");
+		when(attachmentMetadataMock.getContentType()).thenReturn("text/plain");
+		when(repositoryIntegrationMock.getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID)).thenReturn(Optional.of(attachmentMetadataMock));
+	}
+
+	private void verifyAttachmentWithContentRead() {
+		verify(repositoryIntegrationMock).getAttachmentMetadata(MUNICIPALITY_ID, LETTER_ID, ATTACHMENT_ID);
+		verify(attachmentStoreMock).read(any(AttachmentContentEntity.class));
+	}
+
+	@Test
+	void testReadLetterReceipt() throws Exception {
+		// Arrange
+		final var expectedFilename = "kvittens_rekutskick_" + LETTER_ID + ".pdf";
+		final var outputStream = new ByteArrayOutputStream();
+		final var response = mockHttpServletResponse(outputStream);
+		final var letterEntity = LetterEntity.create().withId(LETTER_ID).withSigningInformation(SigningInformationEntity.create());
+		final var receipt = new SerialBlob("receipt".getBytes());
+
+		when(attachmentStoreMock.isExternal()).thenReturn(false);
+		when(receiptBulkheadMock.execute(any(), eq(response))).thenAnswer(invocation -> {
+			final var result = invocation.<Supplier<?>>getArgument(0).get();
+			// The receipt is held in memory, hence it is streamed while the permit is held
+			assertThat(outputStream).hasToString("receipt");
+			return result;
+		});
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, LETTER_ID)).thenReturn(Optional.of(letterEntity));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letterEntity)).thenReturn(receipt);
 
 		// Act
-		letterService.readLetterReceipt(municipalityId, letterId, response);
+		letterService.readLetterReceipt(MUNICIPALITY_ID, LETTER_ID, response);
 
 		// Assert
 		verify(response).addHeader(CONTENT_TYPE, "application/pdf");
 		verify(response).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"" + expectedFilename + "\"");
+		verify(response).setContentLengthLong(7);
 		verify(response).getOutputStream();
-		verify(repositoryIntegrationMock).getLetterEntity(municipalityId, letterId);
-		verify(templatingIntegrationMock).renderPdf(municipalityId, letterEntityMock);
+		verify(attachmentStoreMock).isExternal();
+		verify(receiptBulkheadMock).execute(any(), eq(response));
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(repositoryIntegrationMock, times(2)).getLetterEntity(MUNICIPALITY_ID, LETTER_ID);
+		verify(receiptServiceMock).getReceipt(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock, times(2)).commit(transactionStatusMock);
+
+		assertThat(outputStream).hasToString("receipt");
+	}
+
+	@Test
+	void testReadLetterReceipt_externalAttachmentStore() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+		final var response = mockHttpServletResponse(outputStream);
+		final var letterEntity = LetterEntity.create().withId(LETTER_ID).withSigningInformation(SigningInformationEntity.create());
+		final var receipt = new SerialBlob("receipt".getBytes());
+
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(receiptBulkheadMock.execute(any(), eq(response))).thenAnswer(invocation -> {
+			final var result = invocation.<Supplier<?>>getArgument(0).get();
+			// The receipt is streamed from a file, hence it is streamed once the permit has been released
+			assertThat(outputStream.size()).isZero();
+			return result;
+		});
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, LETTER_ID)).thenReturn(Optional.of(letterEntity));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letterEntity)).thenReturn(receipt);
+
+		letterService.readLetterReceipt(MUNICIPALITY_ID, LETTER_ID, response);
+
+		verify(response).addHeader(CONTENT_TYPE, "application/pdf");
+		verify(response).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"kvittens_rekutskick_" + LETTER_ID + ".pdf\"");
+		verify(response).setContentLengthLong(7);
+		verify(response).getOutputStream();
+		verify(attachmentStoreMock).isExternal();
+		verify(receiptBulkheadMock).execute(any(), eq(response));
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(repositoryIntegrationMock, times(2)).getLetterEntity(MUNICIPALITY_ID, LETTER_ID);
+		verify(receiptServiceMock).getReceipt(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock, times(2)).commit(transactionStatusMock);
+
+		assertThat(outputStream).hasToString("receipt");
+	}
+
+	@Test
+	void testReadLetterReceipt_bulkheadSaturated() {
+		final var response = new MockHttpServletResponse();
+		final var letterEntity = LetterEntity.create().withId(LETTER_ID).withSigningInformation(SigningInformationEntity.create());
+
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, LETTER_ID)).thenReturn(Optional.of(letterEntity));
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(receiptBulkheadMock.execute(any(), eq(response))).thenThrow(Problem.valueOf(SERVICE_UNAVAILABLE, "Too many receipts are being produced, please try again later"));
+
+		assertThatThrownBy(() -> letterService.readLetterReceipt(MUNICIPALITY_ID, LETTER_ID, response))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Service Unavailable: Too many receipts are being produced, please try again later");
+
+		verify(transactionManagerMock).getTransaction(any());
+		verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, LETTER_ID);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verify(attachmentStoreMock).isExternal();
+		verify(receiptBulkheadMock).execute(any(), eq(response));
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void testReadLetterReceipt_letterNotFound() {
+		final var response = new MockHttpServletResponse();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, LETTER_ID)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> letterService.readLetterReceipt(MUNICIPALITY_ID, LETTER_ID, response))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: Letter with id '%s' and municipalityId '%s' not found".formatted(LETTER_ID, MUNICIPALITY_ID));
+
+		verify(transactionManagerMock).getTransaction(any());
+		verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, LETTER_ID);
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verifyNoInteractions(receiptBulkheadMock, receiptServiceMock);
+	}
+
+	@Test
+	void testReadLetterReceipt_withoutSigningInformation() {
+		final var response = new MockHttpServletResponse();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, LETTER_ID)).thenReturn(Optional.of(LetterEntity.create().withId(LETTER_ID)));
+
+		assertThatThrownBy(() -> letterService.readLetterReceipt(MUNICIPALITY_ID, LETTER_ID, response))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: No signing information found for letter with id '%s'".formatted(LETTER_ID));
 
-		assertThat(outputStream.toByteArray()).isNotEmpty();
+		verify(transactionManagerMock).getTransaction(any());
+		verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, LETTER_ID);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verifyNoInteractions(receiptBulkheadMock, receiptServiceMock);
+		assertThat(response.getContentAsByteArray()).isEmpty();
 	}
 }
@@ -0,0 +1,157 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.api.model.LetterStatus;
+import se.sundsvall.digitalregisteredletter.configuration.StatusFeedProperties;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusChange;
+import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
+import se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor;
+import se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor.Position;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor.START;
+
+@ExtendWith(MockitoExtension.class)
+class LetterStatusFeedServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int LIMIT = 100;
+	private static final Position POSITION = new Position(OffsetDateTime.of(2025, 8, 18, 10, 15, 30, 0, UTC), "43a32404-28ee-480f-a095-00d48109afab");
+
+	@Mock
+	private RepositoryIntegration repositoryIntegrationMock;
+
+	@Mock
+	private LetterMapper letterMapperMock;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> settledBeforeCaptor;
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(repositoryIntegrationMock, letterMapperMock);
+	}
+
+	@Test
+	void getLetterStatusChanges() throws Exception {
+		final var letterStatusFeedService = createService(Duration.ofSeconds(20));
+		final var firstChange = createStatusChange("letterId1", POSITION.updated().plusSeconds(1), "SENT", null);
+		final var lastChange = createStatusChange("letterId2", POSITION.updated().plusSeconds(2), "SIGNED", "COMPLETED");
+		final var firstStatus = new LetterStatus("letterId1", "SENT", "PENDING");
+		final var lastStatus = new LetterStatus("letterId2", "SIGNED", "COMPLETED");
+
+		when(repositoryIntegrationMock.getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(START.updated()), eq(START.id()), settledBeforeCaptor.capture(), eq(LIMIT))).thenReturn(List.of(firstChange, lastChange));
+		when(letterMapperMock.toLetterStatus("letterId1", "SENT", null)).thenReturn(firstStatus);
+		when(letterMapperMock.toLetterStatus("letterId2", "SIGNED", "COMPLETED")).thenReturn(lastStatus);
+
+		final var result = letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, null, LIMIT, Duration.ZERO);
+
+		assertThat(result).isDone();
+		assertThat(result.get().letterStatuses()).containsExactly(firstStatus, lastStatus);
+		assertThat(StatusChangeCursor.decode(result.get().cursor())).isEqualTo(new Position(lastChange.getUpdated(), "letterId2"));
+		assertThat(settledBeforeCaptor.getValue()).isCloseTo(now().minusSeconds(2), within(1, ChronoUnit.SECONDS));
+	}
+
+	@Test
+	void getLetterStatusChangesWithoutChanges() throws Exception {
+		final var letterStatusFeedService = createService(Duration.ofSeconds(20));
+		final var cursor = StatusChangeCursor.encode(POSITION);
+
+		when(repositoryIntegrationMock.getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(POSITION.updated()), eq(POSITION.id()), any(), eq(LIMIT))).thenReturn(List.of());
+
+		final var result = letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, cursor, LIMIT, Duration.ZERO);
+
+		assertThat(result).isDone();
+		assertThat(result.get().letterStatuses()).isEmpty();
+		assertThat(result.get().cursor()).isEqualTo(cursor);
+	}
+
+	@Test
+	void getLetterStatusChangesWaitsForChanges() throws Exception {
+		final var letterStatusFeedService = createService(Duration.ofSeconds(20));
+		final var change = createStatusChange("letterId1", POSITION.updated().plusSeconds(1), "SENT", null);
+		final var status = new LetterStatus("letterId1", "SENT", "PENDING");
+
+		when(repositoryIntegrationMock.getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(POSITION.updated()), eq(POSITION.id()), any(), eq(LIMIT)))
+			.thenReturn(List.of())
+			.thenReturn(List.of(change));
+		when(letterMapperMock.toLetterStatus("letterId1", "SENT", null)).thenReturn(status);
+
+		final var result = letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, StatusChangeCursor.encode(POSITION), LIMIT, Duration.ofSeconds(10));
+
+		assertThat(result.get(5, SECONDS).letterStatuses()).containsExactly(status);
+		verify(repositoryIntegrationMock, times(2)).getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(POSITION.updated()), eq(POSITION.id()), any(), eq(LIMIT));
+	}
+
+	@Test
+	void getLetterStatusChangesWaitIsLimitedByMaxWait() throws Exception {
+		final var letterStatusFeedService = createService(Duration.ofMillis(50));
+		final var cursor = StatusChangeCursor.encode(POSITION);
+
+		when(repositoryIntegrationMock.getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(POSITION.updated()), eq(POSITION.id()), any(), eq(LIMIT))).thenReturn(List.of());
+
+		final var result = letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, cursor, LIMIT, Duration.ofHours(1));
+
+		assertThat(result.get(5, SECONDS).letterStatuses()).isEmpty();
+		assertThat(result.get().cursor()).isEqualTo(cursor);
+		verify(repositoryIntegrationMock, atLeastOnce()).getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(POSITION.updated()), eq(POSITION.id()), any(), eq(LIMIT));
+	}
+
+	@Test
+	void getLetterStatusChangesWhenReadFails() {
+		final var letterStatusFeedService = createService(Duration.ofSeconds(20));
+
+		when(repositoryIntegrationMock.getLetterStatusChanges(eq(MUNICIPALITY_ID), eq(START.updated()), eq(START.id()), any(), eq(LIMIT))).thenThrow(new IllegalStateException("Database unavailable"));
+
+		final var result = letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, "", LIMIT, Duration.ZERO);
+
+		assertThatThrownBy(result::get)
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void getLetterStatusChangesWithInvalidCursor() {
+		final var letterStatusFeedService = createService(Duration.ofSeconds(20));
+
+		assertThatThrownBy(() -> letterStatusFeedService.getLetterStatusChanges(MUNICIPALITY_ID, "not a cursor", LIMIT, Duration.ZERO))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor 'not a cursor'");
+	}
+
+	private LetterStatusFeedService createService(final Duration maxWait) {
+		return new LetterStatusFeedService(repositoryIntegrationMock, letterMapperMock, new StatusFeedProperties(Duration.ofSeconds(2), Duration.ofMillis(10), maxWait));
+	}
+
+	private static LetterStatusChange createStatusChange(final String id, final OffsetDateTime updated, final String status, final String signingStatus) {
+		return new StatusChange(id, status, signingStatus, updated);
+	}
+
+	private record StatusChange(String getId, String getStatus, String getSigningStatus, OffsetDateTime getUpdated) implements LetterStatusChange {
+	}
+}
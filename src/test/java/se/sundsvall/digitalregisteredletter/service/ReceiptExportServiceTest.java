@@ -0,0 +1,205 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.sql.rowset.serial.SerialBlob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.api.model.LetterFilterBuilder;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Bulkhead;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Export;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.AUTO;
+import static se.sundsvall.digitalregisteredletter.service.ReceiptExportService.FAILURES_ENTRY_NAME;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptExportServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Mock
+	private RepositoryIntegration repositoryIntegrationMock;
+
+	@Mock
+	private ReceiptService receiptServiceMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
+
+	private ReceiptExportService receiptExportService;
+
+	@BeforeEach
+	void setup() {
+		final var receiptProperties = new ReceiptProperties(DataSize.ofMegabytes(8),
+			new Compression(AUTO, DataSize.ofMegabytes(1), 20, null),
+			new Bulkhead(4, Duration.ofSeconds(10), Duration.ofSeconds(30)),
+			new Export(2, 2));
+
+		receiptExportService = new ReceiptExportService(repositoryIntegrationMock, receiptServiceMock, new ReceiptBulkhead(receiptProperties, new SimpleMeterRegistry()), receiptProperties,
+			transactionManagerMock);
+	}
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(repositoryIntegrationMock, receiptServiceMock, transactionManagerMock);
+	}
+
+	@Test
+	void exportReceipts() throws Exception {
+		final var letterFilter = LetterFilterBuilder.create().build();
+		final var response = new MockHttpServletResponse();
+		final var firstPosition = ScrollPosition.keyset();
+		final var secondPosition = ScrollPosition.forward(Map.of("created", "2025-01-01T00:00Z", "id", "letter-2"));
+		final var letters = Map.of(
+			"letter-1", LetterEntity.create().withId("letter-1"),
+			"letter-2", LetterEntity.create().withId("letter-2"),
+			"letter-3", LetterEntity.create().withId("letter-3"));
+
+		when(repositoryIntegrationMock.getSignedLetterIds(MUNICIPALITY_ID, letterFilter, firstPosition, 2)).thenReturn(Window.from(List.of("letter-1", "letter-2"), _ -> secondPosition, true));
+		when(repositoryIntegrationMock.getSignedLetterIds(MUNICIPALITY_ID, letterFilter, secondPosition, 2)).thenReturn(Window.from(List.of("letter-3"), ScrollPosition::offset));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		letters.forEach((letterId, letterEntity) -> when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, letterId)).thenReturn(Optional.of(letterEntity)));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letters.get("letter-1"))).thenReturn(new SerialBlob("receipt-1".getBytes()));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letters.get("letter-2"))).thenThrow(Problem.valueOf(NOT_FOUND, "No signing information found for letter with id 'letter-2'"));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letters.get("letter-3"))).thenReturn(new SerialBlob("receipt-3".getBytes()));
+
+		receiptExportService.exportReceipts(MUNICIPALITY_ID, letterFilter, response);
+
+		assertThat(response.getHeader(CONTENT_TYPE)).isEqualTo("application/zip");
+		assertThat(response.getHeader(CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"kvittenser_rekutskick.zip\"");
+		assertThat(readEntries(response.getContentAsByteArray())).containsOnly(
+			Map.entry("kvittens_rekutskick_letter-1.pdf", "receipt-1"),
+			Map.entry("kvittens_rekutskick_letter-3.pdf", "receipt-3"),
+			Map.entry(FAILURES_ENTRY_NAME, "letter-2"));
+		assertThat(readMethods(response.getContentAsByteArray())).containsEntry("kvittens_rekutskick_letter-1.pdf", ZipEntry.STORED)
+			.containsEntry("kvittens_rekutskick_letter-3.pdf", ZipEntry.STORED);
+
+		verify(repositoryIntegrationMock).getSignedLetterIds(MUNICIPALITY_ID, letterFilter, firstPosition, 2);
+		verify(repositoryIntegrationMock).getSignedLetterIds(MUNICIPALITY_ID, letterFilter, secondPosition, 2);
+		verify(transactionManagerMock, times(3)).getTransaction(any());
+		letters.forEach((letterId, letterEntity) -> {
+			verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, letterId);
+			verify(receiptServiceMock).getReceipt(MUNICIPALITY_ID, letterEntity);
+		});
+		verify(transactionManagerMock, times(2)).commit(transactionStatusMock);
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+	}
+
+	@Test
+	void exportReceiptsWithoutLetters() throws Exception {
+		final var letterFilter = LetterFilterBuilder.create().build();
+		final var response = new MockHttpServletResponse();
+		final var position = ScrollPosition.keyset();
+
+		when(repositoryIntegrationMock.getSignedLetterIds(MUNICIPALITY_ID, letterFilter, position, 2)).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+		receiptExportService.exportReceipts(MUNICIPALITY_ID, letterFilter, response);
+
+		assertThat(readEntries(response.getContentAsByteArray())).isEmpty();
+		verify(repositoryIntegrationMock).getSignedLetterIds(MUNICIPALITY_ID, letterFilter, position, 2);
+	}
+
+	@Test
+	void exportReceiptWhenLetterIsNotFound() {
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, "letterId")).thenReturn(Optional.empty());
+
+		final var result = receiptExportService.exportReceipt(MUNICIPALITY_ID, "letterId");
+
+		assertThat(result.letterId()).isEqualTo("letterId");
+		assertThat(result.file()).isNull();
+		assertThat(result.size()).isZero();
+		assertThat(result.crc()).isZero();
+		verify(transactionManagerMock).getTransaction(any());
+		verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, "letterId");
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+	}
+
+	@Test
+	void exportReceipt() throws Exception {
+		final var letterEntity = LetterEntity.create().withId("letterId");
+		final var content = "receipt".getBytes(UTF_8);
+		final var crc = new CRC32();
+		crc.update(content);
+
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(repositoryIntegrationMock.getLetterEntity(MUNICIPALITY_ID, "letterId")).thenReturn(Optional.of(letterEntity));
+		when(receiptServiceMock.getReceipt(MUNICIPALITY_ID, letterEntity)).thenReturn(new SerialBlob(content));
+
+		final var result = receiptExportService.exportReceipt(MUNICIPALITY_ID, "letterId");
+
+		try {
+			assertThat(result.letterId()).isEqualTo("letterId");
+			assertThat(result.file()).hasBinaryContent(content);
+			assertThat(result.size()).isEqualTo(content.length);
+			assertThat(result.crc()).isEqualTo(crc.getValue());
+		} finally {
+			Files.deleteIfExists(result.file());
+		}
+		verify(transactionManagerMock).getTransaction(any());
+		verify(repositoryIntegrationMock).getLetterEntity(MUNICIPALITY_ID, "letterId");
+		verify(receiptServiceMock).getReceipt(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+
+	private static Map<String, Integer> readMethods(final byte[] archive) throws IOException {
+		final var methods = new HashMap<String, Integer>();
+
+		try (final var zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+			for (var entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry()) {
+				methods.put(entry.getName(), entry.getMethod());
+			}
+		}
+		return methods;
+	}
+
+	private static Map<String, String> readEntries(final byte[] archive) throws IOException {
+		final var entries = new HashMap<String, String>();
+
+		try (final var zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+			for (var entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry()) {
+				entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), UTF_8));
+			}
+		}
+		return entries;
+	}
+}
@@ -0,0 +1,417 @@
+package se.sundsvall.digitalregisteredletter.service;
+
+import generated.se.sundsvall.templating.RenderResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.rowset.serial.SerialBlob;
+import org.apache.pdfbox.Loader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Bulkhead;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Export;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.LetterReceiptRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterReceiptEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+import se.sundsvall.digitalregisteredletter.integration.templating.TemplatingIntegration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.ALWAYS;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.AUTO;
+import static se.sundsvall.digitalregisteredletter.service.ReceiptService.COMPRESSION_SAVED_SUMMARY;
+import static se.sundsvall.digitalregisteredletter.service.ReceiptService.COMPRESSION_TIMER;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String LETTER_ID = "letterId";
+	private static final String ORG_NUMBER = "5591628136";
+	private static final ReceiptProperties RECEIPT_PROPERTIES = new ReceiptProperties(DataSize.ofMegabytes(1),
+		new Compression(AUTO, DataSize.ofMegabytes(1), 20, Map.of(ORG_NUMBER, ALWAYS)),
+		new Bulkhead(4, Duration.ofSeconds(10), Duration.ofSeconds(30)),
+		new Export(4, 100));
+
+	// Minimal valid PDF with one page
+	private static final String MINIMAL_PDF = "JVBERi0xLjQKJeLjz9MKMyAwIG9iago8PC9UeXBlL1BhZ2UvUGFyZW50IDIgMCBSL01lZGlhQm94WzAgMCA2MTIgNzkyXT4+CmVuZG9iago0IDAgb2JqCjw8L0xlbmd0aCAzNT4+CnN0cmVhbQpCVAovRjEgMTIgVGYKKFRlc3QgUERGKSBUagpFVAplbmRzdHJlYW0KZW5kb2JqCjEgMCBvYmoKPDwvVHlwZS9QYWdlcy9LaWRzWzMgMCBSXS9Db3VudCAxPj4KZW5kb2JqCjIgMCBvYmoKPDwvVHlwZS9DYXRhbG9nL1BhZ2VzIDEgMCBSPj4KZW5kb2JqCnhyZWYKMCA1CjAwMDAwMDAwMDAgNjU1MzUgZiAKMDAwMDAwMDE0NyAwMDAwMCBuIAowMDAwMDAwMTk2IDAwMDAwIG4gCjAwMDAwMDAwMTUgMDAwMDAgbiAKMDAwMDAwMDA3NCAwMDAwMCBuIAp0cmFpbGVyCjw8L1NpemUgNS9Sb290IDIgMCBSPj4Kc3RhcnR4cmVmCjI0NQolJUVPRgo=";
+
+	@Mock
+	private TemplatingIntegration templatingIntegrationMock;
+
+	@Mock
+	private AttachmentStore attachmentStoreMock;
+
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
+
+	@Mock
+	private LetterReceiptRepository letterReceiptRepositoryMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
+
+	@Captor
+	private ArgumentCaptor<LetterReceiptEntity> letterReceiptCaptor;
+
+	@Captor
+	private ArgumentCaptor<AttachmentContentEntity> attachmentContentCaptor;
+
+	private MeterRegistry meterRegistry;
+
+	private ReceiptService receiptService;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		receiptService = new ReceiptService(templatingIntegrationMock, attachmentStoreMock, attachmentContentRepositoryMock, letterReceiptRepositoryMock, RECEIPT_PROPERTIES, transactionManagerMock, meterRegistry);
+	}
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(templatingIntegrationMock, attachmentStoreMock, attachmentContentRepositoryMock, letterReceiptRepositoryMock, transactionManagerMock);
+	}
+
+	@Test
+	void getStoredReceipt() throws Exception {
+		final var letterEntity = createLetterEntity(2L);
+		final var receiptContent = AttachmentContentEntity.create().withId("receiptContentId");
+		final var receipt = new SerialBlob("receipt".getBytes());
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.of(LetterReceiptEntity.create()
+			.withLetterId(LETTER_ID)
+			.withSigningInformationVersion(2L)
+			.withReceiptContent(receiptContent)));
+		when(attachmentStoreMock.read(receiptContent)).thenReturn(receipt);
+
+		assertThat(receiptService.getReceipt(MUNICIPALITY_ID, letterEntity)).isSameAs(receipt);
+
+		verify(letterReceiptRepositoryMock).findById(LETTER_ID);
+		verify(attachmentStoreMock).read(receiptContent);
+	}
+
+	@Test
+	void getReceiptWhenNotStored() throws Exception {
+		final var letterEntity = createLetterEntity(0L);
+		final var attachmentContent = AttachmentContentEntity.create().withId("attachmentContentId");
+		letterEntity.getAttachments().add(AttachmentEntity.create().withAttachmentContent(attachmentContent));
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(attachmentStoreMock.read(attachmentContent)).thenReturn(new SerialBlob(Base64.getDecoder().decode(MINIMAL_PDF)));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.empty());
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("receiptContentId"));
+
+		final var result = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity);
+
+		try (final var inputStream = result.getBinaryStream(); final var pdfDocument = Loader.loadPDF(inputStream.readAllBytes())) {
+			assertThat(pdfDocument.getNumberOfPages()).isEqualTo(2);
+		}
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(attachmentStoreMock).read(attachmentContent);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentStoreMock).write(any(), any(), anyLong());
+		verify(attachmentContentRepositoryMock).saveAndFlush(attachmentContentCaptor.capture());
+		verify(letterReceiptRepositoryMock).saveAndFlush(letterReceiptCaptor.capture());
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("receiptContentId", 1);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+
+		assertThat(attachmentContentCaptor.getValue()).satisfies(receiptContent -> {
+			assertThat(receiptContent.getHash()).hasSize(64);
+			assertThat(receiptContent.getContentLength()).isEqualTo(result.length());
+		});
+		assertThat(letterReceiptCaptor.getValue()).satisfies(letterReceipt -> {
+			assertThat(letterReceipt.getLetterId()).isEqualTo(LETTER_ID);
+			assertThat(letterReceipt.getSigningInformationVersion()).isZero();
+			assertThat(letterReceipt.getReceiptContent()).isSameAs(attachmentContentCaptor.getValue());
+		});
+		assertThat(meterRegistry.get(COMPRESSION_TIMER).tags("policy", "auto", "outcome", "skipped").timer().count()).isOne();
+		assertThat(meterRegistry.get(COMPRESSION_SAVED_SUMMARY).tags("policy", "auto", "outcome", "skipped").summary().totalAmount()).isZero();
+	}
+
+	@Test
+	void getReceiptUsesCompressionPolicyOfTenant() throws Exception {
+		final var letterEntity = createLetterEntity(0L).withTenant(TenantEntity.create().withOrgNumber(ORG_NUMBER));
+		final var storedContent = AttachmentContentEntity.create().withId("receiptContentId");
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.of("receiptContentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("receiptContentId")).thenReturn(storedContent);
+
+		final var result = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity);
+
+		try (final var inputStream = result.getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).hasSize((int) result.length());
+		}
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentContentRepositoryMock).getReferenceById("receiptContentId");
+		verify(letterReceiptRepositoryMock).saveAndFlush(any());
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("receiptContentId", 1);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+
+		assertThat(meterRegistry.find(COMPRESSION_TIMER).tag("policy", "always").timer()).isNotNull();
+		assertThat(meterRegistry.find(COMPRESSION_TIMER).tag("policy", "auto").timer()).isNull();
+	}
+
+	@Test
+	void getReceiptWhenStoredReceiptIsOutdated() throws Exception {
+		final var letterEntity = createLetterEntity(3L);
+		final var storedReceipt = LetterReceiptEntity.create()
+			.withLetterId(LETTER_ID)
+			.withSigningInformationVersion(2L)
+			.withReceiptContent(AttachmentContentEntity.create().withId("outdatedContentId"));
+		final var storedContent = AttachmentContentEntity.create().withId("receiptContentId");
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.of(storedReceipt));
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.of("receiptContentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("receiptContentId")).thenReturn(storedContent);
+		when(attachmentContentRepositoryMock.findStorageKeyById("outdatedContentId")).thenReturn(Optional.of("outdatedStorageKey"));
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("outdatedContentId")).thenReturn(1);
+
+		final var result = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity);
+
+		try (final var inputStream = result.getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).hasSize((int) result.length());
+		}
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentContentRepositoryMock).getReferenceById("receiptContentId");
+		verify(letterReceiptRepositoryMock).saveAndFlush(storedReceipt);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("receiptContentId", 1);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("outdatedContentId", -1);
+		verify(attachmentContentRepositoryMock).findStorageKeyById("outdatedContentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("outdatedContentId");
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verify(attachmentStoreMock).delete("outdatedStorageKey");
+
+		assertThat(storedReceipt.getSigningInformationVersion()).isEqualTo(3L);
+		assertThat(storedReceipt.getReceiptContent()).isSameAs(storedContent);
+	}
+
+	@Test
+	void getReceiptWhenStoredConcurrently() throws Exception {
+		final var letterEntity = createLetterEntity(0L);
+		final var storedContent = AttachmentContentEntity.create().withId("receiptContentId");
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.of("receiptContentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("receiptContentId")).thenReturn(storedContent);
+		when(letterReceiptRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+		final var result = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity);
+
+		try (final var inputStream = result.getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).hasSize((int) result.length());
+		}
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentContentRepositoryMock).getReferenceById("receiptContentId");
+		verify(letterReceiptRepositoryMock).saveAndFlush(any());
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+	}
+
+	@Test
+	void getReceiptWhenStoredConcurrentlyWithOtherContent() throws Exception {
+		final var letterEntity = createLetterEntity(0L);
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.empty());
+		doAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withStorageKey("writtenStorageKey"))
+			.when(attachmentStoreMock).write(any(), any(), anyLong());
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("receiptContentId"));
+		when(letterReceiptRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+		try (final var inputStream = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity).getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).isNotEmpty();
+		}
+
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentStoreMock).write(any(), any(), anyLong());
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(letterReceiptRepositoryMock).saveAndFlush(any());
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
+	}
+
+	@Test
+	void getReceiptWhenIdenticalContentIsStoredConcurrently() throws Exception {
+		final var letterEntity = createLetterEntity(0L);
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.empty());
+		doAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withStorageKey("writtenStorageKey"))
+			.when(attachmentStoreMock).write(any(), any(), anyLong());
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+		try (final var inputStream = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity).getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).isNotEmpty();
+		}
+
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentStoreMock).write(any(), any(), anyLong());
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
+	}
+
+	@Test
+	void getReceiptWhenRenderingFails() {
+		final var letterEntity = createLetterEntity(0L);
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.empty());
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse());
+
+		assertThatThrownBy(() -> receiptService.getReceipt(MUNICIPALITY_ID, letterEntity))
+			.isInstanceOf(Problem.class)
+			.hasMessageStartingWith("Internal Server Error: A problem occurred during merge of PDF:s.");
+
+		verify(letterReceiptRepositoryMock).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+	}
+
+	@Test
+	void getReceiptWhenOutdatedContentIsStillReferenced() throws Exception {
+		final var letterEntity = createLetterEntity(3L);
+		final var storedReceipt = LetterReceiptEntity.create()
+			.withLetterId(LETTER_ID)
+			.withSigningInformationVersion(2L)
+			.withReceiptContent(AttachmentContentEntity.create().withId("outdatedContentId"));
+		final var storedContent = AttachmentContentEntity.create().withId("receiptContentId");
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.of(storedReceipt));
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.of("receiptContentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("receiptContentId")).thenReturn(storedContent);
+		when(attachmentContentRepositoryMock.findStorageKeyById("outdatedContentId")).thenReturn(Optional.empty());
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("outdatedContentId")).thenReturn(0);
+
+		try (final var inputStream = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity).getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).isNotEmpty();
+		}
+
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentContentRepositoryMock).getReferenceById("receiptContentId");
+		verify(letterReceiptRepositoryMock).saveAndFlush(storedReceipt);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("receiptContentId", 1);
+		verify(attachmentContentRepositoryMock).incrementReferenceCount("outdatedContentId", -1);
+		verify(attachmentContentRepositoryMock).findStorageKeyById("outdatedContentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("outdatedContentId");
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+
+	@Test
+	void getReceiptWhenOutdatedReceiptHasSameContent() throws Exception {
+		final var letterEntity = createLetterEntity(3L);
+		final var storedContent = AttachmentContentEntity.create().withId("receiptContentId");
+		final var storedReceipt = LetterReceiptEntity.create()
+			.withLetterId(LETTER_ID)
+			.withSigningInformationVersion(2L)
+			.withReceiptContent(storedContent);
+
+		when(letterReceiptRepositoryMock.findById(LETTER_ID)).thenReturn(Optional.of(storedReceipt));
+		when(templatingIntegrationMock.renderPdf(MUNICIPALITY_ID, letterEntity)).thenReturn(new RenderResponse().output(MINIMAL_PDF));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findIdByHash(anyString())).thenReturn(Optional.of("receiptContentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("receiptContentId")).thenReturn(storedContent);
+
+		try (final var inputStream = receiptService.getReceipt(MUNICIPALITY_ID, letterEntity).getBinaryStream()) {
+			assertThat(inputStream.readAllBytes()).isNotEmpty();
+		}
+
+		verify(letterReceiptRepositoryMock, times(2)).findById(LETTER_ID);
+		verify(templatingIntegrationMock).renderPdf(MUNICIPALITY_ID, letterEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(anyString());
+		verify(attachmentContentRepositoryMock).getReferenceById("receiptContentId");
+		verify(letterReceiptRepositoryMock).saveAndFlush(storedReceipt);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+
+		assertThat(storedReceipt.getSigningInformationVersion()).isEqualTo(3L);
+	}
+
+	@Test
+	void getReceiptWithoutSigningInformation() {
+		final var letterEntity = LetterEntity.create().withId(LETTER_ID);
+
+		assertThatThrownBy(() -> receiptService.getReceipt(MUNICIPALITY_ID, letterEntity))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Not Found: No signing information found for letter with id '%s'".formatted(LETTER_ID));
+	}
+
+	@Test
+	void requireSigningInformation() {
+		final var signingInformation = SigningInformationEntity.create();
+
+		assertThat(ReceiptService.requireSigningInformation(LetterEntity.create().withSigningInformation(signingInformation))).isSameAs(signingInformation);
+	}
+
+	private static LetterEntity createLetterEntity(final Long signingInformationVersion) {
+		return LetterEntity.create()
+			.withId(LETTER_ID)
+			.withSigningInformation(SigningInformationEntity.create().withVersion(signingInformationVersion));
+	}
+}
@@ -1,8 +1,10 @@
 package se.sundsvall.digitalregisteredletter.service;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +16,12 @@ import se.sundsvall.digitalregisteredletter.api.model.TenantBuilder;
 import se.sundsvall.digitalregisteredletter.integration.db.TenantRepository;
 import se.sundsvall.digitalregisteredletter.integration.db.model.TenantEntity;
 import se.sundsvall.digitalregisteredletter.service.util.EncryptionUtility;
+import se.sundsvall.digitalregisteredletter.service.util.TenantKeyCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -31,6 +35,7 @@ class TenantServiceTest {
 	private static final String ORG_NUMBER = "5591628136";
 	private static final String TENANT_KEY = "some-tenant-key";
 	private static final String ENCRYPTED_TENANT_KEY = "encrypted-value";
+	private static final OffsetDateTime MODIFIED = OffsetDateTime.parse("2025-08-18T10:15:30+02:00");
 
 	@Mock
 	private TenantRepository tenantRepositoryMock;
@@ -38,12 +43,15 @@ class TenantServiceTest {
 	@Mock
 	private EncryptionUtility encryptionUtilityMock;
 
+	@Mock
+	private TenantKeyCache tenantKeyCacheMock;
+
 	@InjectMocks
 	private TenantService tenantService;
 
 	@AfterEach
 	void noMoreInteractions() {
-		verifyNoMoreInteractions(tenantRepositoryMock, encryptionUtilityMock);
+		verifyNoMoreInteractions(tenantRepositoryMock, encryptionUtilityMock, tenantKeyCacheMock);
 	}
 
 	@Test
@@ -154,6 +162,7 @@ class TenantServiceTest {
 		verify(tenantRepositoryMock).findByIdAndMunicipalityId(ID, MUNICIPALITY_ID);
 		verify(encryptionUtilityMock).encrypt(TENANT_KEY.getBytes());
 		verify(tenantRepositoryMock).save(any(TenantEntity.class));
+		verify(tenantKeyCacheMock).invalidate(ID);
 	}
 
 	@Test
@@ -192,6 +201,7 @@ class TenantServiceTest {
 		// Verify
 		verify(tenantRepositoryMock).findByIdAndMunicipalityId(ID, MUNICIPALITY_ID);
 		verify(tenantRepositoryMock).delete(entity);
+		verify(tenantKeyCacheMock).invalidate(ID);
 	}
 
 	@Test
@@ -213,10 +223,12 @@ class TenantServiceTest {
 			.withId(ID)
 			.withOrgNumber(ORG_NUMBER)
 			.withTenantKey(ENCRYPTED_TENANT_KEY)
-			.withMunicipalityId(MUNICIPALITY_ID);
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withModified(MODIFIED);
 
 		// Mock
 		when(tenantRepositoryMock.findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORG_NUMBER)).thenReturn(Optional.of(entity));
+		when(tenantKeyCacheMock.get(eq(ID), eq(MODIFIED), any())).thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
 		when(encryptionUtilityMock.decrypt(ENCRYPTED_TENANT_KEY)).thenReturn(TENANT_KEY);
 
 		// Act
@@ -225,9 +237,31 @@ class TenantServiceTest {
 		// Verify
 		assertThat(result).isEqualTo(TENANT_KEY);
 		verify(tenantRepositoryMock).findByMunicipalityIdAndOrgNumber(MUNICIPALITY_ID, ORG_NUMBER);
+		verify(tenantKeyCacheMock).get(eq(ID), eq(MODIFIED), any());
 		verify(encryptionUtilityMock).decrypt(ENCRYPTED_TENANT_KEY);
 	}
 
+	@Test
+	void getDecryptedTenantKeyFromCache() {
+		// Setup
+		final var entity = TenantEntity.create()
+			.withId(ID)
+			.withOrgNumber(ORG_NUMBER)
+			.withTenantKey(ENCRYPTED_TENANT_KEY)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withModified(MODIFIED);
+
+		// Mock
+		when(tenantKeyCacheMock.get(eq(ID), eq(MODIFIED), any())).thenReturn(TENANT_KEY);
+
+		// Act
+		final var result = tenantService.getDecryptedTenantKey(entity);
+
+		// Verify
+		assertThat(result).isEqualTo(TENANT_KEY);
+		verify(tenantKeyCacheMock).get(eq(ID), eq(MODIFIED), any());
+	}
+
 	@Test
 	void getDecryptedTenantKeyNotFound() {
 		// Mock
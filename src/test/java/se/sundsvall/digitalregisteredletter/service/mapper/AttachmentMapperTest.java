@@ -10,6 +10,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
 import se.sundsvall.digitalregisteredletter.service.util.BlobUtil;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,11 +34,11 @@ class AttachmentMapperTest {
 
 	@Test
 	void toAttachmentEntities() {
-		final var blob = Mockito.mock(Blob.class);
+		final var attachmentContent = AttachmentContentEntity.create().withContent(Mockito.mock(Blob.class));
 		final var multipartFile = Mockito.mock(MultipartFile.class);
 		when(multipartFile.getOriginalFilename()).thenReturn("file");
 		when(multipartFile.getContentType()).thenReturn("application/pdf");
-		when(blobUtil.convertToBlob(multipartFile)).thenReturn(blob);
+		when(blobUtil.convertToAttachmentContent(multipartFile)).thenReturn(attachmentContent);
 
 		final var files = List.of(multipartFile, multipartFile);
 
@@ -45,24 +47,48 @@ class AttachmentMapperTest {
 		assertThat(attachmentEntities).isNotNull().isNotEmpty().allSatisfy(attachment -> {
 			assertThat(attachment.getFileName()).isEqualTo("file");
 			assertThat(attachment.getContentType()).isEqualTo("application/pdf");
-			assertThat(attachment.getContent()).isEqualTo(blob);
+			assertThat(attachment.getAttachmentContent()).isSameAs(attachmentContent);
 		});
 	}
 
 	@Test
 	void toAttachmentEntity() {
-		final var blob = Mockito.mock(Blob.class);
+		final var attachmentContent = AttachmentContentEntity.create().withContent(Mockito.mock(Blob.class));
 		final var multipartFile = Mockito.mock(MultipartFile.class);
 		when(multipartFile.getOriginalFilename()).thenReturn("file");
 		when(multipartFile.getContentType()).thenReturn("application/pdf");
-		when(blobUtil.convertToBlob(multipartFile)).thenReturn(blob);
+		when(blobUtil.convertToAttachmentContent(multipartFile)).thenReturn(attachmentContent);
 
 		final var attachmentEntity = attachmentMapper.toAttachmentEntity(multipartFile);
 
 		assertThat(attachmentEntity).isNotNull();
 		assertThat(attachmentEntity.getFileName()).isEqualTo("file");
 		assertThat(attachmentEntity.getContentType()).isEqualTo("application/pdf");
-		assertThat(attachmentEntity.getContent()).isEqualTo(blob);
+		assertThat(attachmentEntity.getAttachmentContent()).isSameAs(attachmentContent);
 	}
 
+	@Test
+	void toSharedAttachmentEntities() {
+		final var attachmentContent = AttachmentContentEntity.create().withContent(Mockito.mock(Blob.class));
+		final var attachmentEntity = AttachmentEntity.create()
+			.withId("id")
+			.withFileName("file")
+			.withContentType("application/pdf")
+			.withAttachmentContent(attachmentContent);
+
+		final var attachmentEntities = attachmentMapper.toSharedAttachmentEntities(List.of(attachmentEntity));
+
+		assertThat(attachmentEntities).hasSize(1).allSatisfy(attachment -> {
+			assertThat(attachment).isNotSameAs(attachmentEntity);
+			assertThat(attachment.getId()).isNull();
+			assertThat(attachment.getFileName()).isEqualTo("file");
+			assertThat(attachment.getContentType()).isEqualTo("application/pdf");
+			assertThat(attachment.getAttachmentContent()).isSameAs(attachmentContent);
+		});
+	}
+
+	@Test
+	void toSharedAttachmentEntitiesFromNull() {
+		assertThat(attachmentMapper.toSharedAttachmentEntities(null)).isEmpty();
+	}
 }
@@ -3,6 +3,7 @@ package se.sundsvall.digitalregisteredletter.service.mapper;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,16 +11,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import se.sundsvall.digitalregisteredletter.api.model.BulkLetterRequestBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.Letter.Attachment;
 import se.sundsvall.digitalregisteredletter.api.model.OrganizationBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfo;
 import se.sundsvall.digitalregisteredletter.api.model.SigningInfoBuilder;
 import se.sundsvall.digitalregisteredletter.api.model.SupportInfoBuilder;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterBatchEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.LetterEntity;
-import se.sundsvall.digitalregisteredletter.integration.db.model.OrganizationEntity;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterStatusCount;
 import se.sundsvall.digitalregisteredletter.integration.db.model.SigningInformationEntity;
 import se.sundsvall.digitalregisteredletter.integration.db.model.SupportInformation;
-import se.sundsvall.digitalregisteredletter.integration.db.model.UserEntity;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.BankIdOrderBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.CompletionDataBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.DeviceBuilder;
@@ -28,11 +32,14 @@ import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLe
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.SenderReferenceBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.StepUpBuilder;
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.UserBuilder;
+import se.sundsvall.digitalregisteredletter.service.util.LetterCursor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.data.domain.Sort.Direction.ASC;
 import static se.sundsvall.TestDataFactory.createAttachmentEntity;
 import static se.sundsvall.TestDataFactory.createLetterEntity;
 import static se.sundsvall.TestDataFactory.createLetterRequest;
@@ -66,6 +73,76 @@ class LetterMapperTest {
 		assertThat(letterMapper.toLetterEntity(null)).isNull();
 	}
 
+	@Test
+	void toLetterEntityFromBulkLetterRequest() {
+		final var letterRequest = createLetterRequest();
+		final var bulkLetterRequest = BulkLetterRequestBuilder.create()
+			.withPartyIds(List.of("partyId1", "partyId2"))
+			.withSubject(letterRequest.subject())
+			.withBody(letterRequest.body())
+			.withContentType(letterRequest.contentType())
+			.withSupportInfo(letterRequest.supportInfo())
+			.withOrganization(letterRequest.organization())
+			.build();
+
+		final var result = letterMapper.toLetterEntity(bulkLetterRequest, "partyId2");
+
+		assertThat(result.getPartyId()).isEqualTo("partyId2");
+		assertThat(result.getSubject()).isEqualTo(bulkLetterRequest.subject());
+		assertThat(result.getBody()).isEqualTo(bulkLetterRequest.body());
+		assertThat(result.getContentType()).isEqualTo(bulkLetterRequest.contentType());
+		assertThat(result.getSupportInformation()).satisfies(assertedSupportInfo -> {
+			assertThat(assertedSupportInfo.getSupportText()).isEqualTo(bulkLetterRequest.supportInfo().supportText());
+			assertThat(assertedSupportInfo.getContactInformationEmail()).isEqualTo(bulkLetterRequest.supportInfo().contactInformationEmail());
+			assertThat(assertedSupportInfo.getContactInformationUrl()).isEqualTo(bulkLetterRequest.supportInfo().contactInformationUrl());
+			assertThat(assertedSupportInfo.getContactInformationPhoneNumber()).isEqualTo(bulkLetterRequest.supportInfo().contactInformationPhoneNumber());
+		});
+	}
+
+	@Test
+	void toLetterEntityFromNullBulkLetterRequest() {
+		assertThat(letterMapper.toLetterEntity(null, "partyId")).isNull();
+	}
+
+	@Test
+	void toLetterBatch() {
+		final var created = OffsetDateTime.now();
+		final var batchEntity = LetterBatchEntity.create()
+			.withId("batchId")
+			.withMunicipalityId("2281")
+			.withOrganizationNumber("5591628136")
+			.withLetterCount(3)
+			.withCreated(created);
+		final var newCount = Mockito.mock(LetterStatusCount.class);
+		final var sentCount = Mockito.mock(LetterStatusCount.class);
+		Mockito.when(newCount.getStatus()).thenReturn("NEW");
+		Mockito.when(newCount.getCount()).thenReturn(2L);
+		Mockito.when(sentCount.getStatus()).thenReturn("SENT");
+		Mockito.when(sentCount.getCount()).thenReturn(1L);
+
+		final var result = letterMapper.toLetterBatch(batchEntity, List.of(sentCount, newCount));
+
+		assertThat(result).hasNoNullFieldsOrProperties();
+		assertThat(result.id()).isEqualTo("batchId");
+		assertThat(result.municipalityId()).isEqualTo("2281");
+		assertThat(result.organizationNumber()).isEqualTo("5591628136");
+		assertThat(result.letterCount()).isEqualTo(3);
+		assertThat(result.created()).isEqualTo(created);
+		assertThat(result.statuses()).containsExactly(entry("NEW", 2L), entry("SENT", 1L));
+	}
+
+	@Test
+	void toLetterBatchWithNullStatusCounts() {
+		final var result = letterMapper.toLetterBatch(LetterBatchEntity.create(), null);
+
+		assertThat(result.statuses()).isEmpty();
+	}
+
+	@Test
+	void toLetterBatchFromNull() {
+		assertThat(letterMapper.toLetterBatch(null, List.of())).isNull();
+	}
+
 	@Test
 	void toSupportInformationEmbeddable() {
 		final var supportInfo = SupportInfoBuilder.create()
@@ -158,80 +235,6 @@ class LetterMapperTest {
 		assertThat(letterMapper.toUserEntity(null, LetterEntity.create())).isNull();
 	}
 
-	@Test
-	void addLetterToOrganizationEntity() {
-		final var oldEntity = LetterEntity.create();
-		final var newEntity = LetterEntity.create();
-		final var organizationEntity = OrganizationEntity.create()
-			.withLetters(new ArrayList<>(List.of(oldEntity)));
-
-		final var bean = letterMapper.addLetter(organizationEntity, newEntity);
-
-		assertThat(bean).isSameAs(organizationEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(oldEntity, newEntity);
-	}
-
-	@Test
-	void addNullToOrganizationEntityLetterList() {
-		final var oldEntity = LetterEntity.create();
-		final var organizationEntity = OrganizationEntity.create()
-			.withLetters(new ArrayList<>(List.of(oldEntity)));
-
-		final var bean = letterMapper.addLetter(organizationEntity, null);
-
-		assertThat(bean).isSameAs(organizationEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(oldEntity);
-	}
-
-	@Test
-	void addLetterToOrganizationEntityWithNullList() {
-		final var newEntity = LetterEntity.create();
-		final var organizationEntity = OrganizationEntity.create()
-			.withLetters(null);
-
-		final var bean = letterMapper.addLetter(organizationEntity, newEntity);
-
-		assertThat(bean).isSameAs(organizationEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(newEntity);
-	}
-
-	@Test
-	void addLetterToUserEntity() {
-		final var oldEntity = LetterEntity.create();
-		final var newEntity = LetterEntity.create();
-		final var userEntity = UserEntity.create()
-			.withLetters(new ArrayList<>(List.of(oldEntity)));
-
-		final var bean = letterMapper.addLetter(userEntity, newEntity);
-
-		assertThat(bean).isSameAs(userEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(oldEntity, newEntity);
-	}
-
-	@Test
-	void addNullToUserEntityLetterList() {
-		final var oldEntity = LetterEntity.create();
-		final var userEntity = UserEntity.create()
-			.withLetters(new ArrayList<>(List.of(oldEntity)));
-
-		final var bean = letterMapper.addLetter(userEntity, null);
-
-		assertThat(bean).isSameAs(userEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(oldEntity);
-	}
-
-	@Test
-	void addLetterToUserEntityWithNullList() {
-		final var newEntity = LetterEntity.create();
-		final var userEntity = UserEntity.create()
-			.withLetters(null);
-
-		final var bean = letterMapper.addLetter(userEntity, newEntity);
-
-		assertThat(bean).isSameAs(userEntity);
-		assertThat(bean.getLetters()).containsExactlyInAnyOrder(newEntity);
-	}
-
 	@Test
 	void toLetter() {
 		final var entity = createLetterEntity();
@@ -279,7 +282,7 @@ class LetterMapperTest {
 
 		final var pagedResponse = letterMapper.toLetters(new PageImpl<>(List.of(entity)));
 
-		assertThat(pagedResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(pagedResponse).isNotNull().hasNoNullFieldsOrPropertiesExcept("next");
 		assertThat(pagedResponse.letters()).hasSize(1).satisfiesExactly(assertedLetter -> {
 			assertThat(assertedLetter).usingRecursiveAssertion().isEqualTo(letter);
 		});
@@ -295,7 +298,7 @@ class LetterMapperTest {
 
 		final var pagedResponse = letterMapper.toLetters(new PageImpl<>(listWithNull));
 
-		assertThat(pagedResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(pagedResponse).isNotNull().hasNoNullFieldsOrPropertiesExcept("next");
 		assertThat(pagedResponse.letters()).hasSize(1);
 	}
 
@@ -305,46 +308,51 @@ class LetterMapperTest {
 	}
 
 	@Test
-	void toLetterStatus() {
-		final var signingInformation = SigningInformationEntity.create()
-			.withStatus("COMPLETED");
-		final var letter = LetterEntity.create()
-			.withId("letterId")
-			.withStatus("PENDING")
-			.withSigningInformation(signingInformation);
+	void toLettersFromWindow() {
+		final var entity = createLetterEntity();
+		final var letter = letterMapper.toLetter(entity);
+		final var window = Window.from(List.of(entity), index -> ScrollPosition.forward(Map.of("created", entity.getCreated(), "id", entity.getId())), true);
 
-		final var result = letterMapper.toLetterStatus(letter);
+		final var response = letterMapper.toLetters(window, 1);
 
-		assertThat(result.letterId()).isEqualTo(letter.getId());
-		assertThat(result.status()).isEqualTo(letter.getStatus());
-		assertThat(result.signingInformation()).isEqualTo(letter.getSigningInformation().getStatus());
+		assertThat(response).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(response.letters()).hasSize(1).satisfiesExactly(assertedLetter -> {
+			assertThat(assertedLetter).usingRecursiveAssertion().isEqualTo(letter);
+		});
+		assertThat(response.metaData().getLimit()).isOne();
+		assertThat(response.metaData().getCount()).isOne();
+		assertThat(response.metaData().getTotalRecords()).isNull();
+		assertThat(response.metaData().getSortBy()).containsExactly("created", "id");
+		assertThat(response.metaData().getSortDirection()).isEqualTo(ASC);
+		assertThat(LetterCursor.decode(response.next()).getKeys()).containsOnly(
+			entry("created", entity.getCreated()),
+			entry("id", entity.getId()));
 	}
 
 	@Test
-	void toLetterStatus_withoutLetterStatus() {
-		final var letter = LetterEntity.create()
-			.withId("letterId")
-			.withSigningInformation(SigningInformationEntity.create()
-				.withStatus("COMPLETED"));
+	void toLettersFromLastWindow() {
+		final var entity = createLetterEntity();
+		final var window = Window.from(List.of(entity), index -> ScrollPosition.forward(Map.of("created", entity.getCreated(), "id", entity.getId())), false);
 
-		final var result = letterMapper.toLetterStatus(letter);
+		final var response = letterMapper.toLetters(window, 10);
 
-		assertThat(result.letterId()).isEqualTo(letter.getId());
-		assertThat(result.status()).isEqualTo(STATUS_NOT_FOUND);
-		assertThat(result.signingInformation()).isEqualTo(letter.getSigningInformation().getStatus());
+		assertThat(response.next()).isNull();
+		assertThat(response.metaData().getLimit()).isEqualTo(10);
+		assertThat(response.metaData().getCount()).isOne();
 	}
 
 	@Test
-	void toLetterStatus_withoutSigningInformation() {
-		final var letter = LetterEntity.create()
-			.withId("letterId")
-			.withStatus("PENDING");
+	void toLettersFromNullWindow() {
+		assertThat(letterMapper.toLetters(null, 10)).isNull();
+	}
 
-		final var result = letterMapper.toLetterStatus(letter);
+	@Test
+	void toLetterStatus() {
+		final var result = letterMapper.toLetterStatus("letterId", "PENDING", "COMPLETED");
 
-		assertThat(result.letterId()).isEqualTo(letter.getId());
-		assertThat(result.status()).isEqualTo(letter.getStatus());
-		assertThat(result.signingInformation()).isEqualTo(STATUS_PENDING);
+		assertThat(result.letterId()).isEqualTo("letterId");
+		assertThat(result.status()).isEqualTo("PENDING");
+		assertThat(result.signingInformation()).isEqualTo("COMPLETED");
 	}
 
 	@Test
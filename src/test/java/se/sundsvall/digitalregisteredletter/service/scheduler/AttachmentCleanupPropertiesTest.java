@@ -0,0 +1,24 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class AttachmentCleanupPropertiesTest {
+
+	@Autowired
+	private AttachmentCleanupProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.batchSize()).isEqualTo(100);
+		assertThat(properties.gracePeriod()).isEqualTo(Duration.ofDays(1));
+	}
+}
@@ -0,0 +1,128 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentCleanupWorkerTest {
+
+	private static final Duration GRACE_PERIOD = Duration.ofHours(2);
+
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
+
+	@Mock
+	private AttachmentStore attachmentStoreMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> createdBeforeCaptor;
+
+	private AttachmentCleanupWorker attachmentCleanupWorker;
+
+	@BeforeEach
+	void setUp() {
+		attachmentCleanupWorker = new AttachmentCleanupWorker(attachmentContentRepositoryMock, attachmentStoreMock, new AttachmentCleanupProperties(10, GRACE_PERIOD), transactionManagerMock);
+	}
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(attachmentContentRepositoryMock, attachmentStoreMock, transactionManagerMock);
+	}
+
+	@Test
+	void deleteUnreferencedAttachmentsWhenNothingToDelete() {
+		when(attachmentContentRepositoryMock.findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)))).thenReturn(List.of());
+
+		attachmentCleanupWorker.deleteUnreferencedAttachments();
+
+		verify(attachmentContentRepositoryMock).findIdsOfUnreferencedContentCreatedBefore(createdBeforeCaptor.capture(), eq(Limit.of(10)));
+		assertThat(createdBeforeCaptor.getValue()).isCloseTo(OffsetDateTime.now().minus(GRACE_PERIOD), within(2, SECONDS));
+	}
+
+	@Test
+	void deleteUnreferencedAttachments() {
+		when(attachmentContentRepositoryMock.findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)))).thenReturn(List.of("contentId", "databaseContentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findStorageKeyById("contentId")).thenReturn(Optional.of("storageKey"));
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("contentId")).thenReturn(1);
+		when(attachmentContentRepositoryMock.findStorageKeyById("databaseContentId")).thenReturn(Optional.empty());
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("databaseContentId")).thenReturn(1);
+
+		attachmentCleanupWorker.deleteUnreferencedAttachments();
+
+		verify(attachmentContentRepositoryMock).findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)));
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findStorageKeyById("contentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("contentId");
+		verify(attachmentContentRepositoryMock).findStorageKeyById("databaseContentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("databaseContentId");
+		verify(transactionManagerMock, times(2)).commit(transactionStatusMock);
+		verify(attachmentStoreMock).delete("storageKey");
+	}
+
+	@Test
+	void deleteUnreferencedAttachmentsWhenContentHasBeenReferenced() {
+		when(attachmentContentRepositoryMock.findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)))).thenReturn(List.of("contentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findStorageKeyById("contentId")).thenReturn(Optional.of("storageKey"));
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("contentId")).thenReturn(0);
+
+		attachmentCleanupWorker.deleteUnreferencedAttachments();
+
+		verify(attachmentContentRepositoryMock).findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)));
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findStorageKeyById("contentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("contentId");
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+
+	@Test
+	void deleteUnreferencedAttachmentsWhenDeleteFails() {
+		when(attachmentContentRepositoryMock.findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)))).thenReturn(List.of("contentId", "otherContentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findStorageKeyById("contentId")).thenThrow(new IllegalStateException("Test exception"));
+		when(attachmentContentRepositoryMock.findStorageKeyById("otherContentId")).thenReturn(Optional.empty());
+		when(attachmentContentRepositoryMock.deleteIfUnreferenced("otherContentId")).thenReturn(1);
+
+		attachmentCleanupWorker.deleteUnreferencedAttachments();
+
+		verify(attachmentContentRepositoryMock).findIdsOfUnreferencedContentCreatedBefore(any(), eq(Limit.of(10)));
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findStorageKeyById("contentId");
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentContentRepositoryMock).findStorageKeyById("otherContentId");
+		verify(attachmentContentRepositoryMock).deleteIfUnreferenced("otherContentId");
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+}
@@ -0,0 +1,148 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentMigrationWorkerTest {
+
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
+
+	@Mock
+	private AttachmentStore attachmentStoreMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Mock
+	private TransactionStatus transactionStatusMock;
+
+	@Mock
+	private Blob blobMock;
+
+	private AttachmentMigrationWorker attachmentMigrationWorker;
+
+	@BeforeEach
+	void setUp() {
+		attachmentMigrationWorker = new AttachmentMigrationWorker(attachmentContentRepositoryMock, attachmentStoreMock, new AttachmentMigrationProperties(10), transactionManagerMock);
+	}
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(attachmentContentRepositoryMock, attachmentStoreMock, transactionManagerMock, blobMock);
+	}
+
+	@Test
+	void migrateAttachmentsWhenStoreIsNotExternal() {
+		when(attachmentStoreMock.isExternal()).thenReturn(false);
+
+		attachmentMigrationWorker.migrateAttachments();
+
+		verify(attachmentStoreMock).isExternal();
+	}
+
+	@Test
+	void migrateAttachmentsWhenNothingToMove() {
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(attachmentContentRepositoryMock.findIdsOfContentWithoutStorageKey(Limit.of(10))).thenReturn(List.of());
+
+		attachmentMigrationWorker.migrateAttachments();
+
+		verify(attachmentStoreMock).isExternal();
+		verify(attachmentContentRepositoryMock).findIdsOfContentWithoutStorageKey(Limit.of(10));
+	}
+
+	@Test
+	void migrateAttachments() throws Exception {
+		final var inputStream = new ByteArrayInputStream(new byte[7]);
+		final var attachmentContent = AttachmentContentEntity.create().withId("contentId").withHash("hash").withContent(blobMock);
+
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(attachmentContentRepositoryMock.findIdsOfContentWithoutStorageKey(Limit.of(10))).thenReturn(List.of("contentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findById("contentId")).thenReturn(Optional.of(attachmentContent));
+		when(blobMock.getBinaryStream()).thenReturn(inputStream);
+		when(blobMock.length()).thenReturn(7L);
+		doAnswer(_ -> {
+			attachmentContent.withStorageKey("hash").setContent(null);
+			return null;
+		}).when(attachmentStoreMock).write(attachmentContent, inputStream, 7L);
+
+		attachmentMigrationWorker.migrateAttachments();
+
+		verify(attachmentStoreMock).isExternal();
+		verify(attachmentContentRepositoryMock).findIdsOfContentWithoutStorageKey(Limit.of(10));
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findById("contentId");
+		verify(blobMock).getBinaryStream();
+		verify(blobMock).length();
+		verify(attachmentStoreMock).write(attachmentContent, inputStream, 7L);
+		verify(attachmentContentRepositoryMock).save(same(attachmentContent));
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+
+	@Test
+	void migrateAttachmentsWhenContentIsAlreadyMoved() {
+		final var attachmentContent = AttachmentContentEntity.create().withId("contentId").withStorageKey("hash");
+
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(attachmentContentRepositoryMock.findIdsOfContentWithoutStorageKey(Limit.of(10))).thenReturn(List.of("contentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findById("contentId")).thenReturn(Optional.of(attachmentContent));
+
+		attachmentMigrationWorker.migrateAttachments();
+
+		verify(attachmentStoreMock).isExternal();
+		verify(attachmentContentRepositoryMock).findIdsOfContentWithoutStorageKey(Limit.of(10));
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findById("contentId");
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+
+	@Test
+	void migrateAttachmentsWhenContentCanNotBeRead() throws Exception {
+		final var attachmentContent = AttachmentContentEntity.create().withId("contentId").withHash("hash").withContent(blobMock);
+
+		when(attachmentStoreMock.isExternal()).thenReturn(true);
+		when(attachmentContentRepositoryMock.findIdsOfContentWithoutStorageKey(Limit.of(10))).thenReturn(List.of("contentId", "otherContentId"));
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.findById("contentId")).thenReturn(Optional.of(attachmentContent));
+		when(attachmentContentRepositoryMock.findById("otherContentId")).thenReturn(Optional.empty());
+		when(blobMock.getBinaryStream()).thenThrow(new SQLException("Test exception"));
+
+		attachmentMigrationWorker.migrateAttachments();
+
+		verify(attachmentStoreMock).isExternal();
+		verify(attachmentContentRepositoryMock).findIdsOfContentWithoutStorageKey(Limit.of(10));
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(attachmentContentRepositoryMock).findById("contentId");
+		verify(attachmentContentRepositoryMock).findById("otherContentId");
+		verify(blobMock).getBinaryStream();
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+	}
+}
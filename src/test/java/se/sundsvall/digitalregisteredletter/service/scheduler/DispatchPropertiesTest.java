@@ -0,0 +1,28 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class DispatchPropertiesTest {
+
+	@Autowired
+	private DispatchProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.batchSize()).isEqualTo(50);
+		assertThat(properties.concurrency()).isEqualTo(10);
+		assertThat(properties.concurrencyPerTenant()).isEqualTo(2);
+		assertThat(properties.lease()).isEqualTo(Duration.ofMinutes(5));
+		assertThat(properties.maxAttempts()).isEqualTo(5);
+	}
+}
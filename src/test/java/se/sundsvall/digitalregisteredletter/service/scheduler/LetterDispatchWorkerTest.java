@@ -0,0 +1,125 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.digitalregisteredletter.integration.db.RepositoryIntegration;
+import se.sundsvall.digitalregisteredletter.integration.db.model.LetterOutboxEntity;
+import se.sundsvall.digitalregisteredletter.service.LetterService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.digitalregisteredletter.Constants.STATUS_EXCEPTION_ERROR;
+
+@ExtendWith(MockitoExtension.class)
+class LetterDispatchWorkerTest {
+
+	private static final Duration LEASE = Duration.ofMinutes(5);
+	private static final int BATCH_SIZE = 20;
+	private static final int CONCURRENCY = 4;
+	private static final int CONCURRENCY_PER_TENANT = 2;
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Mock
+	private LetterService letterServiceMock;
+
+	@Mock
+	private RepositoryIntegration repositoryIntegrationMock;
+
+	private LetterDispatchWorker letterDispatchWorker;
+
+	@BeforeEach
+	void setup() {
+		letterDispatchWorker = new LetterDispatchWorker(letterServiceMock, repositoryIntegrationMock,
+			new DispatchProperties(true, BATCH_SIZE, CONCURRENCY, CONCURRENCY_PER_TENANT, LEASE, MAX_ATTEMPTS));
+	}
+
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(letterServiceMock, repositoryIntegrationMock);
+	}
+
+	@Test
+	void dispatchLettersWhenOutboxIsEmpty() {
+		when(repositoryIntegrationMock.claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE))).thenReturn(List.of());
+
+		letterDispatchWorker.dispatchLetters();
+
+		verify(repositoryIntegrationMock).claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE));
+	}
+
+	@Test
+	void dispatchLettersRespectsConcurrencyPerTenant() {
+		final var tenantA = createOutboxEntities("5591628136", 6);
+		final var tenantB = createOutboxEntities("5591628137", 6);
+		final var outboxEntities = IntStream.range(0, 6).boxed()
+			.flatMap(i -> List.of(tenantA.get(i), tenantB.get(i)).stream())
+			.toList();
+		final var inFlightA = new AtomicInteger();
+		final var inFlightB = new AtomicInteger();
+		final var maxInFlightA = new AtomicInteger();
+		final var maxInFlightB = new AtomicInteger();
+		final var maxInFlightTotal = new AtomicInteger();
+
+		when(repositoryIntegrationMock.claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE))).thenReturn(outboxEntities);
+		doAnswer(invocation -> {
+			final LetterOutboxEntity outboxEntity = invocation.getArgument(0);
+			final var inFlight = tenantA.contains(outboxEntity) ? inFlightA : inFlightB;
+			final var maxInFlight = tenantA.contains(outboxEntity) ? maxInFlightA : maxInFlightB;
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			maxInFlightTotal.accumulateAndGet(inFlightA.get() + inFlightB.get(), Math::max);
+			Thread.sleep(20);
+			inFlight.decrementAndGet();
+			return null;
+		}).when(letterServiceMock).dispatchLetter(any(), eq(MAX_ATTEMPTS));
+
+		letterDispatchWorker.dispatchLetters();
+
+		assertThat(maxInFlightA.get()).isBetween(1, CONCURRENCY_PER_TENANT);
+		assertThat(maxInFlightB.get()).isBetween(1, CONCURRENCY_PER_TENANT);
+		assertThat(maxInFlightTotal.get()).isLessThanOrEqualTo(CONCURRENCY);
+		verify(repositoryIntegrationMock).claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE));
+		outboxEntities.forEach(outboxEntity -> verify(letterServiceMock).dispatchLetter(outboxEntity, MAX_ATTEMPTS));
+	}
+
+	@Test
+	void dispatchLettersWhenDispatchFails() {
+		final var retryable = LetterOutboxEntity.create().withLetterId("letterId1").withMunicipalityId("2281").withOrganizationNumber("5591628136").withAttempts(1);
+		final var exhausted = LetterOutboxEntity.create().withLetterId("letterId2").withMunicipalityId("2281").withOrganizationNumber("5591628136").withAttempts(MAX_ATTEMPTS);
+
+		when(repositoryIntegrationMock.claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE))).thenReturn(List.of(retryable, exhausted));
+		doThrow(new RuntimeException("Kivra is down")).when(letterServiceMock).dispatchLetter(any(), eq(MAX_ATTEMPTS));
+
+		letterDispatchWorker.dispatchLetters();
+
+		verify(repositoryIntegrationMock).claimOutboxEntries(anyString(), eq(BATCH_SIZE), eq(LEASE));
+		verify(letterServiceMock).dispatchLetter(retryable, MAX_ATTEMPTS);
+		verify(letterServiceMock).dispatchLetter(exhausted, MAX_ATTEMPTS);
+		verify(repositoryIntegrationMock).completeOutboxEntry(exhausted, STATUS_EXCEPTION_ERROR);
+	}
+
+	private static List<LetterOutboxEntity> createOutboxEntities(final String organizationNumber, final int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> LetterOutboxEntity.create()
+				.withId(organizationNumber + "-" + i)
+				.withLetterId(organizationNumber + "-letter-" + i)
+				.withMunicipalityId("2281")
+				.withOrganizationNumber(organizationNumber)
+				.withAttempts(1))
+			.toList();
+	}
+}
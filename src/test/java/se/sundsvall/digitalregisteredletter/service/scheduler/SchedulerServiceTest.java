@@ -16,12 +16,21 @@ class SchedulerServiceTest {
 	@Mock
 	private SchedulerWorker schedulerWorkerMock;
 
+	@Mock
+	private LetterDispatchWorker letterDispatchWorkerMock;
+
+	@Mock
+	private AttachmentMigrationWorker attachmentMigrationWorkerMock;
+
+	@Mock
+	private AttachmentCleanupWorker attachmentCleanupWorkerMock;
+
 	@InjectMocks
 	private SchedulerService schedulerService;
 
 	@AfterEach
 	void ensureNoInteractionsWereMissed() {
-		verifyNoMoreInteractions(schedulerWorkerMock);
+		verifyNoMoreInteractions(schedulerWorkerMock, letterDispatchWorkerMock, attachmentMigrationWorkerMock, attachmentCleanupWorkerMock);
 	}
 
 	@Test
@@ -30,4 +39,25 @@ class SchedulerServiceTest {
 
 		verify(schedulerWorkerMock).updateLetterInformation();
 	}
+
+	@Test
+	void dispatchLetters() {
+		schedulerService.dispatchLetters();
+
+		verify(letterDispatchWorkerMock).dispatchLetters();
+	}
+
+	@Test
+	void migrateAttachments() {
+		schedulerService.migrateAttachments();
+
+		verify(attachmentMigrationWorkerMock).migrateAttachments();
+	}
+
+	@Test
+	void deleteUnreferencedAttachments() {
+		schedulerService.deleteUnreferencedAttachments();
+
+		verify(attachmentCleanupWorkerMock).deleteUnreferencedAttachments();
+	}
 }
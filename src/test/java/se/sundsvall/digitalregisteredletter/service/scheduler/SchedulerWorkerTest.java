@@ -2,10 +2,12 @@ package se.sundsvall.digitalregisteredletter.service.scheduler;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.dept44.problem.Problem;
@@ -18,6 +20,9 @@ import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLe
 import se.sundsvall.digitalregisteredletter.integration.kivra.model.RegisteredLetterResponseBuilder;
 import se.sundsvall.digitalregisteredletter.service.mapper.LetterMapper;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -31,6 +36,8 @@ class SchedulerWorkerTest {
 
 	private static final String MUNICIPALITY_ID = "2281";
 	private static final String ORG_NUMBER = "5591628136";
+	private static final int CONCURRENCY = 2;
+	private static final int CONCURRENCY_PER_TENANT = 3;
 
 	@Mock
 	private KivraIntegration kivraIntegrationMock;
@@ -41,9 +48,13 @@ class SchedulerWorkerTest {
 	@Mock
 	private LetterMapper letterMapperMock;
 
-	@InjectMocks
 	private SchedulerWorker schedulerWorker;
 
+	@BeforeEach
+	void setup() {
+		schedulerWorker = new SchedulerWorker(kivraIntegrationMock, letterRepositoryMock, letterMapperMock, new StatusUpdateProperties(CONCURRENCY, CONCURRENCY_PER_TENANT));
+	}
+
 	@AfterEach
 	void ensureNoInteractionsWereMissed() {
 		verifyNoMoreInteractions(kivraIntegrationMock, letterRepositoryMock, letterMapperMock);
@@ -58,12 +69,11 @@ class SchedulerWorkerTest {
 		final var keyValues = List.of(keyValue1, keyValue2);
 		final var letter1 = createLetterEntity().withId("letterId1");
 		final var letter2 = createLetterEntity().withId("letterId2").withSigningInformation(existingSigningInformation);
-		final var sentLetter = createLetterEntity().withTenant(tenant);
 		final var status = "signed";
 		final var registeredLetterResponse1 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter1.getId())).build();
 		final var registeredLetterResponse2 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter2.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant));
 		when(kivraIntegrationMock.getAllResponses(tenant)).thenReturn(keyValues);
 		when(kivraIntegrationMock.getRegisteredLetterResponse(letter1.getId(), tenant)).thenReturn(registeredLetterResponse1);
 		when(kivraIntegrationMock.getRegisteredLetterResponse(letter2.getId(), tenant)).thenReturn(registeredLetterResponse2);
@@ -72,7 +82,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter1.getId(), tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter2.getId(), tenant);
@@ -96,13 +106,11 @@ class SchedulerWorkerTest {
 		final var keyValue2 = KeyValueBuilder.create().withResponseKey("letterId2").build();
 		final var letter1 = createLetterEntity().withId("letterId1");
 		final var letter2 = createLetterEntity().withId("letterId2");
-		final var sentLetter1 = createLetterEntity().withTenant(tenant1);
-		final var sentLetter2 = createLetterEntity().withTenant(tenant2);
 		final var status = "signed";
 		final var response1 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter1.getId())).build();
 		final var response2 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter2.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter1, sentLetter2));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant1, tenant2));
 		when(kivraIntegrationMock.getAllResponses(tenant1)).thenReturn(List.of(keyValue1));
 		when(kivraIntegrationMock.getAllResponses(tenant2)).thenReturn(List.of(keyValue2));
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId1", tenant1)).thenReturn(response1);
@@ -112,7 +120,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant1);
 		verify(kivraIntegrationMock).getAllResponses(tenant2);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse("letterId1", tenant1);
@@ -129,6 +137,37 @@ class SchedulerWorkerTest {
 		verify(letterMapperMock).updateSigningInformation(letter2.getSigningInformation(), response2);
 	}
 
+	@Test
+	void updateLetterInformationRespectsConcurrencyPerTenant() {
+		final var tenant = TenantEntity.create().withMunicipalityId(MUNICIPALITY_ID).withOrgNumber(ORG_NUMBER);
+		final var keyValues = IntStream.range(0, 20)
+			.mapToObj(i -> KeyValueBuilder.create().withResponseKey("letterId" + i).build())
+			.toList();
+		final var inFlight = new AtomicInteger();
+		final var maxInFlight = new AtomicInteger();
+
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant));
+		when(kivraIntegrationMock.getAllResponses(tenant)).thenReturn(keyValues);
+		when(kivraIntegrationMock.getRegisteredLetterResponse(any(), eq(tenant))).thenAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			inFlight.decrementAndGet();
+			return RegisteredLetterResponseBuilder.create()
+				.withSenderReference(new RegisteredLetterResponse.SenderReference(invocation.getArgument(0)))
+				.build();
+		});
+
+		schedulerWorker.updateLetterInformation();
+
+		assertThat(maxInFlight.get()).isBetween(1, CONCURRENCY_PER_TENANT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
+		verify(kivraIntegrationMock).getAllResponses(tenant);
+		keyValues.forEach(keyValue -> {
+			verify(kivraIntegrationMock).getRegisteredLetterResponse(keyValue.responseKey(), tenant);
+			verify(letterRepositoryMock).findByIdAndDeleted(keyValue.responseKey(), false);
+		});
+	}
+
 	/*
 	 * Tests below verifies that loop is not interrupted by a single entity update failure
 	 */
@@ -139,12 +178,10 @@ class SchedulerWorkerTest {
 		final var tenant2 = TenantEntity.create().withMunicipalityId("2262").withOrgNumber("1234567890");
 		final var keyValue = KeyValueBuilder.create().withResponseKey("letterId1").build();
 		final var letter = createLetterEntity().withId("letterId1");
-		final var sentLetter1 = createLetterEntity().withTenant(tenant1);
-		final var sentLetter2 = createLetterEntity().withTenant(tenant2);
 		final var status = "signed";
 		final var response = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter1, sentLetter2));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant1, tenant2));
 		when(kivraIntegrationMock.getAllResponses(tenant1)).thenThrow(Problem.valueOf(INTERNAL_SERVER_ERROR, "Test exception"));
 		when(kivraIntegrationMock.getAllResponses(tenant2)).thenReturn(List.of(keyValue));
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId1", tenant2)).thenReturn(response);
@@ -152,7 +189,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant1);
 		verify(kivraIntegrationMock).getAllResponses(tenant2);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse("letterId1", tenant2);
@@ -170,11 +207,10 @@ class SchedulerWorkerTest {
 		final var keyValue2 = KeyValueBuilder.create().withResponseKey("letterId2").build();
 		final var keyValues = List.of(keyValue1, keyValue2);
 		final var letter = createLetterEntity().withId("letterId2");
-		final var sentLetter = createLetterEntity().withTenant(tenant);
 		final var status = "signed";
 		final var registeredLetterResponse = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant));
 		when(kivraIntegrationMock.getAllResponses(tenant)).thenReturn(keyValues);
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId1", tenant)).thenThrow(Problem.valueOf(INTERNAL_SERVER_ERROR, "Test exception"));
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId2", tenant)).thenReturn(registeredLetterResponse);
@@ -182,7 +218,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse("letterId1", tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse("letterId2", tenant);
@@ -201,12 +237,11 @@ class SchedulerWorkerTest {
 		final var keyValues = List.of(keyValue1, keyValue2);
 		final var letter1 = createLetterEntity().withId("letterId1");
 		final var letter2 = createLetterEntity().withId("letterId2");
-		final var sentLetter = createLetterEntity().withTenant(tenant);
 		final var status = "signed";
 		final var registeredLetterResponse1 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter1.getId())).build();
 		final var registeredLetterResponse2 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter2.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant));
 		when(kivraIntegrationMock.getAllResponses(tenant)).thenReturn(keyValues);
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId1", tenant)).thenReturn(registeredLetterResponse1);
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId2", tenant)).thenReturn(registeredLetterResponse2);
@@ -217,7 +252,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter1.getId(), tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter2.getId(), tenant);
@@ -240,12 +275,11 @@ class SchedulerWorkerTest {
 		final var keyValues = List.of(keyValue1, keyValue2);
 		final var letter1 = createLetterEntity().withId("letterId1");
 		final var letter2 = createLetterEntity().withId("letterId2");
-		final var sentLetter = createLetterEntity().withTenant(tenant);
 		final var status = "signed";
 		final var registeredLetterResponse1 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter1.getId())).build();
 		final var registeredLetterResponse2 = RegisteredLetterResponseBuilder.create().withStatus(status).withSenderReference(new RegisteredLetterResponse.SenderReference(letter2.getId())).build();
 
-		when(letterRepositoryMock.findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT)).thenReturn(List.of(sentLetter));
+		when(letterRepositoryMock.findDistinctTenantsByLetterStatus(STATUS_SENT)).thenReturn(List.of(tenant));
 		when(kivraIntegrationMock.getAllResponses(tenant)).thenReturn(keyValues);
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId1", tenant)).thenReturn(registeredLetterResponse1);
 		when(kivraIntegrationMock.getRegisteredLetterResponse("letterId2", tenant)).thenReturn(registeredLetterResponse2);
@@ -257,7 +291,7 @@ class SchedulerWorkerTest {
 
 		schedulerWorker.updateLetterInformation();
 
-		verify(letterRepositoryMock).findAllByStatusAndDeletedFalseAndTenantIsNotNull(STATUS_SENT);
+		verify(letterRepositoryMock).findDistinctTenantsByLetterStatus(STATUS_SENT);
 		verify(kivraIntegrationMock).getAllResponses(tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter1.getId(), tenant);
 		verify(kivraIntegrationMock).getRegisteredLetterResponse(letter2.getId(), tenant);
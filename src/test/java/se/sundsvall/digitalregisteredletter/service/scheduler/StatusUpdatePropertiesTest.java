@@ -0,0 +1,23 @@
+package se.sundsvall.digitalregisteredletter.service.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.digitalregisteredletter.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class StatusUpdatePropertiesTest {
+
+	@Autowired
+	private StatusUpdateProperties properties;
+
+	@Test
+	void testDefaultProperties() {
+		assertThat(properties.concurrency()).isEqualTo(4);
+		assertThat(properties.concurrencyPerTenant()).isEqualTo(4);
+	}
+}
@@ -1,25 +1,37 @@
 package se.sundsvall.digitalregisteredletter.service.util;
 
-import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.sql.Blob;
-import java.sql.SQLException;
-import org.hibernate.LobHelper;
-import org.hibernate.Session;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.integration.db.AttachmentContentRepository;
+import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentContentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -27,105 +39,191 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class BlobUtilTest {
 
+	private static final String CONTENT_HASH = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
 	@Mock
-	private EntityManager entityManagerMock;
+	private AttachmentStore attachmentStoreMock;
 
-	@InjectMocks
-	private BlobUtil blobUtil;
+	@Mock
+	private AttachmentContentRepository attachmentContentRepositoryMock;
 
-	@AfterEach
-	void ensureNoInteractionsWereMissed() {
-		verifyNoMoreInteractions(entityManagerMock);
-	}
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
 
-	@Test
-	void getSessionTest() {
+	@Mock
+	private TransactionStatus transactionStatusMock;
 
-		final var session = Mockito.mock(Session.class);
-		when(entityManagerMock.unwrap(Session.class)).thenReturn(session);
+	@Captor
+	private ArgumentCaptor<AttachmentContentEntity> attachmentContentCaptor;
 
-		final var result = blobUtil.getSession();
+	@InjectMocks
+	private BlobUtil blobUtil;
 
-		assertThat(result).isEqualTo(session);
+	@AfterEach
+	void ensureNoInteractionsWereMissed() {
+		verifyNoMoreInteractions(attachmentStoreMock, attachmentContentRepositoryMock, transactionManagerMock);
 	}
 
 	@Test
-	void createBlob_OK() throws IOException {
-		final var spy = Mockito.spy(blobUtil);
-		final var multipartFile = Mockito.mock(MultipartFile.class);
-
-		when(multipartFile.getBytes()).thenReturn(new byte[123]);
-
-		final var session = Mockito.mock(Session.class);
-		when(spy.getSession()).thenReturn(session);
-
-		final var lobHelper = Mockito.mock(LobHelper.class);
-		when(session.getLobHelper()).thenReturn(lobHelper);
-
-		final var blob = Mockito.mock(Blob.class);
-		when(lobHelper.createBlob(any(), eq(123L))).thenReturn(blob);
-
-		final var result = spy.createBlob(multipartFile);
+	void openInputStream_OK() throws IOException {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
 
-		assertThat(result).isEqualTo(blob);
-		verify(entityManagerMock).unwrap(any());
+		try (final var result = blobUtil.openInputStream(multipartFile)) {
+			assertThat(result).hasBinaryContent("content".getBytes());
+		}
 	}
 
 	@Test
-	void createBlob_IOException() throws IOException {
-		final var spy = Mockito.spy(blobUtil);
+	void openInputStream_IOException() throws IOException {
 		final var multipartFile = Mockito.mock(MultipartFile.class);
 		when(multipartFile.getOriginalFilename()).thenReturn("TestFile.txt");
+		when(multipartFile.getInputStream()).thenThrow(new IOException("Test exception"));
 
-		when(multipartFile.getBytes()).thenThrow(new IOException("Test exception"));
-
-		assertThatThrownBy(() -> spy.createBlob(multipartFile))
+		assertThatThrownBy(() -> blobUtil.openInputStream(multipartFile))
 			.isInstanceOf(Problem.class)
 			.hasMessage("Internal Server Error: Could not convert file with name [ TestFile.txt ] to database object");
+
+		verify(multipartFile, never()).getBytes();
 	}
 
 	@Test
-	void convertToBlobTest() throws IOException {
-		final var spy = Mockito.spy(blobUtil);
-		final var multipartFile = Mockito.mock(MultipartFile.class);
-
-		when(multipartFile.getBytes()).thenReturn(new byte[123]);
-
-		final var session = Mockito.mock(Session.class);
-		when(spy.getSession()).thenReturn(session);
-
-		final var lobHelper = Mockito.mock(LobHelper.class);
-		when(session.getLobHelper()).thenReturn(lobHelper);
-
-		final var blob = Mockito.mock(Blob.class);
-		when(spy.createBlob(multipartFile)).thenReturn(blob);
-
-		final var result = spy.convertToBlob(multipartFile);
-
-		assertThat(result).isEqualTo(blob);
-		verify(entityManagerMock).unwrap(any());
+	void computeHashOfStream() throws IOException {
+		assertThat(BlobUtil.computeHash(new ByteArrayInputStream("content".getBytes()))).isEqualTo(CONTENT_HASH);
 	}
 
 	@Test
-	void convertBlobToBase64StringTest() throws SQLException {
-		final var blob = Mockito.mock(Blob.class);
+	void convertToAttachmentContentFromNull() {
+		assertThat(blobUtil.convertToAttachmentContent(null)).isNull();
+	}
 
-		when(blob.getBytes(1, (int) blob.length())).thenReturn("test".getBytes());
+	@Test
+	void convertToAttachmentContentWhenContentExists() {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
+
+		mockWrite();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("writtenContentId"));
+		when(attachmentContentRepositoryMock.findIdByHash(CONTENT_HASH)).thenReturn(Optional.of("contentId"));
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentEntity);
+
+		final var result = blobUtil.convertToAttachmentContent(multipartFile);
+
+		assertThat(result).isSameAs(attachmentContentEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentStoreMock).write(any(), any(), eq(7L));
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(attachmentContentRepositoryMock).findIdByHash(CONTENT_HASH);
+		verify(transactionStatusMock).setRollbackOnly();
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
+	}
 
-		final var result = blobUtil.convertBlobToBase64String(blob);
+	@Test
+	void convertToAttachmentContentWhenContentIsNew() {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("writtenContentId");
+
+		mockWrite();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("writtenContentId"));
+		when(attachmentContentRepositoryMock.findIdByHash(CONTENT_HASH)).thenReturn(Optional.empty());
+		when(attachmentContentRepositoryMock.getReferenceById("writtenContentId")).thenReturn(attachmentContentEntity);
+
+		final var result = blobUtil.convertToAttachmentContent(multipartFile);
+
+		assertThat(result).isSameAs(attachmentContentEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentStoreMock).write(any(), any(), eq(7L));
+		verify(attachmentContentRepositoryMock).saveAndFlush(attachmentContentCaptor.capture());
+		verify(attachmentContentRepositoryMock).findIdByHash(CONTENT_HASH);
+		verify(attachmentContentRepositoryMock).updateHash("writtenContentId", CONTENT_HASH);
+		verify(transactionManagerMock).commit(transactionStatusMock);
+		verify(attachmentContentRepositoryMock).getReferenceById("writtenContentId");
+		assertThat(attachmentContentCaptor.getValue()).satisfies(stored -> {
+			assertThat(stored.getHash()).hasSize(36).isNotEqualTo(CONTENT_HASH);
+			assertThat(stored.getStorageKey()).isEqualTo("writtenStorageKey");
+			assertThat(stored.getContentLength()).isEqualTo(7L);
+			assertThat(stored.getReferenceCount()).isZero();
+		});
+	}
 
-		assertThat(result).isEqualTo("dGVzdA==");
+	@Test
+	void convertToAttachmentContentWhenContentIsStoredConcurrently() {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+		final var attachmentContentEntity = AttachmentContentEntity.create().withId("contentId");
+
+		mockWrite();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("writtenContentId"));
+		when(attachmentContentRepositoryMock.findIdByHash(CONTENT_HASH)).thenReturn(Optional.empty(), Optional.of("contentId"));
+		doThrow(new DataIntegrityViolationException("Duplicate entry")).when(attachmentContentRepositoryMock).updateHash("writtenContentId", CONTENT_HASH);
+		when(attachmentContentRepositoryMock.getReferenceById("contentId")).thenReturn(attachmentContentEntity);
+
+		final var result = blobUtil.convertToAttachmentContent(multipartFile);
+
+		assertThat(result).isSameAs(attachmentContentEntity);
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentStoreMock).write(any(), any(), eq(7L));
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(attachmentContentRepositoryMock, times(2)).findIdByHash(CONTENT_HASH);
+		verify(attachmentContentRepositoryMock).updateHash("writtenContentId", CONTENT_HASH);
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
+		verify(attachmentContentRepositoryMock).getReferenceById("contentId");
 	}
 
 	@Test
-	void convertToBlob_SQLException() throws SQLException {
-		final var blob = Mockito.mock(Blob.class);
-		when(blob.length()).thenThrow(new SQLException("Test exception"));
+	void convertToAttachmentContentWhenStoredContentIsNotFound() {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
 
-		assertThatThrownBy(() -> blobUtil.convertBlobToBase64String(blob))
+		mockWrite();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<AttachmentContentEntity>getArgument(0).withId("writtenContentId"));
+		when(attachmentContentRepositoryMock.findIdByHash(CONTENT_HASH)).thenReturn(Optional.empty());
+		doThrow(new DataIntegrityViolationException("Duplicate entry")).when(attachmentContentRepositoryMock).updateHash("writtenContentId", CONTENT_HASH);
+
+		assertThatThrownBy(() -> blobUtil.convertToAttachmentContent(multipartFile))
 			.isInstanceOf(Problem.class)
-			.hasMessage("Internal Server Error: Could not convert Blob to Base64 string");
+			.hasMessage("Internal Server Error: Could not convert file with name [ test.pdf ] to database object");
+
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentStoreMock).write(any(), any(), eq(7L));
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(attachmentContentRepositoryMock, times(2)).findIdByHash(CONTENT_HASH);
+		verify(attachmentContentRepositoryMock).updateHash("writtenContentId", CONTENT_HASH);
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
+	}
 
+	@Test
+	void convertToAttachmentContentWhenSaveFails() {
+		final var multipartFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+		final var exception = new IllegalStateException("Connection lost");
+
+		mockWrite();
+		when(transactionManagerMock.getTransaction(any())).thenReturn(transactionStatusMock);
+		when(attachmentContentRepositoryMock.saveAndFlush(any())).thenThrow(exception);
+
+		assertThatThrownBy(() -> blobUtil.convertToAttachmentContent(multipartFile))
+			.isSameAs(exception);
+
+		verify(transactionManagerMock).getTransaction(any());
+		verify(attachmentStoreMock).write(any(), any(), eq(7L));
+		verify(attachmentContentRepositoryMock).saveAndFlush(any());
+		verify(transactionManagerMock).rollback(transactionStatusMock);
+		verify(attachmentStoreMock).delete("writtenStorageKey");
 	}
 
+	/**
+	 * Mocks a write to an external store, reading the content from the stream as the store would.
+	 */
+	private void mockWrite() {
+		doAnswer(invocation -> {
+			invocation.<InputStream>getArgument(1).transferTo(OutputStream.nullOutputStream());
+			invocation.<AttachmentContentEntity>getArgument(0).setStorageKey("writtenStorageKey");
+			return null;
+		}).when(attachmentStoreMock).write(any(), any(), eq(7L));
+	}
 }
@@ -0,0 +1,39 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.dept44.problem.Problem;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Base64.getUrlEncoder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+	private static final String POSITION = "2025-08-18T10:15:30.123+02:00|43a32404-28ee-480f-a095-00d48109afab";
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		final var cursor = CursorCodec.encode(POSITION);
+
+		assertThat(cursor).doesNotContain("|", "=", "+", "/");
+		assertThat(CursorCodec.decode(cursor, value -> value)).isEqualTo(POSITION);
+	}
+
+	@Test
+	void decodeInvalidEncoding() {
+		assertThatThrownBy(() -> CursorCodec.decode("not a cursor", value -> value))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor 'not a cursor'");
+	}
+
+	@Test
+	void decodeWhenParserFails() {
+		final var cursor = getUrlEncoder().encodeToString("not-a-date".getBytes(UTF_8));
+
+		assertThatThrownBy(() -> CursorCodec.decode(cursor, OffsetDateTime::parse))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor '%s'".formatted(cursor));
+	}
+}
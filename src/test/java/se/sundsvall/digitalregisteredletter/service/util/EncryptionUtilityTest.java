@@ -26,6 +26,24 @@ class EncryptionUtilityTest {
 		assertThat(decrypted).isEqualTo(plaintext);
 	}
 
+	@Test
+	void encryptAndDecryptRepeatedRoundTrips() {
+		for (var i = 0; i < 50; i++) {
+			final var plaintext = "tenant-key-" + i;
+
+			assertThat(encryptionUtility.decrypt(encryptionUtility.encrypt(plaintext.getBytes()))).isEqualTo(plaintext);
+		}
+	}
+
+	@Test
+	void decryptAfterFailedDecryptStillWorks() {
+		final var encrypted = encryptionUtility.encrypt("some-tenant-key-value".getBytes());
+		final var invalidCipherText = getEncoder().encodeToString(new byte[32]);
+
+		assertThatThrownBy(() -> encryptionUtility.decrypt(invalidCipherText)).isInstanceOf(Problem.class);
+		assertThat(encryptionUtility.decrypt(encrypted)).isEqualTo("some-tenant-key-value");
+	}
+
 	@Test
 	void encryptProducesDifferentCiphertextEachTime() {
 		final var plaintext = "same-input";
@@ -1,24 +1,66 @@
 package se.sundsvall.digitalregisteredletter.service.util;
 
+import com.sun.management.ThreadMXBean;
 import generated.se.sundsvall.templating.RenderResponse;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 import javax.sql.rowset.serial.SerialBlob;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openpdf.text.Document;
+import org.openpdf.text.pdf.PdfReader;
+import org.openpdf.text.pdf.PdfSmartCopy;
+import org.springframework.util.unit.DataSize;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 import se.sundsvall.dept44.test.extension.ResourceLoaderExtension;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
 import se.sundsvall.digitalregisteredletter.integration.db.model.AttachmentEntity;
+import se.sundsvall.digitalregisteredletter.integration.store.AttachmentStore;
+import se.sundsvall.digitalregisteredletter.integration.store.DatabaseAttachmentStore;
+import se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.Outcome;
 
+import static org.apache.pdfbox.io.RandomAccessReadBuffer.createBufferFromStream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.ALWAYS;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.AUTO;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.NEVER;
+import static se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.Outcome.COMPRESSED;
+import static se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.Outcome.INEFFECTIVE;
+import static se.sundsvall.digitalregisteredletter.service.util.InvoicePdfMerger.Outcome.SKIPPED;
 
 @ExtendWith(ResourceLoaderExtension.class)
 class InvoicePdfMergerTest {
 
+	private static final AttachmentStore ATTACHMENT_STORE = new DatabaseAttachmentStore(null);
+	private static final long MAX_MAIN_MEMORY_BYTES = 1024 * 1024;
+	private static final Compression COMPRESSION = new Compression(ALWAYS, DataSize.ofMegabytes(1), 20, null);
+
+	@TempDir
+	private Path temporaryDirectory;
+
 	@Test
 	void mergePdfs() throws Exception {
 
@@ -31,12 +73,58 @@ class InvoicePdfMergerTest {
 		final var renderResponse = new RenderResponse().output(
 			"JVBERi0xLjcNCiW1tbW1DQoxIDAgb2JqDQo8PC9UeXBlL0NhdGFsb2cvUGFnZXMgMiAwIFIvTGFuZyhzdi1TRSkgL1N0cnVjdFRyZWVSb290IDEzIDAgUi9NYXJrSW5mbzw8L01hcmtlZCB0cnVlPj4vTWV0YWRhdGEgMjQgMCBSL1ZpZXdlclByZWZlcmVuY2VzIDI1IDAgUj4+DQplbmRvYmoNCjIgMCBvYmoNCjw8L1R5cGUvUGFnZXMvQ291bnQgMS9LaWRzWyAzIDAgUl0gPj4NCmVuZG9iag0KMyAwIG9iag0KPDwvVHlwZS9QYWdlL1BhcmVudCAyIDAgUi9SZXNvdXJjZXM8PC9Gb250PDwvRjEgNSAwIFI+Pi9FeHRHU3RhdGU8PC9HUzcgNyAwIFIvR1M4IDggMCBSPj4vWE9iamVjdDw8L0ltYWdlOSA5IDAgUi9JbWFnZTExIDExIDAgUj4+L1Byb2NTZXRbL1BERi9UZXh0L0ltYWdlQi9JbWFnZUMvSW1hZ2VJXSA+Pi9NZWRpYUJveFsgMCAwIDU5NS4zMiA4NDEuOTJdIC9Db250ZW50cyA0IDAgUi9Hcm91cDw8L1R5cGUvR3JvdXAvUy9UcmFuc3BhcmVuY3kvQ1MvRGV2aWNlUkdCPj4vVGFicy9TL1N0cnVjdFBhcmVudHMgMD4+DQplbmRvYmoNCjQgMCBvYmoNCjw8L0ZpbHRlci9GbGF0ZURlY29kZS9MZW5ndGggMzU4Pj4NCnN0cmVhbQ0KeJy1Ul1rwjAUfS/0P5zHdmxpkjZNCiKoVbeB4LCwB/Ghau0K82PaDfbvl1SHOjfYh8tDyL2595xzT+I11mUxSyclajWvUZbp5CGbYugly9XIS15XmddP82KRlsVy4Q2ex6VJXWfpNFvX62jGLTzZFiXULKUkA4WIBPE5VMBIxLHObOv+Agvbaia25XUYGCM0QDKzLVNNwSApiYIAUnASciRzXdcdSOQbDY28itQu6trW0IE7QnJrW22NeGdbZ1QQaKCtgor43/m4JP736IRmE5AhJ0qCRZKoEDLS+QO+XdpQbK+2fTJ675sYa2/maZ5FiJfQ4Gj3WoDXN8/fa93EoL9+Vv7phMwnMjgZMclc4WxKpC/oxx19vsS4eHSvfCd1Ayc3G9hfXT8WxKQgXHwl6IPnJ7awM9nCJCeRhOC6XPxYBd+rMP5qGE6oAqMVGpPhsYZdvmI2dwqHXfvPwNjhb3gDOubTTQ0KZW5kc3RyZWFtDQplbmRvYmoNCjUgMCBvYmoNCjw8L1R5cGUvRm9udC9TdWJ0eXBlL1RydWVUeXBlL05hbWUvRjEvQmFzZUZvbnQvVGltZXNOZXdSb21hblBTTVQvRW5jb2RpbmcvV2luQW5zaUVuY29kaW5nL0ZvbnREZXNjcmlwdG9yIDYgMCBSL0ZpcnN0Q2hhciAzMi9MYXN0Q2hhciAxMTgvV2lkdGhzIDIzIDAgUj4+DQplbmRvYmoNCjYgMCBvYmoNCjw8L1R5cGUvRm9udERlc2NyaXB0b3IvRm9udE5hbWUvVGltZXNOZXdSb21hblBTTVQvRmxhZ3MgMzIvSXRhbGljQW5nbGUgMC9Bc2NlbnQgODkxL0Rlc2NlbnQgLTIxNi9DYXBIZWlnaHQgNjkzL0F2Z1dpZHRoIDQwMS9NYXhXaWR0aCAyNjE0L0ZvbnRXZWlnaHQgNDAwL1hIZWlnaHQgMjUwL0xlYWRpbmcgNDIvU3RlbVYgNDAvRm9udEJCb3hbIC01NjggLTIxNiAyMDQ2IDY5M10gPj4NCmVuZG9iag0KNyAwIG9iag0KPDwvVHlwZS9FeHRHU3RhdGUvQk0vTm9ybWFsL2NhIDE+Pg0KZW5kb2JqDQo4IDAgb2JqDQo8PC9UeXBlL0V4dEdTdGF0ZS9CTS9Ob3JtYWwvQ0EgMT4+DQplbmRvYmoNCjkgMCBvYmoNCjw8L1R5cGUvWE9iamVjdC9TdWJ0eXBlL0ltYWdlL1dpZHRoIDQxMy9IZWlnaHQgMTY1L0NvbG9yU3BhY2UvRGV2aWNlUkdCL0JpdHNQZXJDb21wb25lbnQgOC9JbnRlcnBvbGF0ZSBmYWxzZS9TTWFzayAxMCAwIFIvRmlsdGVyL0ZsYXRlRGVjb2RlL0xlbmd0aCA2MzE0Pj4NCnN0cmVhbQ0KeJztnQt7qjoThUURFO8K3rXt1///H7+lnGbHTBICovay3pPnPN0tQkCyMpNMJp0OIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEPInJeBx1olfXghBC2mE8Gu3Wm1fXghBC2iEbDP93fptPZ6+uCCGEtECapB+n8+fb+3AweHVdCCHkXpJ+//14gqah9Pv9V1eHEELuotfrvR2OpaahwGx7dY0IIaQ5URQddzulaSiLGcfWCCE/mG2x1jUNBd5or9t9db0IIaQJy/nC0LSyHLa7LpWNEPLTGA4GVk0ry9vhOM5Gr64jIYTUYLc23U9ZzvvDfDqL4/jVlSWEkGrKKLXAAn3Ll6vJaNyPGf5BCPmmfJxryJpeoIe79WYxm8ONjSKuHiWEfBc2RdFM1vTyv/PbYbuDxNGKI4S8nG4UrfMcunS/uJUFJlyv13v1bRFC/jrdbjcbDpfzxX6zrTXaZh+COxwZGUIIeRCb/J+PCb06Hw7wFmFQ5cvVbDKFlPVt85tpkswmE3xWX05Vq6wWi+ffLCHkLyBXRVkH/2GkQYjG2ajXNf3HOI4n4zEc1bevVfAhZb9hujZCyKPo9XrvdRTpvD8Uy9Uoy6QjCStuMZuf9oeQEbaX3Cwh5I8wHAwaTAqU85vL+XyQmtk80iSFcHk+my+XL7lTQsjfYTGb3TML8H46b/JiMhqrWU44rZ7jYey99n4JIX+B/WZ7j7KpctztK8fr3g7H+XTGHCCEkIfSj+MW49PKctofVvPFdDyxjrnhcus8lz4sIYS0hdVzfD+etsUaf5pNplCnfLE8bLaVAvh+OklP0+XqHra74WD4klsmhPxuer2e0quP87lYOU2puBdDi/zK9nE6wyGFPQY1Gw2zcvuD+XTq9F63O1puhJDWKRPhFquVdYlTFEXjbLQpimZL4KGZleEfkEGuriKEtAjMqszmD8KOguDcv3IqpMDtRTWef++EkD/CIB1U+puPKIvZ/NW3Tgj5bXS73fUqf76gqcKlo4SQFkmTtPFK9hbLdDx+9ZMghPwGRlnWOC9uu+XjdOYMAiHkTsajUetxufeU5Xz+6kdCCPnBZMPht9K0z8tShf2rn8oPYDgYrhZLvUx+hf8ex7FxX9ZubpyNjMM4mU5Kkn4/JIQDx6zz3L+YXROlSyKjxWyOsl7lIWmLjAKZbXY7/TieT2e79frtcESdcZ734+m427kSK/1o8HiN57Yt1q+uVAsMUnOn2vfTWR5WiLktKNvza0u+G1EUhWhOvlxBEHrdXuWEwm69SW2rBiCeEJZwmxBCVPde4l6vcnMZVAAN3xqk9xOhrFHWiASvQaUOqD3c/ek+LvG0VamHIG6B4XDjUb2N44eDwfupRmJMyCY+0vCpfRsoa5Q1YpAmid98ghOn2j48O/+Ry/liNV8UqxVetnKQxzWbWRkXVzePbtJPGiyF+AVJyClrlDViUJlsTdlp8O8axH6UHp91wxd9mxijwM+tm5PttNvXrRtKmvz4JfaUNcoa0YEZ5m/1xXKlDs6Xqwa68fllyEnnNIqis22YDgfD9Kp1Izi59brH3X5TFCjH7U4apb+j+VPWKGtEx7/vwPvxpCYNu1F0Z5guVEXOvM9EtiLd5w1HGn64nJHsCLcwGY3hdaoDyoxJLwGS3sV/UVTrU/gIivHLZrJ2uXbNq7dCeeMhRz5B1hp8BeSbA8fQL0R6mNB4NPKo3zrP/QqpJKsf3yhJNryxsiA12bDJBOVZzORui8J1MBxPuN7rVW78HqYpBEEvaWIxGuGVG4fNpzP9gNViof9VPcboqqv4jb7hF2oOXfI3LjwTfEqNHOIH/FOl3wyXtTiOl/PFcffPcC0TRuFRTMZjPe4F/zTuER90VW82mRoH6wOqvW53+rW3rG4w4584cjqeuO79QbKG7zRfLvWpf9QKVj2+fXyzVLmfjmwORom1l7NweKBolao5wHM8VI3UHbY3MRu689hY08C7mCwwLiSRNoP0iDNbYGeljBxvR/kgofhlNhh6AmMgNdZoOuiDp7+Ac41mGCJrUSeC2PrnhspR0NLElaMT+KuryRv3hVei/D26MKhZZTwPVBrCKE/buqzhCXuGc1VlcMLkdWY8uZPT3jfGjrapH3x0hGSgtzVOWxmsO9HCNmADqFaj5iYa8Ha0KEaxWtWKvH2crMH48T8TFGk9QtOsY4/GyWENVsqacr1DSrlIQe5qbX0aUADjsNI6xYtRa9EKvizjzO3KGt4EadJ7CtM1/0Rgifm/1nx585q5LA2rfeXfpE/15uj91WnvXO/jCoT7OF/2+4MHHTKv+iBZM5wvV8ExRjBM5TZe/zV2oT9GfSrNcr3AO4Np17FFMxZLU3k6tpifcpwBnn74RctidJHtylqlnaYXbtL9Q4Fp5P9mDb/AFeZqbfidqreojLOFG7hbXzKNG2NTDQhpuTA4cZjHv3iQrIUXXds9Wz9UFr0+6DuMcD7IIE4O0YCnORmNYSbpX66ar0mTxDgt9Fk+DSNASF8Yov5UurdQLVw06ScwhPAMZZAhKqafuUVZi8UwMvrWa31S3C9+wOuqZsRQsdgWj0S+P5WuohHh7/KGZhPTCS2BZFkdw6+X/5+H23g87eZy3a40WjxXR3OWJ3m0rJXbCEK7oCrSxTPao/V20OJw9RQkUIaZHFGU9ZGjZFPxlcE8wwM5X+cO9N/LJXVG4A0eu2GI6r3hcHBJngAbL7aFZONU0ojVV7S1KGu4ZeMYnNw4Bm8sKn/V/Hs7WfIqyg1ZPMVo0YetfS4A3ZzrEp7J00/NKmgL9LyuZu4SN8Nye6isQcf0edXYtjerepiQetsZjsY8MuTCGoSs10d+C7l7otCYFJCDCUaTN04u/Wj/2Lt8CfV87y3KmhrCVUVqu/UJkJ9F5biNMYCfO9aN4k32DMt73LHtOihkFD1+uEfQj+NaO9TD+NGl5nGyhqeUiFiRrViSr85jtaWtZi0ejvTm9PpYA5Xx7cMyqZzvk77b4Tqrq4Dxqf/VMyTV63bR74yGGQp6tFL95PBdvvynSC3KmnWwF7WF5Rz36G/+HipTdhi5rfBOuo60jiSX+EfwKqNhIQUNUq6h1aBdB07D6ed/nKxZB7GlCaHOI4M6Tl/zLBJIgac++g6wsrwdjsXqkqzJZaUYczFGL2Z4ytK170YRDDzry4anLefiC80LblHWPG/v53WcDb32L0h6QConu40Aj447xuPTFuYRciEZ0qAD0wutRu++a4HWh1Z22di0yjNVo4iPkzXrUJ7nPNKW9vQdlfXxT0yXBU8pX66kYTwTo1LqcRla8XE+d2+1EealZ3zVWh4ka52wmVC8b+jN6y5GJt+HkNk6I8be3+Wh07eODE/dIVsX18xhsOH3ZYtopQ9F+4K75DJalLp+H1mTfYFnK66QcNzpZBKS3gSPyJgB74lJAfW4jHg5Y5S1WbLlx8natcIVAclfV6lOrkW+JyFrneRQiYz8NBoFLDoICCQO/99vtvjhEpzmnqO05gWCPVC2wbMtosBF5WAvVNca3rb/Gi+SsmZ9vZ8ga3KCxmPZBi6egikF0ysk051he5dBOP9a/VcYhnGbehdg/dLxOuF5wgjv9/vorWBDSvV+qKx1ri45HlflCMx1QTF90p+HazGU/w3viFFifykjb/1Z2tTEHNrCaJjpY/61ptrRltH2/R6EdRmscrelrFmDhD1jYiX3y5pM8GuNGfuqT5CsKdC0cV8e9xx2sn68nEtN09QI5zZCzuSqCqssWyJ+HyxrCrwJsEuhtC77bX87OUJ+BDKSx1rwpUs30DUrKjWtXIHSjSqCytC+ziIUHx8Jn21P+ok6Ffw11+SpnNrTX2A5gi1jIeJexcxjpw1Zs3YE1piEbrcrF4CEJyaCq2i12/XxBBnQCyFFf3cjR7dDf7LTtCYNkLKme7JS1lDKFRA31xKy5h+zNcDdjbORHMxsvI8GeSEyhtyjOVLZ4HGcD05L/v0SNTrTRQk9Y+Dl/FLgQkZAwY+DOJSxBKhJr9vDz9ZZD9UkpYP2fjrpgVjwnqwzIBAWfX7wflmzWpWXZbO3MdIut9qoT6ldnoSZ8qs0AuQMEx03aDxwYwWltDblK9S17aCB3k3NO1hlbT6dfv31vytKWUOHWKYtRX+q4odn0yk005rOtHMVN6NXpaz9UMLD8uVIcgla2Xa9VqMocF6ua2TGViur1pKiWokQGyw/1IuKB7P612+X2bEFJAh36hlw/jj/C4G7X9bAdm2Pl4ZdgfpAsVFbTwY8vT5Kii+L7kdjI84Qum2EMV+iOIw5zYEZHmykGDJuTdrzp91e7yAgWa4BLhVMaJW1z2unWVqP5Y1IWVNfXLloq7zH8iPlb0ZDM6AlcKUY+f4EDq+pAvtHxpSGc9mzLywRJWQhMNNgScj0h+da6jyBjrmrqEHmVmQNluGd27aW9bH6s6eruQVB2K3X8kuxDit5OkGZis26SgK3s99s8GVV7lxW1rwvcoOIwy4Gm38ZYDm6KzfOKKe3YFXiT6iVfNSeiBrynUm9ARuugtey8VZ06CUrm+pF02oGDlUuBHOVa3bxf96WXOFoLWjgxcrSI7Qra506459WYUd9lJVSq1gnAWXQryrWKJ0Q4/wqdJZVIaoCfoeinNAZDe353tUl/IFJ9hfjfHa5q+T7E7ixnSzoBGEGNEh0kA0zT0Pb5EWzRXloCHVtNtgMchzbP2lbfgqt2NqUWpe1znVMsjL3I05uXc2B+uAL2jmcWVdRg1cGLk9fhm2X9Ks21MZfYdRZFw6rJ+n/OtSMpz9zIC5R6z23ZqcnP4ihGDOpW67ZfmbWeS4X/UtbE4uDdntXjqNw0IpRGT2ptbVAmowZDR1X0GaZjEJZkjIP8CNkrXMdG3ct4EXnoobiZctV9YHC4KYqg7XwVfpzJ1qnS1wy2Llmx3WtTIHYluZQ1Ink3enmomuoBF+HWheP7911d6rzgm8Cd9Uzz/VVsc0Ld7ggbXHPwJRe4C/A1pqOJ8YkmgvYPGjssEbgSrSeYxniA095Np3mi+U6z8uQNvyM6oUoMF7syxxBsYaLhOeTL1dypL1zjc7Kr9sfFKscx6shcRghOF4vVrM26SfGYZ4lFRCc5fxflWCoGCvfL8mFxuPiv/qsoNtyh1b8Bp/Cn9aXUbXN9VSXJwNpCtnqC3UwKmx9LAa4qcvmDutLzTdFgasbXzf6F3wvnponSYJ7x9uFA/B/PGr0gPK6MFnzr90ocDa8WtbJX3wXoyzDSa4R45eHgLrhunD5mWbt12BNAXFnefuSOOaEJ4S8hIk3MVpLVpzdYiGEkAcRuHDgznLa7+FN/IKN1AkhPwIZGf64ct0c0zL4Qwgh7VJrd577yyW3P/dkJIQ8GJme4gnlknnjPsstjuOkn+il16UpSAj5j9EwC18u2la5bu3tTLFbiQxW1zf7IIQQmDpPdkjLsi3WzVYZUNYIISEM0rTWRk6tlONtqodAKGuEkHDSNL3kwGk7ZNevbHVXu1PWCCF1KZOIQt+eM+xWN+UyZY0Qcg9JP5lNJpC4yl357im1dImyRghpi8ui8uFwOZ/v1pt2HVXPdnsSyhoh5EFc8nKMxzDkPJvohRe5o5+LQFkbZVlI0gzcxWwyLb7SXGyLdb5YTkYjz4hfHMfGmfXAOSj/arHYFEWZL2I5X1gTiVySXcwXZZoO/B+3YF1Ia9yFfgvlhkplgg4U/IAD5ORy3Ls5rFiurFsHypQd1mrjTo3DxtnNngv4lHGA/tdrt7jY5MVXvpTlsGmeUkIeTZqkeF0rMzz7S2AmtxBZkzkJr9lxb84PiZB7dOoGZOGIHEZTNQ4uk4bh964noKeVzgZDq0ePK07Fpn7Gxn9lljYIoGv7g/PhoOxeKDPUzJpQDs/QyLUeuFdd5c53coep8veQVtdQLe6lWagP+eNEnQjOI5o/Sq0dOeuSDbPGaXiLsM3RKmVNbjKOfxqJKwM3d4AYGtZIxyFrnkTZZSl3AZhPK7blMrKsS1mD+L+ffOYxjGcIGqRP7oWqF8M8fpysQbIqE/0Z28QTEoje0h/dOUJYGlhu0JCQivllzZqA2kjrWjedprEzspS1kBNejbHqDQuMxNqGNKHLCJmeDkmQ+2lkpn2YrG3D8irUyrpMSIk+AhaSH/VOulHUYPGCkQbWikfWYKVI/84wAmW7C1EkPUW2lLV2i55z2G9x3Vl01/hxshZYVgtzTytCKtH3tpCO1YOou5pe7tcm8cjafmNaTUZQXJIk1rEmaD7a+CXddFFYDzhpRpRH1sr9lSrdcNiTMPBcGzbpw+weWYM9hpP4HdLP62ajrplr3TJ8gqzh4Rw2Wzwf13Bf0CtFiIbe1lYB6tEWct9GTwmZD3XJmkyPCcvNmNC07nqMX+rObz+OrUP6aosil6yh8mqKYZQ5t37DA1HD9dbtlhazf4OfVlmDRqnZTNygSx7fDkdlZMa9+O1ongr+rLrQo2UNDyf+ejhwFqTMnrkHMamPrgbh0RT3A8UID+U9Hw6VJ7TK2nRsSg0ajrGDDGoi9/+F2stLQNnkkTDkyr9aZU0aG9Y1tnJsXIbH6O6YlDXDI+44JPR6+zcRI1YJVX99qKxtC/OupRlvnIeQEPSQgI/nvkL+XWuNNlt5NikXUGk59Smj1GST/HSP5sldj5VtY5U1GU4styDHY5fhcDJUQ9cTKWuomHEGmIiyPnK+Gw/kJbKG52YEk3RsUkxZIw0w9kP3bOj2CEIm5oyG5iIk08hxZ7HB5Pa7UL+oY597te7V27uKkpS1N5sDZdkbdG3ZG1Q66X5Zk9v1QjRkVeVO5UmSvETW1ra4ncrzEBKCIWtPnngKnzuQPbtBYAIlmalyNjFjxt60wSUDq21TLgSQsmYdFwrc8tivJ1LW5M7RVlmLe0LW+q+RNWs4ImWNtIIha54W/Qg8Q+iuhuYiUNbk2Jp1/M11lczmOLusNcqagrJGnokha59hQWJtkaZpiBa9B4itS9ZknKoxHYD7tTR/x5amy7kpSmrc74/Imh7VpqCskW+FjOmyTgI+CGubkiWkSlZZwwd7tlhcPVjCOrQO+ZKXiDqRXCVx+Jrr/J2yJlaTWafL5Roxyhp5IdYY0aflTxiEWWu5zUIwkLJ23O6618Az2VguKY+0VTlH8RCsc6ZyGvRTm1v8lbIm523xZIyV/hPbNMrn7XAoZY08E2vQ5ul2BeLjGGf2FmGU8ah6+YN/TWgurA7co5runIjhtbL9olGnSQqHFI6q1RrU2/ivlDU5n1I+Omh+//pYPEs7j7ud6hooa+SZuJbhWL2w1lkFzIRCOkL2NfDLWhRZ/Ed92tcVk+8v+lP6lbJmnfkNL+oroKyRZ+LKZ2v1wloHHXpl07C2ekl1YqKBOTWgR+b3437lOkqjGCsIfqWsgcCtK6QjT1kjr8Lzol5TLIbm3G4ATh7SXgLVNSSNpIxxPR8OauFnmiThGX136033Nl3Sb5U1qx8qbqGwfpuUNfJ8el3LJODNS3U8PU7ZZGyJLIdtaAKHEFmDMyuFS49Y6HW7m9yerEMVqL2RqK3kt8oa8OSS+jif1bSynH6irJHnExJfgVb8CG/UOkovS5qk1ee6goazv+a3UcVImF9SDv4bxVhSBId0OV/AQdb17f2aNWg6mbjWOwwH5pmtyV1RK+Mw6zDmfDozDptq6yPKtP96Mda5d67DifJO9e0VSuI4lofJ+oxHI3Qx6oFAzSBiqKQ+K4pOAWJVpgTBkbCE1VeAyhuXsGZjxgtpHBY4BEGIQg43WQte0XZ3cRplmd8i+rJPXp9CECKGlsuk+goIY92dqQl5JnLdkKec9nvp6TRgNpmGaBqMAdd6c0IIcSHHeULEbTqedBtZL/D1AvcLOB+O1t2dCCHET60UtTcDbufztiguW2GGiU+aJMVqFWKkfV7z+biWZBJCiB9jQ8yP03m/2dYN34Jltc5zuJbZcJimab/fT/oJSjYYTicTqFmt/UROuz3tNEJIY/Roh8NlBeVlKLjb7ebLZaBl1W6B9cjBeUJIYyAguqQYGzLin4EZzFopp/3hyYl5CSG/Dz0s3LU5SxmL9WhBswaYEUJIXQZpet4fSmfTn4mo3++vFssGG7J7Cq67yYvsWRmQCCF/ivDoyjRNl/PFYbtrPPIGbVyv8lGWNQsRIYSQBxFFEYy96XiSL5bb9fq4270dT0YykPfTCQ4mfFjo2GI2Gw0zTnESQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQ8h34Pwlqi+oNCmVuZHN0cmVhbQ0KZW5kb2JqDQoxMCAwIG9iag0KPDwvVHlwZS9YT2JqZWN0L1N1YnR5cGUvSW1hZ2UvV2lkdGggNDEzL0hlaWdodCAxNjUvQ29sb3JTcGFjZS9EZXZpY2VHcmF5L01hdHRlWyAwIDAgMF0gL0JpdHNQZXJDb21wb25lbnQgOC9JbnRlcnBvbGF0ZSBmYWxzZS9GaWx0ZXIvRmxhdGVEZWNvZGUvTGVuZ3RoIDQ4MTk+Pg0Kc3RyZWFtDQp4nO2deXxOxxrH580miOZFqiiqbRq1NlRJ1e6mYqkGXXzokqr00qttLl2ViqVXgmu9vY3SJo0QrSCWXBHUW6WlSEIvt2pXtaURS0Rkm3tmO2fOOe/G+yaHvPP9g5k5z5l33vm958z2zAQAgUAgEAgEAoFAIBAIBAKBQCAQCAQCgUAgEAgEAoFAIBAIBAKBQCAQCKoV0f5Gl0BgixFZRpdAYIt+JR8ZXQSBDZ4sguFGl0FgnTaXIGxldCEEVmn8O4TwSaNLIbBGQI6kDZxkdDEEVvDegLSBl+4zuiACPfGQsPteo0si0NIbMv4Y7mN0YQRqNkKFYxOCjS6OgKcQqjiaENXSy+gyCSg3oI4rm6f0vcfocgkkVunFQZTvmfao0UUTBKaWW5cHwswmRhdOEDQobnuRVXVOid61AaRJNV94Yk9mwvhnW+Dm37fTO9+c1qszx+iCeiK1shUBrm2fM6whTn1oVOp5tTjbDC6nZ9LkolqFI0teqI8vPD7tNy55k8HF9FD66LoBFXumd/VGl8I2y2mfGV1MD2WStR7A5bSRjQH4pxx/zuhSeiheP1jtoEG4n2uPTn/cwOhyeiYhJTbUkfh11pgppO0pWfaU0QX1SOYSIS6tmzM+dsHOm4o0BS+apMs+E2l0V4TRJfVA7i+F8EbSU3Sas/keRZ2i3GWfDGnt+z6L7xVPT5WTDhPpBE3NYav0E6Clh5VwaiNji+p5DO5H/u++vFCnjJb8IcaW1UPpucuhMpgpRhfU86i31DlpoJhoq3LCrMx22uQNo0vrWTxnZR3UNoWiV1CFjLC5zmadGUYX2IMYeIvawP9VepEi5iFedzmfYJwP/TENx5HBLmdalbThO9CFqXN4GQ4viZ369a9acYr1mbT4eOPp6+X5OYtfdMuqaSz+nHSX8+mJ87lMIkk4Ms/lTKuQWnzdJwQ15LoGm7sQk3ZLylTi5GjzeGC1crEsvb/J5UIJcQjzlHotGQ58vpdjfz6vGLXhJnUgfEWTRe8C9ZOV87SrhRLiYDpWyHVa1BuAD+XY9fhZXybNf70xMfNLVuo+S/NktNe5hXznaqmEOJgdSpUOB6CZrk9dkf4ItvP+hqWc1exD8DmovQeGuVoqIQ4iXKnRxVI0QVfPUh+BrIMGnCTRq6GaLF6gdrmrV+0tdVOlCnEQip/ApSAAAq0ORsvJZOe7OILefWq+xenFPVA4cOQ26WFr7eynB5hraVLMZvzO1IsTWMe5LOuY+ZeuI3FMugLcQbRQJPiHFH2ZRfKWbeHUuY49ciNRsOQZXR5HsM0aFg3bnoz//yId0ZkkDsMRvFN7LgpNB6Bm1Po/pfuOTVGqZ+D6qxBeWx+hFSd4ZrY0FCv5LWVUPSkWjfOKZzfF4GhTKdTgrW9Po27l2fVjmIu3XXEe/xx1VIv3fzGs5u3XYCUyTVHgASm6mIaPSYOV9juVa7vRShx6fZUM0udxGZvskeNeZvwfeQtGkjSusnNRyAL6yV32nLrEppH8e1hdhxfHf64ySC5d2w30xaGb7EnC+Rw3gZYrS5UCX40hz48dcep/q5gXJrVxvS7dziG5fAdQdC+NjEER79lK6V+V4nHSC264lTzOEZPE+upk++KMUvKG5ElrclJJ+eFTxb7Gd1BFtPd5Pud2ODIdjFEPxeCXWB3b4gQdUdt3c7ku3U0zpXAJKH6GRujz8Yl89agPqCn9RK3Op/xMbW6kvcL34+yK8wfvVVKG3km+nLMPhBcV+1h1Jf7mT0dmi0nOH+FIS/Ak1DAaXbUtzrdq6zvw4JLhSuliULyARiLJZZPcfZbGneaN8GOrmfC1ty9Wfj/YFUfNKCn5PX0ytq95FYXy3+/VZ2QiKl4fAJ7AF8+QFxceCmRLge/R5MSYXqE9puI74MUawI44wTh8/M3uT49eKfWCih52V5W6D8VtEL6E4uzN8g69bj7HLktvPdOz1jMJ+lNVo7lRZEupI3HKUqM/oC7Z86SXVx4JFk7pEjbpMifOX3DoLZyL/8ij+BVIvLVCUbA+bo/GSaGIikUPkA9rT95w/YEdccbicC/yLcflfehiRVYG65U6jUTxn2hkJTOQu2/wL6obVXMEXS9DFfvx0+NAnAuoHxdcjMPfADCApJ7D/cJmBxVxXsGhhfSjfALQv5NxGn6OR6BQBZ7GeEwuENm0HwvsiBPPaS516X1vo/IqmxylRnFTv5BGilnj7rWfXc/g74t4UJVNiEWtzpXHgSNxbnbA6WtYOu180MbuoeuyPR3iZsdw/SnyTtqJgstRaAu70KDHkMG9m9JG6XNgRxzanG4d1fx2667S4XYSfIri3VhsEbMYJhtwI8sOugWdPmu5fiyEh3wciTOfpMexdDIYPszy+0y2byz3ws4mDmXjEeyLUi79grzzUeg1nBg4gc6vnyR90CRgR5weclmPLuzj7UodVhpHlfr8BcVN+1j0TWrhI5sky3eF5H2uz6rea6uuKrmNcCROlCY9BwcWs9w4e6XLKLVICaThfpt9SFf0/41AlDbgHFSTBJztrV38x53oCs73nDqhhO5y9KtmxOSvLKGCvdMfO4e6TFbwG5DKnHmX3qo4ZNTxT5YVPwgde4Ur5c3xKKkBfpxSAJiB/sctpH45NwnYE8cvju/NF3DLI3cKm7jybcUpM+R46b7UxGWWxJoXWMJ3xGF3xDV4Sn1CQYASfIA6v1mYOENJukNxSFfka5aPavom8B02lELgZxofaZHvDQ6wH8A9pOO3degjrcInH3dCHOmFGcstM5b3cq0mK4HFkAOP2ryXqX9+x8AEObzQD9QejBbjNB3P9BRl8BlCTHOZOKNI8kxH4pCl1N/ZwS7TeXEkmoxazV6a59Av4yUc7IIH0ZfQgIbMOKSQXuQ8p8SRaBGzqZhm+70r9VgpvMXrUIznm70X8GnHuwHzJTlWeBI3+3kBqkzaSxdms0Hcw/JX/R8OLMCpzcmbaQMKWxeHLvKNJcl1ycTbOv5jfAdsJTZoNBOAu3PTx6B/ceeF/MzoNOt8HJE66FQcSA6VJeIsVVdB7eE55Nu7WpdupyMvBCwiR0hGnmAJlyejGePxUMNr6kzIYOnHj3o3qt0wnPYopArbjQMFaGqmFe1VnEFTnNbFoU9cycsotRldFP8d2T+zlS3deZGCtURh3IXOxQMavFZBnry+2C6QdEJPBsrivA+8ujNx8kOAORSAd1e0oNnWwY1PRaVUsCt45atqvWwcfi3UeClDamjOrX+DTLz7/qLWZq16lTpMqx1iIAD0/Xh+5pQMeSX8Rmdb4oD/UJPsuA+XyatKNzqBGscg3PFaEDJuige7Fbhv1h9fR/2P07gB/BeOH0Q/hV6sKbneiYkDLxfBulQcafxbkQ4aXYPlG4bgV0BnnHim8mv7VlmkqdQfO7ArXN+/rWoJ7hezOotMK9rkemlemYyeNsVpfdO6PZnYhAfXJW0kxfgB3+ibx0zicPwZErm5LfN3/u5WSuQpoMyyHwHENbxs76rkbaSbtwjccXTRVUdmf/1hUYO5bup+jV+a7zp9lV5Bo/l7i7mUvERH4oC/8TmUZVH7+3W7Umi36jMWb4uj3gc4k5Id7NO8lQYzGgyWw+U9tLneCKmcCnaJ3fqqPT5BN0UbeY1dXBmgy6LnZk0GZ57A6Uo3D/7RdgirLpvigPGKH1D5SDoz0TOYPwcO8R79VLZEcIDGWyujocKBL8uf9pGcOg/4KKtXL6tcvaQn7o7cdhShF0di3ycd1c9PCBkR/TfSaibBk3KUij09ma4Rm2bSB65kcRDw2elQHNAjh2ZxJBz47Wb2reO4nXX7erDPNB0jKR+whEfZSuHGEOCfze72Zi/ukqlSOVlrdLYT6DL3hJLtZqe9HqoWa00G4uKK0aqzvNqMjHm9ne1s6vV7d+Hy9KULRj/BdRdaTU23ZCZE4da8RnRCelJsYwAGRSHoUYihOMJ8RkxdZ6yzbJo/ALV3/qMWpX81mXjNNR4w8evNlo0p74Vyn9gV3xqlvGVNfeZkWFZPwhOkNcd8kZ5I7u7wadqGb6ZG4rVwv2EJ69cuGRdGGtSHh05N/c6S8dXf7sDFHMKDdrYanl/xZhvXXWsFt8+rtsVB5KW98ZDRRfRgFtpXR+LQDJddOAW3h/dqh+pIbfSkpkaX0zPxW+mEOrA0xU5/QFBpmGY6ow6EyY2t3R0cimhY1YX2HIZcciyNROHbVjpvxIEgtsrL7Dk0THPu4VmnP2haiFP59NjhQBfCAd0+dyFOVdBlmfWTi9X8ovGJFuJUEXWGL893oA2EFs0fCRHiVBleoe+kHrOvzjT1HUKcquXeAdOzrtoUp0y9mUWIU/V4tYlefsG6OpkqQ14c04t4qpg6VrcZn7TJsv5frwYx02B8VRoS+Q6cvdqSMbMj+aS+s9Za1k2jE9XPsXnqFuOTs7YkRxEvz+YxKVu2LBlKFjLIhHQnYt8QR7A3cScclAJ+A2emWbL+HVGtZ21NYfFnrKnTiTfixSFrW9fbo3A4c4uHpUl07icKR3uCqLP0yiJvAPpT94+bf8U22KUqHTyUQU1OtAMgaCldL7KYkYnKx4nzfiIuUcA7hh1lnqFfGryL8J8eG2v/b+r6RFo5JC+Jt+DEGYTrsCJSCvot4W8oHIZNiTi9/q1ciOc35qBNG1SczgVy6vn6Dyub3vDZ8PbFqcW5Sqa5q6IMAfm1Otqn/KzuMLZCfoerIk5rspqNFif9NmluiUamRBz+UskYLpKLbLAQP/Odxpn8ATA9gSNx1vAf29F9VVX1oFYl1JFR4AqtOvyealmc+qSXl4QS52vvKEcn60ZpUzWgtdeT9k2Qr7t9cVTMdmNdVTnI52GYQytTvOY7x3MXmTg+ZGftdj8prQNtIy4smbGaOowf9OHEKbZwniVXs5jrTBTgxDmcWaDY5GSRLTvYocOhOKU7LfRTf3BvdVUtqEGZ5YQdd/QNgt/fysQhfn3HcdcslZil1pbCj9AGf4giTlYjAIayvJLNspPMRCCLc2UoAHXZ1q0/ukv9NbLF40/gWJzMZgCEkqHAKfdVVdWDanaLYzNQWz0wPaHJQhKH7BW5gp1laxH/v93EkeIRElsli7MDPVyA/hGFFai/60U2CaAtIESccuxmQwW8ij1nqYDAoThr8MfGK+l3K8gLtqiGE4aKRx6Cd/sm4mzG75FycpgX9YJlLdOXOHZJFof4ARIHzOv15XKQ+ibiJOLUJsR+Ao6EOylOvhmnP3f3i5OOvoHuOBsrmDjvMQluhyu/ITSbDPuIU1+JP7UgGzbgfVSc0ySV+KzRvaZLNeIQJz8zuZGcW9XBSXFSdOl3K1icuc5YxqnEMSsXeHHg2zhpHA6fZxb0Tys/SMU5SVJVDoVKffM74qg4zXEk1ElxknTpdytYnAvO7PR+XiUOd0ElThH2RCTtzzVmEal+ck6SVCGOI7A40MbxDypUPu8XuQtMHLLS/TNaUHiWpDBPSnKSTZmXe8VZQu6sxuJsw19hlxOWobw4/A1UnN0NyKbbSVJSU5JEjwz2J/NzO4G7xCEzQ7ST+Vn1FYdOnDnxd4u68uIkcBeIOHsDQS8cKEVbfIhTeSnuaZhIZw2duOEmccipMDfxbOqrtERmUP3EIT7/8KDjVoc7xIielENR5tbIIZQHpU7a68SseHZY8CD6ZBXf7zZx6EbIg0+HDFzDSpQdXv3EOUW/23SHlrM4bcrqcRcUce4hM6SzAfDJhVrQJ7hJnD66zEkBqps4bFdUeV9Hlvx5aKptzoo4dKdmRXcAHi3Q1N129Gy6SRxf1Z+e3VtdxfGTv+KVtvYtH+PrQ6UkJw74GodPBADQUf0XlLfibbZuEgfEcDmvaVddxWmofMm8x+xaruXq4yfVFV6c+kQSNK9/3wplt1vhB2SWzV3ieMsn19yY6G3aVU3Fac9V+RV7b7Zo/jFQbwiZZ0FEkcggHLHgmcqW8dloi/TlzW+ZqWkEvriCRKJwhDZ2H+IIOiNiBQ51xakBJDfihx1MIjhseumnckmZXR8jF8cGSedgxYmRAIzFBvR8kVAc2XDbVWM8/fk6L4+12Wd7nj/2x6nZHoKX+X4nz4O+ZXwa1tXv+65WvAFVHIq06q9iGsdr87O/NRuB25kKNRwaHagzaqHyBzhldR+IwP2kaMWRXuRrolSb2J5IVP3x6jPBRpXV4/gR9wS2F2gEOrXs7890aR3avv/Yr06qr/y3idFF9hyQ880eM6j7eQV0ipS72kvv7qI2qnDsvtnZ4kgXiV/DjS6wJ9EWKo7PEY7kORzlYzczgXvperyYWy1oNe+sTWVK0vpV81HFnUgQP7Lx6hK3q0yvzJmlL+g72AIDqNVt9IKM7At4urrg8I7kiUNEB00gEAgEAoFAIBAIBAKBQCAQCAQCgUAgEAgEAoFAIBAIBAKBQCAQCAQCgeBW+D/C1TIlDQplbmRzdHJlYW0NCmVuZG9iag0KMTEgMCBvYmoNCjw8L1R5cGUvWE9iamVjdC9TdWJ0eXBlL0ltYWdlL1dpZHRoIDI4My9IZWlnaHQgNDkxL0NvbG9yU3BhY2UvRGV2aWNlUkdCL0JpdHNQZXJDb21wb25lbnQgOC9GaWx0ZXIvRENURGVjb2RlL0ludGVycG9sYXRlIHRydWUvTGVuZ3RoIDEwMDg5Pj4NCnN0cmVhbQ0K/9j/4AAQSkZJRgABAQEAYABgAAD/2wBDAAgGBgcGBQgHBwcJCQgKDBQNDAsLDBkSEw8UHRofHh0aHBwgJC4nICIsIxwcKDcpLDAxNDQ0Hyc5PTgyPC4zNDL/2wBDAQkJCQwLDBgNDRgyIRwhMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjL/wAARCAHrARsDASIAAhEBAxEB/8QAHwAAAQUBAQEBAQEAAAAAAAAAAAECAwQFBgcICQoL/8QAtRAAAgEDAwIEAwUFBAQAAAF9AQIDAAQRBRIhMUEGE1FhByJxFDKBkaEII0KxwRVS0fAkM2JyggkKFhcYGRolJicoKSo0NTY3ODk6Q0RFRkdISUpTVFVWV1hZWmNkZWZnaGlqc3R1dnd4eXqDhIWGh4iJipKTlJWWl5iZmqKjpKWmp6ipqrKztLW2t7i5usLDxMXGx8jJytLT1NXW19jZ2uHi4+Tl5ufo6erx8vP09fb3+Pn6/8QAHwEAAwEBAQEBAQEBAQAAAAAAAAECAwQFBgcICQoL/8QAtREAAgECBAQDBAcFBAQAAQJ3AAECAxEEBSExBhJBUQdhcRMiMoEIFEKRobHBCSMzUvAVYnLRChYkNOEl8RcYGRomJygpKjU2Nzg5OkNERUZHSElKU1RVVldYWVpjZGVmZ2hpanN0dXZ3eHl6goOEhYaHiImKkpOUlZaXmJmaoqOkpaanqKmqsrO0tba3uLm6wsPExcbHyMnK0tPU1dbX2Nna4uPk5ebn6Onq8vP09fb3+Pn6/9oADAMBAAIRAxEAPwD3+iiigAooooAKKKKACiiigAooooAKKKQkAEk4A6mgBa5vWvGen6UzQxf6VcDgoh+VT7n/AArnPFPjGS6d7HTZCluPleZTy/sPQfzri686vjbPlp/efQYHJuZKpiPu/wAzob/xprN6xCTi2jPRYRg/n1rEmu7m4OZriWQnu7k/zpkUMs8gjhjeRz0VFJJ/Ctu38G67cKGFl5an/no4X9M5rhvVqvqz27YbDK2kfuRhq7ocozKfUHFaFr4g1ezIMOoTgD+Fm3D8jkVpP4F11FyIIn9llH9ayL3SNQ07/j7s5Yh/eK/L+Y4ocKtPWzQKthq/u3UvuZ1ul/EORWWPU7cMv/PWHgj6j/Cu4sdQtdStxPaTpLGe6np7Edq8Nq5puqXek3QuLSUo38S/wsPQjvXRRxs4u09Uefi8mpVFzUfdf4f8A9vorI0DX7fXbPzI/knTiWInlT/hWvXqxkpLmR8vUpypycJqzQUUUVRAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABXEeO9fMEf9lWz4kkGZ2B6L2X8f5fWuxu7lLOzmuZDhIkLt9AK8RvLuS+vZrqY5klcsf8ACuLG1nCHKt2ezk2EVWq6kto/mQV0HhvwtPrsnmyEw2anDSY5Y+i/41Q0PSn1nVYrRchT80jD+FR1P+fWvZba2itLaO3gQJFGu1VHYVyYTDKo+aWx6uaZg8OvZ0/if4FfTtJstKh8qzt1jGOWxlm+p71door10klZHycpSm+aTuwpGVXUqyhlIwQRwaWimScd4g8DW92j3GmKsFwOTF0R/p6H9K84likgmeKVGSRDtZWGCDXvFcZ460Bbi1Oq26YmhH70AfeT1+o/l9K8/FYVW54Hv5XmclNUazunszhNK1OfSNQju4Dypwy54Ze4NezWN5DqFlDdwNmOVdw9vavDK774d6mT9o0x24A82PP5MP5H86xwVZxlyPZnXnWEU6Xto7x/L/gHe0UUV6x8qFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQBzPju6Nv4adAcGeRY/wAOp/lXlVei/Edj/Z9kvYyk/p/9evOq8bGu9Wx9hksFHCp92/8AI9G+HViqWFzfMPnlfy1P+yP/AK5/Su1rA8FoE8KWeP4t5P8A32a369PDx5aUUfN5hUc8VNvvb7tAooorY4wooooAKbJGssTRuoZGBVge4NOooA8O1G0NhqVzan/llIyA+oB4q74XujaeJbGQHAaQRn6N8v8AWp/GaBPFd7jvsP8A44KybFimoWzDqJVI/MV4D9yrp0Z93F+2wqcvtR/NHudFFFe+fCBRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAcR8SP8Ajxsf+ujfyFed16J8SP8Ajxsf+ujfyFed14uM/jM+yyf/AHSPz/M9e8G/8inY/R//AENq3awvBv8AyKdj9H/9Dap/EGtx6FppuWTzJGbZGmcZP+FepTko0lJ9kfMV6cqmLnCCu3J/ma1FeYwfEHVUuQ80UEkOeYwpXj2Oa9HsryK/sobuEkxyqGXNFKvCr8I8Vga2GSdRaMnooorY4wooooA8k8bf8jZd/RP/AEAVi2f/AB/W/wD10X+dbXjb/kbLv6J/6AKxbP8A4/rf/rov868Cr/GfqfdYX/dIf4V+R7rRRXJeKvFz6NOtnZxo9wV3Oz8hAenHrXuVKkaceaR8XQw9SvP2dNanW0VwOgeOrmfUI7XUkjKSsFWVBgqT0z7V31TSrRqq8S8ThauGly1EFFFFanMFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAcR8SP+PGx/wCujfyFed16J8SP+PGx/wCujfyFed14uM/jM+yyf/dI/P8AM9e8G/8AIp2P0f8A9DasT4kf8edj/wBdG/kK2/Bv/Ip2P0f/ANDasT4kf8edh/10b+Qruq/7r8keLhv+Rn/29L9TzyvXvBv/ACKlj9G/9DNeQ1694N/5FSx+j/8AobVyYD+I/Q9PPf8Ad4+v6M3aKKK9c+UCiiigDyTxt/yNl39E/wDQBWLZ/wDH9b/9dF/nW142/wCRsu/on/oArFs/+P63/wCui/zrwKv8Z+p91hf90h/hX5HuteSeNv8Aka7v6J/6AK9bryTxt/yNd39E/wDQBXpY/wDhL1Pnsi/3l+j/ADRjWf8Ax/W//XRf517pXhVn/wAf1v8A9dF/nXutZ5ftI6M/+Kn8/wBAooor0T54KKKKACiiigAooooAKKKKACiiigAooooAKKCQBk1EbmBes0Y+rCgCWioftdv/AM94/wDvoUfa7f8A57x/99CgCaioftdv/wA94/8AvoUfa7f/AJ7x/wDfQoA474kf8eNj/wBdG/kK87r0H4iTRS2ViI5FbEjZ2nPYV59Xi4z+Mz7LJ/8AdI/P8z17wb/yKdj9H/8AQ2rE+JH/AB52H/XRv5Ctvwb/AMinY/R//Q2rE+JH/HnYf9dG/kK7qv8AuvyR4uG/5Gf/AG9L9TzyvXvBv/IqWP0f/wBDavIa9e8G/wDIqWP0f/0Nq5MB/Efoennv+7x9f0Zu0UUV658oFFFFAHknjb/kbLv6J/6AKxbP/j+t/wDrov8AOtrxt/yNl39E/wDQBWLZ/wDH9b/9dF/nXgVf4z9T7rC/7pD/AAr8j3WvJPG3/I13f0T/ANAFet15J42/5Gu7+if+gCvSx/8ACXqfPZF/vL9H+aMWz/4/rf8A66L/ADr3WvCrQ4vYCf8Anov869v+12//AD3j/wC+hWeX7SOjP/ip/P8AQmoqH7Xb/wDPeP8A76FH2u3/AOe8f/fQr0T54moqH7Xb/wDPeP8A76FH2q3/AOe8f/fQoAmopqyI/wB11b6HNOoAKKKKACiiigAooqvd3aWsW5uWP3V9aAJJZo4E3yMFFZVxq8jZWBdo/vHk1QmnkuJN8jZPYdhUdAD5JpJTmR2b6mmUUUAFFFFABRRRQBzni7/j2tv98/yrk66zxd/x7W3++f5VydeLjP4zPssn/wB0j8/zPXvBv/Ip2P0f/wBDasT4kf8AHnYf9dG/kK2/Bv8AyKdj9H/9DasT4kf8edh/10b+Qruq/wC6/JHi4b/kZ/8Ab0v1PPK9e8G/8ipY/R//AENq8hr17wb/AMipY/R//Q2rkwH8R+h6ee/7vH1/Rm7RRRXrnygUUUUAeSeNv+Rsu/on/oArFs/+P63/AOui/wA62vG3/I2Xf0T/ANAFYtn/AMf1v/10X+deBV/jP1PusL/ukP8ACvyPda8k8bf8jXd/RP8A0AV63Xknjb/ka7v6J/6AK9LH/wAJep89kX+8v0f5ow7f/j5i/wB8fzr0uvNLf/j5i/3x/OvS6zy/aR0Z/wDFT+f6BRRRXonzwUUUUAAJByDirUOoXMJ4fcvo3NVaKAN+11KK4IVvkk9CeD9Ku1ydaun6iciGduvCsf60Aa9FFFADJZFhiaRzhVGTXN3E73EzSP36D0FaOsT8rAD/ALTf0rJoAKKKKACiiigAooooAKKKKAOc8Xf8e1t/vn+VcnXWeLv+Pa2/3z/KuTrxcZ/GZ9lk/wDukfn+Z694N/5FOx+j/wDobVifEj/jzsP+ujfyFbfg3/kU7H6P/wChtWJ8SP8AjzsP+ujfyFd1X/dfkjxcN/yM/wDt6X6nnleveDf+RUsfo/8A6G1eQ1694N/5FSx+j/8AobVyYD+I/Q9PPf8Ad4+v6M3aKKK9c+UCiiigDyTxt/yNl39E/wDQBWLZ/wDH9b/9dF/nW142/wCRsu/on/oArFs/+P63/wCui/zrwKv8Z+p91hf90h/hX5HuteSeNv8Aka7v6J/6AK9bryTxt/yNd39E/wDQBXpY/wDhL1Pnsi/3l+j/ADRh2/8Ax8xf74/nXpdeaW//AB8xf74/nXpdZ5ftI6M/+Kn8/wBAooor0T54KKKKACiiigAooooA3NLuzNH5Tn50HB9RWhXMW8xguEkHY8/SumBBAI6GgDm7yTzbyVv9rA/DioKUnLE+ppKACiiigAooooAKKKKACiiigDnPF3/Htbf75/lXJ11ni7/j2tv98/yrk68XGfxmfZZP/ukfn+Z694N/5FOx+j/+htWJ8SP+POw/66N/IVt+Df8AkU7H6P8A+htWJ8SP+POw/wCujfyFd1X/AHX5I8XDf8jP/t6X6nnleveDf+RUsfo//obV5DXr3g3/AJFSx+j/APobVyYD+I/Q9PPf93j6/ozdooor1z5QKKKKAPJPG3/I2Xf0T/0AVi2f/H9b/wDXRf51teNv+Rsu/on/AKAKxbP/AI/rf/rov868Cr/GfqfdYX/dIf4V+R7rXknjb/ka7v6J/wCgCvW68k8bf8jXd/RP/QBXpY/+EvU+eyL/AHl+j/NGHb/8fMX++P516XXmlv8A8fMX++P516XWeX7SOjP/AIqfz/QKKKK9E+eCiiigAooooAKKKKACt+yuV+xxbjyBj8qwKkWVlXA7UAR0UUUAFFFFABRRRQAUUUUAFFFFAHOeLv8Aj2tv98/yrk66zxd/x7W3++f5VydeLjP4zPssn/3SPz/M9e8G/wDIp2P0f/0NqxPiR/x52H/XRv5Ctvwb/wAinY/R/wD0NqxPiR/x52H/AF0b+Qruq/7r8keLhv8AkZ/9vS/U88r17wb/AMipY/R//Q2ryGvXvBv/ACKlj9H/APQ2rkwH8R+h6ee/7vH1/Rm7RRRXrnygUUUUAeSeNv8AkbLv6J/6AKxbP/j+t/8Arov862vG3/I2Xf0T/wBAFYtn/wAf1v8A9dF/nXgVf4z9T7rC/wC6Q/wr8j3WvJPG3/I13f0T/wBAFet15J42/wCRru/on/oAr0sf/CXqfPZF/vL9H+aMO3/4+Yv98fzr0uvNLf8A4+Yv98fzr0us8v2kdGf/ABU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAc54u/49rb/fP8q5Ous8Xf8e1t/vn+VcnXi4z+Mz7LJ/8AdI/P8z17wb/yKdj9H/8AQ2rE+JH/AB52H/XRv5Ctvwb/AMinY/R//Q2rE+JH/HnYf9dG/kK7qv8AuvyR4uG/5Gf/AG9L9TzyvXvBv/IqWP0f/wBDavIa9e8G/wDIqWP0f/0Nq5MB/Efoennv+7x9f0Zu0UUV658oFFFFAHknjb/kbLv6J/6AKxbP/j+t/wDrov8AOtrxt/yNl39E/wDQBWLZ/wDH9b/9dF/nXgVf4z9T7rC/7pD/AAr8j3WvJPG3/I13f0T/ANAFet15J42/5Gu7+if+gCvSx/8ACXqfPZF/vL9H+aMO3/4+Yv8AfH869LrzS3/4+Yv98fzr0us8v2kdGf8AxU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAc54u/49rb/AHz/ACrk66zxcP8ARbY+jkfpXJ14uM/jM+yyf/dI/P8AM9e8G/8AIp2P0f8A9DasT4kf8edh/wBdG/kK2fBbhvCdljtvB/77asf4kA/YbE9hI38q7an+6/JHi4f/AJGj/wAUv1PO69e8G/8AIqWP0f8A9DavIa9d8GMD4UssHpvB/wC+zXLgP4j9D089/wB3j6/ozeooor1z5QKKKKAPJPG3/I2Xf0T/ANAFYtn/AMf1v/10X+dbPjVg3iu8wc42D/xwVj2QJv7cDqZV/mK8Cr/GfqfdYX/dYf4V+R7pXknjb/ka7v6J/wCgCvW68i8ZuH8V3uO2wf8Ajgr0cf8Aw16nz+Rf7y/R/mjFt/8Aj5i/3x/OvS681thm6hA7uo/WvSqjL9pG+f8AxU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAYviiIyaRvH/LOQN/T+tcVXpF7bi7spoD/GhA+vavOGUqxVhhgcEV5OPhaal3PqsiqqVGVPqn+Z6T8PLsS6RPak/NDLkD/ZYf4g1a8eWhufDhlUZNvIsh+nQ/z/AErivB+qjS9dj8xsQTjynJ6DPQ/n/M16vcQR3VtJBKu6ORSjD1Brow7VWhyfI8/HxeFxyrdG7/5nhNeg/DzVUME2mSNh1bzIge4PUfh1/GuL1bTZtJ1KazmByh+Vv7y9jVe2uZrO5juLeQxyxncrDtXn0pujUuz38VQjjMPyp76pnu1Fcponjixvoliv2W1uRwS33G9we3411Ec0UqB45EdT0KsCK9uFSE1eLPjK2Hq0JctRWH1BeXcNjaS3M7bYolLMaq6hrum6ZGWubuNWH8AOWP4DmvNvEnimfXXEMamKzQ5VM8sfVv8ACsq+JjSXmdWCy+riZrS0er/yMa/u3v7+e7k4aZy+PTPar/hizN74jsowMhZBI30Xn+lZFekeAtFa1tH1KdcSXA2xg9k9fxP8q8rDwdWqvvPp8fWjhsM7drI7MkAZNeI6vdi+1i8uQcrJKxX6Z4/SvT/F+rDS9ClCtiecGKMd+ep/Af0ryOunH1LtQR5uRUGoyrProv1LukRedq9qn/TQMfw5/pXoVcj4TtS93LckfLGu1fqf/rfzrrq3wMLU79zizuqp4jkX2UFFFFdp44UUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAVxfiWwNtffaEH7ufn6N3/xrtKrX1nHf2j28nRhwf7p7GsMRR9rC3U7cvxf1aspvZ6M85r1Dwb4jXUrRbG5f/S4VwCT/rFHf6jvXmt1ay2dy8Ey4dT+fuKbBPLbTpNC7RyIcqynkGvJo1ZUZ3+8+rxeFhjKNr+aZ634k8Ow69ZgAiO6jH7qT+h9q8ovbG5066a3u4mjkXse/uPUV6R4c8ZW+pKltfMsF50BJwsn09D7Vv6hpdlqsHk3kCSr2J6r9D1Fd9WjDELnpvU8PDYytl8vY117v9bHiFKCR0JFd7ffDkFi1he4HZJx/Uf4Vkv4C1tWwFt2HqJP8RXBLC1YvY9uGZYWavzpeuhy9FdfbfDzU5G/0i4t4V74JY/lj+tdRpPgvTNMZZZFN1OOQ0o4B9l6fnmrhg6snqrGVbNsNTWj5n5HLeFvCEt/Il7qEZS0HKowwZf/AK3869HmmgsrVpZWWOGJckngACo7/UbTTLYz3cyxRjpnqfYDua8u8SeKJ9cl8qMGKzU5WPPLe7f4V2uVPCwstWePGGIzSrzS0ivuXp3ZW8Ra3JrmptPysCfLCh7L6/U1kqpZgqglicADvSV0vhrSSzC/nX5R/qlPc+tedCMq9T1PoK1WlgqF+i2Ru6VYjT9Pjh/j+85/2jV2iivcjFRSij4ipUlUm5y3YUUUVRAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAZ2raTFqcGDhZl+4/9D7Vw91azWc7QzoVcfkfcV6TVa8sbe/h8u4jDDse6/Q1yYjCqr70dGerl+Zyw3uT1j+Xoec1v6T4w1XS1WPzBcQDpHNzj6HqKjv/AA1dWxL2/wC/j9vvD8O/4VisrKxVgQw6givLaqUZdmfTKWGxkOkl/X3HpNp8Q9OlAF1bzwN3KgOv+P6VpL4z0Bhn7dj2MT/4V5HRW6x1Vb2ZxTyTDSd1dfP/ADPVp/HWhxKSk8sx9EiP9cVg6h8RZnUpp9oIs/8ALSU5P5Dj+dcPRUzxtWXWxdLJ8LTd2r+pYvb+61GczXc7zSHux6fQdqr1atNPur5sW8LMO7dAPxrqNM8NQ2pWW6ImlHIXHyr/AI1FOhUrO/4m2Ix2HwkbN69l/Whl6LoD3TLcXSlYByqnq/8A9auwACqFUAADAA7UtFevRoxpRsj5PF4ypip809ui7BRRRWxyBRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABUFxZW12MTwJJ7kc/nU9FJpNWZUZSi7xdmYsvhfT5DlPNj9lbI/Wqx8IwZ4upB9VFdHRWLw1F/ZOuOZYqKspv8zn08JWgPzzzN9MD+lXrfQdOtyCLcOw7yHd/wDWrSopxw9KO0SamOxNRWlNiBQqhVAAHQAUtFFbHIFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFRXEwt7d5SM7R0qWormEXFu8RONw601a+oHPPqN1IxbzmX2XgU37ddf8/En/fVOfT7pGK+Sze6jIpn2K6/595P++a7lyeQhft11/z8Sf8AfVH266/5+JP++qT7Fdf8+8n/AHzR9iuv+feT/vmn7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76o+3XX/PxJ/31SfYrr/n3k/75o+xXX/PvJ/3zR7nkAv266/5+JP++qPt11/z8Sf99Un2K6/595P++aPsV1/z7yf980e55AL9uuv+fiT/AL6o+3XX/PxJ/wB9Un2K6/595P8Avmj7Fdf8+8n/AHzR7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76o+3XX/PxJ/31SfYrr/n3k/75o+xXX/PvJ/3zR7nkAv266/5+JP++qPt11/z8Sf99Un2K6/595P++aPsV1/z7yf980e55AL9uuv+fiT/AL6o+3XX/PxJ/wB9Un2K6/595P8Avmj7Fdf8+8n/AHzR7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76rR0vUJJZfImO7Iyrd6zfsV1/wA+8n/fNaWl6fLFN58y7cDCqetZ1OTlYGvRRRXGMKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiq2oMyWEzJ97Hamld2AR9RtI2KtMMjrgE03+1LP/AJ7f+On/AArm6K6vq8RHSf2pZ/8APb/x0/4Uf2pZ/wDPb/x0/wCFc3RT+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/Cj+1LP/nt/46f8K5uij6vEDpP7Us/+e3/jp/wo/tSz/wCe3/jp/wAK5uij6vEDpP7Us/8Ant/46f8ACj+1LP8A57f+On/Cuboo+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/Cj+1LP/nt/46f8K5uij6vEDpP7Us/+e3/jp/wo/tSz/wCe3/jp/wAK5uij6vEDpP7Us/8Ant/46f8ACj+1LP8A57f+On/Cuboo+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/CrEU8U67onDD2rk6v6Qzi+Cr91lO6onQSjdDOhooormAKKKKACiiigAooooAKKKKACkIDKVIyCMEGlooAzH0WBnJWR1B7dab/Ycf8Az2f8hWrRWntZ9wMr+w4/+ez/AJCj+w4/+ez/AJCtWij2s+4GV/Ycf/PZ/wAhR/Ycf/PZ/wAhWrRR7WfcDK/sOP8A57P+Qo/sOP8A57P+QrVoo9rPuBlf2HH/AM9n/IUf2HH/AM9n/IVq0Ue1n3Ayv7Dj/wCez/kKP7Dj/wCez/kK1aKPaz7gZX9hx/8APZ/yFH9hx/8APZ/yFatFHtZ9wMr+w4/+ez/kKP7Dj/57P+QrVoo9rPuBlf2HH/z2f8hR/Ycf/PZ/yFatFHtZ9wMr+w4/+ez/AJCj+w4/+ez/AJCtWij2s+4GV/Ycf/PZ/wAhR/Ycf/PZ/wAhWrRR7WfcDK/sOP8A57P+Qq5aWMVoDsyWPVj1qzRSdSTVmwCiiioAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiimSyLDE0jn5VGTQA+isJ9anLHYiKvYEZNN/tm69I/++T/AI1t7CYG/RWB/bN16R/98n/Gj+2br0j/AO+T/jR7CYG/RWB/bN16R/8AfJ/xo/tm69I/++T/AI0ewmBv0Vgf2zdekf8A3yf8aP7ZuvSP/vk/40ewmBv0Vgf2zdekf/fJ/wAaP7ZuvSP/AL5P+NHsJgb9FYH9s3XpH/3yf8aP7ZuvSP8A75P+NHsJgb9FYH9s3XpH/wB8n/Gj+2br0j/75P8AjR7CYG/RWB/bN16R/wDfJ/xo/tm69I/++T/jR7CYG/RWB/bN16R/98n/ABo/tm69I/8Avk/40ewmBv0Vgf2zdekf/fJ/xo/tm69I/wDvk/40ewmBv0Vgf2zdekf/AHyf8aP7ZuvSP/vk/wCNHsJgb9FYH9s3XpH/AN8n/Gr+n6l9qYxyKFkxkY6GlKlKKuwNCiiisgCiiigAooooAKKKKACiiigAqC8hM9pJEv3iOKnopp2dwOQZGRirqVYdQRSV15APUA0bF/uj8q6PrHkByFFdfsX+6Pyo2L/dH5U/rHkByFFdfsX+6Pyo2L/dH5UfWPIDkKK6/Yv90flRsX+6Pyo+seQHIUV1+xf7o/KjYv8AdH5UfWPIDkKK6/Yv90flRsX+6Pyo+seQHIUV1+xf7o/KjYv90flR9Y8gOQorr9i/3R+VGxf7o/Kj6x5AchRXX7F/uj8qNi/3R+VH1jyA5Ciuv2L/AHR+VGxf7o/Kj6x5AchRXX7F/uj8qNi/3R+VH1jyA5CtPSLaRrkTkEIoOD6mtzYv90flS1Mq91ZIAooornAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAoppdFOGZR9TSebH/z0X86LAPopnmx/89F/OjzY/wDnov507MB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov508HIyKQBRRRQAUUUUAFFFFABRRRQAUUUUAFQXszQWcki/eA4qemyRrLG0bjKsMGmrX1A5JmZ2LMSSepNJWo+iS7z5cqFe27INN/sS4/vxfmf8ACu72sO4jNorS/sS4/vxfmf8ACj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNorS/sS4/vxfmf8KP7EuP78X5n/AAo9rDuBm0Vpf2Jcf34vzP8AhR/Ylx/fi/M/4Ue1h3AzaK0v7EuP78X5n/Cj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/AIUe1h3AzaK0v7EuP78X5n/Cj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNorS/sS4/vxfmf8ACj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNrS0e4dboQ5JRwePQ0f2Jcf34vzP+FX7DTRaMZHYNIRgY6CoqVIOLQF+iiiuMYUUUUAFFFGKAJLhPLuJE9GIqOtHV4dlwJQPlcc/UVnUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABWraWPm2qOe+f51mIpd1RRkscCuniQRRLGOijFAEd3bi5t2jPXqp9DXNsrI5VhhgcEV1dZ+oWHnjzYx+8HUf3qAMOilIIJBGCOoNJQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRVuysnunyciMdW/pQBZ0m1Jf7Q44HC+59a2KREVECqMKBgCloAKKKKAKl3YRXXzfdk/vD+tY1xZT25+dMr/eHIrpKKAOTorop7O3kBZolz6jj+VYlxGsbYUYoAgooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiilHWgBKciM7bUUsT2ArTsrSCQZePP4mtRI0jGERVHsKAMq10liQ9wcD+4Ota6IqKFUAKOgFLRQAUUUUAf/ZDQplbmRzdHJlYW0NCmVuZG9iag0KMTIgMCBvYmoNCjw8L0F1dGhvcij+/wBTAGMAaAD8AHIAZQByACAASgBvAGEAawBpAG0pIC9DcmVhdG9yKP7/AE0AaQBjAHIAbwBzAG8AZgB0AK4AIABXAG8AcgBkACAAZgD2AHIAIABNAGkAYwByAG8AcwBvAGYAdAAgADMANgA1KSAvQ3JlYXRpb25EYXRlKEQ6MjAyMzAzMDcxMDQ0MTIrMDEnMDAnKSAvTW9kRGF0ZShEOjIwMjMwMzA3MTA0NDEyKzAxJzAwJykgL1Byb2R1Y2VyKP7/AE0AaQBjAHIAbwBzAG8AZgB0AK4AIABXAG8AcgBkACAAZgD2AHIAIABNAGkAYwByAG8AcwBvAGYAdAAgADMANgA1KSA+Pg0KZW5kb2JqDQoyMCAwIG9iag0KPDwvVHlwZS9PYmpTdG0vTiA5L0ZpcnN0IDYwL0ZpbHRlci9GbGF0ZURlY29kZS9MZW5ndGggMzkyPj4NCnN0cmVhbQ0KeJyNUk1r20AQvQfyH96xhZbVSrLsQAiEJqEljTGWoYeQw1qayIukXbNeh+TfdyZSiQ5u6UG782Znnt586AUSpBozjTSFTvibI80X0BkyXUDnyJM59AxFnoEdRcHOCxQLjctLtZLwBGtVqpXavO1JlTEcq3jbUa/uH5E8Qa0aZBJzdXV+9h8p+p8pd7Y5BlLXXfy0tZ1pDPadiRG29Y41X8ySJMnxFT9NXRs4CmiCifaAF2qjDwyebfsFJrT2ZQDw1Q5gsprCZ5xSlJ5UlI2Kbnx17MnFk7VId9fS3/crlesJI8ckfhOI1t5HtfYdPZi9tF3YVyYws7zKBMQjpPOBZvK6pNd4T2/QI/UdczkfSS3luHX1B9hw6Na/qpKqqL6T4aoHW3L+2D9cZx2VOyMKxXHtmIH76N2IQ7TPho139MuHdut9+9EL8Rx2RFFERvVgquAn+NuOzwm+sabzzcRRdramSezwHw7jmfXjEoy1Lo/9gRdNlnLa3aXp6fA4wL8N4vzsN3yP5eENCmVuZHN0cmVhbQ0KZW5kb2JqDQoyMyAwIG9iag0KWyAyNTAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDI1MCAwIDAgMCAwIDUwMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCA3MjIgMCA1NTYgMCAwIDAgMCAwIDAgMCAwIDAgNTU2IDAgMCAwIDYxMSAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCA0NDQgNTAwIDAgMCA0NDQgMCA1MDAgMCAyNzggMCAwIDI3OCAwIDAgMCAwIDAgMCAzODkgMjc4IDAgNTAwXSANCmVuZG9iag0KMjQgMCBvYmoNCjw8L1R5cGUvTWV0YWRhdGEvU3VidHlwZS9YTUwvTGVuZ3RoIDMwOTM+Pg0Kc3RyZWFtDQo8P3hwYWNrZXQgYmVnaW49Iu+7vyIgaWQ9Ilc1TTBNcENlaGlIenJlU3pOVGN6a2M5ZCI/Pjx4OnhtcG1ldGEgeG1sbnM6eD0iYWRvYmU6bnM6bWV0YS8iIHg6eG1wdGs9IjMuMS03MDEiPgo8cmRmOlJERiB4bWxuczpyZGY9Imh0dHA6Ly93d3cudzMub3JnLzE5OTkvMDIvMjItcmRmLXN5bnRheC1ucyMiPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6cGRmPSJodHRwOi8vbnMuYWRvYmUuY29tL3BkZi8xLjMvIj4KPHBkZjpQcm9kdWNlcj5NaWNyb3NvZnTCriBXb3JkIGbDtnIgTWljcm9zb2Z0IDM2NTwvcGRmOlByb2R1Y2VyPjwvcmRmOkRlc2NyaXB0aW9uPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6ZGM9Imh0dHA6Ly9wdXJsLm9yZy9kYy9lbGVtZW50cy8xLjEvIj4KPGRjOmNyZWF0b3I+PHJkZjpTZXE+PHJkZjpsaT5TY2jDvHJlciBKb2FraW08L3JkZjpsaT48L3JkZjpTZXE+PC9kYzpjcmVhdG9yPjwvcmRmOkRlc2NyaXB0aW9uPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6eG1wPSJodHRwOi8vbnMuYWRvYmUuY29tL3hhcC8xLjAvIj4KPHhtcDpDcmVhdG9yVG9vbD5NaWNyb3NvZnTCriBXb3JkIGbDtnIgTWljcm9zb2Z0IDM2NTwveG1wOkNyZWF0b3JUb29sPjx4bXA6Q3JlYXRlRGF0ZT4yMDIzLTAzLTA3VDEwOjQ0OjEyKzAxOjAwPC94bXA6Q3JlYXRlRGF0ZT48eG1wOk1vZGlmeURhdGU+MjAyMy0wMy0wN1QxMDo0NDoxMiswMTowMDwveG1wOk1vZGlmeURhdGU+PC9yZGY6RGVzY3JpcHRpb24+CjxyZGY6RGVzY3JpcHRpb24gcmRmOmFib3V0PSIiICB4bWxuczp4bXBNTT0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wL21tLyI+Cjx4bXBNTTpEb2N1bWVudElEPnV1aWQ6MzlCNEY4MDQtNTQwRi00QzBBLUI2NUItRTI3OUJCOUM3Q0FEPC94bXBNTTpEb2N1bWVudElEPjx4bXBNTTpJbnN0YW5jZUlEPnV1aWQ6MzlCNEY4MDQtNTQwRi00QzBBLUI2NUItRTI3OUJCOUM3Q0FEPC94bXBNTTpJbnN0YW5jZUlEPjwvcmRmOkRlc2NyaXB0aW9uPgogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKPC9yZGY6UkRGPjwveDp4bXBtZXRhPjw/eHBhY2tldCBlbmQ9InciPz4NCmVuZHN0cmVhbQ0KZW5kb2JqDQoyNSAwIG9iag0KPDwvRGlzcGxheURvY1RpdGxlIHRydWU+Pg0KZW5kb2JqDQoyNiAwIG9iag0KPDwvVHlwZS9YUmVmL1NpemUgMjYvV1sgMSA0IDJdIC9Sb290IDEgMCBSL0luZm8gMTIgMCBSL0lEWzwwNEY4QjQzOTBGNTQwQTRDQjY1QkUyNzlCQjlDN0NBRD48MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+XSAvRmlsdGVyL0ZsYXRlRGVjb2RlL0xlbmd0aCAxMDE+Pg0Kc3RyZWFtDQp4nGNgAIL//xmBpCADA4haBqHugSkmETDFfARMseSDKdZoCDUBQh0FU/KGYMroFJiKeg7UCzRFhIEFQrFCKDYIxQ6hmCEUVCUHUF8MP4zHCKGYgIKxv8Fmxj0AU9keDAwAWEwN3g0KZW5kc3RyZWFtDQplbmRvYmoNCnhyZWYNCjAgMjcNCjAwMDAwMDAwMTMgNjU1MzUgZg0KMDAwMDAwMDAxNyAwMDAwMCBuDQowMDAwMDAwMTY2IDAwMDAwIG4NCjAwMDAwMDAyMjIgMDAwMDAgbg0KMDAwMDAwMDUzMiAwMDAwMCBuDQowMDAwMDAwOTY0IDAwMDAwIG4NCjAwMDAwMDExMzUgMDAwMDAgbg0KMDAwMDAwMTM3MSAwMDAwMCBuDQowMDAwMDAxNDI0IDAwMDAwIG4NCjAwMDAwMDE0NzcgMDAwMDAgbg0KMDAwMDAwNzk4NSAwMDAwMCBuDQowMDAwMDEzMDAyIDAwMDAwIG4NCjAwMDAwMjMyNzEgMDAwMDAgbg0KMDAwMDAwMDAxNCA2NTUzNSBmDQowMDAwMDAwMDE1IDY1NTM1IGYNCjAwMDAwMDAwMTYgNjU1MzUgZg0KMDAwMDAwMDAxNyA2NTUzNSBmDQowMDAwMDAwMDE4IDY1NTM1IGYNCjAwMDAwMDAwMTkgNjU1MzUgZg0KMDAwMDAwMDAyMCA2NTUzNSBmDQowMDAwMDAwMDIxIDY1NTM1IGYNCjAwMDAwMDAwMjIgNjU1MzUgZg0KMDAwMDAwMDAwMCA2NTUzNSBmDQowMDAwMDI0MDU5IDAwMDAwIG4NCjAwMDAwMjQyODggMDAwMDAgbg0KMDAwMDAyNzQ2NCAwMDAwMCBuDQowMDAwMDI3NTA5IDAwMDAwIG4NCnRyYWlsZXINCjw8L1NpemUgMjcvUm9vdCAxIDAgUi9JbmZvIDEyIDAgUi9JRFs8MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+PDA0RjhCNDM5MEY1NDBBNENCNjVCRTI3OUJCOUM3Q0FEPl0gPj4NCnN0YXJ0eHJlZg0KMjc4MTENCiUlRU9GDQp4cmVmDQowIDANCnRyYWlsZXINCjw8L1NpemUgMjcvUm9vdCAxIDAgUi9JbmZvIDEyIDAgUi9JRFs8MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+PDA0RjhCNDM5MEY1NDBBNENCNjVCRTI3OUJCOUM3Q0FEPl0gL1ByZXYgMjc4MTEvWFJlZlN0bSAyNzUwOT4+DQpzdGFydHhyZWYNCjI4NTA4DQolJUVPRg==");
 
-		final var byteArrayOutput = InvoicePdfMerger.mergePdfs(attachments, renderResponse);
-		final var pdfDocument = Loader.loadPDF(((ByteArrayOutputStream) byteArrayOutput).toByteArray());
+		final var destination = temporaryDirectory.resolve("receipt.pdf");
+		final var result = InvoicePdfMerger.mergePdfs(attachments, ATTACHMENT_STORE, renderResponse, destination, MAX_MAIN_MEMORY_BYTES, COMPRESSION);
 
 		// Assert
-		assertThat(byteArrayOutput).isNotNull();
-		assertThat(pdfDocument.getNumberOfPages()).isEqualTo(2);
+		try (final var pdfDocument = Loader.loadPDF(destination.toFile())) {
+			assertThat(pdfDocument.getNumberOfPages()).isEqualTo(2);
+		}
+		assertThat(result.policy()).isEqualTo(ALWAYS);
+		assertThat(result.outcome()).isIn(COMPRESSED, INEFFECTIVE);
+		assertThat(result.size()).isEqualTo(Files.size(destination)).isLessThanOrEqualTo(result.mergedSize());
+	}
+
+	@ParameterizedTest
+	@MethodSource("compressionArguments")
+	void mergePdfsWithCompressionPolicy(final Compression compression, final Outcome... expectedOutcomes) throws Exception {
+		// Arrange
+		final var pdf = createPdf(2);
+		final var attachments = List.of(AttachmentEntity.create().withContent(new SerialBlob(pdf)));
+		final var renderResponse = new RenderResponse().output(Base64.getEncoder().encodeToString(pdf));
+		final var destination = temporaryDirectory.resolve("receipt.pdf");
+
+		// Act
+		final var result = InvoicePdfMerger.mergePdfs(attachments, ATTACHMENT_STORE, renderResponse, destination, MAX_MAIN_MEMORY_BYTES, compression);
+
+		// Assert
+		try (final var pdfDocument = Loader.loadPDF(destination.toFile())) {
+			assertThat(pdfDocument.getNumberOfPages()).isEqualTo(4);
+		}
+		assertThat(result.policy()).isEqualTo(compression.policy());
+		assertThat(result.outcome()).isIn((Object[]) expectedOutcomes);
+		assertThat(result.size()).isEqualTo(Files.size(destination));
+		assertThat(result.savedBytes()).isNotNegative();
+		assertThat(result.duration().isNegative()).isFalse();
+	}
+
+	private static Stream<Arguments> compressionArguments() {
+		return Stream.of(
+			Arguments.of(new Compression(NEVER, DataSize.ofBytes(1), 1, null), new Outcome[] {
+				SKIPPED
+			}),
+			Arguments.of(new Compression(AUTO, DataSize.ofMegabytes(10), 20, null), new Outcome[] {
+				SKIPPED
+			}),
+			Arguments.of(new Compression(AUTO, DataSize.ofBytes(1), 20, null), new Outcome[] {
+				COMPRESSED, INEFFECTIVE
+			}),
+			Arguments.of(new Compression(AUTO, DataSize.ofMegabytes(10), 4, null), new Outcome[] {
+				COMPRESSED, INEFFECTIVE
+			}),
+			Arguments.of(new Compression(ALWAYS, DataSize.ofMegabytes(10), 20, null), new Outcome[] {
+				COMPRESSED, INEFFECTIVE
+			}));
 	}
 
 	@Test
@@ -48,12 +136,94 @@ class InvoicePdfMergerTest {
 				.withContent(new SerialBlob(Base64.getDecoder().decode(
 					"JVBERi0xLjcNCiW1tbW1DQoxIDAgb2JqDQo8PC9UeXBlL0NhdGFsb2cvUGFnZXMgMiAwIFIvTGFuZyhzdi1TRSkgL1N0cnVjdFRyZWVSb290IDEzIDAgUi9NYXJrSW5mbzw8L01hcmtlZCB0cnVlPj4vTWV0YWRhdGEgMjQgMCBSL1ZpZXdlclByZWZlcmVuY2VzIDI1IDAgUj4+DQplbmRvYmoNCjIgMCBvYmoNCjw8L1R5cGUvUGFnZXMvQ291bnQgMS9LaWRzWyAzIDAgUl0gPj4NCmVuZG9iag0KMyAwIG9iag0KPDwvVHlwZS9QYWdlL1BhcmVudCAyIDAgUi9SZXNvdXJjZXM8PC9Gb250PDwvRjEgNSAwIFI+Pi9FeHRHU3RhdGU8PC9HUzcgNyAwIFIvR1M4IDggMCBSPj4vWE9iamVjdDw8L0ltYWdlOSA5IDAgUi9JbWFnZTExIDExIDAgUj4+L1Byb2NTZXRbL1BERi9UZXh0L0ltYWdlQi9JbWFnZUMvSW1hZ2VJXSA+Pi9NZWRpYUJveFsgMCAwIDU5NS4zMiA4NDEuOTJdIC9Db250ZW50cyA0IDAgUi9Hcm91cDw8L1R5cGUvR3JvdXAvUy9UcmFuc3BhcmVuY3kvQ1MvRGV2aWNlUkdCPj4vVGFicy9TL1N0cnVjdFBhcmVudHMgMD4+DQplbmRvYmoNCjQgMCBvYmoNCjw8L0ZpbHRlci9GbGF0ZURlY29kZS9MZW5ndGggMzU4Pj4NCnN0cmVhbQ0KeJy1Ul1rwjAUfS/0P5zHdmxpkjZNCiKoVbeB4LCwB/Ghau0K82PaDfbvl1SHOjfYh8tDyL2595xzT+I11mUxSyclajWvUZbp5CGbYugly9XIS15XmddP82KRlsVy4Q2ex6VJXWfpNFvX62jGLTzZFiXULKUkA4WIBPE5VMBIxLHObOv+Agvbaia25XUYGCM0QDKzLVNNwSApiYIAUnASciRzXdcdSOQbDY28itQu6trW0IE7QnJrW22NeGdbZ1QQaKCtgor43/m4JP736IRmE5AhJ0qCRZKoEDLS+QO+XdpQbK+2fTJ675sYa2/maZ5FiJfQ4Gj3WoDXN8/fa93EoL9+Vv7phMwnMjgZMclc4WxKpC/oxx19vsS4eHSvfCd1Ayc3G9hfXT8WxKQgXHwl6IPnJ7awM9nCJCeRhOC6XPxYBd+rMP5qGE6oAqMVGpPhsYZdvmI2dwqHXfvPwNjhb3gDOubTTQ0KZW5kc3RyZWFtDQplbmRvYmoNCjUgMCBvYmoNCjw8L1R5cGUvRm9udC9TdWJ0eXBlL1RydWVUeXBlL05hbWUvRjEvQmFzZUZvbnQvVGltZXNOZXdSb21hblBTTVQvRW5jb2RpbmcvV2luQW5zaUVuY29kaW5nL0ZvbnREZXNjcmlwdG9yIDYgMCBSL0ZpcnN0Q2hhciAzMi9MYXN0Q2hhciAxMTgvV2lkdGhzIDIzIDAgUj4+DQplbmRvYmoNCjYgMCBvYmoNCjw8L1R5cGUvRm9udERlc2NyaXB0b3IvRm9udE5hbWUvVGltZXNOZXdSb21hblBTTVQvRmxhZ3MgMzIvSXRhbGljQW5nbGUgMC9Bc2NlbnQgODkxL0Rlc2NlbnQgLTIxNi9DYXBIZWlnaHQgNjkzL0F2Z1dpZHRoIDQwMS9NYXhXaWR0aCAyNjE0L0ZvbnRXZWlnaHQgNDAwL1hIZWlnaHQgMjUwL0xlYWRpbmcgNDIvU3RlbVYgNDAvRm9udEJCb3hbIC01NjggLTIxNiAyMDQ2IDY5M10gPj4NCmVuZG9iag0KNyAwIG9iag0KPDwvVHlwZS9FeHRHU3RhdGUvQk0vTm9ybWFsL2NhIDE+Pg0KZW5kb2JqDQo4IDAgb2JqDQo8PC9UeXBlL0V4dEdTdGF0ZS9CTS9Ob3JtYWwvQ0EgMT4+DQplbmRvYmoNCjkgMCBvYmoNCjw8L1R5cGUvWE9iamVjdC9TdWJ0eXBlL0ltYWdlL1dpZHRoIDQxMy9IZWlnaHQgMTY1L0NvbG9yU3BhY2UvRGV2aWNlUkdCL0JpdHNQZXJDb21wb25lbnQgOC9JbnRlcnBvbGF0ZSBmYWxzZS9TTWFzayAxMCAwIFIvRmlsdGVyL0ZsYXRlRGVjb2RlL0xlbmd0aCA2MzE0Pj4NCnN0cmVhbQ0KeJztnQt7qjoThUURFO8K3rXt1///H7+lnGbHTBICovay3pPnPN0tQkCyMpNMJp0OIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEPInJeBx1olfXghBC2mE8Gu3Wm1fXghBC2iEbDP93fptPZ6+uCCGEtECapB+n8+fb+3AweHVdCCHkXpJ+//14gqah9Pv9V1eHEELuotfrvR2OpaahwGx7dY0IIaQ5URQddzulaSiLGcfWCCE/mG2x1jUNBd5or9t9db0IIaQJy/nC0LSyHLa7LpWNEPLTGA4GVk0ry9vhOM5Gr64jIYTUYLc23U9ZzvvDfDqL4/jVlSWEkGrKKLXAAn3Ll6vJaNyPGf5BCPmmfJxryJpeoIe79WYxm8ONjSKuHiWEfBc2RdFM1vTyv/PbYbuDxNGKI4S8nG4UrfMcunS/uJUFJlyv13v1bRFC/jrdbjcbDpfzxX6zrTXaZh+COxwZGUIIeRCb/J+PCb06Hw7wFmFQ5cvVbDKFlPVt85tpkswmE3xWX05Vq6wWi+ffLCHkLyBXRVkH/2GkQYjG2ajXNf3HOI4n4zEc1bevVfAhZb9hujZCyKPo9XrvdRTpvD8Uy9Uoy6QjCStuMZuf9oeQEbaX3Cwh5I8wHAwaTAqU85vL+XyQmtk80iSFcHk+my+XL7lTQsjfYTGb3TML8H46b/JiMhqrWU44rZ7jYey99n4JIX+B/WZ7j7KpctztK8fr3g7H+XTGHCCEkIfSj+MW49PKctofVvPFdDyxjrnhcus8lz4sIYS0hdVzfD+etsUaf5pNplCnfLE8bLaVAvh+OklP0+XqHra74WD4klsmhPxuer2e0quP87lYOU2puBdDi/zK9nE6wyGFPQY1Gw2zcvuD+XTq9F63O1puhJDWKRPhFquVdYlTFEXjbLQpimZL4KGZleEfkEGuriKEtAjMqszmD8KOguDcv3IqpMDtRTWef++EkD/CIB1U+puPKIvZ/NW3Tgj5bXS73fUqf76gqcKlo4SQFkmTtPFK9hbLdDx+9ZMghPwGRlnWOC9uu+XjdOYMAiHkTsajUetxufeU5Xz+6kdCCPnBZMPht9K0z8tShf2rn8oPYDgYrhZLvUx+hf8ex7FxX9ZubpyNjMM4mU5Kkn4/JIQDx6zz3L+YXROlSyKjxWyOsl7lIWmLjAKZbXY7/TieT2e79frtcESdcZ734+m427kSK/1o8HiN57Yt1q+uVAsMUnOn2vfTWR5WiLktKNvza0u+G1EUhWhOvlxBEHrdXuWEwm69SW2rBiCeEJZwmxBCVPde4l6vcnMZVAAN3xqk9xOhrFHWiASvQaUOqD3c/ek+LvG0VamHIG6B4XDjUb2N44eDwfupRmJMyCY+0vCpfRsoa5Q1YpAmid98ghOn2j48O/+Ry/liNV8UqxVetnKQxzWbWRkXVzePbtJPGiyF+AVJyClrlDViUJlsTdlp8O8axH6UHp91wxd9mxijwM+tm5PttNvXrRtKmvz4JfaUNcoa0YEZ5m/1xXKlDs6Xqwa68fllyEnnNIqis22YDgfD9Kp1Izi59brH3X5TFCjH7U4apb+j+VPWKGtEx7/vwPvxpCYNu1F0Z5guVEXOvM9EtiLd5w1HGn64nJHsCLcwGY3hdaoDyoxJLwGS3sV/UVTrU/gIivHLZrJ2uXbNq7dCeeMhRz5B1hp8BeSbA8fQL0R6mNB4NPKo3zrP/QqpJKsf3yhJNryxsiA12bDJBOVZzORui8J1MBxPuN7rVW78HqYpBEEvaWIxGuGVG4fNpzP9gNViof9VPcboqqv4jb7hF2oOXfI3LjwTfEqNHOIH/FOl3wyXtTiOl/PFcffPcC0TRuFRTMZjPe4F/zTuER90VW82mRoH6wOqvW53+rW3rG4w4584cjqeuO79QbKG7zRfLvWpf9QKVj2+fXyzVLmfjmwORom1l7NweKBolao5wHM8VI3UHbY3MRu689hY08C7mCwwLiSRNoP0iDNbYGeljBxvR/kgofhlNhh6AmMgNdZoOuiDp7+Ac41mGCJrUSeC2PrnhspR0NLElaMT+KuryRv3hVei/D26MKhZZTwPVBrCKE/buqzhCXuGc1VlcMLkdWY8uZPT3jfGjrapH3x0hGSgtzVOWxmsO9HCNmADqFaj5iYa8Ha0KEaxWtWKvH2crMH48T8TFGk9QtOsY4/GyWENVsqacr1DSrlIQe5qbX0aUADjsNI6xYtRa9EKvizjzO3KGt4EadJ7CtM1/0Rgifm/1nx585q5LA2rfeXfpE/15uj91WnvXO/jCoT7OF/2+4MHHTKv+iBZM5wvV8ExRjBM5TZe/zV2oT9GfSrNcr3AO4Np17FFMxZLU3k6tpifcpwBnn74RctidJHtylqlnaYXbtL9Q4Fp5P9mDb/AFeZqbfidqreojLOFG7hbXzKNG2NTDQhpuTA4cZjHv3iQrIUXXds9Wz9UFr0+6DuMcD7IIE4O0YCnORmNYSbpX66ar0mTxDgt9Fk+DSNASF8Yov5UurdQLVw06ScwhPAMZZAhKqafuUVZi8UwMvrWa31S3C9+wOuqZsRQsdgWj0S+P5WuohHh7/KGZhPTCS2BZFkdw6+X/5+H23g87eZy3a40WjxXR3OWJ3m0rJXbCEK7oCrSxTPao/V20OJw9RQkUIaZHFGU9ZGjZFPxlcE8wwM5X+cO9N/LJXVG4A0eu2GI6r3hcHBJngAbL7aFZONU0ojVV7S1KGu4ZeMYnNw4Bm8sKn/V/Hs7WfIqyg1ZPMVo0YetfS4A3ZzrEp7J00/NKmgL9LyuZu4SN8Nye6isQcf0edXYtjerepiQetsZjsY8MuTCGoSs10d+C7l7otCYFJCDCUaTN04u/Wj/2Lt8CfV87y3KmhrCVUVqu/UJkJ9F5biNMYCfO9aN4k32DMt73LHtOihkFD1+uEfQj+NaO9TD+NGl5nGyhqeUiFiRrViSr85jtaWtZi0ejvTm9PpYA5Xx7cMyqZzvk77b4Tqrq4Dxqf/VMyTV63bR74yGGQp6tFL95PBdvvynSC3KmnWwF7WF5Rz36G/+HipTdhi5rfBOuo60jiSX+EfwKqNhIQUNUq6h1aBdB07D6ed/nKxZB7GlCaHOI4M6Tl/zLBJIgac++g6wsrwdjsXqkqzJZaUYczFGL2Z4ytK170YRDDzry4anLefiC80LblHWPG/v53WcDb32L0h6QConu40Aj447xuPTFuYRciEZ0qAD0wutRu++a4HWh1Z22di0yjNVo4iPkzXrUJ7nPNKW9vQdlfXxT0yXBU8pX66kYTwTo1LqcRla8XE+d2+1EealZ3zVWh4ka52wmVC8b+jN6y5GJt+HkNk6I8be3+Wh07eODE/dIVsX18xhsOH3ZYtopQ9F+4K75DJalLp+H1mTfYFnK66QcNzpZBKS3gSPyJgB74lJAfW4jHg5Y5S1WbLlx8natcIVAclfV6lOrkW+JyFrneRQiYz8NBoFLDoICCQO/99vtvjhEpzmnqO05gWCPVC2wbMtosBF5WAvVNca3rb/Gi+SsmZ9vZ8ga3KCxmPZBi6egikF0ysk051he5dBOP9a/VcYhnGbehdg/dLxOuF5wgjv9/vorWBDSvV+qKx1ri45HlflCMx1QTF90p+HazGU/w3viFFifykjb/1Z2tTEHNrCaJjpY/61ptrRltH2/R6EdRmscrelrFmDhD1jYiX3y5pM8GuNGfuqT5CsKdC0cV8e9xx2sn68nEtN09QI5zZCzuSqCqssWyJ+HyxrCrwJsEuhtC77bX87OUJ+BDKSx1rwpUs30DUrKjWtXIHSjSqCytC+ziIUHx8Jn21P+ok6Ffw11+SpnNrTX2A5gi1jIeJexcxjpw1Zs3YE1piEbrcrF4CEJyaCq2i12/XxBBnQCyFFf3cjR7dDf7LTtCYNkLKme7JS1lDKFRA31xKy5h+zNcDdjbORHMxsvI8GeSEyhtyjOVLZ4HGcD05L/v0SNTrTRQk9Y+Dl/FLgQkZAwY+DOJSxBKhJr9vDz9ZZD9UkpYP2fjrpgVjwnqwzIBAWfX7wflmzWpWXZbO3MdIut9qoT6ldnoSZ8qs0AuQMEx03aDxwYwWltDblK9S17aCB3k3NO1hlbT6dfv31vytKWUOHWKYtRX+q4odn0yk005rOtHMVN6NXpaz9UMLD8uVIcgla2Xa9VqMocF6ua2TGViur1pKiWokQGyw/1IuKB7P612+X2bEFJAh36hlw/jj/C4G7X9bAdm2Pl4ZdgfpAsVFbTwY8vT5Kii+L7kdjI84Qum2EMV+iOIw5zYEZHmykGDJuTdrzp91e7yAgWa4BLhVMaJW1z2unWVqP5Y1IWVNfXLloq7zH8iPlb0ZDM6AlcKUY+f4EDq+pAvtHxpSGc9mzLywRJWQhMNNgScj0h+da6jyBjrmrqEHmVmQNluGd27aW9bH6s6eruQVB2K3X8kuxDit5OkGZis26SgK3s99s8GVV7lxW1rwvcoOIwy4Gm38ZYDm6KzfOKKe3YFXiT6iVfNSeiBrynUm9ARuugtey8VZ06CUrm+pF02oGDlUuBHOVa3bxf96WXOFoLWjgxcrSI7Qra506459WYUd9lJVSq1gnAWXQryrWKJ0Q4/wqdJZVIaoCfoeinNAZDe353tUl/IFJ9hfjfHa5q+T7E7ixnSzoBGEGNEh0kA0zT0Pb5EWzRXloCHVtNtgMchzbP2lbfgqt2NqUWpe1znVMsjL3I05uXc2B+uAL2jmcWVdRg1cGLk9fhm2X9Ks21MZfYdRZFw6rJ+n/OtSMpz9zIC5R6z23ZqcnP4ihGDOpW67ZfmbWeS4X/UtbE4uDdntXjqNw0IpRGT2ptbVAmowZDR1X0GaZjEJZkjIP8CNkrXMdG3ct4EXnoobiZctV9YHC4KYqg7XwVfpzJ1qnS1wy2Llmx3WtTIHYluZQ1Ink3enmomuoBF+HWheP7911d6rzgm8Cd9Uzz/VVsc0Ld7ggbXHPwJRe4C/A1pqOJ8YkmgvYPGjssEbgSrSeYxniA095Np3mi+U6z8uQNvyM6oUoMF7syxxBsYaLhOeTL1dypL1zjc7Kr9sfFKscx6shcRghOF4vVrM26SfGYZ4lFRCc5fxflWCoGCvfL8mFxuPiv/qsoNtyh1b8Bp/Cn9aXUbXN9VSXJwNpCtnqC3UwKmx9LAa4qcvmDutLzTdFgasbXzf6F3wvnponSYJ7x9uFA/B/PGr0gPK6MFnzr90ocDa8WtbJX3wXoyzDSa4R45eHgLrhunD5mWbt12BNAXFnefuSOOaEJ4S8hIk3MVpLVpzdYiGEkAcRuHDgznLa7+FN/IKN1AkhPwIZGf64ct0c0zL4Qwgh7VJrd577yyW3P/dkJIQ8GJme4gnlknnjPsstjuOkn+il16UpSAj5j9EwC18u2la5bu3tTLFbiQxW1zf7IIQQmDpPdkjLsi3WzVYZUNYIISEM0rTWRk6tlONtqodAKGuEkHDSNL3kwGk7ZNevbHVXu1PWCCF1KZOIQt+eM+xWN+UyZY0Qcg9JP5lNJpC4yl357im1dImyRghpi8ui8uFwOZ/v1pt2HVXPdnsSyhoh5EFc8nKMxzDkPJvohRe5o5+LQFkbZVlI0gzcxWwyLb7SXGyLdb5YTkYjz4hfHMfGmfXAOSj/arHYFEWZL2I5X1gTiVySXcwXZZoO/B+3YF1Ia9yFfgvlhkplgg4U/IAD5ORy3Ls5rFiurFsHypQd1mrjTo3DxtnNngv4lHGA/tdrt7jY5MVXvpTlsGmeUkIeTZqkeF0rMzz7S2AmtxBZkzkJr9lxb84PiZB7dOoGZOGIHEZTNQ4uk4bh964noKeVzgZDq0ePK07Fpn7Gxn9lljYIoGv7g/PhoOxeKDPUzJpQDs/QyLUeuFdd5c53coep8veQVtdQLe6lWagP+eNEnQjOI5o/Sq0dOeuSDbPGaXiLsM3RKmVNbjKOfxqJKwM3d4AYGtZIxyFrnkTZZSl3AZhPK7blMrKsS1mD+L+ffOYxjGcIGqRP7oWqF8M8fpysQbIqE/0Z28QTEoje0h/dOUJYGlhu0JCQivllzZqA2kjrWjedprEzspS1kBNejbHqDQuMxNqGNKHLCJmeDkmQ+2lkpn2YrG3D8irUyrpMSIk+AhaSH/VOulHUYPGCkQbWikfWYKVI/84wAmW7C1EkPUW2lLV2i55z2G9x3Vl01/hxshZYVgtzTytCKtH3tpCO1YOou5pe7tcm8cjafmNaTUZQXJIk1rEmaD7a+CXddFFYDzhpRpRH1sr9lSrdcNiTMPBcGzbpw+weWYM9hpP4HdLP62ajrplr3TJ8gqzh4Rw2Wzwf13Bf0CtFiIbe1lYB6tEWct9GTwmZD3XJmkyPCcvNmNC07nqMX+rObz+OrUP6aosil6yh8mqKYZQ5t37DA1HD9dbtlhazf4OfVlmDRqnZTNygSx7fDkdlZMa9+O1ongr+rLrQo2UNDyf+ejhwFqTMnrkHMamPrgbh0RT3A8UID+U9Hw6VJ7TK2nRsSg0ajrGDDGoi9/+F2stLQNnkkTDkyr9aZU0aG9Y1tnJsXIbH6O6YlDXDI+44JPR6+zcRI1YJVX99qKxtC/OupRlvnIeQEPSQgI/nvkL+XWuNNlt5NikXUGk59Smj1GST/HSP5sldj5VtY5U1GU4styDHY5fhcDJUQ9cTKWuomHEGmIiyPnK+Gw/kJbKG52YEk3RsUkxZIw0w9kP3bOj2CEIm5oyG5iIk08hxZ7HB5Pa7UL+oY597te7V27uKkpS1N5sDZdkbdG3ZG1Q66X5Zk9v1QjRkVeVO5UmSvETW1ra4ncrzEBKCIWtPnngKnzuQPbtBYAIlmalyNjFjxt60wSUDq21TLgSQsmYdFwrc8tivJ1LW5M7RVlmLe0LW+q+RNWs4ImWNtIIha54W/Qg8Q+iuhuYiUNbk2Jp1/M11lczmOLusNcqagrJGnokha59hQWJtkaZpiBa9B4itS9ZknKoxHYD7tTR/x5amy7kpSmrc74/Imh7VpqCskW+FjOmyTgI+CGubkiWkSlZZwwd7tlhcPVjCOrQO+ZKXiDqRXCVx+Jrr/J2yJlaTWafL5Roxyhp5IdYY0aflTxiEWWu5zUIwkLJ23O6618Az2VguKY+0VTlH8RCsc6ZyGvRTm1v8lbIm523xZIyV/hPbNMrn7XAoZY08E2vQ5ul2BeLjGGf2FmGU8ah6+YN/TWgurA7co5runIjhtbL9olGnSQqHFI6q1RrU2/ivlDU5n1I+Omh+//pYPEs7j7ud6hooa+SZuJbhWL2w1lkFzIRCOkL2NfDLWhRZ/Ed92tcVk+8v+lP6lbJmnfkNL+oroKyRZ+LKZ2v1wloHHXpl07C2ekl1YqKBOTWgR+b3437lOkqjGCsIfqWsgcCtK6QjT1kjr8Lzol5TLIbm3G4ATh7SXgLVNSSNpIxxPR8OauFnmiThGX136033Nl3Sb5U1qx8qbqGwfpuUNfJ8el3LJODNS3U8PU7ZZGyJLIdtaAKHEFmDMyuFS49Y6HW7m9yerEMVqL2RqK3kt8oa8OSS+jif1bSynH6irJHnExJfgVb8CG/UOkovS5qk1ee6goazv+a3UcVImF9SDv4bxVhSBId0OV/AQdb17f2aNWg6mbjWOwwH5pmtyV1RK+Mw6zDmfDozDptq6yPKtP96Mda5d67DifJO9e0VSuI4lofJ+oxHI3Qx6oFAzSBiqKQ+K4pOAWJVpgTBkbCE1VeAyhuXsGZjxgtpHBY4BEGIQg43WQte0XZ3cRplmd8i+rJPXp9CECKGlsuk+goIY92dqQl5JnLdkKec9nvp6TRgNpmGaBqMAdd6c0IIcSHHeULEbTqedBtZL/D1AvcLOB+O1t2dCCHET60UtTcDbufztiguW2GGiU+aJMVqFWKkfV7z+biWZBJCiB9jQ8yP03m/2dYN34Jltc5zuJbZcJimab/fT/oJSjYYTicTqFmt/UROuz3tNEJIY/Roh8NlBeVlKLjb7ebLZaBl1W6B9cjBeUJIYyAguqQYGzLin4EZzFopp/3hyYl5CSG/Dz0s3LU5SxmL9WhBswaYEUJIXQZpet4fSmfTn4mo3++vFssGG7J7Cq67yYvsWRmQCCF/ivDoyjRNl/PFYbtrPPIGbVyv8lGWNQsRIYSQBxFFEYy96XiSL5bb9fq4270dT0YykPfTCQ4mfFjo2GI2Gw0zTnESQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQQgghhBBCCCGEEEIIIYQQ8h34Pwlqi+oNCmVuZHN0cmVhbQ0KZW5kb2JqDQoxMCAwIG9iag0KPDwvVHlwZS9YT2JqZWN0L1N1YnR5cGUvSW1hZ2UvV2lkdGggNDEzL0hlaWdodCAxNjUvQ29sb3JTcGFjZS9EZXZpY2VHcmF5L01hdHRlWyAwIDAgMF0gL0JpdHNQZXJDb21wb25lbnQgOC9JbnRlcnBvbGF0ZSBmYWxzZS9GaWx0ZXIvRmxhdGVEZWNvZGUvTGVuZ3RoIDQ4MTk+Pg0Kc3RyZWFtDQp4nO2deXxOxxrH580miOZFqiiqbRq1NlRJ1e6mYqkGXXzokqr00qttLl2ViqVXgmu9vY3SJo0QrSCWXBHUW6WlSEIvt2pXtaURS0Rkm3tmO2fOOe/G+yaHvPP9g5k5z5l33vm958z2zAQAgUAgEAgEAoFAIBAIBAKBQCAQCAQCgUAgEAgEAoFAIBAIBAKBQCAQCKoV0f5Gl0BgixFZRpdAYIt+JR8ZXQSBDZ4sguFGl0FgnTaXIGxldCEEVmn8O4TwSaNLIbBGQI6kDZxkdDEEVvDegLSBl+4zuiACPfGQsPteo0si0NIbMv4Y7mN0YQRqNkKFYxOCjS6OgKcQqjiaENXSy+gyCSg3oI4rm6f0vcfocgkkVunFQZTvmfao0UUTBKaWW5cHwswmRhdOEDQobnuRVXVOid61AaRJNV94Yk9mwvhnW+Dm37fTO9+c1qszx+iCeiK1shUBrm2fM6whTn1oVOp5tTjbDC6nZ9LkolqFI0teqI8vPD7tNy55k8HF9FD66LoBFXumd/VGl8I2y2mfGV1MD2WStR7A5bSRjQH4pxx/zuhSeiheP1jtoEG4n2uPTn/cwOhyeiYhJTbUkfh11pgppO0pWfaU0QX1SOYSIS6tmzM+dsHOm4o0BS+apMs+E2l0V4TRJfVA7i+F8EbSU3Sas/keRZ2i3GWfDGnt+z6L7xVPT5WTDhPpBE3NYav0E6Clh5VwaiNji+p5DO5H/u++vFCnjJb8IcaW1UPpucuhMpgpRhfU86i31DlpoJhoq3LCrMx22uQNo0vrWTxnZR3UNoWiV1CFjLC5zmadGUYX2IMYeIvawP9VepEi5iFedzmfYJwP/TENx5HBLmdalbThO9CFqXN4GQ4viZ369a9acYr1mbT4eOPp6+X5OYtfdMuqaSz+nHSX8+mJ87lMIkk4Ms/lTKuQWnzdJwQ15LoGm7sQk3ZLylTi5GjzeGC1crEsvb/J5UIJcQjzlHotGQ58vpdjfz6vGLXhJnUgfEWTRe8C9ZOV87SrhRLiYDpWyHVa1BuAD+XY9fhZXybNf70xMfNLVuo+S/NktNe5hXznaqmEOJgdSpUOB6CZrk9dkf4ItvP+hqWc1exD8DmovQeGuVoqIQ4iXKnRxVI0QVfPUh+BrIMGnCTRq6GaLF6gdrmrV+0tdVOlCnEQip/ApSAAAq0ORsvJZOe7OILefWq+xenFPVA4cOQ26WFr7eynB5hraVLMZvzO1IsTWMe5LOuY+ZeuI3FMugLcQbRQJPiHFH2ZRfKWbeHUuY49ciNRsOQZXR5HsM0aFg3bnoz//yId0ZkkDsMRvFN7LgpNB6Bm1Po/pfuOTVGqZ+D6qxBeWx+hFSd4ZrY0FCv5LWVUPSkWjfOKZzfF4GhTKdTgrW9Po27l2fVjmIu3XXEe/xx1VIv3fzGs5u3XYCUyTVHgASm6mIaPSYOV9juVa7vRShx6fZUM0udxGZvskeNeZvwfeQtGkjSusnNRyAL6yV32nLrEppH8e1hdhxfHf64ySC5d2w30xaGb7EnC+Rw3gZYrS5UCX40hz48dcep/q5gXJrVxvS7dziG5fAdQdC+NjEER79lK6V+V4nHSC264lTzOEZPE+upk++KMUvKG5ElrclJJ+eFTxb7Gd1BFtPd5Pud2ODIdjFEPxeCXWB3b4gQdUdt3c7ku3U0zpXAJKH6GRujz8Yl89agPqCn9RK3Op/xMbW6kvcL34+yK8wfvVVKG3km+nLMPhBcV+1h1Jf7mT0dmi0nOH+FIS/Ak1DAaXbUtzrdq6zvw4JLhSuliULyARiLJZZPcfZbGneaN8GOrmfC1ty9Wfj/YFUfNKCn5PX0ytq95FYXy3+/VZ2QiKl4fAJ7AF8+QFxceCmRLge/R5MSYXqE9puI74MUawI44wTh8/M3uT49eKfWCih52V5W6D8VtEL6E4uzN8g69bj7HLktvPdOz1jMJ+lNVo7lRZEupI3HKUqM/oC7Z86SXVx4JFk7pEjbpMifOX3DoLZyL/8ij+BVIvLVCUbA+bo/GSaGIikUPkA9rT95w/YEdccbicC/yLcflfehiRVYG65U6jUTxn2hkJTOQu2/wL6obVXMEXS9DFfvx0+NAnAuoHxdcjMPfADCApJ7D/cJmBxVxXsGhhfSjfALQv5NxGn6OR6BQBZ7GeEwuENm0HwvsiBPPaS516X1vo/IqmxylRnFTv5BGilnj7rWfXc/g74t4UJVNiEWtzpXHgSNxbnbA6WtYOu180MbuoeuyPR3iZsdw/SnyTtqJgstRaAu70KDHkMG9m9JG6XNgRxzanG4d1fx2667S4XYSfIri3VhsEbMYJhtwI8sOugWdPmu5fiyEh3wciTOfpMexdDIYPszy+0y2byz3ws4mDmXjEeyLUi79grzzUeg1nBg4gc6vnyR90CRgR5weclmPLuzj7UodVhpHlfr8BcVN+1j0TWrhI5sky3eF5H2uz6rea6uuKrmNcCROlCY9BwcWs9w4e6XLKLVICaThfpt9SFf0/41AlDbgHFSTBJztrV38x53oCs73nDqhhO5y9KtmxOSvLKGCvdMfO4e6TFbwG5DKnHmX3qo4ZNTxT5YVPwgde4Ur5c3xKKkBfpxSAJiB/sctpH45NwnYE8cvju/NF3DLI3cKm7jybcUpM+R46b7UxGWWxJoXWMJ3xGF3xDV4Sn1CQYASfIA6v1mYOENJukNxSFfka5aPavom8B02lELgZxofaZHvDQ6wH8A9pOO3degjrcInH3dCHOmFGcstM5b3cq0mK4HFkAOP2ryXqX9+x8AEObzQD9QejBbjNB3P9BRl8BlCTHOZOKNI8kxH4pCl1N/ZwS7TeXEkmoxazV6a59Av4yUc7IIH0ZfQgIbMOKSQXuQ8p8SRaBGzqZhm+70r9VgpvMXrUIznm70X8GnHuwHzJTlWeBI3+3kBqkzaSxdms0Hcw/JX/R8OLMCpzcmbaQMKWxeHLvKNJcl1ycTbOv5jfAdsJTZoNBOAu3PTx6B/ceeF/MzoNOt8HJE66FQcSA6VJeIsVVdB7eE55Nu7WpdupyMvBCwiR0hGnmAJlyejGePxUMNr6kzIYOnHj3o3qt0wnPYopArbjQMFaGqmFe1VnEFTnNbFoU9cycsotRldFP8d2T+zlS3deZGCtURh3IXOxQMavFZBnry+2C6QdEJPBsrivA+8ujNx8kOAORSAd1e0oNnWwY1PRaVUsCt45atqvWwcfi3UeClDamjOrX+DTLz7/qLWZq16lTpMqx1iIAD0/Xh+5pQMeSX8Rmdb4oD/UJPsuA+XyatKNzqBGscg3PFaEDJuige7Fbhv1h9fR/2P07gB/BeOH0Q/hV6sKbneiYkDLxfBulQcafxbkQ4aXYPlG4bgV0BnnHim8mv7VlmkqdQfO7ArXN+/rWoJ7hezOotMK9rkemlemYyeNsVpfdO6PZnYhAfXJW0kxfgB3+ibx0zicPwZErm5LfN3/u5WSuQpoMyyHwHENbxs76rkbaSbtwjccXTRVUdmf/1hUYO5bup+jV+a7zp9lV5Bo/l7i7mUvERH4oC/8TmUZVH7+3W7Umi36jMWb4uj3gc4k5Id7NO8lQYzGgyWw+U9tLneCKmcCnaJ3fqqPT5BN0UbeY1dXBmgy6LnZk0GZ57A6Uo3D/7RdgirLpvigPGKH1D5SDoz0TOYPwcO8R79VLZEcIDGWyujocKBL8uf9pGcOg/4KKtXL6tcvaQn7o7cdhShF0di3ycd1c9PCBkR/TfSaibBk3KUij09ma4Rm2bSB65kcRDw2elQHNAjh2ZxJBz47Wb2reO4nXX7erDPNB0jKR+whEfZSuHGEOCfze72Zi/ukqlSOVlrdLYT6DL3hJLtZqe9HqoWa00G4uKK0aqzvNqMjHm9ne1s6vV7d+Hy9KULRj/BdRdaTU23ZCZE4da8RnRCelJsYwAGRSHoUYihOMJ8RkxdZ6yzbJo/ALV3/qMWpX81mXjNNR4w8evNlo0p74Vyn9gV3xqlvGVNfeZkWFZPwhOkNcd8kZ5I7u7wadqGb6ZG4rVwv2EJ69cuGRdGGtSHh05N/c6S8dXf7sDFHMKDdrYanl/xZhvXXWsFt8+rtsVB5KW98ZDRRfRgFtpXR+LQDJddOAW3h/dqh+pIbfSkpkaX0zPxW+mEOrA0xU5/QFBpmGY6ow6EyY2t3R0cimhY1YX2HIZcciyNROHbVjpvxIEgtsrL7Dk0THPu4VmnP2haiFP59NjhQBfCAd0+dyFOVdBlmfWTi9X8ovGJFuJUEXWGL893oA2EFs0fCRHiVBleoe+kHrOvzjT1HUKcquXeAdOzrtoUp0y9mUWIU/V4tYlefsG6OpkqQ14c04t4qpg6VrcZn7TJsv5frwYx02B8VRoS+Q6cvdqSMbMj+aS+s9Za1k2jE9XPsXnqFuOTs7YkRxEvz+YxKVu2LBlKFjLIhHQnYt8QR7A3cScclAJ+A2emWbL+HVGtZ21NYfFnrKnTiTfixSFrW9fbo3A4c4uHpUl07icKR3uCqLP0yiJvAPpT94+bf8U22KUqHTyUQU1OtAMgaCldL7KYkYnKx4nzfiIuUcA7hh1lnqFfGryL8J8eG2v/b+r6RFo5JC+Jt+DEGYTrsCJSCvot4W8oHIZNiTi9/q1ciOc35qBNG1SczgVy6vn6Dyub3vDZ8PbFqcW5Sqa5q6IMAfm1Otqn/KzuMLZCfoerIk5rspqNFif9NmluiUamRBz+UskYLpKLbLAQP/Odxpn8ATA9gSNx1vAf29F9VVX1oFYl1JFR4AqtOvyealmc+qSXl4QS52vvKEcn60ZpUzWgtdeT9k2Qr7t9cVTMdmNdVTnI52GYQytTvOY7x3MXmTg+ZGftdj8prQNtIy4smbGaOowf9OHEKbZwniVXs5jrTBTgxDmcWaDY5GSRLTvYocOhOKU7LfRTf3BvdVUtqEGZ5YQdd/QNgt/fysQhfn3HcdcslZil1pbCj9AGf4giTlYjAIayvJLNspPMRCCLc2UoAHXZ1q0/ukv9NbLF40/gWJzMZgCEkqHAKfdVVdWDanaLYzNQWz0wPaHJQhKH7BW5gp1laxH/v93EkeIRElsli7MDPVyA/hGFFai/60U2CaAtIESccuxmQwW8ij1nqYDAoThr8MfGK+l3K8gLtqiGE4aKRx6Cd/sm4mzG75FycpgX9YJlLdOXOHZJFof4ARIHzOv15XKQ+ibiJOLUJsR+Ao6EOylOvhmnP3f3i5OOvoHuOBsrmDjvMQluhyu/ITSbDPuIU1+JP7UgGzbgfVSc0ySV+KzRvaZLNeIQJz8zuZGcW9XBSXFSdOl3K1icuc5YxqnEMSsXeHHg2zhpHA6fZxb0Tys/SMU5SVJVDoVKffM74qg4zXEk1ElxknTpdytYnAvO7PR+XiUOd0ElThH2RCTtzzVmEal+ck6SVCGOI7A40MbxDypUPu8XuQtMHLLS/TNaUHiWpDBPSnKSTZmXe8VZQu6sxuJsw19hlxOWobw4/A1UnN0NyKbbSVJSU5JEjwz2J/NzO4G7xCEzQ7ST+Vn1FYdOnDnxd4u68uIkcBeIOHsDQS8cKEVbfIhTeSnuaZhIZw2duOEmccipMDfxbOqrtERmUP3EIT7/8KDjVoc7xIielENR5tbIIZQHpU7a68SseHZY8CD6ZBXf7zZx6EbIg0+HDFzDSpQdXv3EOUW/23SHlrM4bcrqcRcUce4hM6SzAfDJhVrQJ7hJnD66zEkBqps4bFdUeV9Hlvx5aKptzoo4dKdmRXcAHi3Q1N129Gy6SRxf1Z+e3VtdxfGTv+KVtvYtH+PrQ6UkJw74GodPBADQUf0XlLfibbZuEgfEcDmvaVddxWmofMm8x+xaruXq4yfVFV6c+kQSNK9/3wplt1vhB2SWzV3ieMsn19yY6G3aVU3Fac9V+RV7b7Zo/jFQbwiZZ0FEkcggHLHgmcqW8dloi/TlzW+ZqWkEvriCRKJwhDZ2H+IIOiNiBQ51xakBJDfihx1MIjhseumnckmZXR8jF8cGSedgxYmRAIzFBvR8kVAc2XDbVWM8/fk6L4+12Wd7nj/2x6nZHoKX+X4nz4O+ZXwa1tXv+65WvAFVHIq06q9iGsdr87O/NRuB25kKNRwaHagzaqHyBzhldR+IwP2kaMWRXuRrolSb2J5IVP3x6jPBRpXV4/gR9wS2F2gEOrXs7890aR3avv/Yr06qr/y3idFF9hyQ880eM6j7eQV0ipS72kvv7qI2qnDsvtnZ4kgXiV/DjS6wJ9EWKo7PEY7kORzlYzczgXvperyYWy1oNe+sTWVK0vpV81HFnUgQP7Lx6hK3q0yvzJmlL+g72AIDqNVt9IKM7At4urrg8I7kiUNEB00gEAgEAoFAIBAIBAKBQCAQCAQCgUAgEAgEAoFAIBAIBAKBQCAQCAQCgeBW+D/C1TIlDQplbmRzdHJlYW0NCmVuZG9iag0KMTEgMCBvYmoNCjw8L1R5cGUvWE9iamVjdC9TdWJ0eXBlL0ltYWdlL1dpZHRoIDI4My9IZWlnaHQgNDkxL0NvbG9yU3BhY2UvRGV2aWNlUkdCL0JpdHNQZXJDb21wb25lbnQgOC9GaWx0ZXIvRENURGVjb2RlL0ludGVycG9sYXRlIHRydWUvTGVuZ3RoIDEwMDg5Pj4NCnN0cmVhbQ0K/9j/4AAQSkZJRgABAQEAYABgAAD/2wBDAAgGBgcGBQgHBwcJCQgKDBQNDAsLDBkSEw8UHRofHh0aHBwgJC4nICIsIxwcKDcpLDAxNDQ0Hyc5PTgyPC4zNDL/2wBDAQkJCQwLDBgNDRgyIRwhMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjL/wAARCAHrARsDASIAAhEBAxEB/8QAHwAAAQUBAQEBAQEAAAAAAAAAAAECAwQFBgcICQoL/8QAtRAAAgEDAwIEAwUFBAQAAAF9AQIDAAQRBRIhMUEGE1FhByJxFDKBkaEII0KxwRVS0fAkM2JyggkKFhcYGRolJicoKSo0NTY3ODk6Q0RFRkdISUpTVFVWV1hZWmNkZWZnaGlqc3R1dnd4eXqDhIWGh4iJipKTlJWWl5iZmqKjpKWmp6ipqrKztLW2t7i5usLDxMXGx8jJytLT1NXW19jZ2uHi4+Tl5ufo6erx8vP09fb3+Pn6/8QAHwEAAwEBAQEBAQEBAQAAAAAAAAECAwQFBgcICQoL/8QAtREAAgECBAQDBAcFBAQAAQJ3AAECAxEEBSExBhJBUQdhcRMiMoEIFEKRobHBCSMzUvAVYnLRChYkNOEl8RcYGRomJygpKjU2Nzg5OkNERUZHSElKU1RVVldYWVpjZGVmZ2hpanN0dXZ3eHl6goOEhYaHiImKkpOUlZaXmJmaoqOkpaanqKmqsrO0tba3uLm6wsPExcbHyMnK0tPU1dbX2Nna4uPk5ebn6Onq8vP09fb3+Pn6/9oADAMBAAIRAxEAPwD3+iiigAooooAKKKKACiiigAooooAKKKQkAEk4A6mgBa5vWvGen6UzQxf6VcDgoh+VT7n/AArnPFPjGS6d7HTZCluPleZTy/sPQfzri686vjbPlp/efQYHJuZKpiPu/wAzob/xprN6xCTi2jPRYRg/n1rEmu7m4OZriWQnu7k/zpkUMs8gjhjeRz0VFJJ/Ctu38G67cKGFl5an/no4X9M5rhvVqvqz27YbDK2kfuRhq7ocozKfUHFaFr4g1ezIMOoTgD+Fm3D8jkVpP4F11FyIIn9llH9ayL3SNQ07/j7s5Yh/eK/L+Y4ocKtPWzQKthq/u3UvuZ1ul/EORWWPU7cMv/PWHgj6j/Cu4sdQtdStxPaTpLGe6np7Edq8Nq5puqXek3QuLSUo38S/wsPQjvXRRxs4u09Uefi8mpVFzUfdf4f8A9vorI0DX7fXbPzI/knTiWInlT/hWvXqxkpLmR8vUpypycJqzQUUUVRAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABXEeO9fMEf9lWz4kkGZ2B6L2X8f5fWuxu7lLOzmuZDhIkLt9AK8RvLuS+vZrqY5klcsf8ACuLG1nCHKt2ezk2EVWq6kto/mQV0HhvwtPrsnmyEw2anDSY5Y+i/41Q0PSn1nVYrRchT80jD+FR1P+fWvZba2itLaO3gQJFGu1VHYVyYTDKo+aWx6uaZg8OvZ0/if4FfTtJstKh8qzt1jGOWxlm+p71door10klZHycpSm+aTuwpGVXUqyhlIwQRwaWimScd4g8DW92j3GmKsFwOTF0R/p6H9K84likgmeKVGSRDtZWGCDXvFcZ460Bbi1Oq26YmhH70AfeT1+o/l9K8/FYVW54Hv5XmclNUazunszhNK1OfSNQju4Dypwy54Ze4NezWN5DqFlDdwNmOVdw9vavDK774d6mT9o0x24A82PP5MP5H86xwVZxlyPZnXnWEU6Xto7x/L/gHe0UUV6x8qFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQBzPju6Nv4adAcGeRY/wAOp/lXlVei/Edj/Z9kvYyk/p/9evOq8bGu9Wx9hksFHCp92/8AI9G+HViqWFzfMPnlfy1P+yP/AK5/Su1rA8FoE8KWeP4t5P8A32a369PDx5aUUfN5hUc8VNvvb7tAooorY4wooooAKbJGssTRuoZGBVge4NOooA8O1G0NhqVzan/llIyA+oB4q74XujaeJbGQHAaQRn6N8v8AWp/GaBPFd7jvsP8A44KybFimoWzDqJVI/MV4D9yrp0Z93F+2wqcvtR/NHudFFFe+fCBRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAcR8SP8Ajxsf+ujfyFed16J8SP8Ajxsf+ujfyFed14uM/jM+yyf/AHSPz/M9e8G/8inY/R//AENq3awvBv8AyKdj9H/9Dap/EGtx6FppuWTzJGbZGmcZP+FepTko0lJ9kfMV6cqmLnCCu3J/ma1FeYwfEHVUuQ80UEkOeYwpXj2Oa9HsryK/sobuEkxyqGXNFKvCr8I8Vga2GSdRaMnooorY4wooooA8k8bf8jZd/RP/AEAVi2f/AB/W/wD10X+dbXjb/kbLv6J/6AKxbP8A4/rf/rov868Cr/GfqfdYX/dIf4V+R7rRRXJeKvFz6NOtnZxo9wV3Oz8hAenHrXuVKkaceaR8XQw9SvP2dNanW0VwOgeOrmfUI7XUkjKSsFWVBgqT0z7V31TSrRqq8S8ThauGly1EFFFFanMFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAcR8SP+PGx/wCujfyFed16J8SP+PGx/wCujfyFed14uM/jM+yyf/dI/P8AM9e8G/8AIp2P0f8A9DasT4kf8edj/wBdG/kK2/Bv/Ip2P0f/ANDasT4kf8edh/10b+Qruq/7r8keLhv+Rn/29L9TzyvXvBv/ACKlj9G/9DNeQ1694N/5FSx+j/8AobVyYD+I/Q9PPf8Ad4+v6M3aKKK9c+UCiiigDyTxt/yNl39E/wDQBWLZ/wDH9b/9dF/nW142/wCRsu/on/oArFs/+P63/wCui/zrwKv8Z+p91hf90h/hX5HuteSeNv8Aka7v6J/6AK9bryTxt/yNd39E/wDQBXpY/wDhL1Pnsi/3l+j/ADRjWf8Ax/W//XRf517pXhVn/wAf1v8A9dF/nXutZ5ftI6M/+Kn8/wBAooor0T54KKKKACiiigAooooAKKKKACiiigAooooAKKCQBk1EbmBes0Y+rCgCWioftdv/AM94/wDvoUfa7f8A57x/99CgCaioftdv/wA94/8AvoUfa7f/AJ7x/wDfQoA474kf8eNj/wBdG/kK87r0H4iTRS2ViI5FbEjZ2nPYV59Xi4z+Mz7LJ/8AdI/P8z17wb/yKdj9H/8AQ2rE+JH/AB52H/XRv5Ctvwb/AMinY/R//Q2rE+JH/HnYf9dG/kK7qv8AuvyR4uG/5Gf/AG9L9TzyvXvBv/IqWP0f/wBDavIa9e8G/wDIqWP0f/0Nq5MB/Efoennv+7x9f0Zu0UUV658oFFFFAHknjb/kbLv6J/6AKxbP/j+t/wDrov8AOtrxt/yNl39E/wDQBWLZ/wDH9b/9dF/nXgVf4z9T7rC/7pD/AAr8j3WvJPG3/I13f0T/ANAFet15J42/5Gu7+if+gCvSx/8ACXqfPZF/vL9H+aMWz/4/rf8A66L/ADr3WvCrQ4vYCf8Anov869v+12//AD3j/wC+hWeX7SOjP/ip/P8AQmoqH7Xb/wDPeP8A76FH2u3/AOe8f/fQr0T54moqH7Xb/wDPeP8A76FH2q3/AOe8f/fQoAmopqyI/wB11b6HNOoAKKKKACiiigAooqvd3aWsW5uWP3V9aAJJZo4E3yMFFZVxq8jZWBdo/vHk1QmnkuJN8jZPYdhUdAD5JpJTmR2b6mmUUUAFFFFABRRRQBzni7/j2tv98/yrk66zxd/x7W3++f5VydeLjP4zPssn/wB0j8/zPXvBv/Ip2P0f/wBDasT4kf8AHnYf9dG/kK2/Bv8AyKdj9H/9DasT4kf8edh/10b+Qruq/wC6/JHi4b/kZ/8Ab0v1PPK9e8G/8ipY/R//AENq8hr17wb/AMipY/R//Q2rkwH8R+h6ee/7vH1/Rm7RRRXrnygUUUUAeSeNv+Rsu/on/oArFs/+P63/AOui/wA62vG3/I2Xf0T/ANAFYtn/AMf1v/10X+deBV/jP1PusL/ukP8ACvyPda8k8bf8jXd/RP8A0AV63Xknjb/ka7v6J/6AK9LH/wAJep89kX+8v0f5ow7f/j5i/wB8fzr0uvNLf/j5i/3x/OvS6zy/aR0Z/wDFT+f6BRRRXonzwUUUUAAJByDirUOoXMJ4fcvo3NVaKAN+11KK4IVvkk9CeD9Ku1ydaun6iciGduvCsf60Aa9FFFADJZFhiaRzhVGTXN3E73EzSP36D0FaOsT8rAD/ALTf0rJoAKKKKACiiigAooooAKKKKAOc8Xf8e1t/vn+VcnXWeLv+Pa2/3z/KuTrxcZ/GZ9lk/wDukfn+Z694N/5FOx+j/wDobVifEj/jzsP+ujfyFbfg3/kU7H6P/wChtWJ8SP8AjzsP+ujfyFd1X/dfkjxcN/yM/wDt6X6nnleveDf+RUsfo/8A6G1eQ1694N/5FSx+j/8AobVyYD+I/Q9PPf8Ad4+v6M3aKKK9c+UCiiigDyTxt/yNl39E/wDQBWLZ/wDH9b/9dF/nW142/wCRsu/on/oArFs/+P63/wCui/zrwKv8Z+p91hf90h/hX5HuteSeNv8Aka7v6J/6AK9bryTxt/yNd39E/wDQBXpY/wDhL1Pnsi/3l+j/ADRh2/8Ax8xf74/nXpdeaW//AB8xf74/nXpdZ5ftI6M/+Kn8/wBAooor0T54KKKKACiiigAooooA3NLuzNH5Tn50HB9RWhXMW8xguEkHY8/SumBBAI6GgDm7yTzbyVv9rA/DioKUnLE+ppKACiiigAooooAKKKKACiiigDnPF3/Htbf75/lXJ11ni7/j2tv98/yrk68XGfxmfZZP/ukfn+Z694N/5FOx+j/+htWJ8SP+POw/66N/IVt+Df8AkU7H6P8A+htWJ8SP+POw/wCujfyFd1X/AHX5I8XDf8jP/t6X6nnleveDf+RUsfo//obV5DXr3g3/AJFSx+j/APobVyYD+I/Q9PPf93j6/ozdooor1z5QKKKKAPJPG3/I2Xf0T/0AVi2f/H9b/wDXRf51teNv+Rsu/on/AKAKxbP/AI/rf/rov868Cr/GfqfdYX/dIf4V+R7rXknjb/ka7v6J/wCgCvW68k8bf8jXd/RP/QBXpY/+EvU+eyL/AHl+j/NGHb/8fMX++P516XXmlv8A8fMX++P516XWeX7SOjP/AIqfz/QKKKK9E+eCiiigAooooAKKKKACt+yuV+xxbjyBj8qwKkWVlXA7UAR0UUUAFFFFABRRRQAUUUUAFFFFAHOeLv8Aj2tv98/yrk66zxd/x7W3++f5VydeLjP4zPssn/3SPz/M9e8G/wDIp2P0f/0NqxPiR/x52H/XRv5Ctvwb/wAinY/R/wD0NqxPiR/x52H/AF0b+Qruq/7r8keLhv8AkZ/9vS/U88r17wb/AMipY/R//Q2ryGvXvBv/ACKlj9H/APQ2rkwH8R+h6ee/7vH1/Rm7RRRXrnygUUUUAeSeNv8AkbLv6J/6AKxbP/j+t/8Arov862vG3/I2Xf0T/wBAFYtn/wAf1v8A9dF/nXgVf4z9T7rC/wC6Q/wr8j3WvJPG3/I13f0T/wBAFet15J42/wCRru/on/oAr0sf/CXqfPZF/vL9H+aMO3/4+Yv98fzr0uvNLf8A4+Yv98fzr0us8v2kdGf/ABU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAc54u/49rb/fP8q5Ous8Xf8e1t/vn+VcnXi4z+Mz7LJ/8AdI/P8z17wb/yKdj9H/8AQ2rE+JH/AB52H/XRv5Ctvwb/AMinY/R//Q2rE+JH/HnYf9dG/kK7qv8AuvyR4uG/5Gf/AG9L9TzyvXvBv/IqWP0f/wBDavIa9e8G/wDIqWP0f/0Nq5MB/Efoennv+7x9f0Zu0UUV658oFFFFAHknjb/kbLv6J/6AKxbP/j+t/wDrov8AOtrxt/yNl39E/wDQBWLZ/wDH9b/9dF/nXgVf4z9T7rC/7pD/AAr8j3WvJPG3/I13f0T/ANAFet15J42/5Gu7+if+gCvSx/8ACXqfPZF/vL9H+aMO3/4+Yv8AfH869LrzS3/4+Yv98fzr0us8v2kdGf8AxU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAc54u/49rb/AHz/ACrk66zxcP8ARbY+jkfpXJ14uM/jM+yyf/dI/P8AM9e8G/8AIp2P0f8A9DasT4kf8edh/wBdG/kK2fBbhvCdljtvB/77asf4kA/YbE9hI38q7an+6/JHi4f/AJGj/wAUv1PO69e8G/8AIqWP0f8A9DavIa9d8GMD4UssHpvB/wC+zXLgP4j9D089/wB3j6/ozeooor1z5QKKKKAPJPG3/I2Xf0T/ANAFYtn/AMf1v/10X+dbPjVg3iu8wc42D/xwVj2QJv7cDqZV/mK8Cr/GfqfdYX/dYf4V+R7pXknjb/ka7v6J/wCgCvW68i8ZuH8V3uO2wf8Ajgr0cf8Aw16nz+Rf7y/R/mjFt/8Aj5i/3x/OvS681thm6hA7uo/WvSqjL9pG+f8AxU/n+gUUUV6J88FFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAYviiIyaRvH/LOQN/T+tcVXpF7bi7spoD/GhA+vavOGUqxVhhgcEV5OPhaal3PqsiqqVGVPqn+Z6T8PLsS6RPak/NDLkD/ZYf4g1a8eWhufDhlUZNvIsh+nQ/z/AErivB+qjS9dj8xsQTjynJ6DPQ/n/M16vcQR3VtJBKu6ORSjD1Brow7VWhyfI8/HxeFxyrdG7/5nhNeg/DzVUME2mSNh1bzIge4PUfh1/GuL1bTZtJ1KazmByh+Vv7y9jVe2uZrO5juLeQxyxncrDtXn0pujUuz38VQjjMPyp76pnu1Fcponjixvoliv2W1uRwS33G9we3411Ec0UqB45EdT0KsCK9uFSE1eLPjK2Hq0JctRWH1BeXcNjaS3M7bYolLMaq6hrum6ZGWubuNWH8AOWP4DmvNvEnimfXXEMamKzQ5VM8sfVv8ACsq+JjSXmdWCy+riZrS0er/yMa/u3v7+e7k4aZy+PTPar/hizN74jsowMhZBI30Xn+lZFekeAtFa1tH1KdcSXA2xg9k9fxP8q8rDwdWqvvPp8fWjhsM7drI7MkAZNeI6vdi+1i8uQcrJKxX6Z4/SvT/F+rDS9ClCtiecGKMd+ep/Af0ryOunH1LtQR5uRUGoyrProv1LukRedq9qn/TQMfw5/pXoVcj4TtS93LckfLGu1fqf/rfzrrq3wMLU79zizuqp4jkX2UFFFFdp44UUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAVxfiWwNtffaEH7ufn6N3/xrtKrX1nHf2j28nRhwf7p7GsMRR9rC3U7cvxf1aspvZ6M85r1Dwb4jXUrRbG5f/S4VwCT/rFHf6jvXmt1ay2dy8Ey4dT+fuKbBPLbTpNC7RyIcqynkGvJo1ZUZ3+8+rxeFhjKNr+aZ634k8Ow69ZgAiO6jH7qT+h9q8ovbG5066a3u4mjkXse/uPUV6R4c8ZW+pKltfMsF50BJwsn09D7Vv6hpdlqsHk3kCSr2J6r9D1Fd9WjDELnpvU8PDYytl8vY117v9bHiFKCR0JFd7ffDkFi1he4HZJx/Uf4Vkv4C1tWwFt2HqJP8RXBLC1YvY9uGZYWavzpeuhy9FdfbfDzU5G/0i4t4V74JY/lj+tdRpPgvTNMZZZFN1OOQ0o4B9l6fnmrhg6snqrGVbNsNTWj5n5HLeFvCEt/Il7qEZS0HKowwZf/AK3869HmmgsrVpZWWOGJckngACo7/UbTTLYz3cyxRjpnqfYDua8u8SeKJ9cl8qMGKzU5WPPLe7f4V2uVPCwstWePGGIzSrzS0ivuXp3ZW8Ra3JrmptPysCfLCh7L6/U1kqpZgqglicADvSV0vhrSSzC/nX5R/qlPc+tedCMq9T1PoK1WlgqF+i2Ru6VYjT9Pjh/j+85/2jV2iivcjFRSij4ipUlUm5y3YUUUVRAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAZ2raTFqcGDhZl+4/9D7Vw91azWc7QzoVcfkfcV6TVa8sbe/h8u4jDDse6/Q1yYjCqr70dGerl+Zyw3uT1j+Xoec1v6T4w1XS1WPzBcQDpHNzj6HqKjv/AA1dWxL2/wC/j9vvD8O/4VisrKxVgQw6givLaqUZdmfTKWGxkOkl/X3HpNp8Q9OlAF1bzwN3KgOv+P6VpL4z0Bhn7dj2MT/4V5HRW6x1Vb2ZxTyTDSd1dfP/ADPVp/HWhxKSk8sx9EiP9cVg6h8RZnUpp9oIs/8ALSU5P5Dj+dcPRUzxtWXWxdLJ8LTd2r+pYvb+61GczXc7zSHux6fQdqr1atNPur5sW8LMO7dAPxrqNM8NQ2pWW6ImlHIXHyr/AI1FOhUrO/4m2Ix2HwkbN69l/Whl6LoD3TLcXSlYByqnq/8A9auwACqFUAADAA7UtFevRoxpRsj5PF4ypip809ui7BRRRWxyBRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABUFxZW12MTwJJ7kc/nU9FJpNWZUZSi7xdmYsvhfT5DlPNj9lbI/Wqx8IwZ4upB9VFdHRWLw1F/ZOuOZYqKspv8zn08JWgPzzzN9MD+lXrfQdOtyCLcOw7yHd/wDWrSopxw9KO0SamOxNRWlNiBQqhVAAHQAUtFFbHIFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFRXEwt7d5SM7R0qWormEXFu8RONw601a+oHPPqN1IxbzmX2XgU37ddf8/En/fVOfT7pGK+Sze6jIpn2K6/595P++a7lyeQhft11/z8Sf8AfVH266/5+JP++qT7Fdf8+8n/AHzR9iuv+feT/vmn7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76o+3XX/PxJ/31SfYrr/n3k/75o+xXX/PvJ/3zR7nkAv266/5+JP++qPt11/z8Sf99Un2K6/595P++aPsV1/z7yf980e55AL9uuv+fiT/AL6o+3XX/PxJ/wB9Un2K6/595P8Avmj7Fdf8+8n/AHzR7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76o+3XX/PxJ/31SfYrr/n3k/75o+xXX/PvJ/3zR7nkAv266/5+JP++qPt11/z8Sf99Un2K6/595P++aPsV1/z7yf980e55AL9uuv+fiT/AL6o+3XX/PxJ/wB9Un2K6/595P8Avmj7Fdf8+8n/AHzR7nkAv266/wCfiT/vqj7ddf8APxJ/31SfYrr/AJ95P++aPsV1/wA+8n/fNHueQC/brr/n4k/76rR0vUJJZfImO7Iyrd6zfsV1/wA+8n/fNaWl6fLFN58y7cDCqetZ1OTlYGvRRRXGMKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiq2oMyWEzJ97Hamld2AR9RtI2KtMMjrgE03+1LP/AJ7f+On/AArm6K6vq8RHSf2pZ/8APb/x0/4Uf2pZ/wDPb/x0/wCFc3RT+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/Cj+1LP/nt/46f8K5uij6vEDpP7Us/+e3/jp/wo/tSz/wCe3/jp/wAK5uij6vEDpP7Us/8Ant/46f8ACj+1LP8A57f+On/Cuboo+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/Cj+1LP/nt/46f8K5uij6vEDpP7Us/+e3/jp/wo/tSz/wCe3/jp/wAK5uij6vEDpP7Us/8Ant/46f8ACj+1LP8A57f+On/Cuboo+rxA6T+1LP8A57f+On/Cj+1LP/nt/wCOn/Cuboo+rxA6T+1LP/nt/wCOn/CrEU8U67onDD2rk6v6Qzi+Cr91lO6onQSjdDOhooormAKKKKACiiigAooooAKKKKACkIDKVIyCMEGlooAzH0WBnJWR1B7dab/Ycf8Az2f8hWrRWntZ9wMr+w4/+ez/AJCj+w4/+ez/AJCtWij2s+4GV/Ycf/PZ/wAhR/Ycf/PZ/wAhWrRR7WfcDK/sOP8A57P+Qo/sOP8A57P+QrVoo9rPuBlf2HH/AM9n/IUf2HH/AM9n/IVq0Ue1n3Ayv7Dj/wCez/kKP7Dj/wCez/kK1aKPaz7gZX9hx/8APZ/yFH9hx/8APZ/yFatFHtZ9wMr+w4/+ez/kKP7Dj/57P+QrVoo9rPuBlf2HH/z2f8hR/Ycf/PZ/yFatFHtZ9wMr+w4/+ez/AJCj+w4/+ez/AJCtWij2s+4GV/Ycf/PZ/wAhR/Ycf/PZ/wAhWrRR7WfcDK/sOP8A57P+Qq5aWMVoDsyWPVj1qzRSdSTVmwCiiioAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiimSyLDE0jn5VGTQA+isJ9anLHYiKvYEZNN/tm69I/++T/AI1t7CYG/RWB/bN16R/98n/Gj+2br0j/AO+T/jR7CYG/RWB/bN16R/8AfJ/xo/tm69I/++T/AI0ewmBv0Vgf2zdekf8A3yf8aP7ZuvSP/vk/40ewmBv0Vgf2zdekf/fJ/wAaP7ZuvSP/AL5P+NHsJgb9FYH9s3XpH/3yf8aP7ZuvSP8A75P+NHsJgb9FYH9s3XpH/wB8n/Gj+2br0j/75P8AjR7CYG/RWB/bN16R/wDfJ/xo/tm69I/++T/jR7CYG/RWB/bN16R/98n/ABo/tm69I/8Avk/40ewmBv0Vgf2zdekf/fJ/xo/tm69I/wDvk/40ewmBv0Vgf2zdekf/AHyf8aP7ZuvSP/vk/wCNHsJgb9FYH9s3XpH/AN8n/Gr+n6l9qYxyKFkxkY6GlKlKKuwNCiiisgCiiigAooooAKKKKACiiigAqC8hM9pJEv3iOKnopp2dwOQZGRirqVYdQRSV15APUA0bF/uj8q6PrHkByFFdfsX+6Pyo2L/dH5U/rHkByFFdfsX+6Pyo2L/dH5UfWPIDkKK6/Yv90flRsX+6Pyo+seQHIUV1+xf7o/KjYv8AdH5UfWPIDkKK6/Yv90flRsX+6Pyo+seQHIUV1+xf7o/KjYv90flR9Y8gOQorr9i/3R+VGxf7o/Kj6x5AchRXX7F/uj8qNi/3R+VH1jyA5Ciuv2L/AHR+VGxf7o/Kj6x5AchRXX7F/uj8qNi/3R+VH1jyA5CtPSLaRrkTkEIoOD6mtzYv90flS1Mq91ZIAooornAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAoppdFOGZR9TSebH/z0X86LAPopnmx/89F/OjzY/wDnov507MB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov50ebH/z0X86LMB9FM82P/nov508HIyKQBRRRQAUUUUAFFFFABRRRQAUUUUAFQXszQWcki/eA4qemyRrLG0bjKsMGmrX1A5JmZ2LMSSepNJWo+iS7z5cqFe27INN/sS4/vxfmf8ACu72sO4jNorS/sS4/vxfmf8ACj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNorS/sS4/vxfmf8KP7EuP78X5n/AAo9rDuBm0Vpf2Jcf34vzP8AhR/Ylx/fi/M/4Ue1h3AzaK0v7EuP78X5n/Cj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/AIUe1h3AzaK0v7EuP78X5n/Cj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNorS/sS4/vxfmf8ACj+xLj+/F+Z/wo9rDuBm0Vpf2Jcf34vzP+FH9iXH9+L8z/hR7WHcDNrS0e4dboQ5JRwePQ0f2Jcf34vzP+FX7DTRaMZHYNIRgY6CoqVIOLQF+iiiuMYUUUUAFFFGKAJLhPLuJE9GIqOtHV4dlwJQPlcc/UVnUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABWraWPm2qOe+f51mIpd1RRkscCuniQRRLGOijFAEd3bi5t2jPXqp9DXNsrI5VhhgcEV1dZ+oWHnjzYx+8HUf3qAMOilIIJBGCOoNJQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRRQAUUUUAFFFFABRRVuysnunyciMdW/pQBZ0m1Jf7Q44HC+59a2KREVECqMKBgCloAKKKKAKl3YRXXzfdk/vD+tY1xZT25+dMr/eHIrpKKAOTorop7O3kBZolz6jj+VYlxGsbYUYoAgooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiilHWgBKciM7bUUsT2ArTsrSCQZePP4mtRI0jGERVHsKAMq10liQ9wcD+4Ota6IqKFUAKOgFLRQAUUUUAf/ZDQplbmRzdHJlYW0NCmVuZG9iag0KMTIgMCBvYmoNCjw8L0F1dGhvcij+/wBTAGMAaAD8AHIAZQByACAASgBvAGEAawBpAG0pIC9DcmVhdG9yKP7/AE0AaQBjAHIAbwBzAG8AZgB0AK4AIABXAG8AcgBkACAAZgD2AHIAIABNAGkAYwByAG8AcwBvAGYAdAAgADMANgA1KSAvQ3JlYXRpb25EYXRlKEQ6MjAyMzAzMDcxMDQ0MTIrMDEnMDAnKSAvTW9kRGF0ZShEOjIwMjMwMzA3MTA0NDEyKzAxJzAwJykgL1Byb2R1Y2VyKP7/AE0AaQBjAHIAbwBzAG8AZgB0AK4AIABXAG8AcgBkACAAZgD2AHIAIABNAGkAYwByAG8AcwBvAGYAdAAgADMANgA1KSA+Pg0KZW5kb2JqDQoyMCAwIG9iag0KPDwvVHlwZS9PYmpTdG0vTiA5L0ZpcnN0IDYwL0ZpbHRlci9GbGF0ZURlY29kZS9MZW5ndGggMzkyPj4NCnN0cmVhbQ0KeJyNUk1r20AQvQfyH96xhZbVSrLsQAiEJqEljTGWoYeQw1qayIukXbNeh+TfdyZSiQ5u6UG782Znnt586AUSpBozjTSFTvibI80X0BkyXUDnyJM59AxFnoEdRcHOCxQLjctLtZLwBGtVqpXavO1JlTEcq3jbUa/uH5E8Qa0aZBJzdXV+9h8p+p8pd7Y5BlLXXfy0tZ1pDPadiRG29Y41X8ySJMnxFT9NXRs4CmiCifaAF2qjDwyebfsFJrT2ZQDw1Q5gsprCZ5xSlJ5UlI2Kbnx17MnFk7VId9fS3/crlesJI8ckfhOI1t5HtfYdPZi9tF3YVyYws7zKBMQjpPOBZvK6pNd4T2/QI/UdczkfSS3luHX1B9hw6Na/qpKqqL6T4aoHW3L+2D9cZx2VOyMKxXHtmIH76N2IQ7TPho139MuHdut9+9EL8Rx2RFFERvVgquAn+NuOzwm+sabzzcRRdramSezwHw7jmfXjEoy1Lo/9gRdNlnLa3aXp6fA4wL8N4vzsN3yP5eENCmVuZHN0cmVhbQ0KZW5kb2JqDQoyMyAwIG9iag0KWyAyNTAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDI1MCAwIDAgMCAwIDUwMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCA3MjIgMCA1NTYgMCAwIDAgMCAwIDAgMCAwIDAgNTU2IDAgMCAwIDYxMSAwIDAgMCAwIDAgMCAwIDAgMCAwIDAgMCA0NDQgNTAwIDAgMCA0NDQgMCA1MDAgMCAyNzggMCAwIDI3OCAwIDAgMCAwIDAgMCAzODkgMjc4IDAgNTAwXSANCmVuZG9iag0KMjQgMCBvYmoNCjw8L1R5cGUvTWV0YWRhdGEvU3VidHlwZS9YTUwvTGVuZ3RoIDMwOTM+Pg0Kc3RyZWFtDQo8P3hwYWNrZXQgYmVnaW49Iu+7vyIgaWQ9Ilc1TTBNcENlaGlIenJlU3pOVGN6a2M5ZCI/Pjx4OnhtcG1ldGEgeG1sbnM6eD0iYWRvYmU6bnM6bWV0YS8iIHg6eG1wdGs9IjMuMS03MDEiPgo8cmRmOlJERiB4bWxuczpyZGY9Imh0dHA6Ly93d3cudzMub3JnLzE5OTkvMDIvMjItcmRmLXN5bnRheC1ucyMiPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6cGRmPSJodHRwOi8vbnMuYWRvYmUuY29tL3BkZi8xLjMvIj4KPHBkZjpQcm9kdWNlcj5NaWNyb3NvZnTCriBXb3JkIGbDtnIgTWljcm9zb2Z0IDM2NTwvcGRmOlByb2R1Y2VyPjwvcmRmOkRlc2NyaXB0aW9uPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6ZGM9Imh0dHA6Ly9wdXJsLm9yZy9kYy9lbGVtZW50cy8xLjEvIj4KPGRjOmNyZWF0b3I+PHJkZjpTZXE+PHJkZjpsaT5TY2jDvHJlciBKb2FraW08L3JkZjpsaT48L3JkZjpTZXE+PC9kYzpjcmVhdG9yPjwvcmRmOkRlc2NyaXB0aW9uPgo8cmRmOkRlc2NyaXB0aW9uIHJkZjphYm91dD0iIiAgeG1sbnM6eG1wPSJodHRwOi8vbnMuYWRvYmUuY29tL3hhcC8xLjAvIj4KPHhtcDpDcmVhdG9yVG9vbD5NaWNyb3NvZnTCriBXb3JkIGbDtnIgTWljcm9zb2Z0IDM2NTwveG1wOkNyZWF0b3JUb29sPjx4bXA6Q3JlYXRlRGF0ZT4yMDIzLTAzLTA3VDEwOjQ0OjEyKzAxOjAwPC94bXA6Q3JlYXRlRGF0ZT48eG1wOk1vZGlmeURhdGU+MjAyMy0wMy0wN1QxMDo0NDoxMiswMTowMDwveG1wOk1vZGlmeURhdGU+PC9yZGY6RGVzY3JpcHRpb24+CjxyZGY6RGVzY3JpcHRpb24gcmRmOmFib3V0PSIiICB4bWxuczp4bXBNTT0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wL21tLyI+Cjx4bXBNTTpEb2N1bWVudElEPnV1aWQ6MzlCNEY4MDQtNTQwRi00QzBBLUI2NUItRTI3OUJCOUM3Q0FEPC94bXBNTTpEb2N1bWVudElEPjx4bXBNTTpJbnN0YW5jZUlEPnV1aWQ6MzlCNEY4MDQtNTQwRi00QzBBLUI2NUItRTI3OUJCOUM3Q0FEPC94bXBNTTpJbnN0YW5jZUlEPjwvcmRmOkRlc2NyaXB0aW9uPgogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKPC9yZGY6UkRGPjwveDp4bXBtZXRhPjw/eHBhY2tldCBlbmQ9InciPz4NCmVuZHN0cmVhbQ0KZW5kb2JqDQoyNSAwIG9iag0KPDwvRGlzcGxheURvY1RpdGxlIHRydWU+Pg0KZW5kb2JqDQoyNiAwIG9iag0KPDwvVHlwZS9YUmVmL1NpemUgMjYvV1sgMSA0IDJdIC9Sb290IDEgMCBSL0luZm8gMTIgMCBSL0lEWzwwNEY4QjQzOTBGNTQwQTRDQjY1QkUyNzlCQjlDN0NBRD48MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+XSAvRmlsdGVyL0ZsYXRlRGVjb2RlL0xlbmd0aCAxMDE+Pg0Kc3RyZWFtDQp4nGNgAIL//xmBpCADA4haBqHugSkmETDFfARMseSDKdZoCDUBQh0FU/KGYMroFJiKeg7UCzRFhIEFQrFCKDYIxQ6hmCEUVCUHUF8MP4zHCKGYgIKxv8Fmxj0AU9keDAwAWEwN3g0KZW5kc3RyZWFtDQplbmRvYmoNCnhyZWYNCjAgMjcNCjAwMDAwMDAwMTMgNjU1MzUgZg0KMDAwMDAwMDAxNyAwMDAwMCBuDQowMDAwMDAwMTY2IDAwMDAwIG4NCjAwMDAwMDAyMjIgMDAwMDAgbg0KMDAwMDAwMDUzMiAwMDAwMCBuDQowMDAwMDAwOTY0IDAwMDAwIG4NCjAwMDAwMDExMzUgMDAwMDAgbg0KMDAwMDAwMTM3MSAwMDAwMCBuDQowMDAwMDAxNDI0IDAwMDAwIG4NCjAwMDAwMDE0NzcgMDAwMDAgbg0KMDAwMDAwNzk4NSAwMDAwMCBuDQowMDAwMDEzMDAyIDAwMDAwIG4NCjAwMDAwMjMyNzEgMDAwMDAgbg0KMDAwMDAwMDAxNCA2NTUzNSBmDQowMDAwMDAwMDE1IDY1NTM1IGYNCjAwMDAwMDAwMTYgNjU1MzUgZg0KMDAwMDAwMDAxNyA2NTUzNSBmDQowMDAwMDAwMDE4IDY1NTM1IGYNCjAwMDAwMDAwMTkgNjU1MzUgZg0KMDAwMDAwMDAyMCA2NTUzNSBmDQowMDAwMDAwMDIxIDY1NTM1IGYNCjAwMDAwMDAwMjIgNjU1MzUgZg0KMDAwMDAwMDAwMCA2NTUzNSBmDQowMDAwMDI0MDU5IDAwMDAwIG4NCjAwMDAwMjQyODggMDAwMDAgbg0KMDAwMDAyNzQ2NCAwMDAwMCBuDQowMDAwMDI3NTA5IDAwMDAwIG4NCnRyYWlsZXINCjw8L1NpemUgMjcvUm9vdCAxIDAgUi9JbmZvIDEyIDAgUi9JRFs8MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+PDA0RjhCNDM5MEY1NDBBNENCNjVCRTI3OUJCOUM3Q0FEPl0gPj4NCnN0YXJ0eHJlZg0KMjc4MTENCiUlRU9GDQp4cmVmDQowIDANCnRyYWlsZXINCjw8L1NpemUgMjcvUm9vdCAxIDAgUi9JbmZvIDEyIDAgUi9JRFs8MDRGOEI0MzkwRjU0MEE0Q0I2NUJFMjc5QkI5QzdDQUQ+PDA0RjhCNDM5MEY1NDBBNENCNjVCRTI3OUJCOUM3Q0FEPl0gL1ByZXYgMjc4MTEvWFJlZlN0bSAyNzUwOT4+DQpzdGFydHhyZWYNCjI4NTA4DQolJUVPRg=="))));
 		final var renderResponse = new RenderResponse();
+		final var destination = temporaryDirectory.resolve("receipt.pdf");
 		// Act
 
-		final var exception = assertThrows(ThrowableProblem.class, () -> InvoicePdfMerger.mergePdfs(attachments, renderResponse));
+		final var exception = assertThrows(ThrowableProblem.class, () -> InvoicePdfMerger.mergePdfs(attachments, ATTACHMENT_STORE, renderResponse, destination, MAX_MAIN_MEMORY_BYTES, COMPRESSION));
 
 		// Assert
 		assertThat(exception.getStatus()).isEqualTo(INTERNAL_SERVER_ERROR);
-		assertThat(exception.getMessage()).isEqualTo("Internal Server Error: A problem occurred during merge of PDF:s. Cannot invoke \"String.getBytes(java.nio.charset.Charset)\" because \"src\" is null.");
+		assertThat(exception.getMessage()).isEqualTo("Internal Server Error: A problem occurred during merge of PDF:s. No content found in rendered receipt.");
+	}
+
+	/**
+	 * Measures the bytes allocated on the heap when merging a large letter, compared to merging the same letter with an
+	 * in-memory stream cache and byte array buffers. The allocated bytes are an upper bound of the heap used by a merge.
+	 */
+	@Test
+	void mergeLargePdfAllocatesLessThanInMemoryMerge() throws Throwable {
+		// Arrange
+		final var receipt = createPdf(1);
+		final var attachment = createPdf(40);
+		final var attachments = List.of(AttachmentEntity.create().withContent(new SerialBlob(attachment)));
+		final var renderResponse = new RenderResponse().output(Base64.getEncoder().encodeToString(receipt));
+		final var destination = temporaryDirectory.resolve("receipt.pdf");
+
+		// Act
+		final var inMemoryAllocatedBytes = measureAllocatedBytes(() -> mergeInMemory(receipt, attachment));
+		final var allocatedBytes = measureAllocatedBytes(() -> InvoicePdfMerger.mergePdfs(attachments, ATTACHMENT_STORE, renderResponse, destination, MAX_MAIN_MEMORY_BYTES, COMPRESSION));
+
+		// Assert
+		assertThat(allocatedBytes).isLessThan(inMemoryAllocatedBytes);
+		try (final var pdfDocument = Loader.loadPDF(destination.toFile())) {
+			assertThat(pdfDocument.getNumberOfPages()).isEqualTo(41);
+		}
+	}
+
+	private static long measureAllocatedBytes(final Executable executable) throws Throwable {
+		final var threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final var allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+		executable.execute();
+		return threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+	}
+
+	/**
+	 * Creates a document where each page holds an image of random pixels, which can not be compressed.
+	 */
+	private static byte[] createPdf(final int numberOfPages) throws IOException {
+		final var random = new Random(numberOfPages);
+
+		try (final var document = new PDDocument(); final var outputStream = new ByteArrayOutputStream()) {
+			for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+				final var image = new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB);
+				for (int x = 0; x < image.getWidth(); x++) {
+					for (int y = 0; y < image.getHeight(); y++) {
+						image.setRGB(x, y, random.nextInt());
+					}
+				}
+				final var page = new PDPage();
+				document.addPage(page);
+				try (final var contentStream = new PDPageContentStream(document, page)) {
+					contentStream.drawImage(LosslessFactory.createFromImage(document, image), 0, 0);
+				}
+			}
+			document.save(outputStream);
+			return outputStream.toByteArray();
+		}
+	}
+
+	/**
+	 * Merges the documents fully in memory, i.e. with an in-memory stream cache and byte array buffers for the sources, the
+	 * merged document and the compressed document.
+	 */
+	private static void mergeInMemory(final byte[] receipt, final byte[] attachment) throws IOException {
+		final var merger = new PDFMergerUtility();
+		merger.setDestinationStream(new ByteArrayOutputStream());
+		merger.addSource(createBufferFromStream(new ByteArrayInputStream(receipt)));
+		merger.addSource(createBufferFromStream(new ByteArrayInputStream(attachment)));
+		merger.mergeDocuments(IOUtils.createMemoryOnlyStreamCache());
+
+		try (final var pdfReader = new PdfReader(((ByteArrayOutputStream) merger.getDestinationStream()).toByteArray());
+			final var document = new Document()) {
+
+			final var pdfSmartCopy = new PdfSmartCopy(document, new ByteArrayOutputStream());
+			pdfSmartCopy.setFullCompression();
+			document.open();
+
+			for (int pageNumber = 1; pageNumber <= pdfReader.getNumberOfPages(); pageNumber++) {
+				pdfSmartCopy.addPage(pdfSmartCopy.getImportedPage(pdfReader, pageNumber));
+			}
+			pdfSmartCopy.close();
+		}
 	}
 }
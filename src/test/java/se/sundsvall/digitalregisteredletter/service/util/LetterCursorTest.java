@@ -0,0 +1,55 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.ScrollPosition;
+import se.sundsvall.dept44.problem.Problem;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Base64.getUrlEncoder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.data.domain.ScrollPosition.Direction.FORWARD;
+
+class LetterCursorTest {
+
+	private static final OffsetDateTime CREATED = OffsetDateTime.of(2025, 8, 18, 10, 15, 30, 123456000, ZoneOffset.ofHours(2));
+	private static final String LETTER_ID = "43a32404-28ee-480f-a095-00d48109afab";
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		final var cursor = LetterCursor.encode(ScrollPosition.forward(Map.of("created", CREATED, "id", LETTER_ID)));
+
+		final var position = LetterCursor.decode(cursor);
+
+		assertThat(cursor).doesNotContain(LETTER_ID, "=", "+", "/");
+		assertThat(position.getDirection()).isEqualTo(FORWARD);
+		assertThat(position.getKeys()).containsOnly(
+			Map.entry("created", CREATED),
+			Map.entry("id", LETTER_ID));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"", " "
+	})
+	void decodeEmptyCursor(final String cursor) {
+		assertThat(LetterCursor.decode(cursor).isInitial()).isTrue();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"not a cursor", "2025-08-18T10:15:30+02:00", "not-a-date|" + LETTER_ID
+	})
+	void decodeInvalidCursor(final String value) {
+		final var cursor = value.contains(" ") ? value : getUrlEncoder().encodeToString(value.getBytes(UTF_8));
+
+		assertThatThrownBy(() -> LetterCursor.decode(cursor))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor '%s'".formatted(cursor));
+	}
+}
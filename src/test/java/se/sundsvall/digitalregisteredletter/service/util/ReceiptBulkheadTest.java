@@ -0,0 +1,193 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Bulkhead;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Compression;
+import se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.Export;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static se.sundsvall.digitalregisteredletter.configuration.ReceiptProperties.CompressionPolicy.AUTO;
+import static se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead.AVAILABLE_GAUGE;
+import static se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead.QUEUE_GAUGE;
+import static se.sundsvall.digitalregisteredletter.service.util.ReceiptBulkhead.WAIT_TIMER;
+
+class ReceiptBulkheadTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void timersAreRegisteredOnCreation() {
+		createBulkhead(1, Duration.ofSeconds(1));
+
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "acquired").timer().count()).isZero();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "rejected").timer().count()).isZero();
+	}
+
+	@Test
+	void execute() {
+		final var bulkhead = createBulkhead(2, Duration.ofSeconds(1));
+		final var response = new MockHttpServletResponse();
+
+		final var result = bulkhead.execute(() -> {
+			assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isOne();
+			return "receipt";
+		}, response);
+
+		assertThat(result).isEqualTo("receipt");
+		assertThat(response.getHeader(RETRY_AFTER)).isNull();
+		assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isEqualTo(2);
+		assertThat(meterRegistry.get(QUEUE_GAUGE).gauge().value()).isZero();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "acquired").timer().count()).isOne();
+	}
+
+	@Test
+	void executeReleasesPermitWhenSupplierFails() {
+		final var bulkhead = createBulkhead(1, Duration.ofSeconds(1));
+		final var response = new MockHttpServletResponse();
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new IllegalStateException("Rendering failed");
+		}, response)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isOne();
+	}
+
+	@Test
+	void executeWhenSaturated() {
+		final var bulkhead = createBulkhead(1, Duration.ofMillis(10));
+		final var response = new MockHttpServletResponse();
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> bulkhead.execute(() -> "receipt", response), response))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Service Unavailable: Too many receipts are being produced, please try again later");
+
+		assertThat(response.getHeader(RETRY_AFTER)).isEqualTo("30");
+		assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isOne();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "acquired").timer().count()).isOne();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "rejected").timer().count()).isOne();
+	}
+
+	@Test
+	void executeWhenInterrupted() {
+		final var bulkhead = createBulkhead(1, Duration.ofSeconds(1));
+		final var response = new MockHttpServletResponse();
+
+		Thread.currentThread().interrupt();
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> "receipt", response))
+			.isInstanceOf(Problem.class);
+
+		assertThat(Thread.interrupted()).isTrue();
+		assertThat(response.getHeader(RETRY_AFTER)).isEqualTo("30");
+	}
+
+	@Test
+	void executeExposesWaitingRequests() throws Exception {
+		final var bulkhead = createBulkhead(1, Duration.ofSeconds(10));
+		final var response = new MockHttpServletResponse();
+		final var release = new CountDownLatch(1);
+
+		final var holder = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+			awaitLatch(release);
+			return "first";
+		}, response));
+		await().atMost(5, SECONDS).until(() -> meterRegistry.get(AVAILABLE_GAUGE).gauge().value() == 0);
+
+		final var waiter = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> "second", response));
+		await().atMost(5, SECONDS).until(() -> meterRegistry.get(QUEUE_GAUGE).gauge().value() == 1);
+
+		release.countDown();
+
+		assertThat(holder.get(5, SECONDS)).isEqualTo("first");
+		assertThat(waiter.get(5, SECONDS)).isEqualTo("second");
+		assertThat(meterRegistry.get(QUEUE_GAUGE).gauge().value()).isZero();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "acquired").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void executeWhenAvailable() {
+		final var bulkhead = createBulkhead(1, Duration.ofSeconds(1));
+
+		final var result = bulkhead.executeWhenAvailable(() -> {
+			assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isZero();
+			return "receipt";
+		});
+
+		assertThat(result).isEqualTo("receipt");
+		assertThat(meterRegistry.get(AVAILABLE_GAUGE).gauge().value()).isOne();
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "acquired").timer().count()).isOne();
+	}
+
+	@Test
+	void executeWhenAvailableWaitsBeyondMaxWait() throws Exception {
+		final var bulkhead = createBulkhead(1, Duration.ofMillis(10));
+		final var response = new MockHttpServletResponse();
+		final var release = new CountDownLatch(1);
+
+		final var holder = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+			awaitLatch(release);
+			return "first";
+		}, response));
+		await().atMost(5, SECONDS).until(() -> meterRegistry.get(AVAILABLE_GAUGE).gauge().value() == 0);
+
+		final var waiter = CompletableFuture.supplyAsync(() -> bulkhead.executeWhenAvailable(() -> "second"));
+		await().atMost(5, SECONDS).until(() -> meterRegistry.get(QUEUE_GAUGE).gauge().value() == 1);
+		Thread.sleep(50);
+
+		assertThat(waiter).isNotDone();
+
+		release.countDown();
+
+		assertThat(holder.get(5, SECONDS)).isEqualTo("first");
+		assertThat(waiter.get(5, SECONDS)).isEqualTo("second");
+		assertThat(meterRegistry.get(WAIT_TIMER).tag("outcome", "rejected").timer().count()).isZero();
+	}
+
+	@Test
+	void executeWhenAvailableWhenInterrupted() {
+		final var bulkhead = createBulkhead(1, Duration.ofSeconds(1));
+
+		Thread.currentThread().interrupt();
+
+		assertThatThrownBy(() -> bulkhead.executeWhenAvailable(() -> "receipt"))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Service Unavailable: Interrupted while waiting to produce a receipt");
+
+		assertThat(Thread.interrupted()).isTrue();
+	}
+
+	private ReceiptBulkhead createBulkhead(final int maxConcurrent, final Duration maxWait) {
+		final var receiptProperties = new ReceiptProperties(DataSize.ofMegabytes(8),
+			new Compression(AUTO, DataSize.ofMegabytes(1), 20, null),
+			new Bulkhead(maxConcurrent, maxWait, Duration.ofSeconds(30)),
+			new Export(4, 100));
+
+		return new ReceiptBulkhead(receiptProperties, meterRegistry);
+	}
+
+	private static void awaitLatch(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
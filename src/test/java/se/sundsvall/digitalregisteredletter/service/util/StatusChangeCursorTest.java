@@ -0,0 +1,54 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor.Position;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Base64.getUrlEncoder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static se.sundsvall.digitalregisteredletter.service.util.StatusChangeCursor.START;
+
+class StatusChangeCursorTest {
+
+	private static final OffsetDateTime UPDATED = OffsetDateTime.of(2025, 8, 18, 10, 15, 30, 123000000, ZoneOffset.ofHours(2));
+	private static final String LETTER_ID = "43a32404-28ee-480f-a095-00d48109afab";
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		final var cursor = StatusChangeCursor.encode(new Position(UPDATED, LETTER_ID));
+
+		assertThat(cursor).doesNotContain(LETTER_ID, "=", "+", "/");
+		assertThat(StatusChangeCursor.decode(cursor)).isEqualTo(new Position(UPDATED, LETTER_ID));
+	}
+
+	@Test
+	void encodeAndDecodeStart() {
+		assertThat(StatusChangeCursor.decode(StatusChangeCursor.encode(START))).isEqualTo(START);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = " ")
+	void decodeEmptyCursor(final String cursor) {
+		assertThat(StatusChangeCursor.decode(cursor)).isEqualTo(START);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"not a cursor", "2025-08-18T10:15:30+02:00", "not-a-date|" + LETTER_ID
+	})
+	void decodeInvalidCursor(final String value) {
+		final var cursor = value.contains(" ") ? value : getUrlEncoder().encodeToString(value.getBytes(UTF_8));
+
+		assertThatThrownBy(() -> StatusChangeCursor.decode(cursor))
+			.isInstanceOf(Problem.class)
+			.hasMessage("Bad Request: Invalid cursor '%s'".formatted(cursor));
+	}
+}
@@ -0,0 +1,95 @@
+package se.sundsvall.digitalregisteredletter.service.util;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.digitalregisteredletter.configuration.TenantKeyCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantKeyCacheTest {
+
+	private static final String TENANT_ID = "tenantId";
+	private static final OffsetDateTime MODIFIED = OffsetDateTime.parse("2025-08-18T10:15:30.123+02:00");
+	private static final String DECRYPTED_KEY = "decrypted-key";
+
+	private final AtomicInteger decryptions = new AtomicInteger();
+
+	@Test
+	void getCachesDecryptedKey() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ofMinutes(10), 10));
+
+		assertThat(cache.get(TENANT_ID, MODIFIED, this::decrypt)).isEqualTo(DECRYPTED_KEY);
+		assertThat(cache.get(TENANT_ID, MODIFIED, this::decrypt)).isEqualTo(DECRYPTED_KEY);
+
+		assertThat(decryptions).hasValue(1);
+	}
+
+	@Test
+	void getWithoutModifiedCachesDecryptedKey() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ofMinutes(10), 10));
+
+		cache.get(TENANT_ID, null, this::decrypt);
+		cache.get(TENANT_ID, null, this::decrypt);
+
+		assertThat(decryptions).hasValue(1);
+	}
+
+	@Test
+	void getWithChangedModifiedDecryptsAgain() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ofMinutes(10), 10));
+
+		cache.get(TENANT_ID, MODIFIED, this::decrypt);
+		cache.get(TENANT_ID, MODIFIED.plusSeconds(1), this::decrypt);
+		cache.get(TENANT_ID, MODIFIED.plusSeconds(1), this::decrypt);
+
+		assertThat(decryptions).hasValue(2);
+	}
+
+	@Test
+	void getWithExpiredEntryDecryptsAgain() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ZERO, 10));
+
+		cache.get(TENANT_ID, MODIFIED, this::decrypt);
+		cache.get(TENANT_ID, MODIFIED, this::decrypt);
+
+		assertThat(decryptions).hasValue(2);
+	}
+
+	@Test
+	void invalidateRemovesCachedKeyForTenant() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ofMinutes(10), 10));
+
+		cache.get(TENANT_ID, MODIFIED, this::decrypt);
+		cache.get("otherTenantId", MODIFIED, this::decrypt);
+		cache.invalidate(TENANT_ID);
+		cache.get(TENANT_ID, MODIFIED, this::decrypt);
+		cache.get("otherTenantId", MODIFIED, this::decrypt);
+
+		assertThat(decryptions).hasValue(3);
+	}
+
+	@Test
+	void getEvictsLeastRecentlyUsedWhenMaxSizeIsReached() {
+		final var cache = new TenantKeyCache(new TenantKeyCacheProperties(Duration.ofMinutes(10), 2));
+
+		cache.get("tenant1", MODIFIED, this::decrypt);
+		cache.get("tenant2", MODIFIED, this::decrypt);
+		cache.get("tenant1", MODIFIED, this::decrypt);
+		cache.get("tenant3", MODIFIED, this::decrypt);
+		assertThat(decryptions).hasValue(3);
+
+		// The second tenant is the least recently used and has been evicted to make room for the third
+		cache.get("tenant1", MODIFIED, this::decrypt);
+		cache.get("tenant3", MODIFIED, this::decrypt);
+		assertThat(decryptions).hasValue(3);
+		cache.get("tenant2", MODIFIED, this::decrypt);
+		assertThat(decryptions).hasValue(4);
+	}
+
+	private String decrypt() {
+		decryptions.incrementAndGet();
+		return DECRYPTED_KEY;
+	}
+}
@@ -1,9 +1,20 @@
 
     create table attachment (
+        content_id varchar(36),
         id varchar(36) not null,
         letter_id varchar(36) not null,
         content_type varchar(50),
         file_name varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table attachment_content (
+        reference_count integer not null,
+        content_length bigint not null,
+        created datetime(6),
+        id varchar(36) not null,
+        hash varchar(64) not null,
+        storage_key varchar(255),
         content longblob,
         primary key (id)
     ) engine=InnoDB;
@@ -13,6 +24,7 @@
         municipality_id varchar(4),
         created datetime(6),
         updated datetime(6),
+        batch_id varchar(36),
         id varchar(36) not null,
         organization_id varchar(36),
         party_id varchar(36),
@@ -31,6 +43,35 @@
         primary key (id)
     ) engine=InnoDB;
 
+    create table letter_batch (
+        letter_count integer not null,
+        municipality_id varchar(4) not null,
+        created datetime(6),
+        organization_number varchar(12) not null,
+        id varchar(36) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table letter_outbox (
+        attempts integer not null,
+        municipality_id varchar(4) not null,
+        claimed_until datetime(6),
+        created datetime(6),
+        organization_number varchar(12) not null,
+        id varchar(36) not null,
+        letter_id varchar(36) not null,
+        claimed_by varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table letter_receipt (
+        created datetime(6),
+        signing_information_version bigint not null,
+        content_id varchar(36) not null,
+        letter_id varchar(36) not null,
+        primary key (letter_id)
+    ) engine=InnoDB;
+
     create table organization (
         number bigint not null,
         id varchar(36) not null,
@@ -41,6 +82,7 @@
     create table signing_information (
         mrtd bit,
         signed datetime(6),
+        version bigint not null,
         id varchar(36) not null,
         internal_id varchar(36),
         order_ref varchar(36),
@@ -72,9 +114,33 @@
         primary key (id)
     ) engine=InnoDB;
 
+    alter table if exists attachment_content 
+       add constraint uk_attachment_content_hash unique (hash);
+
+    create index idx_attachment_content_reference_count_created 
+       on attachment_content (reference_count, created);
+
+    create index idx_letter_status_deleted_tenant_id 
+       on letter (status, deleted, tenant_id);
+
+    create index idx_letter_municipality_id_deleted_created 
+       on letter (municipality_id, deleted, created);
+
+    create index idx_letter_municipality_id_deleted_status 
+       on letter (municipality_id, deleted, status);
+
+    create index idx_letter_municipality_id_deleted_updated 
+       on letter (municipality_id, deleted, updated);
+
     alter table if exists letter 
        add constraint uk_signing_information_id unique (signing_information_id);
 
+    create index idx_letter_outbox_claimed_until 
+       on letter_outbox (claimed_until);
+
+    alter table if exists letter_outbox 
+       add constraint uk_letter_outbox_letter_id unique (letter_id);
+
     create index idx_number 
        on organization (number);
 
@@ -93,11 +159,21 @@
     alter table if exists user 
        add constraint uk_username unique (username);
 
+    alter table if exists attachment 
+       add constraint fk_attachment_content 
+       foreign key (content_id) 
+       references attachment_content (id);
+
     alter table if exists attachment 
        add constraint fk_attachment_letter 
        foreign key (letter_id) 
        references letter (id);
 
+    alter table if exists letter 
+       add constraint fk_letter_batch 
+       foreign key (batch_id) 
+       references letter_batch (id);
+
     alter table if exists letter 
        add constraint fk_letter_organization 
        foreign key (organization_id) 
@@ -117,3 +193,8 @@
        add constraint fk_letter_user 
        foreign key (user_id) 
        references user (id);
+
+    alter table if exists letter_receipt 
+       add constraint fk_letter_receipt_content 
+       foreign key (content_id) 
+       references attachment_content (id);
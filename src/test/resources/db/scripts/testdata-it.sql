@@ -79,29 +79,21 @@ VALUES ('43a32404-28ee-480f-a095-00d48109afab', '2281',
         'fe85fe5e-7de1-4a48-bda7-8df8556b0265', '36c85960-0b77-4228-a8b3-da86ca8078e7',
         'f87e34e4-8e8a-4476-9ec2-8f2451538d22', NULL);
 
-INSERT INTO attachment(id, file_name, content, content_type, letter_id)
-VALUES ('186fd449-e757-4add-badf-4835fc9e1cee', 'attachment1.txt', 'dGVzdA==', 'text/plain',
-        '43a32404-28ee-480f-a095-00d48109afab'),
-       ('d922ba6b-89f3-4640-b823-a5d8f0fbd94b', 'attachment2.txt', 'dGVzdA==', 'text/plain',
-        '43a32404-28ee-480f-a095-00d48109afab'),
-       ('3109456a-ba3a-4ad3-a100-4762ef32ae0c', 'attachment3.txt', 'dGVzdA==', 'text/plain',
-        '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c'),
-       ('6f8cdbe2-9309-41bd-89ce-e136e7c49858', 'attachment4.pdf',
-        FROM_BASE64('JVBERi0xLjUKJbXtrvsKNCAwIG9iago8PCAvTGVuZ3RoIDUgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCj4+CnN0cmVhbQp4nDNUMABCXUMgYW5ppJCcy1UIhGaGRhBxkBhcRj/RQCG9WEG/wlzBJZ8rEAgBf7IM0QplbmRzdHJlYW0KZW5kb2JqCjUgMCBvYmoKICAgNTAKZW5kb2JqCjMgMCBvYmoKPDwKICAgL0V4dEdTdGF0ZSA8PAogICAgICAvYTAgPDwgL0NBIDEgL2NhIDEgPj4KICAgPj4KICAgL1hPYmplY3QgPDwgL3g3IDcgMCBSID4+Cj4+CmVuZG9iago5IDAgb2JqCjw8IC9MZW5ndGggMTAgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgOAo+PgpzdHJlYW0KeJzt3X+slXUdB/DvRVHclR8KgoJIgkoWiaHFppa1mizdGJrhmjrnJCSjqA2TiubNWIEVXCwBjSlrjpVSJhUGAkIFKt5EUhlTBE0qDJWQxc/u/fScc889PziM7lnIduH1+ud7v9/neZ97v3+9d8/znOekBAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAcpbpN3fDu3+e1+/RR8zJX1PQbJuUiZ9X4ZwFAz/X/vv3WVza0//zPzIr4ak2/4uxrl0ZcWOsfBsAx78G4I6Vb2t9RKX261o5KaYqOAqBmvfbHpSl1a6whoqMAOCJGR5xTY0RHAXBENET0rzGSddSEGiNZRw2tMQLAMW9mxJk1RrKOGl9jJOuoITVGADjmzanoqB6DP3haxeHTh5zX7cBI1lFjUqeBF/SvK611OmVArwNOO2lQ6ecpuXcUuwweUv7iB4kAQJtutz70VsS6pqam87LZiRNeiMzmKd0Lh3tP35LNW5675biKVNZRE3/6bnbkzemn5hfqf7F+fzbd1tg1m3wie7WmAenjC/Y+X4pkHTXq8X3ZORvGH18dSfc1FdX6LiIAR6kBjY1/iZjb2NjYL6VTVsemG84598ZXY+PA/NELt8byEQM+NGln/O6k8lTWUbuWzf3+vS9HvJK/ltUr1n/p4kFjdsWy3Kz/jIjPLcoKqLKjti2c9b15WSP+pnN1ZMWeRbPuamiYnhXipUdk4wB0BKX3+hbEW31zY+8tsTbXIydvjj/k/+m5rDnuLY+03dd33LSIlbkfesXFueFHEcNz45iIjXdfPfSRyo7K39fXY2nEd6ojK1qvb82OmP2ebBKADqnYUR+J+G7r0viIG7Ph9ohPtS4siOb3lUVK954/E/GxbOi+OH9lanTEF3Jj1lGjsmHQ0lKkeO95752xo74qsiJ/8JKW+Fv3BAAFxY6a2do3mTMjFmfDuth9QuvCDRHfKIuUOmpsxPSK9fzVpEJHlSt9Pmp+xMiqyEW5C16dX4y4+nBsCYCjRLGjno5ou+tue2yvS/XN8VJhPjTi12WRUkdlB56sXj9kR02IuPNgL5XStyN+9X9uBoCjSrGj3oyWtrWXInqk8yOWF+anVdz/UFYsPaPQYycPv+amsT9pT0d9NgoXtyoimcF7Ykffw7YtAI4CxY7aHbva1p6NOCsNj1hUmNdHbCqLlDoqO7A5Gwb9cn+89tSyNe3pqKsiHqyOpFS3ImLc4d0aAB1csaN2xL62tecjTk8fjlhSmPeIKH8ueqmjekW8kFK/f8TKs1M73+u7NuLH1ZF86E91CQBKih21OaJwi0R6NVq6pAERqwrz/hFPlUVKxfL+iKUpTY0YWL5+yI4aFzG5OpL6vBN7zz+8OwOgoyt21MKIwsOLjt8XL6dU9694o3DO5RH3l0VKHTUy4gcpPRnbKtYP2VHTI66qjqSft91KMexrh29vAHRsxY6aEDG6demSiPuy4dGIPq0L34z4fFmk1FEzIz6Z0tr4Z8X6ITtqXezsWh25MmJ9639xk+86jJsDoEMrdlTPnW23ft8fLcOy4YqIr+TnnTbE1hPLIsWO6v52rKtLaUm09ClfP1RHXRZxT6qK1L9WfAjScg/sA6Cg9CyksdFyfW68rrnwwdz58XbuCzU6zYyWis5p66Kui2LXRdk4OeKxM1Kfm5753x117qbY2K06MiNiVv68LqP2XP+ebBOADmfED/8aseTum/M19eVdsfjOhidi/7RO+YMnPBC7H/rWtBdj+3UVoWHb4/XHHpj9yDvxRv7JFKe+HhHNsfWaiD9+sU/vccsiHp84oiIybm+se3junN/vi9V9qyND/xOxvqmp6c9bmiMqgwAcs8Y3tPpoftbvjoVr1vx2cum744dNfeK5VQ/f1uOAVOfLJ/1s5dpV828uPA79jBlPP/vobfVpYvZKQz7Q+opfr4x0Hzllweq1K+ZcmQ4SuaChTK3fuAgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAHOv+C0jaOxIKZW5kc3RyZWFtCmVuZG9iagoxMCAwIG9iagogICA1MDM5CmVuZG9iago3IDAgb2JqCjw8IC9MZW5ndGggMTEgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgMQogICAvU01hc2sgOSAwIFIKPj4Kc3RyZWFtCnic7cExAQAAAMKg9U9tCU+gAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD4GJuEAAQplbmRzdHJlYW0KZW5kb2JqCjExIDAgb2JqCiAgIDQ3NwplbmRvYmoKOCAwIG9iago8PCAvVHlwZSAvT2JqU3RtCiAgIC9MZW5ndGggMTIgMCBSCiAgIC9OIDEKICAgL0ZpcnN0IDQKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKPj4Kc3RyZWFtCnicM1Mw4IrmiuUCAAY4AV0KZW5kc3RyZWFtCmVuZG9iagoxMiAwIG9iagogICAxNgplbmRvYmoKMTMgMCBvYmoKPDwgL1R5cGUgL09ialN0bQogICAvTGVuZ3RoIDE2IDAgUgogICAvTiA0CiAgIC9GaXJzdCAyMwogICAvRmlsdGVyIC9GbGF0ZURlY29kZQo+PgpzdHJlYW0KeJxVkVFrgzAUhd/9FedlTBlobqrrVqQPVShjDMTubewhpMEKw0gSx/rvl9jaMfJ0P87NOYdLYBHlKFjEQQVFVGC1zqOyRPZ+HhWyRnTKRgCy1/5o8QEOhhafM6r0NDhQtN3OG43Rx0kqg1iK3mhQSk9pjvjk3Gg3WTbTzojx1EubatMlyeUbo4Tr9VALpxDXG854QYwR5Tmj9QPj94wli8lfLNx567DfCKNCjpBsBm/q2Iud/vFxmX+PxLF+5rfQg/Nyi/ym3xs9jSjLMIT54jHTBR08NWKwY/CS5wW/wJlJLVPlVbX67qVq97sAfebAW2X1ZKSyWN08D35Rukt066/wr14lnPjS3bWdv8C1nBf9Aht2bs0KZW5kc3RyZWFtCmVuZG9iagoxNiAwIG9iagogICAyNzgKZW5kb2JqCjE3IDAgb2JqCjw8IC9UeXBlIC9YUmVmCiAgIC9MZW5ndGggNzIKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKICAgL1NpemUgMTgKICAgL1cgWzEgMiAyXQogICAvUm9vdCAxNSAwIFIKICAgL0luZm8gMTQgMCBSCj4+CnN0cmVhbQp4nGNgYPj/n4mBl4EBRDAxMixmYGBk4AcRfSAxDiBLdDmQkGgBEozsIG4/iJsLJCRBXElZiF5GEMHMKLUCKCa1n4EBAJM2CBEKZW5kc3RyZWFtCmVuZG9iagpzdGFydHhyZWYKNjg0NwolJUVPRgoxOCAwIG9iag0KPDwvU2l6ZSAxOSAvUm9vdCAxNSAwIFIgL1ByZXYgNjg0NyAvVHlwZSAvWFJlZiAvSW5kZXggWzAgMSAxNCAxIDE4IDEgXSAvVyBbMSA0IDIgXSAvTGVuZ3RoIDIxID4+IHN0cmVhbQ0KAAAAAAH//wAAAAAPAAIBAAAbsAAADQplbmRzdHJlYW0NCg0KZW5kb2JqDQpzdGFydHhyZWYNCjcwODgNCiUlRU9GDQo='),
-        'application/pdf', 'f8853893-46a9-4249-a0e5-35d5595efd91'),
-       ('897d81e4-9b56-4fd5-b3cb-a82208089aac', 'attachment5.txt', 'dGVzdA==', 'text/plain',
-        '450970bb-118c-43a8-8813-6b67c2d33a3b'),
-       ('d49aa5d4-fba4-4255-948c-ab449aa2614a', 'attachment6.txt', 'dGVzdA==', 'text/plain',
-        '59eeec4c-81f3-4a96-918e-43a5e08a8ef0'),
-       ('0cf88e2d-c118-4555-998d-2b027b09ffc0', 'attachment7.txt', 'dGVzdA==', 'text/plain',
-        '5c8634f2-078e-4ef0-888b-63cb1aaa0b11'),
-       ('074e60e5-9c4b-465f-8bbf-5cf904eed648', 'attachment8.txt', 'dGVzdA==', 'text/plain',
-        'bd3d2128-0d5a-457c-8629-0da4ffea85d9'),
-       ('6484b8c1-41e8-4519-8b5c-2868fff67d6b', 'attachment9.txt', 'dGVzdA==', 'text/plain',
-        '4ace2698-7dea-4d0b-9c5d-eeac32c1b49a'),
-       ('5a70a27f-997e-431e-9155-cc50d01e80c5', 'attachment.pdf',
-        FROM_BASE64('JVBERi0xLjUKJbXtrvsKNCAwIG9iago8PCAvTGVuZ3RoIDUgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCj4+CnN0cmVhbQp4nDNUMABCXUMgYW5ppJCcy1UIhGaGRhBxkBhcRj/RQCG9WEG/wlzBJZ8rEAgBf7IM0QplbmRzdHJlYW0KZW5kb2JqCjUgMCBvYmoKICAgNTAKZW5kb2JqCjMgMCBvYmoKPDwKICAgL0V4dEdTdGF0ZSA8PAogICAgICAvYTAgPDwgL0NBIDEgL2NhIDEgPj4KICAgPj4KICAgL1hPYmplY3QgPDwgL3g3IDcgMCBSID4+Cj4+CmVuZG9iago5IDAgb2JqCjw8IC9MZW5ndGggMTAgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgOAo+PgpzdHJlYW0KeJzt3X+slXUdB/DvRVHclR8KgoJIgkoWiaHFppa1mizdGJrhmjrnJCSjqA2TiubNWIEVXCwBjSlrjpVSJhUGAkIFKt5EUhlTBE0qDJWQxc/u/fScc889PziM7lnIduH1+ud7v9/neZ97v3+9d8/znOekBAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAcpbpN3fDu3+e1+/RR8zJX1PQbJuUiZ9X4ZwFAz/X/vv3WVza0//zPzIr4ak2/4uxrl0ZcWOsfBsAx78G4I6Vb2t9RKX261o5KaYqOAqBmvfbHpSl1a6whoqMAOCJGR5xTY0RHAXBENET0rzGSddSEGiNZRw2tMQLAMW9mxJk1RrKOGl9jJOuoITVGADjmzanoqB6DP3haxeHTh5zX7cBI1lFjUqeBF/SvK611OmVArwNOO2lQ6ecpuXcUuwweUv7iB4kAQJtutz70VsS6pqam87LZiRNeiMzmKd0Lh3tP35LNW5675biKVNZRE3/6bnbkzemn5hfqf7F+fzbd1tg1m3wie7WmAenjC/Y+X4pkHTXq8X3ZORvGH18dSfc1FdX6LiIAR6kBjY1/iZjb2NjYL6VTVsemG84598ZXY+PA/NELt8byEQM+NGln/O6k8lTWUbuWzf3+vS9HvJK/ltUr1n/p4kFjdsWy3Kz/jIjPLcoKqLKjti2c9b15WSP+pnN1ZMWeRbPuamiYnhXipUdk4wB0BKX3+hbEW31zY+8tsTbXIydvjj/k/+m5rDnuLY+03dd33LSIlbkfesXFueFHEcNz45iIjXdfPfSRyo7K39fXY2nEd6ojK1qvb82OmP2ebBKADqnYUR+J+G7r0viIG7Ph9ohPtS4siOb3lUVK954/E/GxbOi+OH9lanTEF3Jj1lGjsmHQ0lKkeO95752xo74qsiJ/8JKW+Fv3BAAFxY6a2do3mTMjFmfDuth9QuvCDRHfKIuUOmpsxPSK9fzVpEJHlSt9Pmp+xMiqyEW5C16dX4y4+nBsCYCjRLGjno5ou+tue2yvS/XN8VJhPjTi12WRUkdlB56sXj9kR02IuPNgL5XStyN+9X9uBoCjSrGj3oyWtrWXInqk8yOWF+anVdz/UFYsPaPQYycPv+amsT9pT0d9NgoXtyoimcF7Ykffw7YtAI4CxY7aHbva1p6NOCsNj1hUmNdHbCqLlDoqO7A5Gwb9cn+89tSyNe3pqKsiHqyOpFS3ImLc4d0aAB1csaN2xL62tecjTk8fjlhSmPeIKH8ueqmjekW8kFK/f8TKs1M73+u7NuLH1ZF86E91CQBKih21OaJwi0R6NVq6pAERqwrz/hFPlUVKxfL+iKUpTY0YWL5+yI4aFzG5OpL6vBN7zz+8OwOgoyt21MKIwsOLjt8XL6dU9694o3DO5RH3l0VKHTUy4gcpPRnbKtYP2VHTI66qjqSft91KMexrh29vAHRsxY6aEDG6demSiPuy4dGIPq0L34z4fFmk1FEzIz6Z0tr4Z8X6ITtqXezsWh25MmJ9639xk+86jJsDoEMrdlTPnW23ft8fLcOy4YqIr+TnnTbE1hPLIsWO6v52rKtLaUm09ClfP1RHXRZxT6qK1L9WfAjScg/sA6Cg9CyksdFyfW68rrnwwdz58XbuCzU6zYyWis5p66Kui2LXRdk4OeKxM1Kfm5753x117qbY2K06MiNiVv68LqP2XP+ebBOADmfED/8aseTum/M19eVdsfjOhidi/7RO+YMnPBC7H/rWtBdj+3UVoWHb4/XHHpj9yDvxRv7JFKe+HhHNsfWaiD9+sU/vccsiHp84oiIybm+se3junN/vi9V9qyND/xOxvqmp6c9bmiMqgwAcs8Y3tPpoftbvjoVr1vx2cum744dNfeK5VQ/f1uOAVOfLJ/1s5dpV828uPA79jBlPP/vobfVpYvZKQz7Q+opfr4x0Hzllweq1K+ZcmQ4SuaChTK3fuAgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAHOv+C0jaOxIKZW5kc3RyZWFtCmVuZG9iagoxMCAwIG9iagogICA1MDM5CmVuZG9iago3IDAgb2JqCjw8IC9MZW5ndGggMTEgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgMQogICAvU01hc2sgOSAwIFIKPj4Kc3RyZWFtCnic7cExAQAAAMKg9U9tCU+gAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD4GJuEAAQplbmRzdHJlYW0KZW5kb2JqCjExIDAgb2JqCiAgIDQ3NwplbmRvYmoKOCAwIG9iago8PCAvVHlwZSAvT2JqU3RtCiAgIC9MZW5ndGggMTIgMCBSCiAgIC9OIDEKICAgL0ZpcnN0IDQKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKPj4Kc3RyZWFtCnicM1Mw4IrmiuUCAAY4AV0KZW5kc3RyZWFtCmVuZG9iagoxMiAwIG9iagogICAxNgplbmRvYmoKMTMgMCBvYmoKPDwgL1R5cGUgL09ialN0bQogICAvTGVuZ3RoIDE2IDAgUgogICAvTiA0CiAgIC9GaXJzdCAyMwogICAvRmlsdGVyIC9GbGF0ZURlY29kZQo+PgpzdHJlYW0KeJxVkVFrgzAUhd/9FedlTBlobqrrVqQPVShjDMTubewhpMEKw0gSx/rvl9jaMfJ0P87NOYdLYBHlKFjEQQVFVGC1zqOyRPZ+HhWyRnTKRgCy1/5o8QEOhhafM6r0NDhQtN3OG43Rx0kqg1iK3mhQSk9pjvjk3Gg3WTbTzojx1EubatMlyeUbo4Tr9VALpxDXG854QYwR5Tmj9QPj94wli8lfLNx567DfCKNCjpBsBm/q2Iud/vFxmX+PxLF+5rfQg/Nyi/ym3xs9jSjLMIT54jHTBR08NWKwY/CS5wW/wJlJLVPlVbX67qVq97sAfebAW2X1ZKSyWN08D35Rukt066/wr14lnPjS3bWdv8C1nBf9Aht2bs0KZW5kc3RyZWFtCmVuZG9iagoxNiAwIG9iagogICAyNzgKZW5kb2JqCjE3IDAgb2JqCjw8IC9UeXBlIC9YUmVmCiAgIC9MZW5ndGggNzIKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKICAgL1NpemUgMTgKICAgL1cgWzEgMiAyXQogICAvUm9vdCAxNSAwIFIKICAgL0luZm8gMTQgMCBSCj4+CnN0cmVhbQp4nGNgYPj/n4mBl4EBRDAxMixmYGBk4AcRfSAxDiBLdDmQkGgBEozsIG4/iJsLJCRBXElZiF5GEMHMKLUCKCa1n4EBAJM2CBEKZW5kc3RyZWFtCmVuZG9iagpzdGFydHhyZWYKNjg0NwolJUVPRgoxOCAwIG9iag0KPDwvU2l6ZSAxOSAvUm9vdCAxNSAwIFIgL1ByZXYgNjg0NyAvVHlwZSAvWFJlZiAvSW5kZXggWzAgMSAxNCAxIDE4IDEgXSAvVyBbMSA0IDIgXSAvTGVuZ3RoIDIxID4+IHN0cmVhbQ0KAAAAAAH//wAAAAAPAAIBAAAbsAAADQplbmRzdHJlYW0NCg0KZW5kb2JqDQpzdGFydHhyZWYNCjcwODgNCiUlRU9GDQo='),
-        'application/pdf', '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c');
+INSERT INTO attachment_content(id, hash, reference_count, content_length, content)
+VALUES ('186fd449-e757-4add-badf-4835fc9e1cee', SHA2('dGVzdA==', 256), 8, 8, 'dGVzdA=='),
+       ('6f8cdbe2-9309-41bd-89ce-e136e7c49858', SHA2(FROM_BASE64('JVBERi0xLjUKJbXtrvsKNCAwIG9iago8PCAvTGVuZ3RoIDUgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCj4+CnN0cmVhbQp4nDNUMABCXUMgYW5ppJCcy1UIhGaGRhBxkBhcRj/RQCG9WEG/wlzBJZ8rEAgBf7IM0QplbmRzdHJlYW0KZW5kb2JqCjUgMCBvYmoKICAgNTAKZW5kb2JqCjMgMCBvYmoKPDwKICAgL0V4dEdTdGF0ZSA8PAogICAgICAvYTAgPDwgL0NBIDEgL2NhIDEgPj4KICAgPj4KICAgL1hPYmplY3QgPDwgL3g3IDcgMCBSID4+Cj4+CmVuZG9iago5IDAgb2JqCjw8IC9MZW5ndGggMTAgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgOAo+PgpzdHJlYW0KeJzt3X+slXUdB/DvRVHclR8KgoJIgkoWiaHFppa1mizdGJrhmjrnJCSjqA2TiubNWIEVXCwBjSlrjpVSJhUGAkIFKt5EUhlTBE0qDJWQxc/u/fScc889PziM7lnIduH1+ud7v9/neZ97v3+9d8/znOekBAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAcpbpN3fDu3+e1+/RR8zJX1PQbJuUiZ9X4ZwFAz/X/vv3WVza0//zPzIr4ak2/4uxrl0ZcWOsfBsAx78G4I6Vb2t9RKX261o5KaYqOAqBmvfbHpSl1a6whoqMAOCJGR5xTY0RHAXBENET0rzGSddSEGiNZRw2tMQLAMW9mxJk1RrKOGl9jJOuoITVGADjmzanoqB6DP3haxeHTh5zX7cBI1lFjUqeBF/SvK611OmVArwNOO2lQ6ecpuXcUuwweUv7iB4kAQJtutz70VsS6pqam87LZiRNeiMzmKd0Lh3tP35LNW5675biKVNZRE3/6bnbkzemn5hfqf7F+fzbd1tg1m3wie7WmAenjC/Y+X4pkHTXq8X3ZORvGH18dSfc1FdX6LiIAR6kBjY1/iZjb2NjYL6VTVsemG84598ZXY+PA/NELt8byEQM+NGln/O6k8lTWUbuWzf3+vS9HvJK/ltUr1n/p4kFjdsWy3Kz/jIjPLcoKqLKjti2c9b15WSP+pnN1ZMWeRbPuamiYnhXipUdk4wB0BKX3+hbEW31zY+8tsTbXIydvjj/k/+m5rDnuLY+03dd33LSIlbkfesXFueFHEcNz45iIjXdfPfSRyo7K39fXY2nEd6ojK1qvb82OmP2ebBKADqnYUR+J+G7r0viIG7Ph9ohPtS4siOb3lUVK954/E/GxbOi+OH9lanTEF3Jj1lGjsmHQ0lKkeO95752xo74qsiJ/8JKW+Fv3BAAFxY6a2do3mTMjFmfDuth9QuvCDRHfKIuUOmpsxPSK9fzVpEJHlSt9Pmp+xMiqyEW5C16dX4y4+nBsCYCjRLGjno5ou+tue2yvS/XN8VJhPjTi12WRUkdlB56sXj9kR02IuPNgL5XStyN+9X9uBoCjSrGj3oyWtrWXInqk8yOWF+anVdz/UFYsPaPQYycPv+amsT9pT0d9NgoXtyoimcF7Ykffw7YtAI4CxY7aHbva1p6NOCsNj1hUmNdHbCqLlDoqO7A5Gwb9cn+89tSyNe3pqKsiHqyOpFS3ImLc4d0aAB1csaN2xL62tecjTk8fjlhSmPeIKH8ueqmjekW8kFK/f8TKs1M73+u7NuLH1ZF86E91CQBKih21OaJwi0R6NVq6pAERqwrz/hFPlUVKxfL+iKUpTY0YWL5+yI4aFzG5OpL6vBN7zz+8OwOgoyt21MKIwsOLjt8XL6dU9694o3DO5RH3l0VKHTUy4gcpPRnbKtYP2VHTI66qjqSft91KMexrh29vAHRsxY6aEDG6demSiPuy4dGIPq0L34z4fFmk1FEzIz6Z0tr4Z8X6ITtqXezsWh25MmJ9639xk+86jJsDoEMrdlTPnW23ft8fLcOy4YqIr+TnnTbE1hPLIsWO6v52rKtLaUm09ClfP1RHXRZxT6qK1L9WfAjScg/sA6Cg9CyksdFyfW68rrnwwdz58XbuCzU6zYyWis5p66Kui2LXRdk4OeKxM1Kfm5753x117qbY2K06MiNiVv68LqP2XP+ebBOADmfED/8aseTum/M19eVdsfjOhidi/7RO+YMnPBC7H/rWtBdj+3UVoWHb4/XHHpj9yDvxRv7JFKe+HhHNsfWaiD9+sU/vccsiHp84oiIybm+se3junN/vi9V9qyND/xOxvqmp6c9bmiMqgwAcs8Y3tPpoftbvjoVr1vx2cum744dNfeK5VQ/f1uOAVOfLJ/1s5dpV828uPA79jBlPP/vobfVpYvZKQz7Q+opfr4x0Hzllweq1K+ZcmQ4SuaChTK3fuAgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAHOv+C0jaOxIKZW5kc3RyZWFtCmVuZG9iagoxMCAwIG9iagogICA1MDM5CmVuZG9iago3IDAgb2JqCjw8IC9MZW5ndGggMTEgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgMQogICAvU01hc2sgOSAwIFIKPj4Kc3RyZWFtCnic7cExAQAAAMKg9U9tCU+gAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD4GJuEAAQplbmRzdHJlYW0KZW5kb2JqCjExIDAgb2JqCiAgIDQ3NwplbmRvYmoKOCAwIG9iago8PCAvVHlwZSAvT2JqU3RtCiAgIC9MZW5ndGggMTIgMCBSCiAgIC9OIDEKICAgL0ZpcnN0IDQKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKPj4Kc3RyZWFtCnicM1Mw4IrmiuUCAAY4AV0KZW5kc3RyZWFtCmVuZG9iagoxMiAwIG9iagogICAxNgplbmRvYmoKMTMgMCBvYmoKPDwgL1R5cGUgL09ialN0bQogICAvTGVuZ3RoIDE2IDAgUgogICAvTiA0CiAgIC9GaXJzdCAyMwogICAvRmlsdGVyIC9GbGF0ZURlY29kZQo+PgpzdHJlYW0KeJxVkVFrgzAUhd/9FedlTBlobqrrVqQPVShjDMTubewhpMEKw0gSx/rvl9jaMfJ0P87NOYdLYBHlKFjEQQVFVGC1zqOyRPZ+HhWyRnTKRgCy1/5o8QEOhhafM6r0NDhQtN3OG43Rx0kqg1iK3mhQSk9pjvjk3Gg3WTbTzojx1EubatMlyeUbo4Tr9VALpxDXG854QYwR5Tmj9QPj94wli8lfLNx567DfCKNCjpBsBm/q2Iud/vFxmX+PxLF+5rfQg/Nyi/ym3xs9jSjLMIT54jHTBR08NWKwY/CS5wW/wJlJLVPlVbX67qVq97sAfebAW2X1ZKSyWN08D35Rukt066/wr14lnPjS3bWdv8C1nBf9Aht2bs0KZW5kc3RyZWFtCmVuZG9iagoxNiAwIG9iagogICAyNzgKZW5kb2JqCjE3IDAgb2JqCjw8IC9UeXBlIC9YUmVmCiAgIC9MZW5ndGggNzIKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKICAgL1NpemUgMTgKICAgL1cgWzEgMiAyXQogICAvUm9vdCAxNSAwIFIKICAgL0luZm8gMTQgMCBSCj4+CnN0cmVhbQp4nGNgYPj/n4mBl4EBRDAxMixmYGBk4AcRfSAxDiBLdDmQkGgBEozsIG4/iJsLJCRBXElZiF5GEMHMKLUCKCa1n4EBAJM2CBEKZW5kc3RyZWFtCmVuZG9iagpzdGFydHhyZWYKNjg0NwolJUVPRgoxOCAwIG9iag0KPDwvU2l6ZSAxOSAvUm9vdCAxNSAwIFIgL1ByZXYgNjg0NyAvVHlwZSAvWFJlZiAvSW5kZXggWzAgMSAxNCAxIDE4IDEgXSAvVyBbMSA0IDIgXSAvTGVuZ3RoIDIxID4+IHN0cmVhbQ0KAAAAAAH//wAAAAAPAAIBAAAbsAAADQplbmRzdHJlYW0NCg0KZW5kb2JqDQpzdGFydHhyZWYNCjcwODgNCiUlRU9GDQo='), 256), 2, 7271, FROM_BASE64('JVBERi0xLjUKJbXtrvsKNCAwIG9iago8PCAvTGVuZ3RoIDUgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCj4+CnN0cmVhbQp4nDNUMABCXUMgYW5ppJCcy1UIhGaGRhBxkBhcRj/RQCG9WEG/wlzBJZ8rEAgBf7IM0QplbmRzdHJlYW0KZW5kb2JqCjUgMCBvYmoKICAgNTAKZW5kb2JqCjMgMCBvYmoKPDwKICAgL0V4dEdTdGF0ZSA8PAogICAgICAvYTAgPDwgL0NBIDEgL2NhIDEgPj4KICAgPj4KICAgL1hPYmplY3QgPDwgL3g3IDcgMCBSID4+Cj4+CmVuZG9iago5IDAgb2JqCjw8IC9MZW5ndGggMTAgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgOAo+PgpzdHJlYW0KeJzt3X+slXUdB/DvRVHclR8KgoJIgkoWiaHFppa1mizdGJrhmjrnJCSjqA2TiubNWIEVXCwBjSlrjpVSJhUGAkIFKt5EUhlTBE0qDJWQxc/u/fScc889PziM7lnIduH1+ud7v9/neZ97v3+9d8/znOekBAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAcpbpN3fDu3+e1+/RR8zJX1PQbJuUiZ9X4ZwFAz/X/vv3WVza0//zPzIr4ak2/4uxrl0ZcWOsfBsAx78G4I6Vb2t9RKX261o5KaYqOAqBmvfbHpSl1a6whoqMAOCJGR5xTY0RHAXBENET0rzGSddSEGiNZRw2tMQLAMW9mxJk1RrKOGl9jJOuoITVGADjmzanoqB6DP3haxeHTh5zX7cBI1lFjUqeBF/SvK611OmVArwNOO2lQ6ecpuXcUuwweUv7iB4kAQJtutz70VsS6pqam87LZiRNeiMzmKd0Lh3tP35LNW5675biKVNZRE3/6bnbkzemn5hfqf7F+fzbd1tg1m3wie7WmAenjC/Y+X4pkHTXq8X3ZORvGH18dSfc1FdX6LiIAR6kBjY1/iZjb2NjYL6VTVsemG84598ZXY+PA/NELt8byEQM+NGln/O6k8lTWUbuWzf3+vS9HvJK/ltUr1n/p4kFjdsWy3Kz/jIjPLcoKqLKjti2c9b15WSP+pnN1ZMWeRbPuamiYnhXipUdk4wB0BKX3+hbEW31zY+8tsTbXIydvjj/k/+m5rDnuLY+03dd33LSIlbkfesXFueFHEcNz45iIjXdfPfSRyo7K39fXY2nEd6ojK1qvb82OmP2ebBKADqnYUR+J+G7r0viIG7Ph9ohPtS4siOb3lUVK954/E/GxbOi+OH9lanTEF3Jj1lGjsmHQ0lKkeO95752xo74qsiJ/8JKW+Fv3BAAFxY6a2do3mTMjFmfDuth9QuvCDRHfKIuUOmpsxPSK9fzVpEJHlSt9Pmp+xMiqyEW5C16dX4y4+nBsCYCjRLGjno5ou+tue2yvS/XN8VJhPjTi12WRUkdlB56sXj9kR02IuPNgL5XStyN+9X9uBoCjSrGj3oyWtrWXInqk8yOWF+anVdz/UFYsPaPQYycPv+amsT9pT0d9NgoXtyoimcF7Ykffw7YtAI4CxY7aHbva1p6NOCsNj1hUmNdHbCqLlDoqO7A5Gwb9cn+89tSyNe3pqKsiHqyOpFS3ImLc4d0aAB1csaN2xL62tecjTk8fjlhSmPeIKH8ueqmjekW8kFK/f8TKs1M73+u7NuLH1ZF86E91CQBKih21OaJwi0R6NVq6pAERqwrz/hFPlUVKxfL+iKUpTY0YWL5+yI4aFzG5OpL6vBN7zz+8OwOgoyt21MKIwsOLjt8XL6dU9694o3DO5RH3l0VKHTUy4gcpPRnbKtYP2VHTI66qjqSft91KMexrh29vAHRsxY6aEDG6demSiPuy4dGIPq0L34z4fFmk1FEzIz6Z0tr4Z8X6ITtqXezsWh25MmJ9639xk+86jJsDoEMrdlTPnW23ft8fLcOy4YqIr+TnnTbE1hPLIsWO6v52rKtLaUm09ClfP1RHXRZxT6qK1L9WfAjScg/sA6Cg9CyksdFyfW68rrnwwdz58XbuCzU6zYyWis5p66Kui2LXRdk4OeKxM1Kfm5753x117qbY2K06MiNiVv68LqP2XP+ebBOADmfED/8aseTum/M19eVdsfjOhidi/7RO+YMnPBC7H/rWtBdj+3UVoWHb4/XHHpj9yDvxRv7JFKe+HhHNsfWaiD9+sU/vccsiHp84oiIybm+se3junN/vi9V9qyND/xOxvqmp6c9bmiMqgwAcs8Y3tPpoftbvjoVr1vx2cum744dNfeK5VQ/f1uOAVOfLJ/1s5dpV828uPA79jBlPP/vobfVpYvZKQz7Q+opfr4x0Hzllweq1K+ZcmQ4SuaChTK3fuAgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAHOv+C0jaOxIKZW5kc3RyZWFtCmVuZG9iagoxMCAwIG9iagogICA1MDM5CmVuZG9iago3IDAgb2JqCjw8IC9MZW5ndGggMTEgMCBSCiAgIC9GaWx0ZXIgL0ZsYXRlRGVjb2RlCiAgIC9UeXBlIC9YT2JqZWN0CiAgIC9TdWJ0eXBlIC9JbWFnZQogICAvV2lkdGggMTcwMAogICAvSGVpZ2h0IDIyMDAKICAgL0NvbG9yU3BhY2UgL0RldmljZUdyYXkKICAgL0ludGVycG9sYXRlIHRydWUKICAgL0JpdHNQZXJDb21wb25lbnQgMQogICAvU01hc2sgOSAwIFIKPj4Kc3RyZWFtCnic7cExAQAAAMKg9U9tCU+gAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD4GJuEAAQplbmRzdHJlYW0KZW5kb2JqCjExIDAgb2JqCiAgIDQ3NwplbmRvYmoKOCAwIG9iago8PCAvVHlwZSAvT2JqU3RtCiAgIC9MZW5ndGggMTIgMCBSCiAgIC9OIDEKICAgL0ZpcnN0IDQKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKPj4Kc3RyZWFtCnicM1Mw4IrmiuUCAAY4AV0KZW5kc3RyZWFtCmVuZG9iagoxMiAwIG9iagogICAxNgplbmRvYmoKMTMgMCBvYmoKPDwgL1R5cGUgL09ialN0bQogICAvTGVuZ3RoIDE2IDAgUgogICAvTiA0CiAgIC9GaXJzdCAyMwogICAvRmlsdGVyIC9GbGF0ZURlY29kZQo+PgpzdHJlYW0KeJxVkVFrgzAUhd/9FedlTBlobqrrVqQPVShjDMTubewhpMEKw0gSx/rvl9jaMfJ0P87NOYdLYBHlKFjEQQVFVGC1zqOyRPZ+HhWyRnTKRgCy1/5o8QEOhhafM6r0NDhQtN3OG43Rx0kqg1iK3mhQSk9pjvjk3Gg3WTbTzojx1EubatMlyeUbo4Tr9VALpxDXG854QYwR5Tmj9QPj94wli8lfLNx567DfCKNCjpBsBm/q2Iud/vFxmX+PxLF+5rfQg/Nyi/ym3xs9jSjLMIT54jHTBR08NWKwY/CS5wW/wJlJLVPlVbX67qVq97sAfebAW2X1ZKSyWN08D35Rukt066/wr14lnPjS3bWdv8C1nBf9Aht2bs0KZW5kc3RyZWFtCmVuZG9iagoxNiAwIG9iagogICAyNzgKZW5kb2JqCjE3IDAgb2JqCjw8IC9UeXBlIC9YUmVmCiAgIC9MZW5ndGggNzIKICAgL0ZpbHRlciAvRmxhdGVEZWNvZGUKICAgL1NpemUgMTgKICAgL1cgWzEgMiAyXQogICAvUm9vdCAxNSAwIFIKICAgL0luZm8gMTQgMCBSCj4+CnN0cmVhbQp4nGNgYPj/n4mBl4EBRDAxMixmYGBk4AcRfSAxDiBLdDmQkGgBEozsIG4/iJsLJCRBXElZiF5GEMHMKLUCKCa1n4EBAJM2CBEKZW5kc3RyZWFtCmVuZG9iagpzdGFydHhyZWYKNjg0NwolJUVPRgoxOCAwIG9iag0KPDwvU2l6ZSAxOSAvUm9vdCAxNSAwIFIgL1ByZXYgNjg0NyAvVHlwZSAvWFJlZiAvSW5kZXggWzAgMSAxNCAxIDE4IDEgXSAvVyBbMSA0IDIgXSAvTGVuZ3RoIDIxID4+IHN0cmVhbQ0KAAAAAAH//wAAAAAPAAIBAAAbsAAADQplbmRzdHJlYW0NCg0KZW5kb2JqDQpzdGFydHhyZWYNCjcwODgNCiUlRU9GDQo='));
+
+INSERT INTO attachment(id, file_name, content_type, letter_id, content_id)
+VALUES ('186fd449-e757-4add-badf-4835fc9e1cee', 'attachment1.txt', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('d922ba6b-89f3-4640-b823-a5d8f0fbd94b', 'attachment2.txt', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('3109456a-ba3a-4ad3-a100-4762ef32ae0c', 'attachment3.txt', 'text/plain', '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('6f8cdbe2-9309-41bd-89ce-e136e7c49858', 'attachment4.pdf', 'application/pdf', 'f8853893-46a9-4249-a0e5-35d5595efd91', '6f8cdbe2-9309-41bd-89ce-e136e7c49858'),
+       ('897d81e4-9b56-4fd5-b3cb-a82208089aac', 'attachment5.txt', 'text/plain', '450970bb-118c-43a8-8813-6b67c2d33a3b', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('d49aa5d4-fba4-4255-948c-ab449aa2614a', 'attachment6.txt', 'text/plain', '59eeec4c-81f3-4a96-918e-43a5e08a8ef0', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('0cf88e2d-c118-4555-998d-2b027b09ffc0', 'attachment7.txt', 'text/plain', '5c8634f2-078e-4ef0-888b-63cb1aaa0b11', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('074e60e5-9c4b-465f-8bbf-5cf904eed648', 'attachment8.txt', 'text/plain', 'bd3d2128-0d5a-457c-8629-0da4ffea85d9', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('6484b8c1-41e8-4519-8b5c-2868fff67d6b', 'attachment9.txt', 'text/plain', '4ace2698-7dea-4d0b-9c5d-eeac32c1b49a', '186fd449-e757-4add-badf-4835fc9e1cee'),
+       ('5a70a27f-997e-431e-9155-cc50d01e80c5', 'attachment.pdf', 'application/pdf', '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c', '6f8cdbe2-9309-41bd-89ce-e136e7c49858');
 
 INSERT INTO tenant(id, org_number, tenant_key, municipality_id, created, modified)
 VALUES ('b7c8d9e0-f1a2-3b4c-5d6e-7f8a9b0c1d2e', '1234567890', 'some-encrypted-value', '2281', '2023-10-01 12:00:00',
@@ -7,9 +7,9 @@ VALUES ('3bb3dc98-c674-448a-aa1c-bc4bdf3258bc', 'joe01doe'),
        ('36c85960-0b77-4228-a8b3-da86ca8078e7', 'sue02doe');
 
 INSERT INTO signing_information (mrtd, signed, content_key, id, order_ref, internal_id, given_name, ip_address,
-                                 name, ocsp_response, personal_number, signature, status, surname)
+                                 name, ocsp_response, personal_number, signature, status, surname, version)
 VALUES (0, '2023-10-15 10:20:00', '6b33fee5-6380-4cf5-9f53-fe992b57fa49', '0d458afc-526f-4d1d-aa0c-5a7228c37382', '4ca9c820-4ecb-4268-9cba-dfa938d17b9e',
-        'f8853893-46a9-4249-a0e5-35d5595efd91', 'Karl', '127.0.0.1', 'Karl Banal', 'MIIHdgoBAKCCB28wggdrBg', '190001011234', 'PD94bWwgdmVyc2lvb', 'COMPLETED', 'Banal');
+        'f8853893-46a9-4249-a0e5-35d5595efd91', 'Karl', '127.0.0.1', 'Karl Banal', 'MIIHdgoBAKCCB28wggdrBg', '190001011234', 'PD94bWwgdmVyc2lvb', 'COMPLETED', 'Banal', 0);
 
 INSERT INTO letter(id, municipality_id, body, content_type, status, subject, party_id, deleted, created, updated,
                    support_text, support_information_url, support_information_email, support_information_phone,
@@ -44,10 +44,13 @@ VALUES ('43a32404-28ee-480f-a095-00d48109afab', '2281', 'body for municipality 2
         'support@email.com', '+46123456789', 'fe85fe5e-7de1-4a48-bda7-8df8556b0265', '36c85960-0b77-4228-a8b3-da86ca8078e7', '3ef455c8-d358-42a6-bff4-3b7c89085495',
         null);
 
-INSERT INTO attachment(id, file_name, content, content_type, letter_id)
-VALUES ('f4666ea6-0324-490f-8e27-2b704e580a0a', 'attachment1.txt', 'dGVzdA==', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab'),
-       ('e5c653e4-285a-4e46-b7ad-f79fc6e95463', 'attachment2.txt', 'dGVzdA==', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab'),
-       ('c723e56a-21bd-4753-a7cf-1e428d7baeaa', 'attachment3.txt', 'dGVzdA==', 'text/plain', '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c'),
-       ('514f8c46-acca-45d6-b1ff-f11d10fbd9d4', 'attachment4.txt', 'dGVzdA==', 'text/plain', 'f8853893-46a9-4249-a0e5-35d5595efd91'),
-       ('c4380df7-8971-424f-acd7-71307d24d9ad', 'attachment5.txt', 'dGVzdA==', 'text/plain', '450970bb-118c-43a8-8813-6b67c2d33a3b'),
-       ('c0fa7fa4-4149-440a-84a1-50946a57cf01', 'attachment6.txt', 'dGVzdA==', 'text/plain', '59eeec4c-81f3-4a96-918e-43a5e08a8ef0');
+INSERT INTO attachment_content(id, hash, reference_count, content_length, content)
+VALUES ('f4666ea6-0324-490f-8e27-2b704e580a0a', SHA2('dGVzdA==', 256), 6, 8, 'dGVzdA==');
+
+INSERT INTO attachment(id, file_name, content_type, letter_id, content_id)
+VALUES ('f4666ea6-0324-490f-8e27-2b704e580a0a', 'attachment1.txt', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab', 'f4666ea6-0324-490f-8e27-2b704e580a0a'),
+       ('e5c653e4-285a-4e46-b7ad-f79fc6e95463', 'attachment2.txt', 'text/plain', '43a32404-28ee-480f-a095-00d48109afab', 'f4666ea6-0324-490f-8e27-2b704e580a0a'),
+       ('c723e56a-21bd-4753-a7cf-1e428d7baeaa', 'attachment3.txt', 'text/plain', '9bb97fd2-4410-4a4b-9019-fdd98f01bd7c', 'f4666ea6-0324-490f-8e27-2b704e580a0a'),
+       ('514f8c46-acca-45d6-b1ff-f11d10fbd9d4', 'attachment4.txt', 'text/plain', 'f8853893-46a9-4249-a0e5-35d5595efd91', 'f4666ea6-0324-490f-8e27-2b704e580a0a'),
+       ('c4380df7-8971-424f-acd7-71307d24d9ad', 'attachment5.txt', 'text/plain', '450970bb-118c-43a8-8813-6b67c2d33a3b', 'f4666ea6-0324-490f-8e27-2b704e580a0a'),
+       ('c0fa7fa4-4149-440a-84a1-50946a57cf01', 'attachment6.txt', 'text/plain', '59eeec4c-81f3-4a96-918e-43a5e08a8ef0', 'f4666ea6-0324-490f-8e27-2b704e580a0a');
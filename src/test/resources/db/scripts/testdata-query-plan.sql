@@ -0,0 +1,23 @@
+-- Letters spread over 100 municipalities, 50 organizations and 50 users, to give the optimizer a table where an index
+-- is cheaper than a full table scan
+INSERT INTO organization(id, number, name)
+SELECT concat('query-plan-organization-', seq), 1000 + seq, concat('Department ', 1000 + seq)
+FROM seq_0_to_49;
+
+INSERT INTO `user`(id, username)
+SELECT concat('query-plan-user-', seq), concat('user', seq)
+FROM seq_0_to_49;
+
+INSERT INTO letter(id, municipality_id, status, subject, deleted, created, updated, organization_id, user_id)
+SELECT concat('query-plan-letter-', seq),
+       lpad(seq mod 100, 4, '0'),
+       elt(seq mod 3 + 1, 'NEW', 'SENT', 'SIGNED'),
+       'subject',
+       seq mod 7 = 0,
+       timestamp('2025-01-01') + interval seq hour,
+       timestamp('2025-01-01') + interval seq hour,
+       concat('query-plan-organization-', seq mod 50),
+       concat('query-plan-user-', seq mod 50)
+FROM seq_0_to_9999;
+
+ANALYZE TABLE letter, organization, `user`;
@@ -1,7 +1,11 @@
 SET FOREIGN_KEY_CHECKS = 0;
 TRUNCATE table letter;
+TRUNCATE table letter_batch;
+TRUNCATE table letter_outbox;
+TRUNCATE table letter_receipt;
 TRUNCATE table signing_information;
 TRUNCATE table attachment;
+TRUNCATE table attachment_content;
 TRUNCATE table organization;
 TRUNCATE table `user`;
 TRUNCATE table tenant;